@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eric Bruneton and others.
+ * Copyright (c) 2023, 2026 Eric Bruneton and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,8 @@ public class DecompiledClass {
 	/** key is DecompiledMethod, value is IJavaElement (Member) */
 	private final Map<DecompiledMethod, IJavaElement> methodToJavaElt;
 
+	private IClassFile methodToJavaEltOwner;
+
 	private final List<Object> text;
 
 	private String value;
@@ -44,11 +46,38 @@ public class DecompiledClass {
 
 	private final DecompiledClassInfo classInfo;
 
+	/**
+	 * first decompiled line of each element of {@link #text}, maps the rows of the verifier table
+	 * to their methods
+	 */
+	private final int[] firstLines;
+
+	private final int lineCount;
+
+	/**
+	 * set by the methods of this class when the analyzer reports an error for them
+	 */
+	private volatile boolean analyzerError;
+
 	public DecompiledClass(final List<Object> text, DecompiledClassInfo classInfo, ClassNode classNode) {
 		this.text = text;
 		this.classInfo = classInfo;
 		this.classNode = classNode;
 		methodToJavaElt = new HashMap<>();
+		firstLines = new int[text.size()];
+		int count = 0;
+		for (int i = 0; i < text.size(); ++i) {
+			firstLines[i] = count;
+			Object o = text.get(i);
+			if (o instanceof DecompiledMethod) {
+				DecompiledMethod m = (DecompiledMethod) o;
+				m.setDecompiledClass(this);
+				count += m.getLineCount();
+			} else {
+				count++;
+			}
+		}
+		lineCount = count;
 	}
 
 	/**
@@ -94,6 +123,70 @@ public class DecompiledClass {
 		return lines.toArray(new String[lines.size()][]);
 	}
 
+	/**
+	 * @return the number of decompiled lines, which is the number of rows of the verifier table
+	 */
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	/**
+	 * @param decompiledLine decompiled line
+	 * @return the index of the element of {@link #text} containing the line, or -1 if the line
+	 *         doesn't exist
+	 */
+	private int getTextIndex(final int decompiledLine) {
+		if (decompiledLine < 0 || decompiledLine >= lineCount) {
+			return -1;
+		}
+		// the last element starting at or before the line, methods without lines start at the
+		// same line as their successor
+		int low = 0;
+		int high = firstLines.length - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (firstLines[mid] <= decompiledLine) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns one row of {@link #getTextTable()}. Only the method containing the line is
+	 * analyzed.
+	 *
+	 * @param decompiledLine decompiled line
+	 * @return the row, or null if the line doesn't exist
+	 */
+	public String[] getTextTableLine(final int decompiledLine) {
+		int i = getTextIndex(decompiledLine);
+		if (i == -1) {
+			return null;
+		}
+		Object o = text.get(i);
+		if (o instanceof DecompiledMethod) {
+			return ((DecompiledMethod) o).getTextTable()[decompiledLine - firstLines[i]];
+		}
+		return new String[] { "", "", "", o.toString(), "" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * @param decompiledLine decompiled line
+	 * @return true if the analyzer reported an error for the given line. Only the method
+	 *         containing the line is analyzed.
+	 */
+	public boolean isErrorLine(final int decompiledLine) {
+		int i = getTextIndex(decompiledLine);
+		if (i == -1) {
+			return false;
+		}
+		Object o = text.get(i);
+		return o instanceof DecompiledMethod && ((DecompiledMethod) o).getErrorLine() == decompiledLine - firstLines[i];
+	}
+
 	public int getBytecodeOffset(final int decompiledLine) {
 		int currentDecompiledLine = 0;
 		for (Object o : text) {
@@ -165,6 +258,11 @@ public class DecompiledClass {
 	public IJavaElement getJavaElement(int decompiledLine, IClassFile clazz) {
 		DecompiledMethod method = getMethod(decompiledLine);
 		if (method != null) {
+			// the same decompiled class can be shared by class files with the same content
+			if (!clazz.equals(methodToJavaEltOwner)) {
+				methodToJavaElt.clear();
+				methodToJavaEltOwner = clazz;
+			}
 			IJavaElement javaElement = methodToJavaElt.get(method);
 			if (javaElement == null) {
 				javaElement = JdtUtils.getMethod(clazz, method.getSignature());
@@ -265,6 +363,18 @@ public class DecompiledClass {
 		return -1;
 	}
 
+	/**
+	 * @return true if the analyzer reported an error for any of the methods analyzed so far.
+	 *         Doesn't analyze further methods.
+	 */
+	public boolean hasErrors() {
+		return analyzerError;
+	}
+
+	void setAnalyzerError() {
+		analyzerError = true;
+	}
+
 	public List<Integer> getErrorLines() {
 		List<Integer> errors = new ArrayList<>();
 		int currentDecompiledLine = 0;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eric Bruneton and others.
+ * Copyright (c) 2023, 2026 Eric Bruneton and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -72,6 +72,11 @@ public class DecompiledMethod {
 
 	private int lineCount;
 
+	/**
+	 * rows of the verifier table, computed on first access
+	 */
+	private volatile String[][] textTable;
+
 	/**
 	 * first source line, if any
 	 */
@@ -86,12 +91,16 @@ public class DecompiledMethod {
 
 	private Frame<?>[] frames;
 
+	private boolean analyzed;
+
 	private String error;
 
 	private int errorInsn;
 
 	private final String owner;
 
+	private DecompiledClass decompiledClass;
+
 
 	private final Map<Label, Integer> lineNumbers;
 
@@ -118,10 +127,10 @@ public class DecompiledMethod {
 	void setText(List<?> inputText) {
 		formatText(inputText, new HashMap<>(), new StringBuffer(), this.text);
 		computeMaps(lineNumbers);
+	}
 
-		if (options.modes.get(BCOConstants.F_SHOW_ANALYZER) && (access & Opcodes.ACC_ABSTRACT) == 0) {
-			analyzeMethod();
-		}
+	void setDecompiledClass(DecompiledClass decompiledClass) {
+		this.decompiledClass = decompiledClass;
 	}
 
 	void addLineNumber(Label start, Integer integer) {
@@ -174,6 +183,23 @@ public class DecompiledMethod {
 		return decompiledLines.get(Integer.valueOf(bestMatch)).intValue();
 	}
 
+	/**
+	 * Analyzes the method on first access to its frames, so that only the methods that are shown
+	 * in the verifier table or selected by the user are analyzed.
+	 */
+	private synchronized void ensureAnalyzed() {
+		if (analyzed) {
+			return;
+		}
+		analyzed = true;
+		if (options.modes.get(BCOConstants.F_SHOW_ANALYZER) && (access & Opcodes.ACC_ABSTRACT) == 0) {
+			analyzeMethod();
+			if (error != null && decompiledClass != null) {
+				decompiledClass.setAnalyzerError();
+			}
+		}
+	}
+
 	private void analyzeMethod() {
 		Interpreter<BasicValue> interpreter;
 		try {
@@ -319,6 +345,16 @@ public class DecompiledMethod {
 	}
 
 	public String[][] getTextTable() {
+		String[][] table = textTable;
+		if (table == null) {
+			table = computeTextTable();
+			textTable = table;
+		}
+		return table;
+	}
+
+	private String[][] computeTextTable() {
+		ensureAnalyzed();
 		Frame<?> frame = null;
 		String error1 = ""; //$NON-NLS-1$
 		List<String[]> lines = new ArrayList<>();
@@ -370,6 +406,7 @@ public class DecompiledMethod {
 	}
 
 	public int getErrorLine() {
+		ensureAnalyzed();
 		if (error == null) {
 			return -1;
 		}
@@ -429,6 +466,7 @@ public class DecompiledMethod {
 	}
 
 	public String[][][] getFrameTablesForInsn(int insn, boolean useQualifiedNames) {
+		ensureAnalyzed();
 		if (error != null && insn == errorInsn) {
 			return null;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eric Bruneton and others.
+ * Copyright (c) 2023, 2026 Eric Bruneton and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.bcoview.asm;
 
+import java.lang.ref.SoftReference;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.tree.ClassNode;
@@ -26,7 +32,57 @@ import org.eclipse.jdt.bcoview.preferences.BCOConstants;
 
 public class DecompilerHelper {
 
+	private static final int CACHE_SIZE = 16;
+
+	/**
+	 * Recently decompiled classes, keyed by the hash of the class file content and the options.
+	 * Refreshing the view for an unchanged class file doesn't run ASM again.
+	 */
+	private static final Map<String, SoftReference<DecompiledClass>> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, SoftReference<DecompiledClass>> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
 	public static DecompiledClass getDecompiledClass(byte[] bytes, DecompilerOptions options) throws UnsupportedClassVersionError {
+		String key = getCacheKey(bytes, options);
+		synchronized (CACHE) {
+			SoftReference<DecompiledClass> ref = CACHE.get(key);
+			DecompiledClass cached = ref == null ? null : ref.get();
+			if (cached != null) {
+				return cached;
+			}
+		}
+		// the cached result must not see later changes of the modes
+		DecompilerOptions snapshot = new DecompilerOptions(options.fieldFilter, options.methodFilter, (BitSet) options.modes.clone());
+		DecompiledClass result = decompile(bytes, snapshot);
+		synchronized (CACHE) {
+			CACHE.put(key, new SoftReference<>(result));
+		}
+		return result;
+	}
+
+	private static String getCacheKey(byte[] bytes, DecompilerOptions options) {
+		StringBuilder key = new StringBuilder();
+		try {
+			for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) { //$NON-NLS-1$
+				key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+		key.append('|').append(bytes.length);
+		key.append('|').append(options.fieldFilter);
+		key.append('|').append(options.methodFilter);
+		key.append('|').append(options.modes);
+		return key.toString();
+	}
+
+	private static DecompiledClass decompile(byte[] bytes, DecompilerOptions options) throws UnsupportedClassVersionError {
 		ClassReader cr = new ClassReader(bytes);
 		ClassNode cn = new ClassNode(DecompilerOptions.LATEST_ASM_VERSION);
 		int crFlags = 0;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Andrey Loskutov and others.
+ * Copyright (c) 2023, 2026 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,7 @@ import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
@@ -74,8 +75,12 @@ import org.eclipse.jface.action.MenuManager;
 import org.eclipse.jface.action.Separator;
 import org.eclipse.jface.action.StatusLineManager;
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.viewers.ILazyContentProvider;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
+import org.eclipse.jface.viewers.ITableColorProvider;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.TableViewer;
 
 import org.eclipse.jface.text.BadLocationException;
@@ -148,6 +153,11 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 
 	static final int VIEW_ORIENTATION_AUTOMATIC = 2;
 
+	/** up to this number of lines, the columns of the verify table are fit to their content */
+	private static final int MAX_PACKED_LINES = 2000;
+
+	private static final int[] DEFAULT_COLUMN_WIDTHS = { 50, 100, 100, 400, 200 };
+
 	/**
 	 * The current orientation; either <code>VIEW_ORIENTATION_HORIZONTAL</code>
 	 * <code>VIEW_ORIENTATION_VERTICAL</code>, or <code>VIEW_ORIENTATION_AUTOMATIC</code>.
@@ -499,11 +509,9 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 				if (line == null || "".equals(line)) { //$NON-NLS-1$
 					return;
 				}
-				Integer valueOf = Integer.valueOf(line);
-				if (valueOf != null) {
-					updateVerifierControl4insn(valueOf.intValue());
-					tableControl.setSelection(selectionIndex);
-				}
+				// instruction offsets are only unique within a method, so look up the frame by line
+				updateVerifierControl4line(selectionIndex);
+				tableControl.setSelection(selectionIndex);
 			}
 		};
 
@@ -648,8 +656,11 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 	@SuppressWarnings("unused")
 	private void createVerifyControl() {
 		verifyControl = new SashForm(stackComposite, SWT.VERTICAL);
-		tableControl = new Table(verifyControl, SWT.SINGLE | SWT.FULL_SELECTION);
+		// the rows are created on demand, so that only the methods that are shown get analyzed
+		tableControl = new Table(verifyControl, SWT.SINGLE | SWT.FULL_SELECTION | SWT.VIRTUAL);
 		tableControlViewer = new TableViewer(tableControl);
+		tableControlViewer.setContentProvider(new VerifyTableContentProvider());
+		tableControlViewer.setLabelProvider(new VerifyTableLabelProvider());
 
 		TableColumn tc = new TableColumn(tableControl, SWT.LEFT);
 		tc.setText("#"); //$NON-NLS-1$
@@ -1092,18 +1103,9 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 	}
 
 	private void refreshVerifyView(DecompiledClass result) {
-		setVerifyTableItems(result.getTextTable());
-		List<Integer> errors = result.getErrorLines();
-		if (errors.size() > 0) {
-			// TODO this only changes color of status line -
-			// but it is possible also to provide useful info here...
-			hasAnalyzerError = true;
-			// currentErrorMessage = ...
-		}
-		for (Integer error : errors) {
-			int l = error.intValue();
-			tableControl.getItem(l).setForeground(errorColor);
-		}
+		setVerifyTableItems(result);
+		// errors of the methods analyzed so far, the label provider adds the ones of the rows shown
+		hasAnalyzerError = result.hasErrors();
 		toggleVerifierAction.setEnabled(true);
 	}
 
@@ -1478,28 +1480,75 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 		return decompiledClass;
 	}
 
-	private void setVerifyTableItems(String[][] items) {
-		tableControl.removeAll();
-		if (items != null) {
-			for (int i = 0; i < items.length; ++i) {
-				TableItem item = new TableItem(tableControl, SWT.NONE);
-				for (int j = 0; j < items[i].length; ++j) {
-					String s = items[i][j];
-					if (s.endsWith("\n")) { //$NON-NLS-1$
-						s = s.substring(0, s.length() - 1);
-						// this is the "cookie" for the bytecode reference, which could be
-						// mapped later to the sourcecode line on selection event in the
-						// table
-						item.setData(Integer.valueOf(i));
-					}
-					item.setText(j, s);
+	private void setVerifyTableItems(DecompiledClass result) {
+		tableControlViewer.setInput(result);
+		int lineCount = result == null ? 0 : result.getLineCount();
+		tableControlViewer.setItemCount(lineCount);
+		if (result != null) {
+			TableColumn[] columns = tableControl.getColumns();
+			for (int i = 0; i < columns.length; i++) {
+				// packing a virtual table would create all rows, and analyze all methods
+				if (lineCount <= MAX_PACKED_LINES) {
+					columns[i].pack();
+				} else if (columns[i].getWidth() == 0) {
+					columns[i].setWidth(DEFAULT_COLUMN_WIDTHS[i]);
 				}
 			}
-			tableControl.getColumn(0).pack();
-			tableControl.getColumn(1).pack();
-			tableControl.getColumn(2).pack();
-			tableControl.getColumn(3).pack();
-			tableControl.getColumn(4).pack();
+		}
+	}
+
+	/**
+	 * Provides the line numbers of the decompiled class as elements of the verify table.
+	 */
+	private class VerifyTableContentProvider implements ILazyContentProvider {
+
+		@Override
+		public void updateElement(int index) {
+			tableControlViewer.replace(Integer.valueOf(index), index);
+		}
+	}
+
+	/**
+	 * Computes the rows of the verify table on demand, see {@link DecompiledClass#getTextTableLine(int)}.
+	 */
+	private class VerifyTableLabelProvider extends LabelProvider implements ITableLabelProvider, ITableColorProvider {
+
+		@Override
+		public Image getColumnImage(Object element, int columnIndex) {
+			return null;
+		}
+
+		@Override
+		public String getColumnText(Object element, int columnIndex) {
+			DecompiledClass result = (DecompiledClass) tableControlViewer.getInput();
+			String[] line = result == null ? null : result.getTextTableLine(((Integer) element).intValue());
+			if (line == null) {
+				return ""; //$NON-NLS-1$
+			}
+			String s = line[columnIndex];
+			if (s.endsWith("\n")) { //$NON-NLS-1$
+				s = s.substring(0, s.length() - 1);
+			}
+			return s;
+		}
+
+		@Override
+		public Color getForeground(Object element, int columnIndex) {
+			DecompiledClass result = (DecompiledClass) tableControlViewer.getInput();
+			if (result == null) {
+				return null;
+			}
+			boolean errorLine = result.isErrorLine(((Integer) element).intValue());
+			// the method of the row has been analyzed now
+			if (result.hasErrors()) {
+				hasAnalyzerError = true;
+			}
+			return errorLine ? errorColor : null;
+		}
+
+		@Override
+		public Color getBackground(Object element, int columnIndex) {
+			return null;
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,9 @@ import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpScope;
+
 import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
@@ -87,6 +90,20 @@ public abstract class AbstractCleanUp implements ICleanUp {
 		return new CleanUpRequirements(false, false, false, null);
 	}
 
+	/**
+	 * Returns the requirements of a clean up whose fixes only depend on the member in which they
+	 * apply. Such a clean up visits the AST through {@link CleanUpScope} and requests the changed
+	 * regions if save actions are limited to them.
+	 *
+	 * @param requireAST <code>true</code> if the clean up requires an AST
+	 * @param compilerOptions the compiler options the clean up requires, or <code>null</code>
+	 * @return the requirements of the clean up
+	 */
+	protected CleanUpRequirements getMemberScopedRequirements(boolean requireAST, Map<String, String> compilerOptions) {
+		boolean requireChangedRegions= requireAST && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+		return new CleanUpRequirements(requireAST, false, requireChangedRegions, compilerOptions);
+	}
+
 	/*
 	 * @see org.eclipse.jdt.ui.cleanup.ICleanUp#checkPreConditions(org.eclipse.jdt.core.IJavaProject, org.eclipse.jdt.core.ICompilationUnit[], org.eclipse.core.runtime.IProgressMonitor)
 	 * @since 3.5
@@ -105,6 +122,18 @@ public abstract class AbstractCleanUp implements ICleanUp {
 		return null;
 	}
 
+	/**
+	 * Returns whether {@link #createFix(CleanUpContext)} can be called for different compilation
+	 * units concurrently. This is only the case if creating a fix does not change any state of
+	 * the clean up, such as a status that is reported by {@link #checkPostConditions(IProgressMonitor)}.
+	 *
+	 * @return <code>true</code> if the fixes of different compilation units can be created
+	 *         concurrently, <code>false</code> by default
+	 */
+	public boolean canCreateFixesConcurrently() {
+		return false;
+	}
+
 	/*
 	 * @see org.eclipse.jdt.ui.cleanup.ICleanUp#checkPostConditions(org.eclipse.core.runtime.IProgressMonitor)
 	 * @since 3.5
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Red Hat and others.
+ * Copyright (c) 2022, 2026 Red Hat and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,6 +52,11 @@ public class AbstractCleanUpCoreWrapper<T extends AbstractCleanUp> extends Abstr
 		return cleanUpCore.createFix(context);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return cleanUpCore.canCreateFixesConcurrently();
+	}
+
 	@Override
 	public RefactoringStatus checkPostConditions(IProgressMonitor monitor) throws CoreException {
 		return cleanUpCore.checkPostConditions(monitor);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,7 +36,8 @@ public class BooleanValueRatherThanComparisonCleanUpCore extends AbstractCleanUp
 
 	@Override
 	public CleanUpRequirements getRequirements() {
-		return new CleanUpRequirements(requireAST(), false, false, null);
+		boolean requireAST= requireAST();
+		return getMemberScopedRequirements(requireAST, null);
 	}
 
 	public boolean requireAST() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,7 +46,7 @@ public class ElseIfCleanUpCore extends AbstractMultiFix implements ICleanUpFix {
 	@Override
 	public CleanUpRequirements getRequirements() {
 		boolean requireAST= isEnabled(CleanUpConstants.ELSE_IF);
-		return new CleanUpRequirements(requireAST, false, false, null);
+		return getMemberScopedRequirements(requireAST, null);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2011, 2019 Stefan Henss and others.
+ * Copyright (c) 2011, 2026 Stefan Henss and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,19 +12,17 @@ package org.eclipse.jdt.internal.ui.text;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.eclipse.jdt.core.CompletionContext;
 import org.eclipse.jdt.core.Flags;
-import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
@@ -32,51 +30,26 @@ import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.internal.corext.template.java.SignatureUtil;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
+import org.eclipse.jdt.internal.ui.text.ChainMemberIndex.IndexedMember;
+import org.eclipse.jdt.internal.ui.text.ChainMemberIndex.IndexedType;
+
 public final class ChainElementAnalyzer {
 
-	private static final Map<String, IType> typeCache= new HashMap<>();
+	private static final Map<String, IType> typeCache= new ConcurrentHashMap<>();
 
-	private static final Predicate<IField> NON_STATIC_FIELDS_ONLY_FILTER = t -> {
-		try {
-			return !Flags.isStatic(t.getFlags());
-		} catch (JavaModelException e) {
-			return true;
-		}
-	};
+	private static final Predicate<IndexedMember> NON_STATIC_FIELDS_ONLY_FILTER = t -> !Flags.isStatic(t.getFlags());
 
-    private static final Predicate<IMethod> RELEVANT_NON_STATIC_METHODS_ONLY_FILTER = m -> {
-		try {
-			return !Flags.isStatic(m.getFlags()) && !isVoid(m) && !m.isConstructor();
-		} catch (JavaModelException e) {
-			return false;
-		}
-	};
+    private static final Predicate<IndexedMember> RELEVANT_NON_STATIC_METHODS_ONLY_FILTER = m -> !Flags.isStatic(m.getFlags()) && !isVoid(m) && !m.isConstructor();
 
-    private static final Predicate<IField> STATIC_FIELDS_ONLY_FILTER = t -> {
-		try {
-			return Flags.isStatic(t.getFlags());
-		} catch (JavaModelException e) {
-			return false;
-		}
-	};
+    private static final Predicate<IndexedMember> STATIC_FIELDS_ONLY_FILTER = t -> Flags.isStatic(t.getFlags());
 
-    private static final Predicate<IMethod> STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER = m -> {
-		try {
-			return Flags.isStatic(m.getFlags()) && !isVoid(m) && !m.isConstructor();
-		} catch (JavaModelException e) {
-			return false;
-		}
-	};
+    private static final Predicate<IndexedMember> STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER = m -> Flags.isStatic(m.getFlags()) && !isVoid(m) && !m.isConstructor();
 
     private ChainElementAnalyzer() {
     }
 
-    private static boolean isVoid(final IMethod m) {
-        try {
-			return String.valueOf(Signature.C_VOID).equals(m.getReturnType());
-		} catch (JavaModelException e) {
-			return false;
-		}
+    private static boolean isVoid(final IndexedMember m) {
+        return String.valueOf(Signature.C_VOID).equals(m.getTypeSignature());
     }
 
     public static Collection<IJavaElement> findVisibleInstanceFieldsAndRelevantInstanceMethods(final ChainType type,
@@ -92,35 +65,25 @@ public final class ChainElementAnalyzer {
     }
 
     private static Collection<IJavaElement> findFieldsAndMethods(final ChainType type, final ChainType receiverType,
-            final Predicate<IField> fieldFilter, final Predicate<IMethod> methodFilter) {
+            final Predicate<IndexedMember> fieldFilter, final Predicate<IndexedMember> methodFilter) {
         final Map<String, IJavaElement> tmp = new LinkedHashMap<>();
+        final ChainMemberIndex index= ChainMemberIndex.getInstance();
         for (final IType cur : findAllSupertypesIncludingArgument(type)) {
-            try {
-				for (final IMethod method : cur.getMethods()) {
-				    if (!methodFilter.test(method) || !methodCanBeSeenBy(method, receiverType.getType())) {
-				        continue;
-				    }
-				    final String key = method.getKey();
-				    if (!tmp.containsKey(key)) {
-				        tmp.put(key, method);
-				    }
-				}
-			} catch (JavaModelException e) {
-				// ignore
-			}
-            try {
-				for (final IField field : cur.getFields()) {
-				    if (!fieldFilter.test(field) || !fieldCanBeSeenBy(field, receiverType.getType())) {
-				        continue;
-				    }
-				    final String key = field.getKey();
-				    if (!tmp.containsKey(key)) {
-				        tmp.put(key, field);
-				    }
-				}
-			} catch (JavaModelException e) {
-				// ignore
-			}
+            final IndexedType indexed= index.getType(cur);
+            if (indexed == null) {
+                continue;
+            }
+            // methods before fields, like the Java model returned them
+            for (final IndexedMember member : indexed.getMembers()) {
+                if (!member.isField() && methodFilter.test(member) && canBeSeenBy(member, cur, receiverType.getType())) {
+                    tmp.putIfAbsent(member.getKey(), member.getMember());
+                }
+            }
+            for (final IndexedMember member : indexed.getMembers()) {
+                if (member.isField() && fieldFilter.test(member) && canBeSeenBy(member, cur, receiverType.getType())) {
+                    tmp.putIfAbsent(member.getKey(), member.getMember());
+                }
+            }
         }
         return tmp.values();
     }
@@ -129,6 +92,7 @@ public final class ChainElementAnalyzer {
         if ((type.getPrimitiveType() != null)) {
             return Collections.emptyList();
         }
+        final ChainMemberIndex index= ChainMemberIndex.getInstance();
         final List<IType> supertypes = new LinkedList<>();
         final LinkedList<IType> queue = new LinkedList<>();
         queue.add(type.getType());
@@ -138,19 +102,19 @@ public final class ChainElementAnalyzer {
                 continue;
             }
             supertypes.add(superType);
-			try {
-				String superClass= superType.getSuperclassTypeSignature();
-				if (superClass != null) {
-					IType superClassType= ChainElementAnalyzer.getTypeFromSignature(type.getType().getJavaProject(), superClass, superType);
-					queue.add(superClassType);
-				}
-				for (final String interfc : superType.getSuperInterfaceTypeSignatures()) {
-					IType interfcType= ChainElementAnalyzer.getTypeFromSignature(type.getType().getJavaProject(), interfc, superType);
-					queue.add(interfcType);
-				}
-			} catch (JavaModelException e) {
-				// ignore
-			}
+            final IndexedType indexed= index.getType(superType);
+            if (indexed == null) {
+                continue;
+            }
+            String superClass= indexed.getSuperclassSignature();
+            if (superClass != null) {
+                IType superClassType= ChainElementAnalyzer.getTypeFromSignature(type.getType().getJavaProject(), superClass, superType);
+                queue.add(superClassType);
+            }
+            for (final String interfc : indexed.getSuperInterfaceSignatures()) {
+                IType interfcType= ChainElementAnalyzer.getTypeFromSignature(type.getType().getJavaProject(), interfc, superType);
+                queue.add(interfcType);
+            }
         }
         return supertypes;
     }
@@ -293,7 +257,7 @@ public final class ChainElementAnalyzer {
 			if (resType != null) {
 				String fqExpectedType= JavaModelUtil.concatenateName(resType[0][0], resType[0][1]);
 				res= proj.findType(fqExpectedType);
-				if (isResolved) {
+				if (isResolved && res != null) {
 					typeCache.put(typeSig, res);
 				}
 				return res;
@@ -304,77 +268,56 @@ public final class ChainElementAnalyzer {
 		return null;
 	}
 
-	private static boolean methodCanBeSeenBy(IMethod mb, IType invocationType) {
-		try {
-			if (Flags.isPublic(mb.getFlags())) {
-				return true;
-			}
-		} catch (JavaModelException e1) {
-			// ignore
+	private static boolean canBeSeenBy(IndexedMember member, IType declaringType, IType invocationType) {
+		return member.isField()
+				? fieldCanBeSeenBy(member.getFlags(), declaringType, invocationType)
+				: methodCanBeSeenBy(member.getFlags(), declaringType, invocationType);
+	}
+
+	private static boolean methodCanBeSeenBy(int flags, IType declaringType, IType invocationType) {
+		if (Flags.isPublic(flags)) {
+			return true;
 		}
-		if (invocationType.equals(mb.getDeclaringType())) {
+		if (invocationType.equals(declaringType)) {
 			return true;
 		}
 
 		String invocationPackage= invocationType.getPackageFragment().getElementName();
-		String methodPackage= mb.getDeclaringType().getPackageFragment().getElementName();
-		try {
-			if (Flags.isProtected(mb.getFlags())) {
-				if (invocationPackage.equals(methodPackage)) {
-					return false; // isSuper ?
-				}
+		String methodPackage= declaringType.getPackageFragment().getElementName();
+		if (Flags.isProtected(flags)) {
+			if (invocationPackage.equals(methodPackage)) {
+				return false; // isSuper ?
 			}
-		} catch (JavaModelException e) {
-			// ignore
 		}
 
-		try {
-			if (Flags.isPrivate(mb.getFlags())) {
-				IType mTypeRoot= mb.getDeclaringType();
-				while (invocationType.getDeclaringType() != null) {
-					mTypeRoot= mTypeRoot.getDeclaringType();
-				}
-				IType invTypeRoot= invocationType;
-				while (invTypeRoot.getDeclaringType() != null) {
-					invTypeRoot= invTypeRoot.getDeclaringType();
-				}
-				return mTypeRoot.equals(invTypeRoot);
-			}
-		} catch (JavaModelException e) {
-			// ignore
+		if (Flags.isPrivate(flags)) {
+			return getTopLevelType(declaringType).equals(getTopLevelType(invocationType));
 		}
 
 		return invocationPackage.equals(methodPackage);
 	}
 
-	private static boolean fieldCanBeSeenBy(IField fb, IType invocationType) {
-		try {
-			if (Flags.isPublic(fb.getFlags())) {
-				return true;
-			}
-		} catch (JavaModelException e2) {
-			// ignore
+	private static boolean fieldCanBeSeenBy(int flags, IType declaringType, IType invocationType) {
+		if (Flags.isPublic(flags)) {
+			return true;
 		}
 
-		if (invocationType.equals(fb.getDeclaringType())) {
+		if (invocationType.equals(declaringType)) {
 			return true;
 		}
 
 		String invocationpackage = invocationType.getPackageFragment().getElementName();
-		String fieldPackage = fb.getDeclaringType().getPackageFragment().getElementName();
+		String fieldPackage = declaringType.getPackageFragment().getElementName();
 		try {
-			if (Flags.isProtected(fb.getFlags())) {
-				if (invocationType.equals(fb.getDeclaringType())) {
-					return true;
-				}
+			if (Flags.isProtected(flags)) {
 				if (invocationpackage.equals(fieldPackage)) {
 					return true;
 				}
 
 				IType currType= invocationType;
-				while (currType.getSuperclassTypeSignature() != null) {
+				while (currType != null && currType.getSuperclassTypeSignature() != null) {
 					currType= ChainElementAnalyzer.getTypeFromSignature(currType.getJavaProject(), currType.getSuperclassTypeSignature(), currType);
-					if (currType.equals(fb.getDeclaringType())) {
+					if (declaringType.equals(currType)) {
 						return true;
 					}
 				}
@@ -383,31 +326,21 @@ public final class ChainElementAnalyzer {
 			// ignore
 		}
 
-		try {
-			if (Flags.isPrivate(fb.getFlags())) {
-				IType fTypeRoot= fb.getDeclaringType();
-				while (invocationType.getDeclaringType() != null) {
-					fTypeRoot= fTypeRoot.getDeclaringType();
-				}
-				IType invTypeRoot= invocationType;
-				while (invTypeRoot.getDeclaringType() != null) {
-					invTypeRoot= invTypeRoot.getDeclaringType();
-				}
-				if (fTypeRoot.equals(invTypeRoot)) {
-					return true;
-				}
-			}
-		} catch (JavaModelException e) {
-			// ignore
-		}
-
-		if (! invocationpackage.equals(fieldPackage)) {
-			return false;
+		if (Flags.isPrivate(flags)) {
+			return getTopLevelType(declaringType).equals(getTopLevelType(invocationType));
 		}
 
 		return false;
 	}
 
+	private static IType getTopLevelType(IType type) {
+		IType topLevelType= type;
+		while (topLevelType.getDeclaringType() != null) {
+			topLevelType= topLevelType.getDeclaringType();
+		}
+		return topLevelType;
+	}
+
 	public static boolean isPrimitive (String typeSig) {
 		String elementType= Signature.getElementType(typeSig);
 		int kind= Signature.getTypeSignatureKind(elementType);
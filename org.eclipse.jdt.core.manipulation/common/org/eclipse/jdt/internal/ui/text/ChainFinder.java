@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2020 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,37 +11,173 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
+/**
+ * Searches call chains that end in one of the expected types.
+ * <p>
+ * The search is breadth first. The chains of each depth are checked and extended in parallel in
+ * a {@link #getSearchPool() shared pool}, and the chains that are found are published after
+ * each depth, so that {@link #getChains()} returns the shortest chains even if the search is
+ * canceled before it completes.
+ * </p>
+ */
 public class ChainFinder {
 
+	/**
+	 * The maximum number of incomplete chains of one depth.
+	 */
+	private static final int MAX_INCOMPLETE_CHAINS= 50000;
+
+	/**
+	 * The number of chains below which a task doesn't fork.
+	 */
+	private static final int SEQUENTIAL_THRESHOLD= 32;
+
+	private static ForkJoinPool searchPool;
+
 	private final List<ChainType> expectedTypes;
 
 	private final List<String> excludedTypes;
 
 	private final IType receiverType;
 
-	private final List<Chain> chains= new LinkedList<>();
+	private final List<Chain> chains= new ArrayList<>();
 
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
+	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new ConcurrentHashMap<>();
 
-	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
-
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
+	private final Map<String, Boolean> assignableCache= new ConcurrentHashMap<>();
 
 	private volatile boolean isCanceled;
 
 	private String token;
 
+	/**
+	 * An incomplete chain. The chains that are created by extending a chain share it as their
+	 * prefix instead of copying it.
+	 */
+	private static final class PartialChain {
+
+		final ChainElement edge;
+
+		final PartialChain prefix;
+
+		final ChainElement start;
+
+		final int length;
+
+		PartialChain(final ChainElement edge, final PartialChain prefix) {
+			this.edge= edge;
+			this.prefix= prefix;
+			this.start= prefix == null ? edge : prefix.start;
+			this.length= prefix == null ? 1 : prefix.length + 1;
+		}
+
+		boolean contains(final ChainElement element) {
+			for (PartialChain c= this; c != null; c= c.prefix) {
+				if (c.edge.equals(element)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		List<ChainElement> toList() {
+			final ChainElement[] elements= new ChainElement[length];
+			int i= length;
+			for (PartialChain c= this; c != null; c= c.prefix) {
+				elements[--i]= c.edge;
+			}
+			return Arrays.asList(elements);
+		}
+	}
+
+	/**
+	 * Checks a range of the chains of one depth, or extends the ones that don't end in the
+	 * expected type by one element.
+	 */
+	private final class LevelTask extends RecursiveAction {
+
+		private static final long serialVersionUID= 1L;
+
+		private final Level level;
+
+		private final int from;
+
+		private final int to;
+
+		private final boolean extend;
+
+		LevelTask(final Level level, final int from, final int to, final boolean extend) {
+			this.level= level;
+			this.from= from;
+			this.to= to;
+			this.extend= extend;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > SEQUENTIAL_THRESHOLD) {
+				int middle= (from + to) >>> 1;
+				invokeAll(new LevelTask(level, from, middle, extend), new LevelTask(level, middle, to, extend));
+				return;
+			}
+			for (int i= from; i < to && !isCanceled; i++) {
+				final PartialChain chain= level.chains.get(i);
+				if (!extend) {
+					level.isEnd[i]= isValidEndOfChain(chain.edge, chain.start, level.expectedType, level.expectedDimensions);
+				} else if (!level.isEnd[i] && chain.length < level.maxDepth && level.extensions.get() < MAX_INCOMPLETE_CHAINS) {
+					final List<PartialChain> next= searchDeeper(chain);
+					level.extensions.addAndGet(next.size());
+					level.next[i]= next;
+				}
+			}
+		}
+	}
+
+	/**
+	 * The chains of one depth of the search, and the results of checking and extending them.
+	 */
+	private static final class Level {
+
+		final List<PartialChain> chains;
+
+		final ChainType expectedType;
+
+		final int expectedDimensions;
+
+		final int maxDepth;
+
+		final boolean[] isEnd;
+
+		final List<PartialChain>[] next;
+
+		final AtomicInteger extensions= new AtomicInteger();
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Level(final List<PartialChain> chains, final ChainType expectedType, final int expectedDimensions, final int maxDepth) {
+			this.chains= chains;
+			this.expectedType= expectedType;
+			this.expectedDimensions= expectedDimensions;
+			this.maxDepth= maxDepth;
+			this.isEnd= new boolean[chains.size()];
+			this.next= new List[chains.size()];
+		}
+	}
+
 	public ChainFinder(final List<ChainType> expectedTypes, final List<String> excludedTypes,
 			final IType receiverType) {
 		this(expectedTypes, excludedTypes, receiverType, null);
@@ -55,6 +191,19 @@ public class ChainFinder {
 		this.token= token;
 	}
 
+	/**
+	 * Returns the pool in which chain searches run. It is shared by all searches, so that
+	 * completion requests don't start threads of their own.
+	 *
+	 * @return the pool
+	 */
+	public static synchronized ForkJoinPool getSearchPool() {
+		if (searchPool == null) {
+			searchPool= new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+		}
+		return searchPool;
+	}
+
 	public void startChainSearch(final List<ChainElement> entrypoints, final int maxChains, final int minDepth,
 			final int maxDepth) {
 		for (final ChainType expected : expectedTypes) {
@@ -76,45 +225,74 @@ public class ChainFinder {
 
 	private void searchChainsForExpectedType(final ChainType expectedType, final int expectedDimensions,
 			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
+		List<PartialChain> incompleteChains= new ArrayList<>(entrypoints.size());
+		for (final ChainElement entrypoint : entrypoints) {
+			incompleteChains.add(new PartialChain(entrypoint, null));
+		}
 
 		while (!incompleteChains.isEmpty() && !isCanceled) {
-			final LinkedList<ChainElement> chain= incompleteChains.poll();
-			final ChainElement edge= chain.getLast();
-			final ChainElement start= chain.getFirst();
-			if (isValidEndOfChain(edge, start, expectedType, expectedDimensions)) {
-				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
-						break;
-					}
+			final Level level= new Level(incompleteChains, expectedType, expectedDimensions, maxDepth);
+			invoke(new LevelTask(level, 0, incompleteChains.size(), false));
+			if (isCanceled) {
+				return;
+			}
+			for (int i= 0; i < incompleteChains.size(); i++) {
+				final PartialChain chain= incompleteChains.get(i);
+				if (level.isEnd[i] && chain.length >= minDepth && !addChain(new Chain(chain.toList(), expectedDimensions), maxChains)) {
+					return;
 				}
-				continue;
 			}
-			if (chain.size() < maxDepth && incompleteChains.size() <= 50000) {
-				searchDeeper(chain, incompleteChains, edge.getReturnType());
+			invoke(new LevelTask(level, 0, incompleteChains.size(), true));
+			incompleteChains= new ArrayList<>(Math.min(level.extensions.get(), MAX_INCOMPLETE_CHAINS));
+			for (final List<PartialChain> next : level.next) {
+				if (next != null) {
+					for (final PartialChain chain : next) {
+						if (incompleteChains.size() == MAX_INCOMPLETE_CHAINS) {
+							break;
+						}
+						incompleteChains.add(chain);
+					}
+				}
 			}
 		}
 	}
 
+	private static void invoke(final LevelTask task) {
+		if (ForkJoinTask.inForkJoinPool()) {
+			task.invoke();
+		} else {
+			getSearchPool().invoke(task);
+		}
+	}
+
 	/**
-	 * Returns the potentially incomplete list of call chains that could be found before a time out
-	 * happened. The contents of this list are mutable and may change as the search makes progress.
+	 * Adds a chain to the result.
 	 *
-	 * @return The list of call chains
+	 * @param chain the chain
+	 * @param maxChains the maximum number of chains
+	 * @return <code>false</code> if the maximum number of chains has been reached
 	 */
-	public List<Chain> getChains() {
-		return chains;
+	private boolean addChain(final Chain chain, final int maxChains) {
+		synchronized (chains) {
+			if (chains.size() >= maxChains) {
+				return false;
+			}
+			chains.add(chain);
+			return chains.size() < maxChains;
+		}
 	}
 
-	private static LinkedList<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= new LinkedList<>();
-		for (final ChainElement entrypoint : entrypoints) {
-			final LinkedList<ChainElement> chain= new LinkedList<>();
-			chain.add(entrypoint);
-			incompleteChains.add(chain);
+	/**
+	 * Returns the call chains that have been found so far. If the search has been canceled
+	 * because of a time out, this is the potentially incomplete list of the chains that could be
+	 * found before.
+	 *
+	 * @return a snapshot of the list of call chains
+	 */
+	public List<Chain> getChains() {
+		synchronized (chains) {
+			return new ArrayList<>(chains);
 		}
-		return incompleteChains;
 	}
 
 	public static boolean isFromExcludedType(final List<String> excluded, final IJavaElement element) {
@@ -155,52 +333,34 @@ public class ChainFinder {
 		return isAssignable;
 	}
 
-	private void searchDeeper(final LinkedList<ChainElement> chain,
-			final List<LinkedList<ChainElement>> incompleteChains, final ChainType currentlyVisitedType) {
+	private List<PartialChain> searchDeeper(final PartialChain chain) {
 		boolean staticOnly= false;
-		if (chain.getLast().getElementType() == ElementType.TYPE) {
+		if (chain.edge.getElementType() == ElementType.TYPE) {
 			staticOnly= true;
 		}
 
-		for (final IJavaElement element : findAllFieldsAndMethods(currentlyVisitedType, staticOnly)) {
-			final ChainElement newEdge= createEdge(element);
+		final List<PartialChain> incompleteChains= new ArrayList<>();
+		for (final IJavaElement element : findAllFieldsAndMethods(chain.edge.getReturnType(), staticOnly)) {
+			final ChainElement newEdge= ChainMemberCache.getInstance().getEdge(element);
 			if (newEdge.getElementType() != null && !chain.contains(newEdge)) {
-				incompleteChains.add(cloneChainAndAppendEdge(chain, newEdge));
+				incompleteChains.add(new PartialChain(newEdge, chain));
 			}
 		}
+		return incompleteChains;
 	}
 
 	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
-		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
+		final String key= ChainMemberCache.getKey(chainElementType) + Boolean.toString(staticOnly);
+		List<IJavaElement> cached= fieldsAndMethodsCache.get(key);
 		if (cached == null) {
-			cached= new LinkedList<>();
-			Collection<IJavaElement> candidates= staticOnly
-					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(chainElementType, new ChainType(receiverType))
-					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(chainElementType, new ChainType(receiverType));
-			for (final IJavaElement e : candidates) {
+			cached= new ArrayList<>();
+			for (final IJavaElement e : ChainMemberCache.getInstance().getMembers(chainElementType, receiverType, staticOnly)) {
 				if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
 					cached.add(e);
 				}
 			}
-			fieldsAndMethodsCache.put(chainElementType.toString() + Boolean.toString(staticOnly), cached);
+			fieldsAndMethodsCache.put(key, cached);
 		}
 		return cached;
 	}
-
-	private ChainElement createEdge(final IJavaElement member) {
-		ChainElement cached= edgeCache.get(member);
-		if (cached == null) {
-			cached= new ChainElement(member, false);
-			edgeCache.put(member, cached);
-		}
-		return cached;
-	}
-
-	private static LinkedList<ChainElement> cloneChainAndAppendEdge(final LinkedList<ChainElement> chain,
-			final ChainElement newEdge) {
-		@SuppressWarnings("unchecked")
-		final LinkedList<ChainElement> chainCopy= (LinkedList<ChainElement>) chain.clone();
-		chainCopy.add(newEdge);
-		return chainCopy;
-	}
 }
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Caches the fields and methods that the chain search can follow from a type, and the chain
+ * elements created for them, across completion requests.
+ * <p>
+ * Both depend on the Java model only, so the cache is flushed whenever a working copy is
+ * reconciled or the Java model changes. While the cache holds entries, it listens to Java
+ * element changes.
+ * </p>
+ *
+ * @see ChainFinder
+ */
+public final class ChainMemberCache implements IElementChangedListener {
+
+	private static final int MAX_ENTRIES= 2000;
+
+	private static final ChainMemberCache INSTANCE= new ChainMemberCache();
+
+	private final Map<String, List<IJavaElement>> members= new ConcurrentHashMap<>();
+
+	private final Map<IJavaElement, ChainElement> edges= new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented by every flush, so that results that were computed from an outdated model
+	 * are not added to the cache.
+	 */
+	private int generation;
+
+	private boolean isListening;
+
+	private ChainMemberCache() {
+	}
+
+	public static ChainMemberCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the fields and methods of the given type and its super types that are visible
+	 * from the receiver type and can be used as the next element of a chain.
+	 *
+	 * @param type the type to search
+	 * @param receiverType the type in which the completion was invoked, may be
+	 *            <code>null</code>
+	 * @param staticOnly <code>true</code> to find static members, <code>false</code> to find
+	 *            instance members
+	 * @return the members, must not be modified
+	 */
+	public List<IJavaElement> getMembers(final ChainType type, final IType receiverType, final boolean staticOnly) {
+		String key= getKey(type) + '|' + (receiverType != null ? receiverType.getHandleIdentifier() : "") + '|' + staticOnly; //$NON-NLS-1$
+		List<IJavaElement> cached= members.get(key);
+		if (cached == null) {
+			int startGeneration= getGeneration();
+			Collection<IJavaElement> candidates= staticOnly
+					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(type, new ChainType(receiverType))
+					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(type, new ChainType(receiverType));
+			cached= new ArrayList<>(candidates);
+			put(members, key, cached, startGeneration);
+		}
+		return cached;
+	}
+
+	/**
+	 * Returns the chain element for the given member.
+	 *
+	 * @param member a field or method
+	 * @return the chain element
+	 */
+	public ChainElement getEdge(final IJavaElement member) {
+		ChainElement cached= edges.get(member);
+		if (cached == null) {
+			int startGeneration= getGeneration();
+			cached= new ChainElement(member, false);
+			put(edges, member, cached, startGeneration);
+		}
+		return cached;
+	}
+
+	/**
+	 * Returns a key that identifies the given type across projects.
+	 *
+	 * @param type the type
+	 * @return the key
+	 */
+	static String getKey(final ChainType type) {
+		IType t= type.getType();
+		return t != null ? t.getHandleIdentifier() : String.valueOf(type.getPrimitiveType());
+	}
+
+	private synchronized int getGeneration() {
+		return generation;
+	}
+
+	private synchronized <K, V> void put(final Map<K, V> map, final K key, final V value, final int startGeneration) {
+		if (startGeneration != generation) {
+			return;
+		}
+		if (map.size() >= MAX_ENTRIES) {
+			map.clear();
+		}
+		map.put(key, value);
+		if (!isListening) {
+			JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			isListening= true;
+		}
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	public synchronized void flush() {
+		generation++;
+		members.clear();
+		edges.clear();
+		if (isListening) {
+			JavaCore.removeElementChangedListener(this);
+			isListening= false;
+		}
+	}
+
+	@Override
+	public void elementChanged(final ElementChangedEvent event) {
+		flush();
+	}
+}
@@ -0,0 +1,695 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * An index of the fields and methods that types declare, with their flags and type
+ * signatures, so that chain completion can find the members of a type without opening it in
+ * the Java model.
+ * <p>
+ * The index is partitioned by project and filled lazily when completion looks at a type. It is
+ * kept up to date with Java element deltas and stored in the state location of the plug-in
+ * shortly after it changed and when the plug-in stops. When an index is read again, the
+ * entries of a compilation unit or class file are only used if the modification stamp of its
+ * resource or archive didn't change. Compilation units with unsaved changes are not indexed.
+ * </p>
+ * <p>
+ * The index of a project keeps the types of at most {@value #MAX_ROOTS} compilation units and
+ * class files. When there are more, the entries that completion used least recently are
+ * removed.
+ * </p>
+ *
+ * @see ChainElementAnalyzer
+ */
+public final class ChainMemberIndex implements IElementChangedListener {
+
+	private static final int FORMAT_VERSION= 1;
+
+	private static final String INDEX_DIR= "chainMemberIndex"; //$NON-NLS-1$
+
+	private static final String INDEX_FILE_EXTENSION= ".index"; //$NON-NLS-1$
+
+	/**
+	 * The maximal number of compilation units and class files in the index of a project.
+	 */
+	static final int MAX_ROOTS= 5000;
+
+	/**
+	 * The delay in milliseconds after which changed indexes are stored.
+	 */
+	private static final long SAVE_DELAY= 60000;
+
+	private static final byte KIND_FIELD= 0;
+
+	private static final byte KIND_METHOD= 1;
+
+	private static final byte KIND_CONSTRUCTOR= 2;
+
+	private static ChainMemberIndex instance;
+
+	/**
+	 * The indexes of the projects that have been used in this session, keyed by project name.
+	 */
+	private final Map<String, ProjectIndex> projects= new HashMap<>();
+
+	/**
+	 * The clock of the last uses of the entries.
+	 */
+	private final AtomicLong useCount= new AtomicLong();
+
+	private final Job saveJob;
+
+	/**
+	 * A field or method in the index.
+	 */
+	static final class IndexedMember {
+
+		private final String handleIdentifier;
+
+		private final String key;
+
+		private final int flags;
+
+		private final byte kind;
+
+		private final String typeSignature;
+
+		private IMember member;
+
+		IndexedMember(final String handleIdentifier, final String key, final int flags, final byte kind, final String typeSignature) {
+			this.handleIdentifier= handleIdentifier;
+			this.key= key;
+			this.flags= flags;
+			this.kind= kind;
+			this.typeSignature= typeSignature;
+		}
+
+		/**
+		 * @return the member, created from its handle identifier
+		 */
+		IMember getMember() {
+			if (member == null) {
+				member= (IMember) JavaCore.create(handleIdentifier);
+			}
+			return member;
+		}
+
+		/**
+		 * @return the binding key of the member
+		 */
+		String getKey() {
+			return key;
+		}
+
+		int getFlags() {
+			return flags;
+		}
+
+		boolean isField() {
+			return kind == KIND_FIELD;
+		}
+
+		boolean isConstructor() {
+			return kind == KIND_CONSTRUCTOR;
+		}
+
+		/**
+		 * @return the type signature of a field or the return type signature of a method
+		 */
+		String getTypeSignature() {
+			return typeSignature;
+		}
+	}
+
+	/**
+	 * A type in the index.
+	 */
+	static final class IndexedType {
+
+		private final String superclassSignature;
+
+		private final String[] superInterfaceSignatures;
+
+		private final IndexedMember[] members;
+
+		IndexedType(final String superclassSignature, final String[] superInterfaceSignatures, final IndexedMember[] members) {
+			this.superclassSignature= superclassSignature;
+			this.superInterfaceSignatures= superInterfaceSignatures;
+			this.members= members;
+		}
+
+		/**
+		 * @return the signature of the superclass, or <code>null</code> if there is none
+		 */
+		String getSuperclassSignature() {
+			return superclassSignature;
+		}
+
+		String[] getSuperInterfaceSignatures() {
+			return superInterfaceSignatures;
+		}
+
+		/**
+		 * @return the fields and methods that the type declares
+		 */
+		IndexedMember[] getMembers() {
+			return members;
+		}
+
+		IndexedMember getMember(final String handleIdentifier) {
+			for (IndexedMember m : members) {
+				if (m.handleIdentifier.equals(handleIdentifier)) {
+					return m;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * The types of one compilation unit or class file.
+	 */
+	private static final class RootEntry {
+
+		final long stamp;
+
+		final Map<String, IndexedType> types= new ConcurrentHashMap<>();
+
+		/**
+		 * The value of the use clock when completion used the entry last.
+		 */
+		volatile long lastUse;
+
+		/**
+		 * <code>true</code> if the stamp has been compared with the resource in this session.
+		 */
+		volatile boolean isVerified;
+
+		RootEntry(final long stamp, final boolean isVerified) {
+			this.stamp= stamp;
+			this.isVerified= isVerified;
+		}
+	}
+
+	private static final class ProjectIndex {
+
+		final Map<String, RootEntry> roots= new ConcurrentHashMap<>();
+
+		/**
+		 * Incremented whenever entries are removed, so that types that were read from an
+		 * outdated model are not added.
+		 */
+		int generation;
+
+		boolean isDirty;
+	}
+
+	private ChainMemberIndex() {
+		saveJob= Job.create("Saving chain completion index", monitor -> save()); //$NON-NLS-1$
+		saveJob.setSystem(true);
+	}
+
+	public static synchronized ChainMemberIndex getInstance() {
+		if (instance == null) {
+			instance= new ChainMemberIndex();
+			JavaCore.addElementChangedListener(instance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return instance;
+	}
+
+	/**
+	 * Stores the indexes that changed and stops listening to Java element changes. Called when
+	 * the plug-in stops.
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			JavaCore.removeElementChangedListener(instance);
+			instance.saveJob.cancel();
+			instance.save();
+			instance= null;
+		}
+	}
+
+	/**
+	 * Returns the index entry of the given type, and indexes the type if it is not in the index
+	 * yet.
+	 *
+	 * @param type the type
+	 * @return the entry, or <code>null</code> if the type doesn't exist
+	 */
+	IndexedType getType(final IType type) {
+		final ITypeRoot root= type.getTypeRoot();
+		final IJavaProject project= type.getJavaProject();
+		if (root == null || project == null) {
+			return createIndexedType(type);
+		}
+		final ProjectIndex index= getProjectIndex(project);
+		final String rootHandle= root.getHandleIdentifier();
+		final RootEntry entry= getRootEntry(index, root, rootHandle);
+		final String typeHandle= type.getHandleIdentifier();
+		IndexedType indexed= entry != null ? entry.types.get(typeHandle) : null;
+		if (indexed != null) {
+			entry.lastUse= useCount.incrementAndGet();
+		} else {
+			int startGeneration;
+			synchronized (index) {
+				startGeneration= index.generation;
+			}
+			indexed= createIndexedType(type);
+			if (indexed != null && isIndexable(root)) {
+				synchronized (index) {
+					if (startGeneration == index.generation) {
+						final RootEntry newEntry= index.roots.computeIfAbsent(rootHandle, h -> new RootEntry(getStamp(root), true));
+						newEntry.types.put(typeHandle, indexed);
+						newEntry.lastUse= useCount.incrementAndGet();
+						if (index.roots.size() > MAX_ROOTS) {
+							removeLeastRecentlyUsed(index);
+						}
+						changed(index);
+					}
+				}
+			}
+		}
+		return indexed;
+	}
+
+	/**
+	 * Returns whether the index has an entry of the given type that is up to date. Doesn't read
+	 * the type if it is not in the index.
+	 *
+	 * @param type the type
+	 * @return <code>true</code> if the type is in the index
+	 */
+	public boolean isIndexed(final IType type) {
+		final ITypeRoot root= type.getTypeRoot();
+		final IJavaProject project= type.getJavaProject();
+		if (root == null || project == null) {
+			return false;
+		}
+		final RootEntry entry= getRootEntry(getProjectIndex(project), root, root.getHandleIdentifier());
+		return entry != null && entry.types.containsKey(type.getHandleIdentifier());
+	}
+
+	/**
+	 * Returns the entry of a compilation unit or class file. An entry that has been read from
+	 * the state location is removed if the modification stamp of its resource changed.
+	 *
+	 * @param index the index of the project
+	 * @param root the compilation unit or class file
+	 * @param rootHandle the handle identifier of <code>root</code>
+	 * @return the entry, or <code>null</code> if there is no entry that is up to date
+	 */
+	private RootEntry getRootEntry(final ProjectIndex index, final ITypeRoot root, final String rootHandle) {
+		final RootEntry entry= index.roots.get(rootHandle);
+		if (entry != null && !entry.isVerified) {
+			if (entry.stamp != getStamp(root)) {
+				synchronized (index) {
+					index.generation++;
+					index.roots.remove(rootHandle, entry);
+					changed(index);
+				}
+				return null;
+			}
+			entry.isVerified= true;
+		}
+		return entry;
+	}
+
+	/**
+	 * Removes the least recently used entries, so that a quarter of the entries can be added
+	 * before entries are removed again. Must be called while holding the lock of the index.
+	 *
+	 * @param index the index of a project
+	 */
+	private static void removeLeastRecentlyUsed(final ProjectIndex index) {
+		final List<Map.Entry<String, RootEntry>> entries= new ArrayList<>(index.roots.entrySet());
+		entries.sort(Comparator.comparingLong(e -> e.getValue().lastUse));
+		final int removeCount= entries.size() - MAX_ROOTS * 3 / 4;
+		for (int i= 0; i < removeCount; i++) {
+			index.roots.remove(entries.get(i).getKey());
+		}
+	}
+
+	/**
+	 * Marks the index as changed and schedules it to be stored. Must be called while holding the
+	 * lock of the index.
+	 *
+	 * @param index the index of a project
+	 */
+	private void changed(final ProjectIndex index) {
+		index.isDirty= true;
+		saveJob.schedule(SAVE_DELAY);
+	}
+
+	/**
+	 * Returns the type signature of a field or the return type signature of a method from the
+	 * index.
+	 *
+	 * @param member a field or method
+	 * @return the signature, or <code>null</code> if the member is not in the index
+	 */
+	String getTypeSignature(final IMember member) {
+		final IType declaringType= member.getDeclaringType();
+		if (declaringType == null) {
+			return null;
+		}
+		final IndexedType indexed= getType(declaringType);
+		if (indexed == null) {
+			return null;
+		}
+		final IndexedMember m= indexed.getMember(member.getHandleIdentifier());
+		return m != null ? m.getTypeSignature() : null;
+	}
+
+	private static IndexedType createIndexedType(final IType type) {
+		try {
+			if (!type.exists()) {
+				return null;
+			}
+			final IField[] fields= type.getFields();
+			final IMethod[] methods= type.getMethods();
+			final IndexedMember[] members= new IndexedMember[fields.length + methods.length];
+			int i= 0;
+			for (IField field : fields) {
+				members[i++]= new IndexedMember(field.getHandleIdentifier(), field.getKey(), field.getFlags(), KIND_FIELD, field.getTypeSignature());
+			}
+			for (IMethod method : methods) {
+				final byte kind= method.isConstructor() ? KIND_CONSTRUCTOR : KIND_METHOD;
+				members[i++]= new IndexedMember(method.getHandleIdentifier(), method.getKey(), method.getFlags(), kind, method.getReturnType());
+			}
+			return new IndexedType(type.getSuperclassTypeSignature(), type.getSuperInterfaceTypeSignatures(), members);
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	private static boolean isIndexable(final ITypeRoot root) {
+		if (root instanceof ICompilationUnit) {
+			final ICompilationUnit cu= (ICompilationUnit) root;
+			try {
+				return !cu.isWorkingCopy() || !cu.hasUnsavedChanges();
+			} catch (JavaModelException e) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long getStamp(final ITypeRoot root) {
+		final IResource resource= root.getResource();
+		if (resource != null) {
+			return resource.getModificationStamp();
+		}
+		final IPackageFragmentRoot packageFragmentRoot= (IPackageFragmentRoot) root.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		return packageFragmentRoot != null ? packageFragmentRoot.getPath().toFile().lastModified() : IResource.NULL_STAMP;
+	}
+
+	private ProjectIndex getProjectIndex(final IJavaProject project) {
+		synchronized (projects) {
+			final String name= project.getElementName();
+			ProjectIndex index= projects.get(name);
+			if (index == null) {
+				index= read(name);
+				projects.put(name, index);
+			}
+			return index;
+		}
+	}
+
+	@Override
+	public void elementChanged(final ElementChangedEvent event) {
+		processDelta(event.getDelta());
+	}
+
+	private void processDelta(final IJavaElementDelta delta) {
+		final IJavaElement element= delta.getElement();
+		final int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				processChildren(delta);
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() == IJavaElementDelta.REMOVED) {
+					removeProject(element.getElementName(), true);
+				} else if (delta.getKind() == IJavaElementDelta.ADDED
+						|| (flags & (IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					removeProject(element.getElementName(), false);
+				} else {
+					processChildren(delta);
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+								| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH)) != 0) {
+					removeRoots(element, true);
+				} else {
+					processChildren(delta);
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				removeRoots(element, false);
+				break;
+			default:
+				break;
+		}
+	}
+
+	private void processChildren(final IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	/**
+	 * Removes the entries of a compilation unit or class file, or of all compilation units and
+	 * class files in a package fragment root or package fragment.
+	 *
+	 * @param element the element
+	 * @param isContainer <code>true</code> if the element is a package fragment root or package
+	 *            fragment
+	 */
+	private void removeRoots(final IJavaElement element, final boolean isContainer) {
+		final ProjectIndex index;
+		synchronized (projects) {
+			index= projects.get(element.getJavaProject().getElementName());
+		}
+		if (index == null) {
+			// not read yet, outdated entries are detected by their stamps
+			return;
+		}
+		final String handle= element.getHandleIdentifier();
+		synchronized (index) {
+			index.generation++;
+			if (isContainer) {
+				index.roots.keySet().removeIf(rootHandle -> rootHandle.startsWith(handle));
+			} else {
+				index.roots.remove(handle);
+			}
+			changed(index);
+		}
+	}
+
+	private void removeProject(final String name, final boolean isDeleted) {
+		synchronized (projects) {
+			final ProjectIndex index= projects.get(name);
+			if (index != null) {
+				synchronized (index) {
+					index.generation++;
+					index.roots.clear();
+					if (isDeleted) {
+						index.isDirty= false;
+					} else {
+						changed(index);
+					}
+				}
+			}
+			if (isDeleted) {
+				projects.remove(name);
+			}
+		}
+		final File file= getIndexFile(name);
+		if (file != null) {
+			file.delete();
+		}
+	}
+
+	private static File getIndexFile(final String projectName) {
+		final JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		final IPath location= plugin.getStateLocation().append(INDEX_DIR);
+		return location.append(projectName + INDEX_FILE_EXTENSION).toFile();
+	}
+
+	private ProjectIndex read(final String projectName) {
+		final ProjectIndex index= new ProjectIndex();
+		final File file= getIndexFile(projectName);
+		if (file == null || !file.isFile()) {
+			return index;
+		}
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return index;
+			}
+			final int rootCount= in.readInt();
+			for (int i= 0; i < rootCount; i++) {
+				final String rootHandle= in.readUTF();
+				final RootEntry entry= new RootEntry(in.readLong(), false);
+				// the entries are stored from the least to the most recently used
+				entry.lastUse= useCount.incrementAndGet();
+				final int typeCount= in.readInt();
+				for (int j= 0; j < typeCount; j++) {
+					final String typeHandle= in.readUTF();
+					final String superclassSignature= readNullableUTF(in);
+					final String[] superInterfaceSignatures= new String[in.readInt()];
+					for (int k= 0; k < superInterfaceSignatures.length; k++) {
+						superInterfaceSignatures[k]= in.readUTF();
+					}
+					final IndexedMember[] members= new IndexedMember[in.readInt()];
+					for (int k= 0; k < members.length; k++) {
+						members[k]= new IndexedMember(in.readUTF(), in.readUTF(), in.readInt(), in.readByte(), in.readUTF());
+					}
+					entry.types.put(typeHandle, new IndexedType(superclassSignature, superInterfaceSignatures, members));
+				}
+				index.roots.put(rootHandle, entry);
+			}
+		} catch (IOException e) {
+			// the index is rebuilt while completion uses it
+			index.roots.clear();
+		}
+		return index;
+	}
+
+	private void save() {
+		synchronized (projects) {
+			for (Map.Entry<String, ProjectIndex> project : projects.entrySet()) {
+				final ProjectIndex index= project.getValue();
+				synchronized (index) {
+					if (!index.isDirty) {
+						continue;
+					}
+					final File file= getIndexFile(project.getKey());
+					if (file == null) {
+						return;
+					}
+					try {
+						write(index, file);
+						index.isDirty= false;
+					} catch (IOException e) {
+						JavaManipulationPlugin.log(e);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes an index to a temporary file and replaces the index file with it, so that the
+	 * index file is complete even if the workbench terminates while writing.
+	 *
+	 * @param index the index of a project
+	 * @param file the index file
+	 * @throws IOException if the index can't be written
+	 */
+	private static void write(final ProjectIndex index, final File file) throws IOException {
+		file.getParentFile().mkdirs();
+		final File tempFile= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		final List<Map.Entry<String, RootEntry>> roots= new ArrayList<>(index.roots.entrySet());
+		roots.sort(Comparator.comparingLong(e -> e.getValue().lastUse));
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(roots.size());
+			for (Map.Entry<String, RootEntry> root : roots) {
+				final RootEntry entry= root.getValue();
+				out.writeUTF(root.getKey());
+				out.writeLong(entry.stamp);
+				out.writeInt(entry.types.size());
+				for (Map.Entry<String, IndexedType> type : entry.types.entrySet()) {
+					final IndexedType indexed= type.getValue();
+					out.writeUTF(type.getKey());
+					writeNullableUTF(out, indexed.superclassSignature);
+					out.writeInt(indexed.superInterfaceSignatures.length);
+					for (String signature : indexed.superInterfaceSignatures) {
+						out.writeUTF(signature);
+					}
+					out.writeInt(indexed.members.length);
+					for (IndexedMember m : indexed.members) {
+						out.writeUTF(m.handleIdentifier);
+						out.writeUTF(m.key);
+						out.writeInt(m.flags);
+						out.writeByte(m.kind);
+						out.writeUTF(m.typeSignature);
+					}
+				}
+			}
+		}
+		Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static String readNullableUTF(final DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeNullableUTF(final DataOutputStream out, final String s) throws IOException {
+		out.writeBoolean(s != null);
+		if (s != null) {
+			out.writeUTF(s);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.jdt.core.IMember;
+
+/**
+ * Computes the caller or callee graph of many members in one pass, without a view.
+ * <p>
+ * The graph is expanded breadth first from all roots together, up to a maximum depth. The
+ * calls of each member are searched only once, even if the member is reachable from several
+ * roots or on several paths, so that the nodes and edges are reported once each. Caller
+ * searches go through the {@link CallerSearchEngine} and share its cache with the view. The
+ * filter and search scope settings of {@link CallHierarchyCore} apply.
+ * </p>
+ */
+public class CallGraphBuilder {
+
+	private final boolean fCallers;
+	private final int fMaxDepth;
+
+	/**
+	 * @param callers <code>true</code> to compute the callers of the roots, <code>false</code>
+	 *            to compute their callees
+	 * @param maxDepth the number of levels to expand below the roots
+	 */
+	public CallGraphBuilder(boolean callers, int maxDepth) {
+		fCallers= callers;
+		fMaxDepth= maxDepth;
+	}
+
+	public boolean isCallers() {
+		return fCallers;
+	}
+
+	public int getMaxDepth() {
+		return fMaxDepth;
+	}
+
+	/**
+	 * Computes the graph and reports it to the requestor while it is computed.
+	 *
+	 * @param members the roots. Types stand for their constructors, like in the call hierarchy.
+	 * @param requestor the requestor
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public void build(IMember[] members, ICallGraphRequestor requestor, IProgressMonitor monitor) {
+		CallHierarchyCore core= CallHierarchyCore.getDefault();
+		MethodWrapper[] roots= fCallers ? core.getCallerRoots(members) : core.getCalleeRoots(members);
+		SubMonitor subMonitor= SubMonitor.convert(monitor, fCallers ? CallHierarchyMessages.CallerMethodWrapper_taskname : CallHierarchyMessages.CalleeMethodWrapper_taskname,
+				roots.length);
+
+		Map<String, Integer> nodeIds= new HashMap<>();
+		List<MethodWrapper> level= new ArrayList<>();
+		for (MethodWrapper root : roots) {
+			if (addNode(root.getMember(), 0, nodeIds, requestor) != null) {
+				level.add(root);
+			}
+		}
+
+		for (int depth= 0; depth < fMaxDepth && !level.isEmpty(); depth++) {
+			List<MethodWrapper> nextLevel= new ArrayList<>();
+			subMonitor.setWorkRemaining(level.size());
+			for (MethodWrapper wrapper : level) {
+				if (subMonitor.isCanceled())
+					throw new OperationCanceledException();
+				int id= nodeIds.get(wrapper.getMember().getHandleIdentifier()).intValue();
+				MethodWrapper[] calls= wrapper.canHaveChildren() ? wrapper.getCalls(subMonitor.split(1)) : new MethodWrapper[0];
+				for (MethodWrapper call : calls) {
+					Integer newId= addNode(call.getMember(), depth + 1, nodeIds, requestor);
+					if (newId != null) {
+						nextLevel.add(call);
+					}
+					int callId= nodeIds.get(call.getMember().getHandleIdentifier()).intValue();
+					MethodCall methodCall= call.getMethodCall();
+					int callCount= methodCall.hasCallLocations() ? methodCall.getCallLocations().size() : 0;
+					if (fCallers) {
+						requestor.acceptEdge(callId, id, callCount, methodCall.isPotential());
+					} else {
+						requestor.acceptEdge(id, callId, callCount, methodCall.isPotential());
+					}
+				}
+			}
+			level= nextLevel;
+		}
+	}
+
+	/**
+	 * @return the id of the new node, or <code>null</code> if the member already has a node
+	 */
+	private static Integer addNode(IMember member, int depth, Map<String, Integer> nodeIds, ICallGraphRequestor requestor) {
+		String handleIdentifier= member.getHandleIdentifier();
+		if (nodeIds.containsKey(handleIdentifier))
+			return null;
+		Integer id= Integer.valueOf(nodeIds.size());
+		nodeIds.put(handleIdentifier, id);
+		requestor.acceptNode(id.intValue(), handleIdentifier, depth);
+		return id;
+	}
+}
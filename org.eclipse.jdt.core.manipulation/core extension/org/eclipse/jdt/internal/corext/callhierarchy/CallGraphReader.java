@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads a call graph written by a {@link CallGraphWriter}.
+ */
+public final class CallGraphReader {
+
+	private CallGraphReader() {
+	}
+
+	/**
+	 * Reads the graph and reports its nodes and edges to the requestor, in the order in which
+	 * they were written.
+	 *
+	 * @param reader the reader
+	 * @param requestor the requestor
+	 * @throws IOException if reading fails or the content is not a call graph
+	 */
+	public static void read(BufferedReader reader, ICallGraphRequestor requestor) throws IOException {
+		String line= reader.readLine();
+		if (line == null || !(line.equals(CallGraphWriter.HEADER) || line.startsWith(CallGraphWriter.HEADER + ' ')))
+			throw new IOException("Not a call graph"); //$NON-NLS-1$
+
+		int lineNumber= 1;
+		while ((line= reader.readLine()) != null) {
+			lineNumber++;
+			if (line.isEmpty() || line.charAt(0) == '#')
+				continue;
+			try {
+				char kind= line.charAt(0);
+				int start= 2;
+				int end= line.indexOf(' ', start);
+				int first= Integer.parseInt(line.substring(start, end));
+				start= end + 1;
+				end= line.indexOf(' ', start);
+				int second= Integer.parseInt(line.substring(start, end));
+				String rest= line.substring(end + 1);
+				switch (kind) {
+					case CallGraphWriter.NODE:
+						requestor.acceptNode(first, rest, second);
+						break;
+					case CallGraphWriter.EDGE:
+					case CallGraphWriter.POTENTIAL_EDGE:
+						requestor.acceptEdge(first, second, Integer.parseInt(rest), kind == CallGraphWriter.POTENTIAL_EDGE);
+						break;
+					default:
+						throw new IOException("Unknown record in line " + lineNumber); //$NON-NLS-1$
+				}
+			} catch (IndexOutOfBoundsException | NumberFormatException e) {
+				throw new IOException("Malformed record in line " + lineNumber, e); //$NON-NLS-1$
+			}
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Writes a call graph in a compact line based format, while it is computed.
+ * <p>
+ * The first line is <code>callgraph 1</code>, followed by the kind of the graph and its depth.
+ * Lines starting with <code>#</code> are comments. Each member is written once, as
+ * <code>N &lt;id&gt; &lt;depth&gt; &lt;handle identifier&gt;</code>, before the first edge that
+ * refers to it. Edges are written as <code>E &lt;caller id&gt; &lt;callee id&gt; &lt;call
+ * count&gt;</code>, or with <code>P</code> instead of <code>E</code> for potential calls. The
+ * handle identifier extends to the end of the line, the other fields are separated by single
+ * spaces. The format is read by {@link CallGraphReader}.
+ * </p>
+ */
+public class CallGraphWriter implements ICallGraphRequestor, Closeable {
+
+	static final String HEADER= "callgraph 1"; //$NON-NLS-1$
+	static final char NODE= 'N';
+	static final char EDGE= 'E';
+	static final char POTENTIAL_EDGE= 'P';
+
+	private final Writer fWriter;
+
+	/**
+	 * Creates a writer and writes the header.
+	 *
+	 * @param writer the writer to write to, should be buffered
+	 * @param builder the builder of the graph, describes the graph in the header
+	 * @throws IOException if writing fails
+	 */
+	public CallGraphWriter(Writer writer, CallGraphBuilder builder) throws IOException {
+		fWriter= writer;
+		fWriter.write(HEADER + ' ' + (builder.isCallers() ? "callers" : "callees") + ' ' + builder.getMaxDepth() + '\n'); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @throws UncheckedIOException if writing fails
+	 */
+	@Override
+	public void acceptNode(int id, String handleIdentifier, int depth) {
+		try {
+			fWriter.write(NODE + " " + id + ' ' + depth + ' ' + handleIdentifier + '\n'); //$NON-NLS-1$
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * @throws UncheckedIOException if writing fails
+	 */
+	@Override
+	public void acceptEdge(int callerId, int calleeId, int callCount, boolean potential) {
+		try {
+			fWriter.write((potential ? POTENTIAL_EDGE : EDGE) + " " + callerId + ' ' + calleeId + ' ' + callCount + '\n'); //$NON-NLS-1$
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		fWriter.close();
+	}
+}
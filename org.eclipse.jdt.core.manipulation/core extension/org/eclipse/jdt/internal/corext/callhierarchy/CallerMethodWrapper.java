@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -39,7 +41,6 @@ import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 
-import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
@@ -98,68 +99,93 @@ public class CallerMethodWrapper extends MethodWrapper {
 	 */
 	@Override
 	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor) {
-		try {
+		return findChildren(progressMonitor, null);
+	}
+
+	/**
+	 * Finds the callers through the {@link CallerSearchEngine}, which shares the results of
+	 * identical searches and keeps them until the Java model changes.
+	 *
+	 * @see org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper#findChildren(IProgressMonitor, Consumer)
+	 */
+	@Override
+	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor, Consumer<Collection<MethodCall>> partialResults) {
+		return CallerSearchEngine.getDefault().findCallers(this, progressMonitor, partialResults);
+	}
 
-			SubMonitor monitor = SubMonitor.convert(progressMonitor,"" , 95); //$NON-NLS-1$
+	/**
+	 * Searches the callers of the member of this wrapper.
+	 *
+	 * @param progressMonitor the progress monitor
+	 * @param partialResults receives the callers found so far, or <code>null</code>
+	 * @return a map from handle identifier ({@link String}) to {@link MethodCall}
+	 * @throws CoreException if the search fails
+	 */
+	Map<String, MethodCall> searchCallers(IProgressMonitor progressMonitor, Consumer<Collection<MethodCall>> partialResults) throws CoreException {
+		SubMonitor monitor = SubMonitor.convert(progressMonitor,"" , 95); //$NON-NLS-1$
 
-			checkCanceled(progressMonitor);
+		checkCanceled(progressMonitor);
 
-			IMember member= getMember();
-			SearchPattern pattern= null;
-			IType type= null;
-			if (member instanceof IType) {
-				type= (IType) member;
-			} else if (member instanceof IInitializer && ! Flags.isStatic(member.getFlags())) {
-				type= (IType) member.getParent();
-			}
-			if (type != null) {
-				if (type.isAnonymous()) {
-					// search engine does not find reference to anonymous, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=207774
-					CallSearchResultCollector resultCollector= new CallSearchResultCollector();
-					IJavaElement parent= type.getParent();
-					if (parent instanceof IMember) {
-						IMember parentMember= (IMember) parent;
-						ISourceRange nameRange= type.getNameRange();
-						int start= nameRange != null ? nameRange.getOffset() : -1;
-						int len= nameRange != null ? nameRange.getLength() : 0;
-						resultCollector.addMember(type, parentMember, start, start + len);
-						return resultCollector.getCallers();
-					}
-				} else if (type.getParent() instanceof IMethod) {
-					// good enough for local types (does not find super(..) references in subtype constructors):
-					pattern= SearchPattern.createPattern(type,
-							IJavaSearchConstants.CLASS_INSTANCE_CREATION_TYPE_REFERENCE,
-							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-				} else {
-					pattern= SearchPattern.createPattern(type.getFullyQualifiedName('.'),
-							IJavaSearchConstants.CONSTRUCTOR,
-							IJavaSearchConstants.REFERENCES,
-							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+		IMember member= getMember();
+		SearchPattern pattern= null;
+		IType type= null;
+		if (member instanceof IType) {
+			type= (IType) member;
+		} else if (member instanceof IInitializer && ! Flags.isStatic(member.getFlags())) {
+			type= (IType) member.getParent();
+		}
+		if (type != null) {
+			if (type.isAnonymous()) {
+				// search engine does not find reference to anonymous, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=207774
+				CallSearchResultCollector resultCollector= new CallSearchResultCollector();
+				IJavaElement parent= type.getParent();
+				if (parent instanceof IMember) {
+					IMember parentMember= (IMember) parent;
+					ISourceRange nameRange= type.getNameRange();
+					int start= nameRange != null ? nameRange.getOffset() : -1;
+					int len= nameRange != null ? nameRange.getLength() : 0;
+					resultCollector.addMember(type, parentMember, start, start + len);
+					return resultCollector.getCallers();
 				}
+			} else if (type.getParent() instanceof IMethod) {
+				// good enough for local types (does not find super(..) references in subtype constructors):
+				pattern= SearchPattern.createPattern(type,
+						IJavaSearchConstants.CLASS_INSTANCE_CREATION_TYPE_REFERENCE,
+						SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+			} else {
+				pattern= SearchPattern.createPattern(type.getFullyQualifiedName('.'),
+						IJavaSearchConstants.CONSTRUCTOR,
+						IJavaSearchConstants.REFERENCES,
+						SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 			}
-			if (pattern == null) {
-				int limitTo= IJavaSearchConstants.REFERENCES;
-				if (member.getElementType() == IJavaElement.FIELD)
-					limitTo= getFieldSearchMode();
-				pattern= SearchPattern.createPattern(member, limitTo, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-			}
-			if (pattern == null) { // e.g. for initializers
-				return new HashMap<>(0);
-			}
-
-			SearchEngine searchEngine= new SearchEngine();
-			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
-			IJavaSearchScope defaultSearchScope= getSearchScope();
-			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
-			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
-			searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
-					monitor);
-			return searchRequestor.getCallers();
-
-		} catch (CoreException e) {
-			JavaManipulationPlugin.log(e);
+		}
+		if (pattern == null) {
+			int limitTo= IJavaSearchConstants.REFERENCES;
+			if (member.getElementType() == IJavaElement.FIELD)
+				limitTo= getFieldSearchMode();
+			pattern= SearchPattern.createPattern(member, limitTo, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+		}
+		if (pattern == null) { // e.g. for initializers
 			return new HashMap<>(0);
 		}
+
+		SearchEngine searchEngine= new SearchEngine();
+		MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor(partialResults);
+		IJavaSearchScope defaultSearchScope= getSearchScope();
+		boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
+		IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
+		searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
+				monitor);
+		return searchRequestor.getCallers();
+	}
+
+	/**
+	 * Also removes the callers from the {@link CallerSearchEngine}, so that they are searched again.
+	 */
+	@Override
+	public void removeFromCache() {
+		super.removeFromCache();
+		CallerSearchEngine.getDefault().remove(this);
 	}
 
 	private IJavaSearchScope getAccurateSearchScope(IJavaSearchScope defaultSearchScope, IMember member) throws JavaModelException {
@@ -0,0 +1,506 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Searches the callers for {@link CallerMethodWrapper}s.
+ * <ul>
+ * <li>Identical searches that run at the same time are only run once. Searches are identical
+ * if they are for the same member, field search mode, search scope and filter settings.</li>
+ * <li>The results are kept across call hierarchy sessions until the user refreshes the element,
+ * or the Java model changes in a way that can change them. Failed searches are not kept.</li>
+ * <li>{@link #prefetch(CallerMethodWrapper, Collection)} searches the callers of the next levels
+ * ahead on a bounded pool of worker threads, so that expanding them later is fast.</li>
+ * </ul>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class CallerSearchEngine implements IElementChangedListener {
+
+	/**
+	 * Number of levels below an expanded element whose callers are prefetched.
+	 */
+	private static final int PREFETCH_DEPTH= 2;
+
+	/**
+	 * Maximum number of searches that one call to
+	 * {@link #prefetch(CallerMethodWrapper, Collection)} schedules.
+	 */
+	private static final int MAX_PREFETCH_SEARCHES= 64;
+
+	private static final int MAX_CACHE_ENTRIES= 2000;
+
+	private static final CallerSearchEngine INSTANCE= new CallerSearchEngine();
+
+	private static final class Key {
+		final IJavaSearchScope fScope;
+		final String fSearch;
+
+		Key(IJavaSearchScope scope, String search) {
+			fScope= scope;
+			fSearch= search;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fSearch.equals(other.fSearch) && fScope.equals(other.fScope);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * fScope.hashCode() + fSearch.hashCode();
+		}
+	}
+
+	private static final class Entry {
+		final IMember fMember;
+		final Map<String, MethodCall> fCallers;
+		/**
+		 * The primary compilation units that contain the callers.
+		 */
+		final Set<ICompilationUnit> fCallerUnits= new HashSet<>();
+
+		Entry(IMember member, Map<String, MethodCall> callers) {
+			fMember= member;
+			fCallers= callers;
+			for (MethodCall methodCall : callers.values()) {
+				ICompilationUnit unit= methodCall.getMember().getCompilationUnit();
+				if (unit != null)
+					fCallerUnits.add(unit.getPrimary());
+			}
+		}
+
+		/**
+		 * Tells whether a change of the given compilation unit can change the callers. That is the
+		 * case if the unit contains a caller or the member, or if its source contains the name of
+		 * the member and could therefore contain a new caller.
+		 *
+		 * @param unit the primary compilation unit
+		 * @param source the source of the unit, <code>""</code> if it has been removed, or
+		 *            <code>null</code> if it is unknown
+		 * @return <code>true</code> if the callers may have changed
+		 */
+		boolean isAffectedBy(ICompilationUnit unit, String source) {
+			if (fCallerUnits.contains(unit))
+				return true;
+			ICompilationUnit memberUnit= fMember.getCompilationUnit();
+			if (memberUnit != null && unit.equals(memberUnit.getPrimary()))
+				return true;
+			return source == null || source.contains(getReferenceName(fMember));
+		}
+
+		private static String getReferenceName(IMember member) {
+			if (member.getElementType() == IJavaElement.INITIALIZER) {
+				// callers of instance initializers are the constructor calls of the declaring type
+				return member.getParent().getElementName();
+			}
+			return member.getElementName();
+		}
+	}
+
+	/**
+	 * Callers by search, in access order.
+	 */
+	private final LinkedHashMap<Key, Entry> fCache= new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			return size() > MAX_CACHE_ENTRIES;
+		}
+	};
+
+	private final Map<Key, CompletableFuture<Map<String, MethodCall>>> fRunning= new HashMap<>();
+
+	/**
+	 * Incremented when entries are removed from the cache because the Java model has changed,
+	 * results of searches started before are not cached.
+	 */
+	private int fCacheGeneration;
+
+	private int fSearchCount;
+
+	/**
+	 * Incremented when pending prefetches are canceled.
+	 */
+	private int fPrefetchGeneration;
+
+	private boolean fIsListening;
+
+	private ThreadPoolExecutor fExecutor;
+
+	private CallerSearchEngine() {
+	}
+
+	public static CallerSearchEngine getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the callers of the member of the given wrapper. Takes them from the cache, waits
+	 * for an identical search that is already running, or searches them.
+	 *
+	 * @param wrapper the wrapper
+	 * @param monitor the progress monitor
+	 * @param partialResults receives the callers found so far if this call runs the search, or
+	 *            <code>null</code>
+	 * @return a map from handle identifier ({@link String}) to {@link MethodCall}
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public Map<String, MethodCall> findCallers(CallerMethodWrapper wrapper, IProgressMonitor monitor, Consumer<Collection<MethodCall>> partialResults) {
+		Key key= getKey(wrapper);
+		while (true) {
+			CompletableFuture<Map<String, MethodCall>> future;
+			boolean isOwner= false;
+			int generation;
+			synchronized (this) {
+				Entry cached= fCache.get(key);
+				if (cached != null)
+					return new HashMap<>(cached.fCallers);
+				generation= fCacheGeneration;
+				future= fRunning.get(key);
+				if (future == null) {
+					future= new CompletableFuture<>();
+					fRunning.put(key, future);
+					fSearchCount++;
+					isOwner= true;
+				}
+			}
+
+			if (isOwner)
+				return search(wrapper, key, future, generation, monitor, partialResults);
+
+			try {
+				return new HashMap<>(await(future, monitor));
+			} catch (CancellationException e) {
+				// the identical search has been canceled, search again
+			}
+		}
+	}
+
+	private Map<String, MethodCall> search(CallerMethodWrapper wrapper, Key key, CompletableFuture<Map<String, MethodCall>> future, int generation,
+			IProgressMonitor monitor, Consumer<Collection<MethodCall>> partialResults) {
+		Map<String, MethodCall> result;
+		try {
+			result= wrapper.searchCallers(monitor, partialResults);
+		} catch (CoreException e) {
+			JavaManipulationPlugin.log(e);
+			// identical searches that wait for this one get no callers as well, but the failure is not cached
+			result= new HashMap<>(0);
+			synchronized (this) {
+				fRunning.remove(key);
+			}
+			future.complete(result);
+			return new HashMap<>(result);
+		} catch (RuntimeException e) {
+			synchronized (this) {
+				fRunning.remove(key);
+			}
+			future.cancel(false);
+			throw e;
+		}
+
+		synchronized (this) {
+			fRunning.remove(key);
+			if (generation == fCacheGeneration) {
+				fCache.put(key, new Entry(wrapper.getMember(), result));
+				if (!fIsListening) {
+					JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+					fIsListening= true;
+				}
+			}
+		}
+		future.complete(result);
+		return new HashMap<>(result);
+	}
+
+	private static Map<String, MethodCall> await(CompletableFuture<Map<String, MethodCall>> future, IProgressMonitor monitor) {
+		while (true) {
+			if (monitor != null && monitor.isCanceled())
+				throw new OperationCanceledException();
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check the monitor again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				// searches only complete normally or are canceled
+				throw new CancellationException();
+			}
+		}
+	}
+
+	/**
+	 * Searches the callers of the given callers and of their callers on worker threads, up to
+	 * {@value #PREFETCH_DEPTH} levels below the given wrapper. Searches that are already cached
+	 * or running are not run again.
+	 *
+	 * @param wrapper the wrapper whose callers have been found
+	 * @param callers the callers of the wrapper
+	 */
+	public void prefetch(CallerMethodWrapper wrapper, Collection<MethodCall> callers) {
+		int generation;
+		synchronized (this) {
+			generation= fPrefetchGeneration;
+		}
+		schedulePrefetch(wrapper, callers, 1, generation, new AtomicInteger(MAX_PREFETCH_SEARCHES));
+	}
+
+	private void schedulePrefetch(CallerMethodWrapper parent, Collection<MethodCall> callers, int depth, int generation, AtomicInteger budget) {
+		for (MethodCall methodCall : callers) {
+			CallerMethodWrapper child= (CallerMethodWrapper) parent.createMethodWrapper(methodCall);
+			if (!child.canHaveChildren() || child.isRecursive() || !child.getMember().exists())
+				continue;
+			if (budget.decrementAndGet() < 0)
+				return;
+			getExecutor().execute(() -> {
+				IProgressMonitor monitor= new NullProgressMonitor() {
+					@Override
+					public boolean isCanceled() {
+						return isPrefetchCanceled(generation);
+					}
+				};
+				if (monitor.isCanceled())
+					return;
+				try {
+					Map<String, MethodCall> result= findCallers(child, monitor, null);
+					if (depth < PREFETCH_DEPTH) {
+						schedulePrefetch(child, result.values(), depth + 1, generation, budget);
+					}
+				} catch (OperationCanceledException e) {
+					// a newer hierarchy is shown
+				} catch (RuntimeException e) {
+					JavaManipulationPlugin.log(e);
+				}
+			});
+		}
+	}
+
+	private synchronized boolean isPrefetchCanceled(int generation) {
+		return generation != fPrefetchGeneration;
+	}
+
+	/**
+	 * Cancels the prefetches that have not finished yet, e.g. because the call hierarchy shows
+	 * other members now.
+	 */
+	public void cancelPrefetch() {
+		ThreadPoolExecutor executor;
+		synchronized (this) {
+			fPrefetchGeneration++;
+			executor= fExecutor;
+		}
+		if (executor != null) {
+			executor.getQueue().clear();
+		}
+	}
+
+	private synchronized ThreadPoolExecutor getExecutor() {
+		if (fExecutor == null) {
+			int workerCount= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+			AtomicInteger threadCount= new AtomicInteger();
+			fExecutor= new ThreadPoolExecutor(workerCount, workerCount, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, "Call Hierarchy Search Worker " + threadCount.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			});
+			fExecutor.allowCoreThreadTimeOut(true);
+		}
+		return fExecutor;
+	}
+
+	/**
+	 * Removes the callers of the member of the given wrapper from the cache.
+	 *
+	 * @param wrapper the wrapper
+	 */
+	public void remove(CallerMethodWrapper wrapper) {
+		Key key= getKey(wrapper);
+		synchronized (this) {
+			fCache.remove(key);
+		}
+	}
+
+	/**
+	 * Returns the number of searches that have been run, for tests. Searches whose results were
+	 * taken from the cache or from an identical running search are not counted.
+	 *
+	 * @return the number of searches
+	 */
+	public synchronized int getSearchCount() {
+		return fSearchCount;
+	}
+
+	/**
+	 * Removes all callers from the cache.
+	 */
+	public synchronized void flush() {
+		fCache.clear();
+		fCacheGeneration++;
+		if (fIsListening) {
+			JavaCore.removeElementChangedListener(this);
+			fIsListening= false;
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		IJavaElementDelta delta= event.getDelta();
+		if (isWorkingCopyChangeOnly(delta))
+			return;
+
+		Map<ICompilationUnit, String> changedUnits= new HashMap<>();
+		if (collectChangedUnits(delta, changedUnits)) {
+			invalidate(changedUnits);
+		} else {
+			// e.g. a class path change can add or remove callers anywhere
+			flush();
+		}
+	}
+
+	/**
+	 * Removes the callers that can be changed by the given changed compilation units from the
+	 * cache.
+	 *
+	 * @param changedUnits the sources of the changed primary compilation units, see
+	 *            {@link Entry#isAffectedBy(ICompilationUnit, String)}
+	 */
+	private synchronized void invalidate(Map<ICompilationUnit, String> changedUnits) {
+		fCache.values().removeIf(entry -> {
+			for (Map.Entry<ICompilationUnit, String> changedUnit : changedUnits.entrySet()) {
+				if (entry.isAffectedBy(changedUnit.getKey(), changedUnit.getValue()))
+					return true;
+			}
+			return false;
+		});
+		fCacheGeneration++;
+	}
+
+	/**
+	 * Collects the compilation units that are changed, added or removed by the given delta.
+	 *
+	 * @param delta the delta
+	 * @param changedUnits receives the primary compilation units and their sources, see
+	 *            {@link Entry#isAffectedBy(ICompilationUnit, String)}
+	 * @return <code>false</code> if the delta contains other changes than to compilation units
+	 */
+	private static boolean collectChangedUnits(IJavaElementDelta delta, Map<ICompilationUnit, String> changedUnits) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit= (ICompilationUnit) element;
+				String source= ""; //$NON-NLS-1$
+				if (delta.getKind() != IJavaElementDelta.REMOVED) {
+					try {
+						source= unit.getSource();
+					} catch (JavaModelException e) {
+						source= null;
+					}
+				}
+				ICompilationUnit primary= unit.getPrimary();
+				// the source of a unit that is reported twice, e.g. as working copy and as primary, is unknown
+				changedUnits.put(primary, changedUnits.containsKey(primary) ? null : source);
+				return true;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				// content changes of containers are changes of non-Java resources
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0)
+					return false;
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (!collectChangedUnits(child, changedUnits))
+						return false;
+				}
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * @param delta the delta
+	 * @return <code>true</code> if the delta only reports that working copies were opened or
+	 *         closed
+	 */
+	private static boolean isWorkingCopyChangeOnly(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return false;
+		int flags= delta.getFlags();
+		if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT)
+			return (flags & ~IJavaElementDelta.F_PRIMARY_WORKING_COPY) == 0;
+		if ((flags & ~IJavaElementDelta.F_CHILDREN) != 0)
+			return false;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!isWorkingCopyChangeOnly(child))
+				return false;
+		}
+		return true;
+	}
+
+	private static Key getKey(CallerMethodWrapper wrapper) {
+		CallHierarchyCore core= CallHierarchyCore.getDefault();
+		StringBuilder search= new StringBuilder(wrapper.getMember().getHandleIdentifier());
+		if (wrapper.getMember().getElementType() == IJavaElement.FIELD) {
+			search.append('|').append(wrapper.getFieldSearchMode());
+		}
+		search.append('|').append(core.isShowAll());
+		search.append('|').append(core.isHideTestCode());
+		search.append('|').append(core.isShowTestCode());
+		if (core.isFilterEnabled()) {
+			search.append('|').append(core.getFilters());
+		}
+		return new Key(wrapper.getSearchScope(), search.toString());
+	}
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+/**
+ * Receives the nodes and edges of a call graph, from a {@link CallGraphBuilder} or a
+ * {@link CallGraphReader}.
+ * <p>
+ * A node is always reported before the edges that refer to it. Edges always point from the
+ * caller to the callee, for caller graphs as well as for callee graphs.
+ * </p>
+ */
+public interface ICallGraphRequestor {
+
+	/**
+	 * Accepts a node of the graph.
+	 *
+	 * @param id the id of the node, unique in the graph
+	 * @param handleIdentifier the handle identifier of the member
+	 * @param depth the distance from the nearest root, <code>0</code> for roots
+	 */
+	void acceptNode(int id, String handleIdentifier, int depth);
+
+	/**
+	 * Accepts an edge of the graph.
+	 *
+	 * @param callerId the id of the calling node
+	 * @param calleeId the id of the called node
+	 * @param callCount the number of call locations, can be <code>0</code> for potential calls
+	 * @param potential <code>true</code> if the call is only potential, e.g. a call of an
+	 *            implementation of the called interface method
+	 */
+	void acceptEdge(int callerId, int calleeId, int callCount, boolean potential);
+}
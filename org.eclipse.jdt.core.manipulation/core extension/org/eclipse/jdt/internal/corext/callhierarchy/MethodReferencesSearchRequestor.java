@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IResource;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
@@ -25,8 +32,25 @@ class MethodReferencesSearchRequestor extends SearchRequestor {
     private CallSearchResultCollector fSearchResults;
     private boolean fRequireExactMatch = true;
 
+    /**
+     * Receives the callers of each resource once all matches in the resource have been reported,
+     * or <code>null</code>.
+     */
+    private final Consumer<Collection<MethodCall>> fPartialResults;
+    private final List<MethodCall> fPendingCalls = new ArrayList<>();
+    private IResource fCurrentResource;
+
     MethodReferencesSearchRequestor() {
+        this(null);
+    }
+
+    /**
+     * @param partialResults receives the callers found so far, in batches per resource, or
+     *            <code>null</code>
+     */
+    MethodReferencesSearchRequestor(Consumer<Collection<MethodCall>> partialResults) {
         fSearchResults = new CallSearchResultCollector();
+        fPartialResults = partialResults;
     }
 
     public Map<String, MethodCall> getCallers() {
@@ -50,9 +74,37 @@ class MethodReferencesSearchRequestor extends SearchRequestor {
                 case IJavaElement.TYPE:
                 case IJavaElement.FIELD:
                 case IJavaElement.INITIALIZER:
-                    fSearchResults.addMember(member, member, match.getOffset(), match.getOffset()+match.getLength());
+                    if (fPartialResults != null) {
+                        // matches are reported resource by resource, so the callers of the previous resource are complete
+                        if (!Objects.equals(fCurrentResource, match.getResource())) {
+                            flushPartialResults();
+                            fCurrentResource = match.getResource();
+                        }
+                        boolean isNew = !fSearchResults.getCallers().containsKey(member.getHandleIdentifier());
+                        fSearchResults.addMember(member, member, match.getOffset(), match.getOffset()+match.getLength());
+                        MethodCall methodCall = fSearchResults.getCallers().get(member.getHandleIdentifier());
+                        if (isNew && methodCall != null) {
+                            fPendingCalls.add(methodCall);
+                        }
+                    } else {
+                        fSearchResults.addMember(member, member, match.getOffset(), match.getOffset()+match.getLength());
+                    }
                     break;
             }
         }
     }
+
+    @Override
+    public void endReporting() {
+        if (fPartialResults != null) {
+            flushPartialResults();
+        }
+    }
+
+    private void flushPartialResults() {
+        if (!fPendingCalls.isEmpty()) {
+            fPartialResults.accept(new ArrayList<>(fPendingCalls));
+            fPendingCalls.clear();
+        }
+    }
 }
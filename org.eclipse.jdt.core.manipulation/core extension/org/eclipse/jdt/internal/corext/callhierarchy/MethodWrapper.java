@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -83,8 +85,20 @@ public abstract class MethodWrapper extends PlatformObject {
 	}
 
     public MethodWrapper[] getCalls(IProgressMonitor progressMonitor) {
+        return getCalls(progressMonitor, null);
+    }
+
+    /**
+     * Returns the calls, and reports the calls found so far while they are searched.
+     *
+     * @param progressMonitor the progress monitor
+     * @param partialCalls receives the calls found so far while the search runs, or
+     *            <code>null</code>. Calls that are taken from a cache are only returned.
+     * @return all calls, including the ones reported to <code>partialCalls</code>
+     */
+    public MethodWrapper[] getCalls(IProgressMonitor progressMonitor, Consumer<MethodWrapper[]> partialCalls) {
         if (fElements == null) {
-            doFindChildren(progressMonitor);
+            doFindChildren(progressMonitor, partialCalls);
         }
 
         MethodWrapper[] result = new MethodWrapper[fElements.size()];
@@ -179,7 +193,7 @@ public abstract class MethodWrapper extends PlatformObject {
 	 */
     protected abstract MethodWrapper createMethodWrapper(MethodCall methodCall);
 
-    private void doFindChildren(IProgressMonitor progressMonitor) {
+    private void doFindChildren(IProgressMonitor progressMonitor, Consumer<MethodWrapper[]> partialCalls) {
         Map<String, MethodCall> existingResults = lookupMethod(getMethodCall());
 
         if (existingResults != null && !existingResults.isEmpty()) {
@@ -193,7 +207,7 @@ public abstract class MethodWrapper extends PlatformObject {
             }
 
             try {
-                performSearch(progressMonitor);
+                performSearch(progressMonitor, partialCalls);
             } catch (OperationCanceledException e){
             	fElements= null;
             	throw e;
@@ -242,6 +256,18 @@ public abstract class MethodWrapper extends PlatformObject {
      */
     protected abstract Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor);
 
+    /**
+     * This method finds the children of the current IMember and reports the children found so
+     * far while it searches. The default implementation doesn't report partial results.
+     *
+     * @param progressMonitor a progress monitor
+     * @param partialResults receives the children found so far, or <code>null</code>
+     * @return a map from handle identifier ({@link String}) to {@link MethodCall}
+     */
+    protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor, Consumer<Collection<MethodCall>> partialResults) {
+        return findChildren(progressMonitor);
+    }
+
     private Map<String, Map<String, MethodCall>> getMethodCache() {
         return fMethodCache;
     }
@@ -261,8 +287,19 @@ public abstract class MethodWrapper extends PlatformObject {
         return getMethodCache().get(methodCall.getKey());
     }
 
-    private void performSearch(IProgressMonitor progressMonitor) {
-        fElements = findChildren(progressMonitor);
+    private void performSearch(IProgressMonitor progressMonitor, Consumer<MethodWrapper[]> partialCalls) {
+        Consumer<Collection<MethodCall>> partialResults = null;
+        if (partialCalls != null) {
+            partialResults = methodCalls -> {
+                MethodWrapper[] wrappers = new MethodWrapper[methodCalls.size()];
+                int i = 0;
+                for (MethodCall methodCall : methodCalls) {
+                    wrappers[i++] = createMethodWrapper(methodCall);
+                }
+                partialCalls.accept(wrappers);
+            };
+        }
+        fElements = findChildren(progressMonitor, partialResults);
 
         for (String string : fElements.keySet()) {
             checkCanceled(progressMonitor);
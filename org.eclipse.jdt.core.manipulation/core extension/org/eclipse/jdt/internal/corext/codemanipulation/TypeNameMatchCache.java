@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.codemanipulation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.TypeNameMatchCollector;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.corext.util.JdtFlags;
+
+/**
+ * Shares the results of the searches for unresolved simple type names between the
+ * compilation units of a batch Organize Imports. Each simple name is searched only once per
+ * project and search scope, and names that are not yet known are searched together with one
+ * query.
+ * <p>
+ * The cache doesn't track changes of the Java model and must only be used for the duration of
+ * one operation. This class is thread safe.
+ * </p>
+ * <p>
+ * The cache is attached to the AST that is passed to
+ * {@link org.eclipse.jdt.core.manipulation.OrganizeImportsOperation} with
+ * {@link #setCache(CompilationUnit, TypeNameMatchCache)}, and removed again afterwards.
+ * </p>
+ */
+public final class TypeNameMatchCache {
+
+	private static final String CACHE_PROPERTY= "org.eclipse.jdt.internal.corext.codemanipulation.TypeNameMatchCache"; //$NON-NLS-1$
+
+	/**
+	 * Found types by simple type name, keyed by project and search scope.
+	 */
+	private final Map<String, Map<String, List<TypeNameMatch>>> fMatches= new HashMap<>();
+
+	private final Map<TypeNameMatch, Boolean> fIsPublic= new ConcurrentHashMap<>();
+
+	private int fSearchCount;
+
+	/**
+	 * Sets the cache that Organize Imports uses for the given AST.
+	 *
+	 * @param ast the AST
+	 * @param cache the cache, or <code>null</code> to search the unresolved type names of the
+	 *            compilation unit only
+	 */
+	public static void setCache(CompilationUnit ast, TypeNameMatchCache cache) {
+		ast.setProperty(CACHE_PROPERTY, cache);
+	}
+
+	/**
+	 * @param ast the AST
+	 * @return the cache that Organize Imports uses for the given AST, or <code>null</code>
+	 */
+	public static TypeNameMatchCache getCache(CompilationUnit ast) {
+		return (TypeNameMatchCache) ast.getProperty(CACHE_PROPERTY);
+	}
+
+	/**
+	 * Returns the types with the given simple names that are visible in the given project.
+	 * Searches the names that have not been searched before with one query.
+	 *
+	 * @param project the project
+	 * @param excludeTestCode <code>true</code> to exclude types from test source folders and
+	 *            test dependencies
+	 * @param simpleNames the simple type names
+	 * @param monitor the progress monitor
+	 * @return the types found
+	 * @throws JavaModelException if the search failed
+	 */
+	public List<TypeNameMatch> findTypes(IJavaProject project, boolean excludeTestCode, Collection<String> simpleNames, IProgressMonitor monitor) throws JavaModelException {
+		String scopeKey= project.getHandleIdentifier() + '|' + excludeTestCode;
+		List<String> missing= new ArrayList<>();
+		synchronized (fMatches) {
+			Map<String, List<TypeNameMatch>> matches= fMatches.get(scopeKey);
+			for (String simpleName : simpleNames) {
+				if (matches == null || !matches.containsKey(simpleName)) {
+					missing.add(simpleName);
+				}
+			}
+		}
+
+		if (!missing.isEmpty()) {
+			char[][] allTypes= new char[missing.size()][];
+			for (int i= 0; i < allTypes.length; i++) {
+				allTypes[i]= missing.get(i).toCharArray();
+			}
+			ArrayList<TypeNameMatch> typesFound= new ArrayList<>();
+			IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
+			new SearchEngine().searchAllTypeNames(null, allTypes, scope, new TypeNameMatchCollector(typesFound), IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+			Map<String, List<TypeNameMatch>> found= new HashMap<>();
+			for (String simpleName : missing) {
+				found.put(simpleName, new ArrayList<>(2));
+			}
+			for (TypeNameMatch match : typesFound) {
+				List<TypeNameMatch> list= found.get(match.getSimpleTypeName());
+				if (list != null) {
+					list.add(match);
+				}
+			}
+			synchronized (fMatches) {
+				Map<String, List<TypeNameMatch>> matches= fMatches.computeIfAbsent(scopeKey, k -> new HashMap<>());
+				for (Map.Entry<String, List<TypeNameMatch>> entry : found.entrySet()) {
+					matches.putIfAbsent(entry.getKey(), entry.getValue());
+				}
+				fSearchCount++;
+			}
+		}
+
+		List<TypeNameMatch> result= new ArrayList<>();
+		synchronized (fMatches) {
+			Map<String, List<TypeNameMatch>> matches= fMatches.get(scopeKey);
+			for (String simpleName : simpleNames) {
+				result.addAll(matches.get(simpleName));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns whether the type of the given match is public, also considering the type's
+	 * declaring types and whether it is declared in an interface.
+	 *
+	 * @param match a match returned by {@link #findTypes(IJavaProject, boolean, Collection, IProgressMonitor)}
+	 * @return <code>true</code> if the type is public
+	 */
+	public boolean isPublic(TypeNameMatch match) {
+		return fIsPublic.computeIfAbsent(match, m -> {
+			try {
+				return Boolean.valueOf(JdtFlags.isPublic(m.getType()));
+			} catch (JavaModelException e) {
+				return Boolean.valueOf(Flags.isPublic(m.getModifiers()));
+			}
+		}).booleanValue();
+	}
+
+	/**
+	 * @return the number of searches that have been run
+	 */
+	public int getSearchCount() {
+		synchronized (fMatches) {
+			return fSearchCount;
+		}
+	}
+}
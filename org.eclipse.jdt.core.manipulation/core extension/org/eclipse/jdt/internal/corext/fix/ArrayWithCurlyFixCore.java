@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -132,7 +132,7 @@ public class ArrayWithCurlyFixCore extends CompilationUnitRewriteOperationsFixCo
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<ArrayWithCurlyFixOperation> operations= new ArrayList<>();
 		ArrayWithCurlyFinder finder= new ArrayWithCurlyFinder(operations);
-		compilationUnit.accept(finder);
+		CleanUpScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
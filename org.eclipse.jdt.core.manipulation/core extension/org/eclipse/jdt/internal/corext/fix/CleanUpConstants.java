@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2328,6 +2328,22 @@ public class CleanUpConstants {
 
 	public static final String CLEANUP_ON_SAVE_ADDITIONAL_OPTIONS= "cleanup.on_save_use_additional_actions"; //$NON-NLS-1$
 
+	/**
+	 * If true then the additional save actions that support it are only applied to the members
+	 * which overlap the regions changed since the last save. Only has an effect if
+	 * {@link #CLEANUP_ON_SAVE_ADDITIONAL_OPTIONS} is TRUE <br>
+	 * <br>
+	 * Possible values: {TRUE, FALSE}<br>
+	 * Default value: FALSE<br>
+	 * <br>
+	 *
+	 * @see CleanUpOptions#TRUE
+	 * @see CleanUpOptions#FALSE
+	 * @see CleanUpScope
+	 * @since 4.37
+	 */
+	public static final String CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY= "cleanup.on_save_changed_regions_only"; //$NON-NLS-1$
+
 	/**
 	 * The id of the profile used as a default profile when executing clean up.<br>
 	 * <br>
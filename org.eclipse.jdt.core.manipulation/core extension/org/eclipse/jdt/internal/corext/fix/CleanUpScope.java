@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.text.IRegion;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+
+/**
+ * Limits the part of a compilation unit that a clean up visits to the members that overlap
+ * given regions, typically the regions changed since the last save.
+ * <p>
+ * The regions are attached to the AST as a property by the caller that creates the fixes, and
+ * removed again afterwards. Clean ups whose fixes only depend on the member in which they
+ * apply call {@link #accept(CompilationUnit, ASTVisitor)} instead of visiting the whole
+ * compilation unit. If no regions are attached, the whole compilation unit is visited.
+ * </p>
+ */
+public final class CleanUpScope {
+
+	private static final String REGIONS_PROPERTY= "org.eclipse.jdt.internal.corext.fix.CleanUpScope.regions"; //$NON-NLS-1$
+
+	private CleanUpScope() {
+	}
+
+	/**
+	 * Sets the regions to which the clean ups are limited.
+	 *
+	 * @param unit the AST
+	 * @param regions the regions, or <code>null</code> to visit the whole compilation unit
+	 */
+	public static void setRegions(CompilationUnit unit, IRegion[] regions) {
+		unit.setProperty(REGIONS_PROPERTY, regions);
+	}
+
+	/**
+	 * @param unit the AST
+	 * @return the regions to which the clean ups are limited, or <code>null</code> if the whole
+	 *         compilation unit is cleaned up
+	 */
+	public static IRegion[] getRegions(CompilationUnit unit) {
+		return (IRegion[]) unit.getProperty(REGIONS_PROPERTY);
+	}
+
+	/**
+	 * Lets the visitor visit the members of the compilation unit that overlap the regions set
+	 * with {@link #setRegions(CompilationUnit, IRegion[])}, or the whole compilation unit if no
+	 * regions are set.
+	 *
+	 * @param unit the AST
+	 * @param visitor the visitor
+	 */
+	public static void accept(CompilationUnit unit, ASTVisitor visitor) {
+		IRegion[] regions= getRegions(unit);
+		if (regions == null) {
+			unit.accept(visitor);
+			return;
+		}
+
+		for (BodyDeclaration member : getMembers(unit)) {
+			if (overlaps(member, regions)) {
+				member.accept(visitor);
+			}
+		}
+	}
+
+	/**
+	 * Returns the members of all types in the compilation unit, including the members of member
+	 * types, but not the member types themselves. Each member is returned once, in the order of
+	 * the source.
+	 *
+	 * @param unit the AST
+	 * @return the fields, methods, initializers, enum constants and annotation type members
+	 */
+	public static List<BodyDeclaration> getMembers(CompilationUnit unit) {
+		List<BodyDeclaration> result= new ArrayList<>();
+		for (Object type : unit.types()) {
+			collectMembers((AbstractTypeDeclaration) type, result);
+		}
+		return result;
+	}
+
+	private static void collectMembers(AbstractTypeDeclaration type, List<BodyDeclaration> result) {
+		if (type instanceof EnumDeclaration) {
+			for (Object constant : ((EnumDeclaration) type).enumConstants()) {
+				result.add((BodyDeclaration) constant);
+			}
+		}
+		for (Object declaration : type.bodyDeclarations()) {
+			if (declaration instanceof AbstractTypeDeclaration) {
+				collectMembers((AbstractTypeDeclaration) declaration, result);
+			} else {
+				result.add((BodyDeclaration) declaration);
+			}
+		}
+	}
+
+	private static boolean overlaps(ASTNode node, IRegion[] regions) {
+		int start= node.getStartPosition();
+		int end= start + node.getLength();
+		for (IRegion region : regions) {
+			if (region.getOffset() <= end && start <= region.getOffset() + region.getLength()) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
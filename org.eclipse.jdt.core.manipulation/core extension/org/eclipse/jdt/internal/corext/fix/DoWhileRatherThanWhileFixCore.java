@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -359,7 +359,7 @@ public class DoWhileRatherThanWhileFixCore extends CompilationUnitRewriteOperati
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<CompilationUnitRewriteOperation> operations= new ArrayList<>();
 		DoWhileRatherThanWhileFinder finder= new DoWhileRatherThanWhileFinder(operations);
-		compilationUnit.accept(finder);
+		CleanUpScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
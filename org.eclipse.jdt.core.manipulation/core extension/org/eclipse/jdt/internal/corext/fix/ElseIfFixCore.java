@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2024, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,7 +59,7 @@ public class ElseIfFixCore extends CompilationUnitRewriteOperationsFixCore {
 
 		final List<CompilationUnitRewriteOperation> rewriteOperations= new ArrayList<>();
 
-		unit.accept(new ASTVisitor() {
+		CleanUpScope.accept(unit, new ASTVisitor() {
 			@Override
 			public boolean visit(final IfStatement visited) {
 				Statement elseStatement= visited.getElseStatement();
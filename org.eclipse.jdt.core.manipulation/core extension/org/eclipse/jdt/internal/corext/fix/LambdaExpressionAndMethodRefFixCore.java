@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -353,7 +353,7 @@ public class LambdaExpressionAndMethodRefFixCore extends CompilationUnitRewriteO
 	public static ICleanUpFix createCleanUp(final CompilationUnit unit) {
 		final List<CompilationUnitRewriteOperation> rewriteOperations= new ArrayList<>();
 		LambdaExpressionFinder finder= new LambdaExpressionFinder(rewriteOperations);
-		unit.accept(finder);
+		CleanUpScope.accept(unit, finder);
 
 		if (rewriteOperations.isEmpty()) {
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -241,7 +241,7 @@ public class PatternMatchingForInstanceofFixCore extends CompilationUnitRewriteO
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<PatternMatchingForInstanceofFixOperation> operations= new ArrayList<>();
 		PatternMatchingForInstanceofFinder finder= new PatternMatchingForInstanceofFinder(operations);
-		compilationUnit.accept(finder);
+		CleanUpScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -165,7 +165,7 @@ public class PlainReplacementFixCore extends CompilationUnitRewriteOperationsFix
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<PlainReplacementFixOperation> operations= new ArrayList<>();
 		PlainReplacementFinder finder= new PlainReplacementFinder(operations);
-		compilationUnit.accept(finder);
+		CleanUpScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
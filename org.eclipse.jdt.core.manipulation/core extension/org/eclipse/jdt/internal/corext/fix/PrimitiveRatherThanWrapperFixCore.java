@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,14 +23,14 @@ import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 public class PrimitiveRatherThanWrapperFixCore extends CompilationUnitRewriteOperationsFixCore {
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<CompilationUnitRewriteOperation> operations= new ArrayList<>();
-		compilationUnit.accept(new PrimitiveBooleanRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveCharRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveByteRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveShortRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveIntRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveLongRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveFloatRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveDoubleRatherThanWrapperFinder(operations));
+		CleanUpScope.accept(compilationUnit, new PrimitiveBooleanRatherThanWrapperFinder(operations));
+		CleanUpScope.accept(compilationUnit, new PrimitiveCharRatherThanWrapperFinder(operations));
+		CleanUpScope.accept(compilationUnit, new PrimitiveByteRatherThanWrapperFinder(operations));
+		CleanUpScope.accept(compilationUnit, new PrimitiveShortRatherThanWrapperFinder(operations));
+		CleanUpScope.accept(compilationUnit, new PrimitiveIntRatherThanWrapperFinder(operations));
+		CleanUpScope.accept(compilationUnit, new PrimitiveLongRatherThanWrapperFinder(operations));
+		CleanUpScope.accept(compilationUnit, new PrimitiveFloatRatherThanWrapperFinder(operations));
+		CleanUpScope.accept(compilationUnit, new PrimitiveDoubleRatherThanWrapperFinder(operations));
 
 		if (operations.isEmpty()) {
 			return null;
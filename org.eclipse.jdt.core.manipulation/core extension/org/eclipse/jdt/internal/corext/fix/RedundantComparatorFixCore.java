@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -430,7 +430,7 @@ public class RedundantComparatorFixCore extends CompilationUnitRewriteOperations
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<RedundantComparatorFixOperation> operations= new ArrayList<>();
 		RedundantComparatorFinder finder= new RedundantComparatorFinder(operations);
-		compilationUnit.accept(finder);
+		CleanUpScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -127,7 +127,7 @@ public class StandardComparisonFixCore extends CompilationUnitRewriteOperationsF
 	public static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit) {
 		List<StandardComparisonFixOperation> operations= new ArrayList<>();
 		StandardComparisonFinder finder= new StandardComparisonFinder(operations);
-		compilationUnit.accept(finder);
+		CleanUpScope.accept(compilationUnit, finder);
 
 		if (operations.isEmpty()) {
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 Red Hat Inc. and others.
+ * Copyright (c) 2020, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -639,7 +639,7 @@ public class SwitchExpressionsFixCore extends CompilationUnitRewriteOperationsFi
 
 		List<SwitchExpressionsFixOperation> operations= new ArrayList<>();
 		SwitchStatementsFinder finder= new SwitchStatementsFinder(operations);
-		compilationUnit.accept(finder);
+		CleanUpScope.accept(compilationUnit, finder);
 		if (operations.isEmpty())
 			return null;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Red Hat Inc. and others.
+ * Copyright (c) 2023, 2026 Red Hat Inc. and others.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -65,7 +65,7 @@ public class TryWithResourceFixCore extends CompilationUnitRewriteOperationsFixC
 
 		final List<CompilationUnitRewriteOperation> rewriteOperations= new ArrayList<>();
 
-		unit.accept(new ASTVisitor() {
+		CleanUpScope.accept(unit, new ASTVisitor() {
 			@Override
 			public boolean visit(final Block visited) {
 				DeclarationAndTryVisitor declarationAndTryVisitor= new DeclarationAndTryVisitor(visited);
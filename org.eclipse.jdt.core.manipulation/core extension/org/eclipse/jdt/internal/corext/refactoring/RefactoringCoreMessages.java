@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -619,6 +619,8 @@ public final class RefactoringCoreMessages extends NLS {
 
 	public static String ExtractMethodRefactoring_destination_pattern;
 
+	public static String ExtractMethodRefactoring_duplicate_in_other_unit;
+
 	public static String ExtractMethodRefactoring_duplicates_multi;
 
 	public static String ExtractMethodRefactoring_duplicates_single;
@@ -1707,6 +1709,18 @@ public final class RefactoringCoreMessages extends NLS {
 
 	public static String RefactoringSearchEngine_searching_referenced_types;
 
+	public static String RefactoringScriptExecutor_change_not_executed;
+
+	public static String RefactoringScriptExecutor_checkpoint_mismatch;
+
+	public static String RefactoringScriptExecutor_descriptor_unavailable;
+
+	public static String RefactoringScriptExecutor_executing;
+
+	public static String RefactoringScriptExecutor_step_canceled;
+
+	public static String RefactoringScriptExecutor_step_failed;
+
 	public static String RenameAnalyzeUtil_reference_shadowed;
 
 	public static String RenameAnalyzeUtil_shadows;
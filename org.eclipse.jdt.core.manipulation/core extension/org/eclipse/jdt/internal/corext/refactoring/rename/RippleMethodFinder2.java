@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.IType;
@@ -70,6 +72,7 @@ public class RippleMethodFinder2 {
 	private final ReferencesInBinaryContext fBinaryRefs;
 	private Map<IMethod, SearchMatch> fDeclarationToMatch;
 	private boolean fSearchOnlyInCompilationUnit = false;
+	private final BatchCache fCache;
 
 	private static class MultiMap<K, V> {
 		HashMap<K, Collection<V>> fImplementation= new HashMap<>();
@@ -135,19 +138,56 @@ public class RippleMethodFinder2 {
 		}
 	}
 
+	/**
+	 * The union-find structure of a set of declarations, shared by all methods of a batch whose
+	 * searches found the same declarations.
+	 */
+	private static class Partition {
+		final MultiMap<IType, IMethod> fTypeToMethod;
+		final UnionFind fUnionFind;
+		final MultiMap<IType, IType> fRootReps;
+		final Map<IType, ITypeHierarchy> fRootHierarchies;
+
+		Partition(MultiMap<IType, IMethod> typeToMethod, UnionFind unionFind, MultiMap<IType, IType> rootReps, Map<IType, ITypeHierarchy> rootHierarchies) {
+			fTypeToMethod= typeToMethod;
+			fUnionFind= unionFind;
+			fRootReps= rootReps;
+			fRootHierarchies= rootHierarchies;
+		}
+	}
+
+	/**
+	 * Results shared by the ripple method queries of a batch. The Java model must not change while
+	 * a batch is processed.
+	 */
+	private static class BatchCache {
+		final Map<IMethod, Set<IMethod>> fDeclarations= new HashMap<>();
+		final Map<IMethod, Map<IMethod, SearchMatch>> fDeclarationToMatch= new HashMap<>();
+		final Map<IJavaProject, ITypeHierarchy> fRegionHierarchies= new HashMap<>();
+		final Map<Set<IMethod>, Partition> fPartitions= new HashMap<>();
+		final Map<IType, ITypeHierarchy> fTypeHierarchies= new HashMap<>();
+	}
+
 
 	private RippleMethodFinder2(IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit){
 		fMethod= method;
 		fExcludeBinaries= excludeBinaries;
 		fSearchOnlyInCompilationUnit= searchOnlyInCompilationUnit;
 		fBinaryRefs= null;
+		fCache= null;
 	}
 
 	private RippleMethodFinder2(IMethod method, ReferencesInBinaryContext binaryRefs) {
+		this(method, binaryRefs, true, null);
+	}
+
+	private RippleMethodFinder2(IMethod method, ReferencesInBinaryContext binaryRefs, boolean excludeBinaries, BatchCache cache) {
 		fMethod= method;
-		fExcludeBinaries= true;
-		fDeclarationToMatch= new HashMap<>();
+		fExcludeBinaries= excludeBinaries;
+		if (binaryRefs != null)
+			fDeclarationToMatch= new HashMap<>();
 		fBinaryRefs= binaryRefs;
+		fCache= cache;
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, boolean excludeBinaries, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
@@ -185,6 +225,89 @@ public class RippleMethodFinder2 {
 		}
 	}
 
+	/**
+	 * Returns the related methods of many methods in one pass. The methods share one region
+	 * hierarchy per project, the union-find structure of methods with the same declarations, and
+	 * the type hierarchies of the types that need to be checked for inherited methods.
+	 *
+	 * @param methods the methods
+	 * @param excludeBinaries <code>true</code> to exclude binary methods
+	 * @param pm the progress monitor
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @return the related methods of each method, in the order of the given methods
+	 * @throws CoreException if the search or creating a type hierarchy fails
+	 */
+	public static Map<IMethod, IMethod[]> getRelatedMethods(IMethod[] methods, boolean excludeBinaries, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		return getRelatedMethods(methods, null, excludeBinaries, pm, owner);
+	}
+
+	/**
+	 * Returns the related methods of many methods in one pass, like
+	 * {@link #getRelatedMethods(IMethod[], boolean, IProgressMonitor, WorkingCopyOwner)}. Binary
+	 * related methods are not returned but added to the context of the method.
+	 *
+	 * @param methods the methods
+	 * @param binaryRefs the context for the binary related methods of each method
+	 * @param pm the progress monitor
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @return the related methods of each method, in the order of the given methods
+	 * @throws CoreException if the search or creating a type hierarchy fails
+	 */
+	public static Map<IMethod, IMethod[]> getRelatedMethods(IMethod[] methods, Map<IMethod, ReferencesInBinaryContext> binaryRefs, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		return getRelatedMethods(methods, binaryRefs, true, pm, owner);
+	}
+
+	private static Map<IMethod, IMethod[]> getRelatedMethods(IMethod[] methods, Map<IMethod, ReferencesInBinaryContext> binaryRefs, boolean excludeBinaries, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		try {
+			pm.beginTask("", 3 * methods.length + 1); //$NON-NLS-1$
+			BatchCache cache= new BatchCache();
+			Map<IMethod, IMethod[]> result= new LinkedHashMap<>();
+
+			// search the declarations of all methods first, to create one region hierarchy per project
+			Map<IJavaProject, Set<IType>> declaringTypes= new LinkedHashMap<>();
+			for (IMethod method : methods) {
+				checkCanceled(pm);
+				if (! MethodChecks.isVirtual(method)) {
+					result.put(method, new IMethod[] { method });
+					pm.worked(1);
+					continue;
+				}
+				if (cache.fDeclarations.containsKey(method)) {
+					pm.worked(1);
+					continue;
+				}
+				RippleMethodFinder2 finder= new RippleMethodFinder2(method, binaryRefs != null ? binaryRefs.get(method) : null, excludeBinaries, null);
+				finder.findAllDeclarations(Progress.subMonitor(pm, 1), owner);
+				cache.fDeclarations.put(method, finder.fDeclarations);
+				if (finder.fDeclarationToMatch != null)
+					cache.fDeclarationToMatch.put(method, finder.fDeclarationToMatch);
+				Set<IType> types= declaringTypes.computeIfAbsent(method.getJavaProject(), project -> new HashSet<>());
+				for (IMethod declaration : finder.fDeclarations) {
+					types.add(declaration.getDeclaringType());
+				}
+			}
+
+			IProgressMonitor hierarchyMonitor= Progress.subMonitor(pm, 1);
+			hierarchyMonitor.beginTask("", declaringTypes.size()); //$NON-NLS-1$
+			for (Map.Entry<IJavaProject, Set<IType>> entry : declaringTypes.entrySet()) {
+				cache.fRegionHierarchies.put(entry.getKey(), createHierarchyOfTypes(Progress.subMonitor(hierarchyMonitor, 1), owner, entry.getValue().stream()));
+			}
+			hierarchyMonitor.done();
+
+			for (IMethod method : methods) {
+				if (result.containsKey(method)) {
+					pm.worked(2);
+					continue;
+				}
+				RippleMethodFinder2 finder= new RippleMethodFinder2(method, binaryRefs != null ? binaryRefs.get(method) : null, excludeBinaries, cache);
+				result.put(method, finder.getAllRippleMethods(Progress.subMonitor(pm, 2), owner));
+			}
+			return result;
+		} finally {
+			pm.done();
+		}
+	}
+
 	private IMethod[] getAllRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		IMethod[] rippleMethods= findAllRippleMethods(pm, owner);
 		if (fDeclarationToMatch == null)
@@ -220,8 +343,18 @@ public class RippleMethodFinder2 {
 
 		createHierarchyOfDeclarations(Progress.subMonitor(pm, 1), owner);
 		addMissedSuperTypes();
-		createTypeToMethod();
-		createUnionFind();
+		Partition partition= fCache != null ? fCache.fPartitions.get(fDeclarations) : null;
+		if (partition != null) {
+			fTypeToMethod= partition.fTypeToMethod;
+			fUnionFind= partition.fUnionFind;
+			fRootReps= partition.fRootReps;
+			fRootHierarchies= partition.fRootHierarchies;
+		} else {
+			createTypeToMethod();
+			createUnionFind();
+			if (fCache != null)
+				fCache.fPartitions.put(new HashSet<>(fDeclarations), new Partition(fTypeToMethod, fUnionFind, fRootReps, fRootHierarchies));
+		}
 		checkCanceled(pm);
 
 		fHierarchy= null;
@@ -359,7 +492,7 @@ public class RippleMethodFinder2 {
 
 		for (IType methodTypeSubtype : methodTypeSubtypes) {
 			checkCanceled(pm);
-			ITypeHierarchy subtypeHierarchy= methodTypeSubtype.newTypeHierarchy(owner, pm);
+			ITypeHierarchy subtypeHierarchy= newTypeHierarchy(methodTypeSubtype, owner, pm);
 			IType[] subtypeSuperTypes= subtypeHierarchy.getAllSupertypes(methodTypeSubtype);
 			for (IType subtypeSuperType : subtypeSuperTypes) {
 				checkCanceled(pm);
@@ -405,7 +538,21 @@ public class RippleMethodFinder2 {
 			throws JavaModelException {
 		ITypeHierarchy hierarchy= getCachedHierarchy(type, owner, Progress.subMonitor(pm, 1));
 		if (hierarchy == null)
-			hierarchy= type.newTypeHierarchy(owner, Progress.subMonitor(pm, 1));
+			hierarchy= newTypeHierarchy(type, owner, Progress.subMonitor(pm, 1));
+		return hierarchy;
+	}
+
+	private ITypeHierarchy newTypeHierarchy(IType type, WorkingCopyOwner owner, IProgressMonitor pm) throws JavaModelException {
+		if (fCache == null)
+			return type.newTypeHierarchy(owner, pm);
+
+		ITypeHierarchy hierarchy= fCache.fTypeHierarchies.get(type);
+		if (hierarchy == null) {
+			hierarchy= type.newTypeHierarchy(owner, pm);
+			fCache.fTypeHierarchies.put(type, hierarchy);
+		} else {
+			pm.done();
+		}
 		return hierarchy;
 	}
 
@@ -425,7 +572,7 @@ public class RippleMethodFinder2 {
 			for (IType root : fRootReps.get(rep)) {
 				ITypeHierarchy hierarchy= fRootHierarchies.get(root);
 				if (hierarchy == null) {
-					hierarchy= root.newTypeHierarchy(owner, Progress.subMonitor(monitor, 1));
+					hierarchy= newTypeHierarchy(root, owner, Progress.subMonitor(monitor, 1));
 					fRootHierarchies.put(root, hierarchy);
 				}
 				if (hierarchy.contains(type))
@@ -436,6 +583,13 @@ public class RippleMethodFinder2 {
 	}
 
 	private void findAllDeclarations(IProgressMonitor monitor, WorkingCopyOwner owner) throws CoreException {
+		if (fCache != null) {
+			fDeclarations= new HashSet<>(fCache.fDeclarations.get(fMethod));
+			if (fDeclarationToMatch != null)
+				fDeclarationToMatch.putAll(fCache.fDeclarationToMatch.get(fMethod));
+			monitor.done();
+			return;
+		}
 		fDeclarations= new HashSet<>();
 
 		class MethodRequestor extends SearchRequestor {
@@ -477,6 +631,12 @@ public class RippleMethodFinder2 {
 	}
 
 	private void createHierarchyOfDeclarations(IProgressMonitor pm, WorkingCopyOwner owner) throws JavaModelException {
+		if (fCache != null) {
+			// the region hierarchy of the batch contains the declaring types of all methods of the project
+			fHierarchy= fCache.fRegionHierarchies.get(fMethod.getJavaProject());
+			pm.done();
+			return;
+		}
 		Stream<IType> types= fDeclarations.stream().map(IMethod::getDeclaringType);
 		fHierarchy= createHierarchyOfTypes(pm, owner, types);
 	}
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+/**
+ * Keeps the ASTs that {@link RefactoringASTParser#parseWithASTProvider(ITypeRoot, boolean, IProgressMonitor)}
+ * creates while a batch of refactorings is executed on the current thread, so that the steps of
+ * the batch share them.
+ * <p>
+ * The executor of the batch must report the compilation units that each step changes with
+ * {@link #changed(Collection, boolean)}. The AST of a changed compilation unit is removed. The ASTs
+ * with bindings of the other compilation units are kept if no step changed the outline of a
+ * compilation unit, its source without method and initializer bodies. An AST is also not returned
+ * anymore if the source of its compilation unit changed otherwise.
+ * </p>
+ */
+public final class RefactoringASTCache {
+
+	private static final int MAX_ENTRIES= 32;
+
+	private static final ThreadLocal<RefactoringASTCache> fgCurrent= new ThreadLocal<>();
+
+	private static class Entry {
+		final CompilationUnit fAST;
+		final boolean fResolveBindings;
+		final int fSourceHash;
+
+		Entry(CompilationUnit ast, boolean resolveBindings, int sourceHash) {
+			fAST= ast;
+			fResolveBindings= resolveBindings;
+			fSourceHash= sourceHash;
+		}
+	}
+
+	private static class Outline {
+		final int fSourceHash;
+		final long fHash;
+
+		Outline(int sourceHash, long hash) {
+			fSourceHash= sourceHash;
+			fHash= hash;
+		}
+	}
+
+	private final LinkedHashMap<ITypeRoot, Entry> fEntries= new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ITypeRoot, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Outline hashes of the compilation units by primary compilation unit.
+	 */
+	private final Map<ICompilationUnit, Outline> fOutlines= new HashMap<>();
+
+	private int fHits;
+
+	private int fMisses;
+
+	/**
+	 * Returns the cache of the batch executed on the current thread.
+	 *
+	 * @return the cache, or <code>null</code> if no batch is executed on the current thread
+	 */
+	public static RefactoringASTCache getCurrent() {
+		return fgCurrent.get();
+	}
+
+	/**
+	 * Makes this cache the cache of the current thread until {@link #uninstall()} is called.
+	 */
+	public void install() {
+		fgCurrent.set(this);
+	}
+
+	/**
+	 * Removes this cache from the current thread and clears it.
+	 */
+	public void uninstall() {
+		if (fgCurrent.get() == this)
+			fgCurrent.remove();
+		clear();
+	}
+
+	/**
+	 * Returns the cached AST of the given type root.
+	 *
+	 * @param typeRoot the type root
+	 * @param resolveBindings whether the AST must have bindings
+	 * @return the AST, or <code>null</code> if there is none for the current source of the type root
+	 */
+	public CompilationUnit get(ITypeRoot typeRoot, boolean resolveBindings) {
+		Entry entry= fEntries.get(typeRoot);
+		if (entry != null && (entry.fResolveBindings || !resolveBindings) && entry.fSourceHash == getSourceHash(typeRoot)) {
+			fHits++;
+			return entry.fAST;
+		}
+		fMisses++;
+		return null;
+	}
+
+	/**
+	 * Adds the AST of the given type root. The AST must not be modified by its clients.
+	 *
+	 * @param typeRoot the type root
+	 * @param resolveBindings whether the AST has bindings
+	 * @param ast the AST
+	 */
+	public void put(ITypeRoot typeRoot, boolean resolveBindings, CompilationUnit ast) {
+		Entry entry= fEntries.get(typeRoot);
+		if (entry != null && entry.fResolveBindings && !resolveBindings)
+			return;
+		fEntries.put(typeRoot, new Entry(ast, resolveBindings, getSourceHash(typeRoot)));
+	}
+
+	/**
+	 * Removes the ASTs that depend on the given changed compilation units.
+	 *
+	 * @param units the compilation units that have been changed
+	 * @param outlineChanged <code>true</code> if the outline of any of the compilation units has
+	 *            changed, so that the bindings of all other compilation units may have changed
+	 */
+	public void changed(Collection<ICompilationUnit> units, boolean outlineChanged) {
+		List<ITypeRoot> changed= new ArrayList<>();
+		for (ICompilationUnit unit : units) {
+			changed.add(unit.getPrimary());
+		}
+		for (Iterator<Map.Entry<ITypeRoot, Entry>> iterator= fEntries.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<ITypeRoot, Entry> entry= iterator.next();
+			ITypeRoot typeRoot= entry.getKey() instanceof ICompilationUnit ? ((ICompilationUnit) entry.getKey()).getPrimary() : entry.getKey();
+			if (changed.contains(typeRoot) || outlineChanged && entry.getValue().fResolveBindings) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Removes all ASTs.
+	 */
+	public void clear() {
+		fEntries.clear();
+		fOutlines.clear();
+	}
+
+	public int getHits() {
+		return fHits;
+	}
+
+	public int getMisses() {
+		return fMisses;
+	}
+
+	/**
+	 * Returns a hash of the outline of the given compilation unit, its source without method and
+	 * initializer bodies. Changes that keep the outline of a compilation unit do not change the
+	 * bindings of other compilation units.
+	 * <p>
+	 * The hash is computed once for each source of the compilation unit. It is computed from the
+	 * cached AST of the compilation unit if there is one, otherwise the compilation unit is parsed
+	 * without method bodies.
+	 * </p>
+	 *
+	 * @param unit the compilation unit
+	 * @return the hash of the outline
+	 * @throws JavaModelException if the source of the compilation unit cannot be accessed
+	 */
+	public long getOutlineHash(ICompilationUnit unit) throws JavaModelException {
+		String source= unit.getSource();
+		if (source == null)
+			return 0;
+
+		int sourceHash= source.hashCode();
+		ICompilationUnit primary= unit.getPrimary();
+		Outline outline= fOutlines.get(primary);
+		if (outline != null && outline.fSourceHash == sourceHash)
+			return outline.fHash;
+
+		Entry entry= fEntries.get(unit);
+		CompilationUnit ast;
+		if (entry != null && entry.fSourceHash == sourceHash) {
+			ast= entry.fAST;
+		} else {
+			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+			parser.setSource(source.toCharArray());
+			parser.setUnitName(unit.getElementName());
+			parser.setProject(unit.getJavaProject());
+			parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(unit));
+			parser.setIgnoreMethodBodies(true);
+			ast= (CompilationUnit) parser.createAST(null);
+		}
+		long hash= getOutlineHash(source, ast);
+		fOutlines.put(primary, new Outline(sourceHash, hash));
+		return hash;
+	}
+
+	private static long getOutlineHash(String source, CompilationUnit ast) {
+		List<Block> bodies= new ArrayList<>();
+		ast.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(MethodDeclaration node) {
+				if (node.getBody() != null)
+					bodies.add(node.getBody());
+				return false;
+			}
+
+			@Override
+			public boolean visit(Initializer node) {
+				bodies.add(node.getBody());
+				return false;
+			}
+		});
+
+		long hash= 0;
+		int start= 0;
+		for (Block body : bodies) {
+			hash= 31 * hash + getHash(source, start, body.getStartPosition());
+			start= body.getStartPosition() + body.getLength();
+		}
+		return 31 * hash + getHash(source, start, source.length());
+	}
+
+	private static long getHash(String source, int start, int end) {
+		long hash= 1125899906842597L;
+		for (int i= start; i < end && i < source.length(); i++) {
+			hash= 31 * hash + source.charAt(i);
+		}
+		return hash;
+	}
+
+	private static int getSourceHash(ITypeRoot typeRoot) {
+		try {
+			String source= typeRoot.getSource();
+			return source != null ? source.hashCode() : 0;
+		} catch (JavaModelException e) {
+			return 0;
+		}
+	}
+}
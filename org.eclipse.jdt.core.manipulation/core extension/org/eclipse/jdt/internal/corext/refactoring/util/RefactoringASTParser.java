@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -109,7 +109,8 @@ public class RefactoringASTParser {
 
 	/**
 	 * Tries to get the shared AST from the ASTProvider.
-	 * If the shared AST is not available, parses the type root with a
+	 * If the shared AST is not available, takes it from the {@link RefactoringASTCache} of
+	 * the current thread, or parses the type root with a
 	 * RefactoringASTParser that uses settings similar to the ASTProvider.
 	 *
 	 * @param typeRoot the type root
@@ -121,9 +122,17 @@ public class RefactoringASTParser {
 		CompilationUnit cuNode= CoreASTProvider.getInstance().getAST(typeRoot, CoreASTProvider.WAIT_ACTIVE_ONLY, pm);
 		if (cuNode != null) {
 			return cuNode;
-		} else {
-			return new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(typeRoot, null, resolveBindings, IASTSharedValues.SHARED_AST_STATEMENT_RECOVERY, IASTSharedValues.SHARED_BINDING_RECOVERY, pm);
 		}
+		RefactoringASTCache cache= RefactoringASTCache.getCurrent();
+		if (cache != null) {
+			cuNode= cache.get(typeRoot, resolveBindings);
+			if (cuNode != null)
+				return cuNode;
+		}
+		cuNode= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(typeRoot, null, resolveBindings, IASTSharedValues.SHARED_AST_STATEMENT_RECOVERY, IASTSharedValues.SHARED_BINDING_RECOVERY, pm);
+		if (cache != null)
+			cache.put(typeRoot, resolveBindings, cuNode);
+		return cuNode;
 	}
 
 	public static ICompilationUnit getCompilationUnit(ASTNode node) {
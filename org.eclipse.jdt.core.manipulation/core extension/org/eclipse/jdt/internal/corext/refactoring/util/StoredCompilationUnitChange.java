@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.TextEditGroup;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.GroupCategory;
+import org.eclipse.ltk.core.refactoring.TextEditBasedChangeGroup;
+import org.eclipse.ltk.core.refactoring.TextEditChangeGroup;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
+
+/**
+ * A compilation unit change whose edits are kept in a {@link TextChangeStore} until they are
+ * accessed.
+ * <p>
+ * Accessing the edits or groups of the change, or its preview, adds the edits of the store to
+ * the change, which then keeps them like any other change. If the change is performed before,
+ * its edits are only created for the time it is performed, so that performing all changes of a
+ * large refactoring does not keep all their edits in memory. A change performed like this does
+ * not have any edits or preview edits afterwards.
+ * </p>
+ */
+final class StoredCompilationUnitChange extends CompilationUnitChange {
+
+	/** The store that keeps the edits, or <code>null</code> once the edits have been added */
+	private TextChangeStore fStore;
+
+	StoredCompilationUnitChange(String name, ICompilationUnit cu, TextChangeStore store) {
+		super(name, cu);
+		fStore= store;
+	}
+
+	private void materialize() {
+		if (fStore != null) {
+			TextChangeStore store= fStore;
+			fStore= null;
+			store.materialize(getCompilationUnit(), this);
+		}
+	}
+
+	@Override
+	public Change perform(IProgressMonitor pm) throws CoreException {
+		if (fStore == null)
+			return super.perform(pm);
+
+		TextChangeStore store= fStore;
+		fStore= null;
+		try {
+			CompilationUnitChange change= store.read(getCompilationUnit(), getKeepPreviewEdits());
+			if (change == null)
+				return super.perform(pm);
+			return change.perform(pm);
+		} finally {
+			store.remove(getCompilationUnit());
+		}
+	}
+
+	@Override
+	public void dispose() {
+		if (fStore != null) {
+			fStore.remove(getCompilationUnit());
+			fStore= null;
+		}
+		super.dispose();
+	}
+
+	@Override
+	public void setEdit(TextEdit edit) {
+		materialize();
+		super.setEdit(edit);
+	}
+
+	@Override
+	public TextEdit getEdit() {
+		materialize();
+		return super.getEdit();
+	}
+
+	@Override
+	public void addEdit(TextEdit edit) {
+		materialize();
+		super.addEdit(edit);
+	}
+
+	@Override
+	public void addTextEditGroup(TextEditGroup group) {
+		materialize();
+		super.addTextEditGroup(group);
+	}
+
+	@Override
+	public void addTextEditChangeGroup(TextEditChangeGroup group) {
+		materialize();
+		super.addTextEditChangeGroup(group);
+	}
+
+	@Override
+	public TextEditChangeGroup[] getTextEditChangeGroups() {
+		materialize();
+		return super.getTextEditChangeGroups();
+	}
+
+	@Override
+	public boolean hasOneGroupCategory(List<GroupCategory> groupCategories) {
+		materialize();
+		return super.hasOneGroupCategory(groupCategories);
+	}
+
+	@Override
+	public IDocument getPreviewDocument(IProgressMonitor pm) throws CoreException {
+		materialize();
+		return super.getPreviewDocument(pm);
+	}
+
+	@Override
+	public String getPreviewContent(IProgressMonitor pm) throws CoreException {
+		materialize();
+		return super.getPreviewContent(pm);
+	}
+
+	@Override
+	public String getPreviewContent(TextEditChangeGroup[] changeGroups, IRegion region, boolean expandRegionToFullLine, int surroundingLines, IProgressMonitor pm) throws CoreException {
+		materialize();
+		return super.getPreviewContent(changeGroups, region, expandRegionToFullLine, surroundingLines, pm);
+	}
+
+	@Override
+	public String getPreviewContent(TextEditBasedChangeGroup[] changeGroups, IRegion region, boolean expandRegionToFullLine, int surroundingLines, IProgressMonitor pm) throws CoreException {
+		materialize();
+		return super.getPreviewContent(changeGroups, region, expandRegionToFullLine, surroundingLines, pm);
+	}
+
+	@Override
+	public TextEdit getPreviewEdit(TextEdit original) {
+		materialize();
+		return super.getPreviewEdit(original);
+	}
+
+	@Override
+	public TextEdit[] getPreviewEdits(TextEdit[] originals) {
+		materialize();
+		return super.getPreviewEdits(originals);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@
 package org.eclipse.jdt.internal.corext.refactoring.util;
 
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -28,19 +30,56 @@ import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 /**
  * A <code>TextChangeManager</code> manages associations between <code>ICompilationUnit</code>
  * or <code>IFile</code> and <code>TextChange</code> objects.
+ * <p>
+ * A manager that stores its changes compactly only keeps the text changes of the
+ * {@value #MAX_LIVE_CHANGES} compilation units accessed last. The others are kept in a
+ * {@link TextChangeStore} and created again when they are accessed. Clients of such a manager
+ * must not keep a text change while they access other compilation units, and must not rely on
+ * the preview edits of a text change that has been computed before.
+ * </p>
+ * <p>
+ * {@link #getAllChanges()} returns changes for the stored changes that only create their edits
+ * when they are previewed, and only while they are performed otherwise, so that all changes of
+ * a refactoring are never in memory at the same time. Once they have been returned, the manager
+ * doesn't store further changes.
+ * </p>
  */
 public class TextChangeManager {
 
-	private Map<ICompilationUnit, TextChange> fMap= new HashMap<>(10);
+	private static final int MAX_LIVE_CHANGES= 64;
+
+	private Map<ICompilationUnit, TextChange> fMap= new LinkedHashMap<>(10, 0.75f, true);
 
 	private final boolean fKeepExecutedTextEdits;
 
+	/**
+	 * The compactly stored changes, or <code>null</code> if all changes are kept in
+	 * <code>fMap</code>.
+	 */
+	private final TextChangeStore fStore;
+
+	/**
+	 * Whether {@link #getAllChanges()} has returned changes for the stored changes.
+	 */
+	private boolean fStoredChangesReturned;
+
 	public TextChangeManager() {
 		this(false);
 	}
 
 	public TextChangeManager(boolean keepExecutedTextEdits) {
+		this(keepExecutedTextEdits, false);
+	}
+
+	/**
+	 * @param keepExecutedTextEdits whether the text changes keep their preview edits
+	 * @param storeCompactly <code>true</code> to store the changes of compilation units that
+	 *            have not been accessed recently compactly, and on disk if there are many, for
+	 *            refactorings that can change a large number of compilation units
+	 */
+	public TextChangeManager(boolean keepExecutedTextEdits, boolean storeCompactly) {
 		fKeepExecutedTextEdits= keepExecutedTextEdits;
+		fStore= storeCompactly ? new TextChangeStore() : null;
 	}
 
 	/**
@@ -51,7 +90,11 @@ public class TextChangeManager {
 	 * @param change the change associated with the compilation unit
 	 */
 	public void manage(ICompilationUnit cu, TextChange change) {
+		if (fStore != null && fStore.contains(cu)) {
+			fStore.remove(cu);
+		}
 		fMap.put(cu, change);
+		storeEldestChanges();
 	}
 
 	/**
@@ -64,13 +107,50 @@ public class TextChangeManager {
 	public TextChange get(ICompilationUnit cu) {
 		TextChange result= fMap.get(cu);
 		if (result == null) {
-			result= new CompilationUnitChange(cu.getElementName(), cu);
-			result.setKeepPreviewEdits(fKeepExecutedTextEdits);
+			result= fStore != null ? fStore.load(cu, fKeepExecutedTextEdits) : null;
+			if (result == null) {
+				result= new CompilationUnitChange(cu.getElementName(), cu);
+				result.setKeepPreviewEdits(fKeepExecutedTextEdits);
+			}
 			fMap.put(cu, result);
+			storeEldestChanges();
 		}
 		return result;
 	}
 
+	/**
+	 * Moves the changes of the compilation units that have not been accessed recently to the
+	 * store, if there is one.
+	 */
+	private void storeEldestChanges() {
+		if (fStore == null || fStoredChangesReturned)
+			return;
+		Iterator<Map.Entry<ICompilationUnit, TextChange>> iterator= fMap.entrySet().iterator();
+		int liveChanges= fMap.size();
+		while (liveChanges > MAX_LIVE_CHANGES && iterator.hasNext()) {
+			Map.Entry<ICompilationUnit, TextChange> entry= iterator.next();
+			if (fStore.store(entry.getKey(), entry.getValue())) {
+				iterator.remove();
+			}
+			// changes that cannot be stored are skipped, they stay in memory
+			liveChanges--;
+		}
+	}
+
+	/**
+	 * Adds changes for the stored changes that create their edits when they are accessed.
+	 */
+	private void addStoredChanges() {
+		if (fStore == null || fStore.isEmpty())
+			return;
+		fStoredChangesReturned= true;
+		for (ICompilationUnit cu : fStore.getCompilationUnits()) {
+			if (!fMap.containsKey(cu)) {
+				fMap.put(cu, fStore.createStoredChange(cu, fKeepExecutedTextEdits));
+			}
+		}
+	}
+
 	/**
 	 * Removes the <code>TextChange</code> managed under the given key
 	 * <code>unit</code>.
@@ -79,7 +159,11 @@ public class TextChangeManager {
 	 * @return the removed <code>TextChange</code>.
 	 */
 	public TextChange remove(ICompilationUnit unit) {
-		return fMap.remove(unit);
+		TextChange result= fMap.remove(unit);
+		if (result == null && fStore != null) {
+			result= fStore.load(unit, fKeepExecutedTextEdits);
+		}
+		return result;
 	}
 
 	/**
@@ -88,6 +172,7 @@ public class TextChangeManager {
 	 * @return all text changes managed by this instance
 	 */
 	public TextChange[] getAllChanges(){
+		addStoredChanges();
 		Set<ICompilationUnit> cuSet= fMap.keySet();
 		ICompilationUnit[] cus= cuSet.toArray(new ICompilationUnit[cuSet.size()]);
 		// sort by cu name:
@@ -110,7 +195,11 @@ public class TextChangeManager {
 	 * @return all compilation units managed by this instance
 	 */
 	public ICompilationUnit[] getAllCompilationUnits(){
-		return fMap.keySet().toArray(new ICompilationUnit[fMap.size()]);
+		if (fStore == null || fStore.isEmpty())
+			return fMap.keySet().toArray(new ICompilationUnit[fMap.size()]);
+		Set<ICompilationUnit> result= new HashSet<>(fMap.keySet());
+		result.addAll(fStore.getCompilationUnits());
+		return result.toArray(new ICompilationUnit[result.size()]);
 	}
 
 	/**
@@ -118,6 +207,10 @@ public class TextChangeManager {
 	 */
 	public void clear() {
 		fMap.clear();
+		if (fStore != null) {
+			fStore.clear();
+		}
+		fStoredChangesReturned= false;
 	}
 
 	/**
@@ -127,7 +220,7 @@ public class TextChangeManager {
 	 * @return <code>true</code> if any text changes are managed for the specified compilation unit and <code>false</code> otherwise
 	 */
 	public boolean containsChangesIn(ICompilationUnit cu){
-		return fMap.containsKey(cu);
+		return fMap.containsKey(cu) || fStore != null && fStore.contains(cu);
 	}
 }
 
@@ -0,0 +1,469 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.TextEditGroup;
+
+import org.eclipse.ltk.core.refactoring.CategorizedTextEditGroup;
+import org.eclipse.ltk.core.refactoring.GroupCategorySet;
+import org.eclipse.ltk.core.refactoring.TextChange;
+import org.eclipse.ltk.core.refactoring.TextEditChangeGroup;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Stores the text changes of compilation units in a compact form for a
+ * {@link TextChangeManager}, and spills them to a temporary file once they exceed a threshold.
+ * <p>
+ * Only {@link CompilationUnitChange}s whose edit tree is a {@link MultiTextEdit} with replace,
+ * insert and delete edits as leaf children can be stored, which covers the reference updates of
+ * the rename and move refactorings. A stored change is described by the offsets, lengths and
+ * texts of its edits and the names and categories of its groups. Texts, group names and
+ * category sets are shared between all changes of the store and always stay in memory.
+ * </p>
+ * <p>
+ * A stored change is either created again and removed from the store with
+ * {@link #load(ICompilationUnit, boolean)}, or stays in the store until the
+ * {@link StoredCompilationUnitChange} created for it needs its edits.
+ * </p>
+ * <p>
+ * The number of bytes that stored changes may occupy in memory before further changes are
+ * written to disk can be set with the system property {@value #THRESHOLD_PROPERTY}.
+ * </p>
+ */
+final class TextChangeStore {
+
+	static final String THRESHOLD_PROPERTY= "org.eclipse.jdt.refactoring.changeStoreThreshold"; //$NON-NLS-1$
+
+	private static final int DEFAULT_THRESHOLD= 16 * 1024 * 1024;
+
+	private static final int REPLACE= 0;
+	private static final int INSERT= 1;
+	private static final int DELETE= 2;
+
+	private static final class SpilledChange {
+		final long fPosition;
+		final int fLength;
+
+		SpilledChange(long position, int length) {
+			fPosition= position;
+			fLength= length;
+		}
+	}
+
+	private final int fThreshold;
+
+	/**
+	 * Stored changes by compilation unit, either as <code>byte[]</code> in memory or as
+	 * {@link SpilledChange} on disk.
+	 */
+	private final Map<ICompilationUnit, Object> fChanges= new HashMap<>();
+
+	private final List<String> fStrings= new ArrayList<>();
+	private final Map<String, Integer> fStringIndexes= new HashMap<>();
+	private final List<GroupCategorySet> fCategories= new ArrayList<>();
+	private final Map<GroupCategorySet, Integer> fCategoryIndexes= new IdentityHashMap<>();
+
+	private int fMemorySize;
+
+	private File fFile;
+	private RandomAccessFile fSpillFile;
+
+	TextChangeStore() {
+		this(Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD).intValue());
+	}
+
+	/**
+	 * @param threshold the number of bytes that stored changes may occupy in memory
+	 */
+	TextChangeStore(int threshold) {
+		fThreshold= threshold;
+	}
+
+	/**
+	 * Stores the given change if it can be stored compactly.
+	 *
+	 * @param cu the compilation unit
+	 * @param change the change
+	 * @return <code>true</code> if the change has been stored, <code>false</code> if it must be
+	 *         kept as it is
+	 */
+	boolean store(ICompilationUnit cu, TextChange change) {
+		byte[] bytes= encode(change);
+		if (bytes == null)
+			return false;
+
+		if (fMemorySize + bytes.length > fThreshold) {
+			try {
+				fChanges.put(cu, spill(bytes));
+				return true;
+			} catch (IOException e) {
+				// keep the change in memory
+				JavaManipulationPlugin.log(e);
+			}
+		}
+		fChanges.put(cu, bytes);
+		fMemorySize+= bytes.length;
+		return true;
+	}
+
+	/**
+	 * Removes the stored change of the given compilation unit and creates it again.
+	 *
+	 * @param cu the compilation unit
+	 * @param keepPreviewEdits whether the created change keeps its preview edits
+	 * @return the change, or <code>null</code> if no change is stored for the compilation unit
+	 * @throws UncheckedIOException if the change cannot be read from disk
+	 */
+	TextChange load(ICompilationUnit cu, boolean keepPreviewEdits) {
+		TextChange change= read(cu, keepPreviewEdits);
+		remove(cu);
+		return change;
+	}
+
+	/**
+	 * Creates the stored change of the given compilation unit again, without removing it from
+	 * the store.
+	 *
+	 * @param cu the compilation unit
+	 * @param keepPreviewEdits whether the created change keeps its preview edits
+	 * @return the change, or <code>null</code> if no change is stored for the compilation unit
+	 * @throws UncheckedIOException if the change cannot be read from disk
+	 */
+	CompilationUnitChange read(ICompilationUnit cu, boolean keepPreviewEdits) {
+		byte[] bytes= getBytes(cu);
+		if (bytes == null)
+			return null;
+		try {
+			return decode(cu, bytes, keepPreviewEdits, null);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Creates a change for the stored change of the given compilation unit that only creates its
+	 * edits when they are accessed, see {@link StoredCompilationUnitChange}.
+	 *
+	 * @param cu the compilation unit
+	 * @param keepPreviewEdits whether the change keeps its preview edits
+	 * @return the change, or <code>null</code> if no change is stored for the compilation unit
+	 * @throws UncheckedIOException if the change cannot be read from disk
+	 */
+	TextChange createStoredChange(ICompilationUnit cu, boolean keepPreviewEdits) {
+		byte[] bytes= getBytes(cu);
+		if (bytes == null)
+			return null;
+		try {
+			DataInputStream in= new DataInputStream(new ByteArrayInputStream(bytes));
+			StoredCompilationUnitChange change= new StoredCompilationUnitChange(fStrings.get(readInt(in)), cu, this);
+			change.setKeepPreviewEdits(keepPreviewEdits);
+			change.setSaveMode(readInt(in));
+			return change;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Removes the stored change of the given compilation unit and adds its edits and groups to
+	 * the given change.
+	 *
+	 * @param cu the compilation unit
+	 * @param change the change to add the edits to
+	 * @throws UncheckedIOException if the change cannot be read from disk
+	 */
+	void materialize(ICompilationUnit cu, CompilationUnitChange change) {
+		byte[] bytes= getBytes(cu);
+		if (bytes == null)
+			return;
+		try {
+			decode(cu, bytes, change.getKeepPreviewEdits(), change);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			remove(cu);
+		}
+	}
+
+	/**
+	 * Removes the stored change of the given compilation unit.
+	 *
+	 * @param cu the compilation unit
+	 */
+	void remove(ICompilationUnit cu) {
+		Object stored= fChanges.remove(cu);
+		if (stored instanceof byte[]) {
+			fMemorySize-= ((byte[]) stored).length;
+		}
+		if (fChanges.isEmpty()) {
+			clear();
+		}
+	}
+
+	private byte[] getBytes(ICompilationUnit cu) {
+		Object stored= fChanges.get(cu);
+		if (stored == null)
+			return null;
+		if (!(stored instanceof SpilledChange))
+			return (byte[]) stored;
+
+		SpilledChange spilled= (SpilledChange) stored;
+		byte[] bytes= new byte[spilled.fLength];
+		try {
+			fSpillFile.seek(spilled.fPosition);
+			fSpillFile.readFully(bytes);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes;
+	}
+
+	boolean contains(ICompilationUnit cu) {
+		return fChanges.containsKey(cu);
+	}
+
+	Set<ICompilationUnit> getCompilationUnits() {
+		return new HashSet<>(fChanges.keySet());
+	}
+
+	boolean isEmpty() {
+		return fChanges.isEmpty();
+	}
+
+	/**
+	 * Removes all stored changes and deletes the temporary file.
+	 */
+	void clear() {
+		fChanges.clear();
+		fStrings.clear();
+		fStringIndexes.clear();
+		fCategories.clear();
+		fCategoryIndexes.clear();
+		fMemorySize= 0;
+		if (fSpillFile != null) {
+			try {
+				fSpillFile.close();
+			} catch (IOException e) {
+				JavaManipulationPlugin.log(e);
+			}
+			fSpillFile= null;
+			fFile.delete();
+			fFile= null;
+		}
+	}
+
+	private SpilledChange spill(byte[] bytes) throws IOException {
+		if (fSpillFile == null) {
+			fFile= File.createTempFile("jdt-changes", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+			fFile.deleteOnExit();
+			fSpillFile= new RandomAccessFile(fFile, "rw"); //$NON-NLS-1$
+		}
+		long position= fSpillFile.length();
+		fSpillFile.seek(position);
+		fSpillFile.write(bytes);
+		return new SpilledChange(position, bytes.length);
+	}
+
+	/**
+	 * @param change the change
+	 * @return the compact form of the change, or <code>null</code> if it cannot be stored
+	 *         compactly
+	 */
+	private byte[] encode(TextChange change) {
+		if (change.getClass() != CompilationUnitChange.class || !change.isEnabled())
+			return null;
+		TextEdit root= change.getEdit();
+		if (root != null && root.getClass() != MultiTextEdit.class)
+			return null;
+
+		TextEdit[] edits= root != null ? root.getChildren() : new TextEdit[0];
+		Map<TextEdit, Integer> editIndexes= new IdentityHashMap<>();
+		for (int i= 0; i < edits.length; i++) {
+			TextEdit edit= edits[i];
+			if (edit.hasChildren() || !(edit instanceof ReplaceEdit || edit instanceof InsertEdit || edit instanceof DeleteEdit))
+				return null;
+			editIndexes.put(edit, Integer.valueOf(i));
+		}
+		TextEditChangeGroup[] groups= change.getTextEditChangeGroups();
+		for (TextEditChangeGroup group : groups) {
+			if (!group.isEnabled())
+				return null;
+			for (TextEdit edit : group.getTextEdits()) {
+				if (!editIndexes.containsKey(edit))
+					return null;
+			}
+		}
+
+		try {
+			ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+			try (DataOutputStream out= new DataOutputStream(bytes)) {
+				writeInt(out, getStringIndex(change.getName()));
+				writeInt(out, ((CompilationUnitChange) change).getSaveMode());
+				writeInt(out, edits.length);
+				for (TextEdit edit : edits) {
+					if (edit instanceof ReplaceEdit) {
+						out.writeByte(REPLACE);
+						writeInt(out, edit.getOffset());
+						writeInt(out, edit.getLength());
+						writeInt(out, getStringIndex(((ReplaceEdit) edit).getText()));
+					} else if (edit instanceof InsertEdit) {
+						out.writeByte(INSERT);
+						writeInt(out, edit.getOffset());
+						writeInt(out, getStringIndex(((InsertEdit) edit).getText()));
+					} else {
+						out.writeByte(DELETE);
+						writeInt(out, edit.getOffset());
+						writeInt(out, edit.getLength());
+					}
+				}
+				writeInt(out, groups.length);
+				for (TextEditChangeGroup group : groups) {
+					TextEditGroup editGroup= group.getTextEditGroup();
+					writeInt(out, getStringIndex(editGroup.getName()));
+					writeInt(out, editGroup instanceof CategorizedTextEditGroup ? getCategoryIndex(((CategorizedTextEditGroup) editGroup).getGroupCategories()) + 1 : 0);
+					TextEdit[] groupEdits= editGroup.getTextEdits();
+					writeInt(out, groupEdits.length);
+					for (TextEdit edit : groupEdits) {
+						writeInt(out, editIndexes.get(edit).intValue());
+					}
+				}
+			}
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			// cannot happen, the stream is in memory
+			return null;
+		}
+	}
+
+	/**
+	 * @param target the change to add the edits and groups to, or <code>null</code> to create a
+	 *            new change
+	 */
+	private CompilationUnitChange decode(ICompilationUnit cu, byte[] bytes, boolean keepPreviewEdits, CompilationUnitChange target) throws IOException {
+		DataInputStream in= new DataInputStream(new ByteArrayInputStream(bytes));
+		String changeName= fStrings.get(readInt(in));
+		int saveMode= readInt(in);
+		CompilationUnitChange change= target;
+		if (change == null) {
+			change= new CompilationUnitChange(changeName, cu);
+			change.setKeepPreviewEdits(keepPreviewEdits);
+			change.setSaveMode(saveMode);
+		}
+
+		TextEdit[] edits= new TextEdit[readInt(in)];
+		if (edits.length > 0) {
+			MultiTextEdit root= new MultiTextEdit();
+			for (int i= 0; i < edits.length; i++) {
+				int kind= in.readByte();
+				int offset= readInt(in);
+				switch (kind) {
+					case REPLACE:
+						int length= readInt(in);
+						edits[i]= new ReplaceEdit(offset, length, fStrings.get(readInt(in)));
+						break;
+					case INSERT:
+						edits[i]= new InsertEdit(offset, fStrings.get(readInt(in)));
+						break;
+					default:
+						edits[i]= new DeleteEdit(offset, readInt(in));
+						break;
+				}
+				root.addChild(edits[i]);
+			}
+			change.setEdit(root);
+		}
+
+		int groupCount= readInt(in);
+		for (int i= 0; i < groupCount; i++) {
+			String name= fStrings.get(readInt(in));
+			int category= readInt(in);
+			TextEdit[] groupEdits= new TextEdit[readInt(in)];
+			for (int j= 0; j < groupEdits.length; j++) {
+				groupEdits[j]= edits[readInt(in)];
+			}
+			TextEditGroup group= category == 0 ? new TextEditGroup(name, groupEdits) : new CategorizedTextEditGroup(name, groupEdits, fCategories.get(category - 1));
+			change.addTextEditChangeGroup(new TextEditChangeGroup(change, group));
+		}
+		return change;
+	}
+
+	private int getStringIndex(String string) {
+		Integer index= fStringIndexes.get(string);
+		if (index == null) {
+			index= Integer.valueOf(fStrings.size());
+			fStrings.add(string);
+			fStringIndexes.put(string, index);
+		}
+		return index.intValue();
+	}
+
+	private int getCategoryIndex(GroupCategorySet categories) {
+		Integer index= fCategoryIndexes.get(categories);
+		if (index == null) {
+			index= Integer.valueOf(fCategories.size());
+			fCategories.add(categories);
+			fCategoryIndexes.put(categories, index);
+		}
+		return index.intValue();
+	}
+
+	/**
+	 * Writes a non-negative int in 7 bit groups, most offsets and indexes need one or two bytes.
+	 */
+	private static void writeInt(DataOutputStream out, int value) throws IOException {
+		int rest= value;
+		while ((rest & ~0x7F) != 0) {
+			out.writeByte((rest & 0x7F) | 0x80);
+			rest>>>= 7;
+		}
+		out.writeByte(rest);
+	}
+
+	private static int readInt(DataInputStream in) throws IOException {
+		int result= 0;
+		int shift= 0;
+		int b;
+		do {
+			b= in.readUnsignedByte();
+			result|= (b & 0x7F) << shift;
+			shift+= 7;
+		} while ((b & 0x80) != 0);
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
@@ -26,6 +33,18 @@ import org.eclipse.jdt.core.JavaModelException;
 
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * The hierarchies are partitioned by the project of their focus type, so that working in one
+ * project doesn't evict the hierarchies of another project. The number of cached hierarchies
+ * is bounded per project and in total, see {@link #setCacheSize(int, int)}; the least
+ * recently used hierarchy is evicted first. When the VM runs low on memory, the cache is
+ * shrunk to a quarter of its size.
+ * </p>
+ * <p>
+ * The default sizes can be changed with the system properties
+ * <code>org.eclipse.jdt.ui.superTypeHierarchyCache.size</code> and
+ * <code>org.eclipse.jdt.ui.superTypeHierarchyCache.sizePerProject</code>.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
@@ -33,10 +52,12 @@ public class SuperTypeHierarchyCache {
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
 		private ITypeHierarchy fTypeHierarchy;
+		private final IJavaProject fProject;
 		private long fLastAccess;
 
-		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
+		public HierarchyCacheEntry(ITypeHierarchy hierarchy, IJavaProject project) {
 			fTypeHierarchy= hierarchy;
+			fProject= project;
 			fTypeHierarchy.addTypeHierarchyChangedListener(this);
 			markAsAccessed();
 		}
@@ -50,8 +71,12 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
+		public IJavaProject getProject() {
+			return fProject;
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fLastAccess= ++fgAccessCounter;
 		}
 
 		public long getLastAccess() {
@@ -73,13 +98,34 @@ public class SuperTypeHierarchyCache {
 	}
 
 
-	private static final int CACHE_SIZE= 8;
+	private static final String SIZE_PROPERTY= "org.eclipse.jdt.ui.superTypeHierarchyCache.size"; //$NON-NLS-1$
+	private static final String SIZE_PER_PROJECT_PROPERTY= "org.eclipse.jdt.ui.superTypeHierarchyCache.sizePerProject"; //$NON-NLS-1$
+
+	private static final int DEFAULT_CACHE_SIZE= 32;
+	private static final int DEFAULT_CACHE_SIZE_PER_PROJECT= 8;
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	private static int fgCacheSize= Math.max(1, Integer.getInteger(SIZE_PROPERTY, DEFAULT_CACHE_SIZE).intValue());
+	private static int fgCacheSizePerProject= Math.max(1, Integer.getInteger(SIZE_PER_PROJECT_PROPERTY, DEFAULT_CACHE_SIZE_PER_PROJECT).intValue());
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	/**
+	 * The cached hierarchies by project of the focus type. Also the lock for all hierarchy
+	 * cache fields.
+	 */
+	private static final Map<IJavaProject, List<HierarchyCacheEntry>> fgHierarchyCache= new HashMap<>();
+	private static int fgEntryCount= 0;
+	private static long fgAccessCounter= 0;
+
+	/**
+	 * Cleared by the garbage collector when memory gets low.
+	 */
+	private static SoftReference<Object> fgMemoryPressureSentinel= new SoftReference<>(new Object());
+
+	private static final Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LinkedHashMap<>(16, 0.75f, true);
+
+	private static final AtomicInteger fgCacheHits= new AtomicInteger();
+	private static final AtomicInteger fgCacheMisses= new AtomicInteger();
+	private static final AtomicLong fgBuildTime= new AtomicLong();
+	private static final AtomicInteger fgEvictions= new AtomicInteger();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -108,12 +154,23 @@ public class SuperTypeHierarchyCache {
 				if (test == null) {
 					test= new MethodOverrideTester(type, hierarchy);
 					fgMethodOverrideTesterCache.put(type, test);
+					trimMethodOverrideTesters();
 				}
 			}
 		}
 		return test;
 	}
 
+	private static void trimMethodOverrideTesters() {
+		synchronized (fgMethodOverrideTesterCache) {
+			Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator();
+			for (int n= fgMethodOverrideTesterCache.size(); n > fgCacheSize; n--) {
+				iter.next();
+				iter.remove();
+			}
+		}
+	}
+
 	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
 		synchronized (fgMethodOverrideTesterCache) {
 			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
@@ -140,45 +197,93 @@ public class SuperTypeHierarchyCache {
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
 		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
 		if (hierarchy == null) {
-			fgCacheMisses++;
+			fgCacheMisses.incrementAndGet();
+			long start= System.nanoTime();
 			hierarchy= type.newSupertypeHierarchy(progressMonitor);
+			fgBuildTime.addAndGet(System.nanoTime() - start);
 			addTypeHierarchyToCache(hierarchy);
 		} else {
-			fgCacheHits++;
+			fgCacheHits.incrementAndGet();
 		}
 		return hierarchy;
 	}
 
 	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
 		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
+			checkMemoryPressure();
+			IJavaProject project= hierarchy.getType().getJavaProject();
+			List<HierarchyCacheEntry> partition= fgHierarchyCache.get(project);
+			if (fgEntryCount >= fgCacheSize || partition != null && partition.size() >= fgCacheSizePerProject) {
 				// find obsolete entries or remove entry that was least recently accessed
-				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
-				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
+				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>();
+				for (List<HierarchyCacheEntry> entries : fgHierarchyCache.values()) {
+					for (HierarchyCacheEntry entry : entries) {
+						ITypeHierarchy curr= entry.getTypeHierarchy();
+						if (!curr.exists() || hierarchy.contains(curr.getType())) {
+							obsoleteHierarchies.add(entry);
 						}
 					}
 				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
+				for (HierarchyCacheEntry obsoleteHierarchy : obsoleteHierarchies) {
+					removeHierarchyEntryFromCache(obsoleteHierarchy);
+				}
+				if (partition != null && partition.size() >= fgCacheSizePerProject) {
+					evict(findLeastRecentlyUsed(partition));
+				}
+				if (fgEntryCount >= fgCacheSize) {
+					evict(findLeastRecentlyUsed());
 				}
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
-			fgHierarchyCache.add(newEntry);
+			fgHierarchyCache.values().removeIf(List::isEmpty);
+			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy, project);
+			fgHierarchyCache.computeIfAbsent(project, p -> new ArrayList<>()).add(newEntry);
+			fgEntryCount++;
 		}
 	}
 
+	/**
+	 * Shrinks the cache to a quarter of its size if the garbage collector has cleared the soft
+	 * references because memory got low.
+	 */
+	private static void checkMemoryPressure() {
+		if (fgMemoryPressureSentinel.get() != null)
+			return;
+		int targetCount= fgEntryCount / 4;
+		while (fgEntryCount > targetCount && evict(findLeastRecentlyUsed())) {
+			// evict the next one
+		}
+		fgMemoryPressureSentinel= new SoftReference<>(new Object());
+	}
+
+	private static boolean evict(HierarchyCacheEntry entry) {
+		if (entry == null)
+			return false;
+		removeHierarchyEntryFromCache(entry);
+		fgEvictions.incrementAndGet();
+		return true;
+	}
+
+	private static HierarchyCacheEntry findLeastRecentlyUsed() {
+		HierarchyCacheEntry oldest= null;
+		for (List<HierarchyCacheEntry> entries : fgHierarchyCache.values()) {
+			HierarchyCacheEntry entry= findLeastRecentlyUsed(entries);
+			if (entry != null && (oldest == null || entry.getLastAccess() < oldest.getLastAccess())) {
+				oldest= entry;
+			}
+		}
+		return oldest;
+	}
+
+	private static HierarchyCacheEntry findLeastRecentlyUsed(List<HierarchyCacheEntry> entries) {
+		HierarchyCacheEntry oldest= null;
+		for (HierarchyCacheEntry entry : entries) {
+			if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
+				oldest= entry;
+			}
+		}
+		return oldest;
+	}
+
 
 	/**
 	 * Check if the given type is in the hierarchy cache.
@@ -192,16 +297,37 @@ public class SuperTypeHierarchyCache {
 
 	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
 		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
+			checkMemoryPressure();
+			// the hierarchy is most likely in the partition of the type's project, but it can
+			// also be the hierarchy of a subtype in a dependent project
+			IJavaProject project= type.getJavaProject();
+			List<HierarchyCacheEntry> partition= fgHierarchyCache.get(project);
+			if (partition != null) {
+				ITypeHierarchy hierarchy= findTypeHierarchy(partition, type);
+				if (hierarchy != null)
+					return hierarchy;
+			}
+			for (Map.Entry<IJavaProject, List<HierarchyCacheEntry>> entry : fgHierarchyCache.entrySet()) {
+				if (!entry.getKey().equals(project)) {
+					ITypeHierarchy hierarchy= findTypeHierarchy(entry.getValue(), type);
+					if (hierarchy != null)
 						return hierarchy;
-					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private static ITypeHierarchy findTypeHierarchy(List<HierarchyCacheEntry> entries, IType type) {
+		for (int i= entries.size() - 1; i>= 0; i--) {
+			HierarchyCacheEntry curr= entries.get(i);
+			ITypeHierarchy hierarchy= curr.getTypeHierarchy();
+			if (!hierarchy.exists()) {
+				removeHierarchyEntryFromCache(curr);
+			} else {
+				if (hierarchy.contains(type)) {
+					curr.markAsAccessed();
+					return hierarchy;
 				}
 			}
 		}
@@ -210,19 +336,54 @@ public class SuperTypeHierarchyCache {
 
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
 		synchronized (fgHierarchyCache) {
+			List<HierarchyCacheEntry> partition= fgHierarchyCache.get(entry.getProject());
+			if (partition == null || !partition.remove(entry))
+				return;
+			fgEntryCount--;
 			removeMethodOverrideTester(entry.getTypeHierarchy());
 			entry.dispose();
-			fgHierarchyCache.remove(entry);
+			// empty partitions are removed in addTypeHierarchyToCache, so that lookups can iterate the partitions
+		}
+	}
+
+	/**
+	 * Sets the maximal number of cached hierarchies, and evicts the least recently used
+	 * hierarchies if there are more.
+	 *
+	 * @param size the maximal number of hierarchies
+	 * @param sizePerProject the maximal number of hierarchies of types in the same project
+	 */
+	public static void setCacheSize(int size, int sizePerProject) {
+		synchronized (fgHierarchyCache) {
+			fgCacheSize= Math.max(1, size);
+			fgCacheSizePerProject= Math.max(1, sizePerProject);
+			while (fgEntryCount > fgCacheSize && evict(findLeastRecentlyUsed())) {
+				// evict the next one
+			}
+			for (List<HierarchyCacheEntry> partition : fgHierarchyCache.values()) {
+				while (partition.size() > fgCacheSizePerProject && evict(findLeastRecentlyUsed(partition))) {
+					// evict the next one
+				}
+			}
 		}
+		trimMethodOverrideTesters();
 	}
 
+	/**
+	 * @return the number of hierarchies in the cache
+	 */
+	public static int getCacheSize() {
+		synchronized (fgHierarchyCache) {
+			return fgEntryCount;
+		}
+	}
 
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
 	 * @return Returns a int
 	 */
 	public static int getCacheHits() {
-		return fgCacheHits;
+		return fgCacheHits.get();
 	}
 
 	/**
@@ -230,7 +391,34 @@ public class SuperTypeHierarchyCache {
 	 * @return Returns a int
 	 */
 	public static int getCacheMisses() {
-		return fgCacheMisses;
+		return fgCacheMisses.get();
+	}
+
+	/**
+	 * Gets the total time spent building the hierarchies that were not in the cache.
+	 * @return the time in milliseconds
+	 */
+	public static long getHierarchyBuildTime() {
+		return fgBuildTime.get() / 1_000_000;
+	}
+
+	/**
+	 * Gets the number of hierarchies that have been evicted because the cache was full or
+	 * memory got low.
+	 * @return the number of evicted hierarchies
+	 */
+	public static int getEvictions() {
+		return fgEvictions.get();
+	}
+
+	/**
+	 * Resets the hits, misses, build time and evictions.
+	 */
+	public static void resetStatistics() {
+		fgCacheHits.set(0);
+		fgCacheMisses.set(0);
+		fgBuildTime.set(0);
+		fgEvictions.set(0);
 	}
 
 	private SuperTypeHierarchyCache() {
@@ -0,0 +1,354 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.code;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ExpressionMethodReference;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.Javadoc;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.QualifiedType;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimplePropertyDescriptor;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+import org.eclipse.jdt.core.dom.SuperFieldAccess;
+import org.eclipse.jdt.core.dom.SuperMethodInvocation;
+import org.eclipse.jdt.core.dom.SuperMethodReference;
+import org.eclipse.jdt.core.dom.SwitchStatement;
+import org.eclipse.jdt.core.dom.TypeMethodReference;
+
+import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+/**
+ * Index of the statement sequences of the compilation units of Java projects, to find the
+ * compilation units that may contain duplicates of a code snippet without matching it against
+ * every AST of the project.
+ * <p>
+ * A statement is represented by a fingerprint, a hash of its syntax tree in which the names of
+ * variables are ignored, and a statement sequence by the fingerprints of its statements. Every
+ * pair of statements that {@link SnippetFinder} matches has the same fingerprint, but statements
+ * with the same fingerprint need not match, so the candidates must be verified with bindings.
+ * </p>
+ * <p>
+ * Compilation units are indexed from their source without bindings when a project is first
+ * searched. Changes to a compilation unit remove it from the index, and it is indexed again
+ * by the next search. An entry is only added to the index if no change has been reported while
+ * it was created, since it may have been created from the source before the change.
+ * </p>
+ */
+public final class DuplicateCodeIndex implements IElementChangedListener {
+
+	private static final DuplicateCodeIndex INSTANCE= new DuplicateCodeIndex();
+
+	private static class Entry {
+		final Set<Long> fStatements= new HashSet<>();
+		final List<long[]> fSequences= new ArrayList<>();
+	}
+
+	private final Map<ICompilationUnit, Entry> fEntries= new HashMap<>();
+
+	/** Incremented whenever entries are removed because of a change */
+	private long fModificationStamp;
+
+	private boolean fIsListening;
+
+	private DuplicateCodeIndex() {
+	}
+
+	public static DuplicateCodeIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the compilation units of the given project that may contain duplicates of the given
+	 * statements. Indexes the compilation units of the project that are not indexed yet.
+	 *
+	 * @param project the project
+	 * @param statements the consecutive statements of the snippet
+	 * @param monitor the progress monitor
+	 * @return the candidate compilation units
+	 * @throws JavaModelException if the compilation units of the project cannot be accessed
+	 */
+	public List<ICompilationUnit> findCandidates(IJavaProject project, Statement[] statements, IProgressMonitor monitor) throws JavaModelException {
+		long[] sequence= new long[statements.length];
+		for (int i= 0; i < statements.length; i++) {
+			sequence[i]= getFingerprint(statements[i]);
+		}
+
+		List<ICompilationUnit> units= getCompilationUnits(project);
+		List<ICompilationUnit> result= new ArrayList<>();
+		try {
+			monitor.beginTask("", units.size()); //$NON-NLS-1$
+			for (ICompilationUnit unit : units) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				if (containsSequence(getEntry(unit), sequence))
+					result.add(unit);
+				monitor.worked(1);
+			}
+		} finally {
+			monitor.done();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the entry of the given compilation unit, and indexes the unit if it is not indexed
+	 * yet. The listener is registered before the source is read, and the new entry is discarded
+	 * after this search if a change has been reported in the meantime.
+	 *
+	 * @param unit the compilation unit
+	 * @return the entry of the compilation unit
+	 * @throws JavaModelException if the source of the compilation unit cannot be accessed
+	 */
+	private Entry getEntry(ICompilationUnit unit) throws JavaModelException {
+		long stamp;
+		synchronized (this) {
+			Entry entry= fEntries.get(unit);
+			if (entry != null)
+				return entry;
+			if (!fIsListening) {
+				JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+				fIsListening= true;
+			}
+			stamp= fModificationStamp;
+		}
+
+		Entry entry= createEntry(unit);
+		synchronized (this) {
+			if (stamp == fModificationStamp)
+				fEntries.put(unit, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Removes all compilation units from the index.
+	 */
+	public synchronized void flush() {
+		fEntries.clear();
+		fModificationStamp++;
+		if (fIsListening) {
+			JavaCore.removeElementChangedListener(this);
+			fIsListening= false;
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<ICompilationUnit> changedUnits= new HashSet<>();
+		if (!collectChangedUnits(event.getDelta(), changedUnits)) {
+			flush();
+			return;
+		}
+		synchronized (this) {
+			for (ICompilationUnit unit : changedUnits) {
+				fEntries.remove(unit);
+			}
+			fModificationStamp++;
+		}
+	}
+
+	/**
+	 * Collects the compilation units that changed.
+	 *
+	 * @param delta the delta
+	 * @param result the changed compilation units
+	 * @return <code>false</code> if elements other than compilation units were added to or removed from the model
+	 */
+	private static boolean collectChangedUnits(IJavaElementDelta delta, Set<ICompilationUnit> result) {
+		IJavaElement element= delta.getElement();
+		if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+			result.add(((ICompilationUnit) element).getPrimary());
+			return true;
+		}
+		if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0)
+			return false;
+
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!collectChangedUnits(child, result))
+				return false;
+		}
+		return true;
+	}
+
+	private static List<ICompilationUnit> getCompilationUnits(IJavaProject project) throws JavaModelException {
+		List<ICompilationUnit> result= new ArrayList<>();
+		for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE)
+				continue;
+			for (IJavaElement child : root.getChildren()) {
+				for (ICompilationUnit unit : ((IPackageFragment) child).getCompilationUnits()) {
+					result.add(unit);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Entry createEntry(ICompilationUnit unit) throws JavaModelException {
+		Entry entry= new Entry();
+		String source= unit.getSource();
+		if (source == null)
+			return entry;
+
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource(source.toCharArray());
+		parser.setUnitName(unit.getElementName());
+		parser.setProject(unit.getJavaProject());
+		parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(unit));
+		CompilationUnit root= (CompilationUnit) parser.createAST(null);
+
+		Map<Statement, Long> fingerprints= new HashMap<>();
+		root.accept(new GenericVisitor() {
+			@Override
+			public boolean visit(Javadoc node) {
+				return false;
+			}
+
+			@Override
+			public void endVisit(Block node) {
+				addSequence(node.statements());
+				super.endVisit(node);
+			}
+
+			@Override
+			public void endVisit(SwitchStatement node) {
+				addSequence(node.statements());
+				super.endVisit(node);
+			}
+
+			@Override
+			protected void endVisitNode(ASTNode node) {
+				if (node instanceof Statement)
+					entry.fStatements.add(getFingerprint((Statement) node, fingerprints));
+			}
+
+			private void addSequence(List<?> statements) {
+				if (statements.size() < 2)
+					return;
+				long[] sequence= new long[statements.size()];
+				for (int i= 0; i < sequence.length; i++) {
+					sequence[i]= getFingerprint((Statement) statements.get(i), fingerprints).longValue();
+				}
+				entry.fSequences.add(sequence);
+			}
+		});
+		return entry;
+	}
+
+	private static Long getFingerprint(Statement statement, Map<Statement, Long> fingerprints) {
+		Long fingerprint= fingerprints.get(statement);
+		if (fingerprint == null) {
+			fingerprint= Long.valueOf(getFingerprint(statement));
+			fingerprints.put(statement, fingerprint);
+		}
+		return fingerprint;
+	}
+
+	private static boolean containsSequence(Entry entry, long[] sequence) {
+		if (sequence.length == 1)
+			return entry.fStatements.contains(Long.valueOf(sequence[0]));
+
+		for (long[] candidate : entry.fSequences) {
+			for (int start= 0; start + sequence.length <= candidate.length; start++) {
+				int i= 0;
+				while (i < sequence.length && candidate[start + i] == sequence[i]) {
+					i++;
+				}
+				if (i == sequence.length)
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the fingerprint of a statement: a hash of the types and the simple properties of
+	 * its nodes in the order of the source, except for the identifiers of names that can be
+	 * variables, since duplicates may use other local variables, and of doc comments, which
+	 * are ignored by the matcher.
+	 *
+	 * @param statement the statement
+	 * @return the fingerprint
+	 */
+	static long getFingerprint(Statement statement) {
+		long[] hash= { 1125899906842597L };
+		statement.accept(new GenericVisitor() {
+			@Override
+			public boolean visit(Javadoc node) {
+				return false;
+			}
+
+			@Override
+			protected boolean visitNode(ASTNode node) {
+				hash[0]= 31 * hash[0] + node.getNodeType();
+				for (Object property : node.structuralPropertiesForType()) {
+					if (property instanceof SimplePropertyDescriptor) {
+						if (property == SimpleName.IDENTIFIER_PROPERTY && isVariableName((SimpleName) node))
+							continue;
+						Object value= node.getStructuralProperty((SimplePropertyDescriptor) property);
+						hash[0]= 31 * hash[0] + (value != null ? value.hashCode() : 0);
+					}
+				}
+				return true;
+			}
+		});
+		return hash[0];
+	}
+
+	private static boolean isVariableName(SimpleName name) {
+		StructuralPropertyDescriptor location= name.getLocationInParent();
+		return location != MethodInvocation.NAME_PROPERTY
+				&& location != SuperMethodInvocation.NAME_PROPERTY
+				&& location != FieldAccess.NAME_PROPERTY
+				&& location != SuperFieldAccess.NAME_PROPERTY
+				&& location != QualifiedName.NAME_PROPERTY
+				&& location != SimpleType.NAME_PROPERTY
+				&& location != QualifiedType.NAME_PROPERTY
+				&& location != NameQualifiedType.NAME_PROPERTY
+				&& location != ExpressionMethodReference.NAME_PROPERTY
+				&& location != SuperMethodReference.NAME_PROPERTY
+				&& location != TypeMethodReference.NAME_PROPERTY;
+	}
+}
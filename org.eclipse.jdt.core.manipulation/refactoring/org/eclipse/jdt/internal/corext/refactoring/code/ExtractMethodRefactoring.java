@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,7 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.SourceRange;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -90,6 +92,7 @@ import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.ParenthesizedExpression;
 import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.ReturnStatement;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
@@ -147,6 +150,7 @@ import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil
 import org.eclipse.jdt.internal.corext.refactoring.ParameterInfo;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.code.SnippetFinder.Match;
+import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.SelectionAwareSourceRangeComputer;
@@ -183,6 +187,7 @@ public class ExtractMethodRefactoring extends Refactoring {
 	private boolean fGenerateJavadoc;
 	private boolean fReplaceDuplicates;
 	private List<SnippetFinder.Match> fDuplicates;
+	private boolean fFindProjectDuplicates;
 	private int fDestinationIndex= 0;
 	// either of type TypeDeclaration or AnonymousClassDeclaration
 	private ASTNode fDestination;
@@ -601,7 +606,7 @@ public class ExtractMethodRefactoring extends Refactoring {
 
 	@Override
 	public RefactoringStatus checkFinalConditions(IProgressMonitor pm) throws CoreException {
-		pm.beginTask(RefactoringCoreMessages.ExtractMethodRefactoring_checking_new_name, 2);
+		pm.beginTask(RefactoringCoreMessages.ExtractMethodRefactoring_checking_new_name, fFindProjectDuplicates ? 3 : 2);
 		pm.subTask(EMPTY);
 
 		RefactoringStatus result= checkMethodName();
@@ -617,10 +622,35 @@ public class ExtractMethodRefactoring extends Refactoring {
 			fAnalyzer.checkInput(result, fMethodName, fDestination);
 			pm.worked(1);
 		}
+		if (fFindProjectDuplicates && !result.hasFatalError())
+			result.merge(checkProjectDuplicates(Progress.subMonitor(pm, 1)));
 		pm.done();
 		return result;
 	}
 
+	/**
+	 * Reports the duplicates in the other compilation units of the project as information, since
+	 * they are not replaced.
+	 *
+	 * @param pm the progress monitor
+	 * @return the status with an entry for each duplicate
+	 * @throws CoreException if the compilation units of the project cannot be accessed
+	 */
+	private RefactoringStatus checkProjectDuplicates(IProgressMonitor pm) throws CoreException {
+		RefactoringStatus result= new RefactoringStatus();
+		for (Map.Entry<ICompilationUnit, List<Match>> entry : findProjectDuplicates(pm).entrySet()) {
+			ICompilationUnit unit= entry.getKey();
+			String message= Messages.format(RefactoringCoreMessages.ExtractMethodRefactoring_duplicate_in_other_unit, BasicElementLabels.getFileName(unit));
+			for (Match duplicate : entry.getValue()) {
+				ASTNode[] nodes= duplicate.getNodes();
+				int start= nodes[0].getStartPosition();
+				int end= ASTNodes.getExclusiveEnd(nodes[nodes.length - 1]);
+				result.addInfo(message, JavaStatusContext.create(unit, new SourceRange(start, end - start)));
+			}
+		}
+		return result;
+	}
+
 	@Override
 	public Change createChange(IProgressMonitor pm) throws CoreException {
 		if (fMethodName == null)
@@ -868,6 +898,82 @@ public class ExtractMethodRefactoring extends Refactoring {
 		return result;
 	}
 
+	/**
+	 * Returns the duplicates of the selected statements in the other compilation units of the
+	 * project. The compilation units that may contain duplicates are looked up in the
+	 * {@link DuplicateCodeIndex} and are then searched with the {@link SnippetFinder}.
+	 * <p>
+	 * The duplicates are not replaced by this refactoring.
+	 * </p>
+	 *
+	 * @param pm the progress monitor
+	 * @return the duplicates by compilation unit, empty if an expression is selected
+	 * @throws CoreException if the compilation units of the project cannot be accessed
+	 */
+	public Map<ICompilationUnit, List<Match>> findProjectDuplicates(IProgressMonitor pm) throws CoreException {
+		Map<ICompilationUnit, List<Match>> result= new LinkedHashMap<>();
+		ASTNode[] selectedNodes= fAnalyzer.getSelectedNodes();
+		if (selectedNodes == null || selectedNodes.length == 0 || fAnalyzer.isExpressionSelected())
+			return result;
+		Statement[] statements= new Statement[selectedNodes.length];
+		for (int i= 0; i < selectedNodes.length; i++) {
+			if (!(selectedNodes[i] instanceof Statement))
+				return result;
+			statements[i]= (Statement) selectedNodes[i];
+		}
+
+		try {
+			pm.beginTask("", 10); //$NON-NLS-1$
+			List<ICompilationUnit> candidates= DuplicateCodeIndex.getInstance().findCandidates(fCUnit.getJavaProject(), statements, Progress.subMonitor(pm, 2));
+			candidates.remove(fCUnit.getPrimary());
+			IProgressMonitor subMonitor= Progress.subMonitor(pm, 8);
+			subMonitor.beginTask("", candidates.size()); //$NON-NLS-1$
+			for (ICompilationUnit unit : candidates) {
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+				CompilationUnit root= RefactoringASTParser.parseWithASTProvider(unit, true, Progress.subMonitor(subMonitor, 1));
+				List<Match> duplicates= new ArrayList<>();
+				Set<ASTNode> matchedNodes= new HashSet<>();
+				root.accept(new ASTVisitor() {
+					@Override
+					public boolean visit(TypeDeclaration node) {
+						return addDuplicates(node);
+					}
+
+					@Override
+					public boolean visit(EnumDeclaration node) {
+						return addDuplicates(node);
+					}
+
+					@Override
+					public boolean visit(AnnotationTypeDeclaration node) {
+						return addDuplicates(node);
+					}
+
+					@Override
+					public boolean visit(RecordDeclaration node) {
+						return addDuplicates(node);
+					}
+
+					private boolean addDuplicates(AbstractTypeDeclaration node) {
+						for (Match duplicate : SnippetFinder.perform(node, statements)) {
+							// nested types may be searched by the finders of several enclosing types
+							if (!duplicate.isInvalidNode() && matchedNodes.add(duplicate.getNodes()[0]))
+								duplicates.add(duplicate);
+						}
+						return true;
+					}
+				});
+				if (!duplicates.isEmpty())
+					result.put(unit, duplicates);
+			}
+			subMonitor.done();
+		} finally {
+			pm.done();
+		}
+		return result;
+	}
+
 	public boolean getReplaceDuplicates() {
 		return fReplaceDuplicates;
 	}
@@ -876,6 +982,21 @@ public class ExtractMethodRefactoring extends Refactoring {
 		fReplaceDuplicates= replace;
 	}
 
+	public boolean getFindProjectDuplicates() {
+		return fFindProjectDuplicates;
+	}
+
+	/**
+	 * Sets whether {@link #checkFinalConditions(IProgressMonitor)} reports the duplicates of the
+	 * selected statements in the other compilation units of the project.
+	 *
+	 * @param find <code>true</code> to report the duplicates in the project
+	 * @see #findProjectDuplicates(IProgressMonitor)
+	 */
+	public void setFindProjectDuplicates(boolean find) {
+		fFindProjectDuplicates= find;
+	}
+
 	public void setGenerateJavadoc(boolean generate) {
 		fGenerateJavadoc= generate;
 	}
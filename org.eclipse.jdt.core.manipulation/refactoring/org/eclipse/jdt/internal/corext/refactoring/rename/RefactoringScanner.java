@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,7 +71,16 @@ public class RefactoringScanner {
 	}
 
 	public void scan(ICompilationUnit cu)	throws JavaModelException {
-		char[] chars= cu.getBuffer().getCharacters();
+		scan(cu, cu.getBuffer().getCharacters());
+	}
+
+	/**
+	 * Scans the given source of a compilation unit.
+	 *
+	 * @param cu the compilation unit, determines the source level
+	 * @param chars the source of the compilation unit
+	 */
+	public void scan(ICompilationUnit cu, char[] chars) {
 		fMatches= new HashSet<>();
 		IJavaProject javaProject= cu.getJavaProject();
         if (javaProject != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -109,6 +109,7 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	private boolean fUpdateReferences;
 	private IMethod fMethod;
 	private Set<IMethod> fMethodsToRename;
+	private List<SearchMatch> fBinaryRippleMatches;
 	private TextChangeManager fChangeManager;
 	private WorkingCopyOwner fWorkingCopyOwner;
 	private boolean fIsComposite;
@@ -263,6 +264,11 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 					fMethodsToRename.add(method);
 				}
 			}
+		} else if (fBinaryRippleMatches != null) {
+			for (SearchMatch match : fBinaryRippleMatches) {
+				binaryRefs.add(match);
+			}
+			fBinaryRippleMatches= null;
 		}
 	}
 
@@ -270,6 +276,23 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 		fMethodsToRename= new HashSet<>(Arrays.asList(methods));
 	}
 
+	/**
+	 * Sets the ripple methods found for the method to rename.
+	 *
+	 * @param rippleMethods the ripple methods
+	 * @param binaryMatches the declarations of the binary ripple methods, which are reported as
+	 *            references in binaries when the final conditions are checked
+	 */
+	protected void setRippleMethods(IMethod[] rippleMethods, List<SearchMatch> binaryMatches) {
+		fMethodsToRename= new HashSet<>();
+		for (IMethod method : rippleMethods) {
+			if (!method.isLambdaMethod()) {
+				fMethodsToRename.add(method);
+			}
+		}
+		fBinaryRippleMatches= new ArrayList<>(binaryMatches);
+	}
+
 	protected Set<IMethod> getMethodsToRename() {
 		return fMethodsToRename;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -422,7 +422,7 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 			if (result.hasFatalError())
 				return result;
 
-			fChangeManager= new TextChangeManager();
+			fChangeManager= new TextChangeManager(false, true);
 			fImportsManager= new ImportsManager();
 
 			IProgressMonitor subPm= Progress.subMonitor(pm, 16);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -481,7 +481,8 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 			pm.beginTask("", 12 + referenceSearchTicks + affectedCusTicks + similarElementTicks + createChangeTicks + qualifiedNamesTicks); //$NON-NLS-1$
 			pm.setTaskName(RefactoringCoreMessages.RenameTypeRefactoring_checking);
 
-			fChangeManager= new TextChangeManager(true);
+			// the processors of similar elements rely on the preview edits of all changes
+			fChangeManager= new TextChangeManager(true, !fUpdateSimilarElements);
 
 			result.merge(checkNewElementName(getNewElementName()));
 			if (result.hasFatalError())
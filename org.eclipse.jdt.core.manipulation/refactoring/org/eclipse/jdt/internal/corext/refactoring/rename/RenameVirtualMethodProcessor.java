@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -38,6 +40,7 @@ import org.eclipse.jdt.internal.corext.refactoring.Checks;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringArguments;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTesterCore;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.base.ReferencesInBinaryContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
@@ -102,6 +105,33 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 		return fOriginalMethod;
 	}
 
+	/**
+	 * Finds the ripple methods of many rename method processors in one pass, for scripted
+	 * refactorings that rename many methods. The processors share the type hierarchies that are
+	 * needed to find the ripple methods, instead of computing them again when their final
+	 * conditions are checked.
+	 * <p>
+	 * Must be called after the initial conditions of the processors have been checked, since
+	 * that may change the method to rename to its topmost declaration.
+	 * </p>
+	 *
+	 * @param processors the processors
+	 * @param pm the progress monitor
+	 * @throws CoreException if the search or creating a type hierarchy fails
+	 */
+	public static void initializeRippleMethods(RenameVirtualMethodProcessor[] processors, IProgressMonitor pm) throws CoreException {
+		IMethod[] methods= new IMethod[processors.length];
+		Map<IMethod, ReferencesInBinaryContext> binaryRefs= new HashMap<>();
+		for (int i= 0; i < processors.length; i++) {
+			methods[i]= processors[i].getMethod();
+			binaryRefs.put(methods[i], new ReferencesInBinaryContext(methods[i].getElementName()));
+		}
+		Map<IMethod, IMethod[]> rippleMethods= RippleMethodFinder2.getRelatedMethods(methods, binaryRefs, pm, null);
+		for (int i= 0; i < processors.length; i++) {
+			processors[i].setRippleMethods(rippleMethods.get(methods[i]), binaryRefs.get(methods[i]).getMatches());
+		}
+	}
+
 	@Override
 	public boolean isApplicable() throws CoreException {
 		return RefactoringAvailabilityTesterCore.isRenameVirtualMethodAvailable(getMethod());
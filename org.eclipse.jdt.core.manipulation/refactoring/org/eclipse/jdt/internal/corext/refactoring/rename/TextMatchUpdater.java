@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,33 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -44,6 +60,7 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchMatch;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
 import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
@@ -53,6 +70,16 @@ import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
 
+/**
+ * Updates the textual occurrences of a renamed element in comments and strings.
+ * <p>
+ * The compilation units in the scope are collected first. Their sources are then scanned on a
+ * shared pool of worker threads, each unit with its own {@link RefactoringScanner}. Saved units are
+ * read from their files, and units that don't contain the name are skipped without tokenizing
+ * them. The matches are added to the text changes on the calling thread, in the order of the
+ * units.
+ * </p>
+ */
 public class TextMatchUpdater {
 
 	private static final String TEXT_EDIT_LABEL= RefactoringCoreMessages.TextMatchUpdater_update;
@@ -67,7 +94,19 @@ public class TextMatchUpdater {
 	private final SearchResultGroup[] fReferences;
 	private final boolean fOnlyQualified;
 
-	private final RefactoringScanner fScanner;
+	/**
+	 * Minimal number of compilation units per worker thread, scanning fewer units in parallel does
+	 * not outweigh the cost of handing them to the workers.
+	 */
+	private static final int MIN_UNITS_PER_WORKER= 50;
+
+	/**
+	 * The worker threads shared by all updates, created on demand. Idle threads terminate.
+	 */
+	private static ThreadPoolExecutor fgExecutor;
+
+	private final String fCurrentName;
+	private final String fCurrentQualifier;
 	private final String fNewName;
 	private final int fCurrentNameLength;
 
@@ -80,9 +119,10 @@ public class TextMatchUpdater {
 		fReferences= references;
 		fOnlyQualified= onlyQualified;
 
+		fCurrentName= currentName;
+		fCurrentQualifier= currentQualifier;
 		fNewName= newName;
 		fCurrentNameLength= currentName.length();
-		fScanner= new RefactoringScanner(currentName, currentQualifier);
 	}
 
 	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
@@ -97,12 +137,14 @@ public class TextMatchUpdater {
 		try{
 			IProject[] projectsInScope= getProjectsInScope();
 
-			pm.beginTask("", projectsInScope.length); //$NON-NLS-1$
+			pm.beginTask("", 2 * projectsInScope.length); //$NON-NLS-1$
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (IProject project : projectsInScope) {
 				if (pm.isCanceled())
 					throw new OperationCanceledException();
-				addTextMatches(project, Progress.subMonitor(pm, 1));
+				collectCompilationUnits(project, cus, Progress.subMonitor(pm, 1));
 			}
+			addTextMatches(cus, Progress.subMonitor(pm, projectsInScope.length));
 		} finally{
 			pm.done();
 		}
@@ -121,7 +163,7 @@ public class TextMatchUpdater {
 		return projectsInScope.toArray(new IProject[projectsInScope.size()]);
 	}
 
-	private void addTextMatches(IResource resource, IProgressMonitor pm) throws JavaModelException{
+	private void collectCompilationUnits(IResource resource, List<ICompilationUnit> result, IProgressMonitor pm) throws JavaModelException{
 		try{
 			String task= RefactoringCoreMessages.TextMatchUpdater_searching + resource.getFullPath();
 			if (resource instanceof IFile){
@@ -133,7 +175,7 @@ public class TextMatchUpdater {
 					return;
 				if (! fScope.encloses(element))
 					return;
-				addCuTextMatches((ICompilationUnit) element);
+				result.add((ICompilationUnit) element);
 
 			} else if (resource instanceof IContainer){
 				IResource[] members= ((IContainer) resource).members();
@@ -142,7 +184,7 @@ public class TextMatchUpdater {
 				for (IResource member : members) {
 					if (pm.isCanceled())
 						throw new OperationCanceledException();
-					addTextMatches(member, Progress.subMonitor(pm, 1));
+					collectCompilationUnits(member, result, Progress.subMonitor(pm, 1));
 				}
 			}
 		} catch (JavaModelException e){
@@ -154,11 +196,176 @@ public class TextMatchUpdater {
 		}
 	}
 
-	private void addCuTextMatches(ICompilationUnit cu) throws JavaModelException{
-		fScanner.scan(cu);
-		Set<TextMatch> matches= fScanner.getMatches(); //Set of TextMatch
-		if (matches.isEmpty())
+	private void addTextMatches(List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException {
+		pm.beginTask("", cus.size()); //$NON-NLS-1$
+		try {
+			List<Callable<Set<TextMatch>>> scans= new ArrayList<>(cus.size());
+			for (ICompilationUnit cu : cus) {
+				scans.add(createScan(cu));
+			}
+
+			int workerCount= Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), cus.size() / MIN_UNITS_PER_WORKER));
+			if (workerCount == 1) {
+				for (int i= 0; i < cus.size(); i++) {
+					if (pm.isCanceled())
+						throw new OperationCanceledException();
+					try {
+						addCuTextMatches(cus.get(i), scans.get(i).call());
+					} catch (JavaModelException | RuntimeException e) {
+						throw e;
+					} catch (Exception e) {
+						throw toJavaModelException(e);
+					}
+					pm.worked(1);
+				}
+				return;
+			}
+
+			ThreadPoolExecutor executor= getExecutor();
+			List<Future<Set<TextMatch>>> futures= new ArrayList<>(scans.size());
+			try {
+				for (Callable<Set<TextMatch>> scan : scans) {
+					futures.add(executor.submit(scan));
+				}
+				for (int i= 0; i < cus.size(); i++) {
+					addCuTextMatches(cus.get(i), waitFor(futures.get(i), pm));
+					pm.worked(1);
+				}
+			} finally {
+				// removes the remaining scans if scanning failed or has been canceled
+				for (Future<Set<TextMatch>> future : futures) {
+					future.cancel(false);
+				}
+				executor.purge();
+			}
+		} finally {
+			pm.done();
+		}
+	}
+
+	/**
+	 * Creates the scan of the given compilation unit. The scan can run on any thread.
+	 *
+	 * @param cu the compilation unit
+	 * @return the scan, returns the text matches in the compilation unit
+	 * @throws JavaModelException if the source of the unit cannot be accessed
+	 */
+	private Callable<Set<TextMatch>> createScan(ICompilationUnit cu) throws JavaModelException {
+		IResource resource= cu.getResource();
+		if (cu.hasUnsavedChanges() || !(resource instanceof IFile)) {
+			// the buffer is not thread safe, read it now
+			char[] chars= cu.getBuffer().getCharacters();
+			return () -> scan(cu, chars);
+		}
+		IFile file= (IFile) resource;
+		return () -> {
+			char[] chars= readSource(file);
+			return chars != null ? scan(cu, chars) : Collections.<TextMatch>emptySet();
+		};
+	}
+
+	private Set<TextMatch> scan(ICompilationUnit cu, char[] chars) {
+		if (chars == null || new String(chars).indexOf(fCurrentName) == -1)
+			return Collections.emptySet();
+		RefactoringScanner scanner= new RefactoringScanner(fCurrentName, fCurrentQualifier);
+		scanner.scan(cu, chars);
+		return scanner.getMatches();
+	}
+
+	/**
+	 * Reads the source of the given file, like the buffer of its compilation unit.
+	 *
+	 * @param file the file
+	 * @return the source, or <code>null</code> if the file doesn't contain the current name
+	 * @throws CoreException if the file cannot be read
+	 * @throws IOException if the file cannot be read
+	 */
+	private char[] readSource(IFile file) throws CoreException, IOException {
+		byte[] bytes;
+		try (InputStream in= file.getContents(true)) {
+			bytes= in.readAllBytes();
+		}
+		Charset charset= Charset.forName(file.getCharset());
+		byte[] name= fCurrentName.getBytes(charset);
+		// the encoded name can only be searched in the bytes if every character is always encoded the same way
+		boolean canSearchBytes= StandardCharsets.UTF_8.equals(charset) || Arrays.equals(name, fCurrentName.getBytes(StandardCharsets.US_ASCII));
+		if (canSearchBytes && indexOf(bytes, name) == -1)
+			return null;
+
+		int start= 0;
+		if (StandardCharsets.UTF_8.equals(charset) && bytes.length >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF) {
+			// the buffer doesn't contain the byte order mark
+			start= 3;
+		}
+		return new String(bytes, start, bytes.length - start, charset).toCharArray();
+	}
+
+	private static int indexOf(byte[] bytes, byte[] pattern) {
+		if (pattern.length == 0)
+			return 0;
+		byte first= pattern[0];
+		int last= bytes.length - pattern.length;
+		outer: for (int i= 0; i <= last; i++) {
+			if (bytes[i] != first)
+				continue;
+			for (int j= 1; j < pattern.length; j++) {
+				if (bytes[i + j] != pattern[j])
+					continue outer;
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	private static Set<TextMatch> waitFor(Future<Set<TextMatch>> future, IProgressMonitor monitor) throws JavaModelException {
+		while (true) {
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancelation and wait again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				if (cause instanceof Error)
+					throw (Error) cause;
+				throw toJavaModelException(cause);
+			}
+		}
+	}
+
+	private static JavaModelException toJavaModelException(Throwable e) {
+		if (e instanceof JavaModelException)
+			return (JavaModelException) e;
+		if (e instanceof CoreException)
+			return new JavaModelException((CoreException) e);
+		return new JavaModelException(new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), e.getMessage(), e)));
+	}
+
+	private static synchronized ThreadPoolExecutor getExecutor() {
+		if (fgExecutor == null) {
+			int workerCount= Runtime.getRuntime().availableProcessors();
+			AtomicInteger threadCount= new AtomicInteger();
+			fgExecutor= new ThreadPoolExecutor(workerCount, workerCount, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, "Text Match Scanner " + threadCount.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			fgExecutor.allowCoreThreadTimeOut(true);
+		}
+		return fgExecutor;
+	}
+
+	private void addCuTextMatches(ICompilationUnit cu, Set<TextMatch> scannedMatches) {
+		if (scannedMatches.isEmpty())
 			return;
+		Set<TextMatch> matches= new HashSet<>(scannedMatches);
 
 		removeReferences(cu, matches);
 		if (!matches.isEmpty())
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -97,7 +97,7 @@ public class MoveCuUpdateCreator {
 	public TextChangeManager createChangeManager(IProgressMonitor pm, RefactoringStatus status) throws JavaModelException{
 		pm.beginTask("", 5); //$NON-NLS-1$
 		try{
-			TextChangeManager changeManager= new TextChangeManager();
+			TextChangeManager changeManager= new TextChangeManager(false, true);
 			addUpdates(changeManager, Progress.subMonitor(pm, 4), status);
 			addImportRewriteUpdates(changeManager);
 			return changeManager;
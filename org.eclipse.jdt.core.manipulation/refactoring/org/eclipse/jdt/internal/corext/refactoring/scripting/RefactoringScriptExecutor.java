@@ -0,0 +1,556 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.scripting;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.NullChange;
+import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringContext;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptorProxy;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.core.refactoring.history.RefactoringHistory;
+import org.eclipse.ltk.core.refactoring.participants.ProcessorBasedRefactoring;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.changes.MultiStateCompilationUnitChange;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameVirtualMethodProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTCache;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.ui.util.Progress;
+
+/**
+ * Executes the refactorings of a refactoring script without user interface, for example to
+ * replay a refactoring history generated by a migration tool.
+ * <p>
+ * The steps share the ASTs that the refactorings parse through a {@link RefactoringASTCache}, which
+ * is invalidated with the compilation units that each step changes. The execution stops at the
+ * first step whose conditions have the fail severity, whose changes could not be performed, or
+ * that failed with an exception. If a checkpoint file is set, the number of performed steps is
+ * written to it after each step, and a later execution of the same script continues after the
+ * last performed step.
+ * </p>
+ * <p>
+ * The ripple methods of consecutive steps that rename virtual methods are found in one pass, see
+ * {@link RenameVirtualMethodProcessor#initializeRippleMethods(RenameVirtualMethodProcessor[], IProgressMonitor)}.
+ * </p>
+ */
+public final class RefactoringScriptExecutor {
+
+	/**
+	 * The result of one step of a refactoring script.
+	 */
+	public static final class StepResult {
+
+		private final int fIndex;
+		private final String fDescription;
+		private final RefactoringStatus fStatus;
+		private final boolean fPerformed;
+		private final long fCheckConditionsTime;
+		private final long fCreateChangeTime;
+		private final long fPerformChangeTime;
+		private final int fASTCacheHits;
+
+		StepResult(int index, String description, RefactoringStatus status, boolean performed, long checkConditionsTime, long createChangeTime, long performChangeTime, int astCacheHits) {
+			fIndex= index;
+			fDescription= description;
+			fStatus= status;
+			fPerformed= performed;
+			fCheckConditionsTime= checkConditionsTime;
+			fCreateChangeTime= createChangeTime;
+			fPerformChangeTime= performChangeTime;
+			fASTCacheHits= astCacheHits;
+		}
+
+		/**
+		 * @return the index of the step in the script
+		 */
+		public int getIndex() {
+			return fIndex;
+		}
+
+		public String getDescription() {
+			return fDescription;
+		}
+
+		/**
+		 * @return the status of creating the refactoring, checking its conditions and performing its changes
+		 */
+		public RefactoringStatus getStatus() {
+			return fStatus;
+		}
+
+		/**
+		 * @return <code>true</code> if the changes of the step have been performed
+		 */
+		public boolean isPerformed() {
+			return fPerformed;
+		}
+
+		/**
+		 * @return the time to create the refactoring and check its conditions, in nanoseconds
+		 */
+		public long getCheckConditionsTime() {
+			return fCheckConditionsTime;
+		}
+
+		/**
+		 * @return the time to create the change, in nanoseconds
+		 */
+		public long getCreateChangeTime() {
+			return fCreateChangeTime;
+		}
+
+		/**
+		 * @return the time to perform the change, in nanoseconds
+		 */
+		public long getPerformChangeTime() {
+			return fPerformChangeTime;
+		}
+
+		/**
+		 * @return the number of ASTs that the step got from the cache instead of parsing them
+		 */
+		public int getASTCacheHits() {
+			return fASTCacheHits;
+		}
+
+		@Override
+		public String toString() {
+			return (fIndex + 1) + ": " + fDescription //$NON-NLS-1$
+					+ " (check " + fCheckConditionsTime / 1_000_000 //$NON-NLS-1$
+					+ " ms, create " + fCreateChangeTime / 1_000_000 //$NON-NLS-1$
+					+ " ms, perform " + fPerformChangeTime / 1_000_000 //$NON-NLS-1$
+					+ " ms, " + fASTCacheHits + " cached ASTs)" //$NON-NLS-1$ //$NON-NLS-2$
+					+ (fPerformed ? "" : " not performed"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * A step whose descriptor has been requested ahead of its execution, and whose refactoring
+	 * may have been created and checked for its initial conditions.
+	 */
+	private static final class PreparedStep {
+
+		final RefactoringDescriptor fDescriptor;
+		final RefactoringStatus fStatus= new RefactoringStatus();
+		RefactoringContext fContext;
+		boolean fInitialConditionsChecked;
+
+		PreparedStep(RefactoringDescriptor descriptor) {
+			fDescriptor= descriptor;
+		}
+
+		Refactoring getRefactoring() {
+			return fContext != null ? fContext.getRefactoring() : null;
+		}
+
+		void dispose() {
+			if (fContext != null) {
+				fContext.dispose();
+				fContext= null;
+			}
+		}
+	}
+
+	private static final String CHECKPOINT_STEP= "step"; //$NON-NLS-1$
+	private static final String CHECKPOINT_DESCRIPTION= "description"; //$NON-NLS-1$
+	private static final String CHECKPOINT_TIME_STAMP= "timeStamp"; //$NON-NLS-1$
+
+	private final RefactoringDescriptorProxy[] fProxies;
+	private final RefactoringDescriptor[] fDescriptors;
+
+	private final Map<Integer, PreparedStep> fPreparedSteps= new HashMap<>();
+
+	private File fCheckpointFile;
+	private int fFailSeverity= RefactoringStatus.FATAL;
+
+	/**
+	 * Creates an executor for the refactorings of a refactoring history, in the order of the history.
+	 *
+	 * @param history the refactoring history
+	 */
+	public RefactoringScriptExecutor(RefactoringHistory history) {
+		fProxies= history.getDescriptors();
+		fDescriptors= null;
+	}
+
+	/**
+	 * Creates an executor for the given refactorings.
+	 *
+	 * @param descriptors the refactoring descriptors, in the order of execution
+	 */
+	public RefactoringScriptExecutor(RefactoringDescriptor[] descriptors) {
+		fProxies= null;
+		fDescriptors= descriptors;
+	}
+
+	/**
+	 * Sets the file to checkpoint the progress of the execution to.
+	 *
+	 * @param file the checkpoint file, or <code>null</code> to not checkpoint the progress
+	 */
+	public void setCheckpointFile(File file) {
+		fCheckpointFile= file;
+	}
+
+	/**
+	 * Sets the severity of the condition checking status at which a step is not performed and the
+	 * execution stops. The default is {@link RefactoringStatus#FATAL}.
+	 *
+	 * @param severity the severity
+	 */
+	public void setFailSeverity(int severity) {
+		fFailSeverity= severity;
+	}
+
+	/**
+	 * Executes the steps of the script, starting after the last step recorded in the checkpoint file.
+	 *
+	 * @param monitor the progress monitor
+	 * @return the results of the executed steps, the last one is not performed if the execution
+	 *         stopped at a failing step, including a step that threw an exception or was canceled
+	 * @throws CoreException if the checkpoint file does not belong to the script or cannot be
+	 *             accessed
+	 */
+	public StepResult[] execute(IProgressMonitor monitor) throws CoreException {
+		int count= fProxies != null ? fProxies.length : fDescriptors.length;
+		int start= readCheckpoint();
+		List<StepResult> results= new ArrayList<>();
+		RefactoringASTCache cache= new RefactoringASTCache();
+		cache.install();
+		try {
+			monitor.beginTask("", count - start); //$NON-NLS-1$
+			for (int i= start; i < count; i++) {
+				if (monitor.isCanceled())
+					break;
+				monitor.setTaskName(Messages.format(RefactoringCoreMessages.RefactoringScriptExecutor_executing, new Object[] { Integer.valueOf(i + 1), Integer.valueOf(count) }));
+				StepResult result;
+				try {
+					result= executeStep(i, cache, Progress.subMonitor(monitor, 1));
+				} catch (CoreException | RuntimeException e) {
+					// the step may have changed anything before it failed
+					cache.clear();
+					result= new StepResult(i, getDescription(i), createStatus(i, e), false, 0, 0, 0, 0);
+				}
+				results.add(result);
+				if (!result.isPerformed())
+					break;
+				writeCheckpoint(i + 1);
+			}
+		} finally {
+			for (PreparedStep step : fPreparedSteps.values()) {
+				step.dispose();
+			}
+			fPreparedSteps.clear();
+			cache.uninstall();
+			monitor.done();
+		}
+		return results.toArray(new StepResult[results.size()]);
+	}
+
+	private RefactoringStatus createStatus(int index, Exception exception) {
+		if (exception instanceof OperationCanceledException)
+			return RefactoringStatus.createFatalErrorStatus(Messages.format(RefactoringCoreMessages.RefactoringScriptExecutor_step_canceled, getDescription(index)));
+
+		JavaManipulationPlugin.log(exception);
+		String message= exception instanceof CoreException ? ((CoreException) exception).getStatus().getMessage() : exception.getLocalizedMessage();
+		if (message == null)
+			message= exception.getClass().getName();
+		return RefactoringStatus.createFatalErrorStatus(Messages.format(RefactoringCoreMessages.RefactoringScriptExecutor_step_failed, new Object[] { getDescription(index), message }));
+	}
+
+	private StepResult executeStep(int index, RefactoringASTCache cache, IProgressMonitor monitor) throws CoreException {
+		PreparedStep step= null;
+		try {
+			monitor.beginTask("", 11); //$NON-NLS-1$
+			int hits= cache.getHits();
+			long start= System.nanoTime();
+			step= fPreparedSteps.remove(Integer.valueOf(index));
+			if (step == null)
+				step= prepareStep(index, Progress.subMonitor(monitor, 1));
+			else
+				monitor.worked(1);
+			RefactoringStatus status= step.fStatus;
+			if (step.fDescriptor == null) {
+				status.addFatalError(Messages.format(RefactoringCoreMessages.RefactoringScriptExecutor_descriptor_unavailable, getDescription(index)));
+				return new StepResult(index, getDescription(index), status, false, System.nanoTime() - start, 0, 0, 0);
+			}
+
+			RefactoringDescriptor descriptor= step.fDescriptor;
+			if (step.fContext == null)
+				step.fContext= descriptor.createRefactoringContext(status);
+			if (!step.fInitialConditionsChecked && getRenameVirtualMethodProcessor(step) != null)
+				prepareRenameVirtualMethods(index, step, Progress.subMonitor(monitor, 1));
+			else
+				monitor.worked(1);
+			Refactoring refactoring= step.getRefactoring();
+			if (refactoring != null && status.getSeverity() < fFailSeverity) {
+				if (!step.fInitialConditionsChecked)
+					status.merge(refactoring.checkInitialConditions(Progress.subMonitor(monitor, 1)));
+				else
+					monitor.worked(1);
+				if (!status.hasFatalError()) {
+					if (monitor.isCanceled())
+						throw new OperationCanceledException();
+					status.merge(refactoring.checkFinalConditions(Progress.subMonitor(monitor, 3)));
+				}
+			}
+			long checkConditionsTime= System.nanoTime() - start;
+			if (refactoring == null || status.getSeverity() >= fFailSeverity)
+				return new StepResult(index, descriptor.getDescription(), status, false, checkConditionsTime, 0, 0, cache.getHits() - hits);
+
+			start= System.nanoTime();
+			Change change= refactoring.createChange(Progress.subMonitor(monitor, 2));
+			change.initializeValidationData(Progress.subMonitor(monitor, 1));
+			long createChangeTime= System.nanoTime() - start;
+
+			start= System.nanoTime();
+			Set<ICompilationUnit> units= new HashSet<>();
+			boolean textual= collectCompilationUnits(change, units);
+			Map<ICompilationUnit, Long> outlines= new HashMap<>();
+			if (textual) {
+				for (ICompilationUnit unit : units) {
+					outlines.put(unit, Long.valueOf(cache.getOutlineHash(unit)));
+				}
+			}
+			PerformChangeOperation operation= new PerformChangeOperation(change);
+			operation.setUndoManager(RefactoringCore.getUndoManager(), refactoring.getName());
+			ResourcesPlugin.getWorkspace().run(operation, Progress.subMonitor(monitor, 2));
+			if (operation.getValidationStatus() != null)
+				status.merge(operation.getValidationStatus());
+
+			if (textual && !operation.changeExecutionFailed()) {
+				boolean outlineChanged= false;
+				for (ICompilationUnit unit : units) {
+					if (outlines.get(unit).longValue() != cache.getOutlineHash(unit)) {
+						outlineChanged= true;
+						break;
+					}
+				}
+				cache.changed(units, outlineChanged);
+			} else {
+				cache.clear();
+			}
+			long performChangeTime= System.nanoTime() - start;
+
+			boolean performed= operation.changeExecuted();
+			if (!performed)
+				status.addFatalError(Messages.format(RefactoringCoreMessages.RefactoringScriptExecutor_change_not_executed, descriptor.getDescription()));
+			return new StepResult(index, descriptor.getDescription(), status, performed, checkConditionsTime, createChangeTime, performChangeTime, cache.getHits() - hits);
+		} finally {
+			if (step != null)
+				step.dispose();
+			monitor.done();
+		}
+	}
+
+	private PreparedStep prepareStep(int index, IProgressMonitor monitor) throws CoreException {
+		if (fProxies != null)
+			return new PreparedStep(fProxies[index].requestDescriptor(monitor));
+		monitor.done();
+		return new PreparedStep(fDescriptors[index]);
+	}
+
+	private static RenameVirtualMethodProcessor getRenameVirtualMethodProcessor(PreparedStep step) {
+		if (!IJavaRefactorings.RENAME_METHOD.equals(step.fDescriptor.getID()))
+			return null;
+		Refactoring refactoring= step.getRefactoring();
+		if (refactoring instanceof ProcessorBasedRefactoring && ((ProcessorBasedRefactoring) refactoring).getProcessor() instanceof RenameVirtualMethodProcessor)
+			return (RenameVirtualMethodProcessor) ((ProcessorBasedRefactoring) refactoring).getProcessor();
+		return null;
+	}
+
+	/**
+	 * Checks the initial conditions of the given step that renames a virtual method, and of the
+	 * following steps that rename virtual methods, and then finds the ripple methods of all these
+	 * steps in one pass. A step is only added if the steps before it don't rename methods with
+	 * the name of its method, since only the changes of such a step could change the ripple
+	 * methods. The following steps are kept in {@link #fPreparedSteps} for their execution.
+	 *
+	 * @param index the index of the step
+	 * @param first the prepared step
+	 * @param monitor the progress monitor
+	 * @throws CoreException if checking the conditions or finding the ripple methods fails
+	 */
+	private void prepareRenameVirtualMethods(int index, PreparedStep first, IProgressMonitor monitor) throws CoreException {
+		try {
+			monitor.beginTask("", 2); //$NON-NLS-1$
+			if (first.fStatus.getSeverity() >= fFailSeverity)
+				return;
+
+			IProgressMonitor checkMonitor= Progress.subMonitor(monitor, 1);
+			checkMonitor.beginTask("", IProgressMonitor.UNKNOWN); //$NON-NLS-1$
+			RenameVirtualMethodProcessor processor= getRenameVirtualMethodProcessor(first);
+			first.fStatus.merge(first.getRefactoring().checkInitialConditions(Progress.subMonitor(checkMonitor, 1)));
+			first.fInitialConditionsChecked= true;
+			if (first.fStatus.getSeverity() >= fFailSeverity)
+				return;
+
+			List<RenameVirtualMethodProcessor> processors= new ArrayList<>();
+			Set<String> renamedNames= new HashSet<>();
+			processors.add(processor);
+			renamedNames.add(processor.getMethod().getElementName());
+			renamedNames.add(processor.getNewElementName());
+			int count= fProxies != null ? fProxies.length : fDescriptors.length;
+			for (int i= index + 1; i < count && !checkMonitor.isCanceled(); i++) {
+				PreparedStep next= prepareStep(i, Progress.subMonitor(checkMonitor, 1));
+				fPreparedSteps.put(Integer.valueOf(i), next);
+				if (next.fDescriptor == null || !IJavaRefactorings.RENAME_METHOD.equals(next.fDescriptor.getID()))
+					break;
+				next.fContext= next.fDescriptor.createRefactoringContext(next.fStatus);
+				processor= getRenameVirtualMethodProcessor(next);
+				if (processor != null && next.fStatus.getSeverity() < fFailSeverity && !renamedNames.contains(processor.getMethod().getElementName())) {
+					try {
+						next.fStatus.merge(next.getRefactoring().checkInitialConditions(Progress.subMonitor(checkMonitor, 1)));
+						next.fInitialConditionsChecked= true;
+					} catch (CoreException | RuntimeException e) {
+						// the step fails again when it is executed, and reports the failure
+					}
+				}
+				if (!next.fInitialConditionsChecked || next.fStatus.getSeverity() >= fFailSeverity) {
+					// the steps before it may change the outcome, create the refactoring again after they have been performed
+					next.dispose();
+					fPreparedSteps.put(Integer.valueOf(i), new PreparedStep(next.fDescriptor));
+					break;
+				}
+				processors.add(processor);
+				renamedNames.add(processor.getMethod().getElementName());
+				renamedNames.add(processor.getNewElementName());
+			}
+			checkMonitor.done();
+
+			if (processors.size() > 1)
+				RenameVirtualMethodProcessor.initializeRippleMethods(processors.toArray(new RenameVirtualMethodProcessor[processors.size()]), Progress.subMonitor(monitor, 1));
+		} finally {
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Collects the compilation units that the given change modifies.
+	 *
+	 * @param change the change
+	 * @param units the compilation units
+	 * @return <code>false</code> if the change does more than modifying the content of files
+	 */
+	private static boolean collectCompilationUnits(Change change, Set<ICompilationUnit> units) {
+		if (change instanceof CompositeChange) {
+			for (Change child : ((CompositeChange) change).getChildren()) {
+				if (!collectCompilationUnits(child, units))
+					return false;
+			}
+			return true;
+		}
+		if (change instanceof TextFileChange) {
+			IJavaElement element= JavaCore.create(((TextFileChange) change).getFile());
+			if (element instanceof ICompilationUnit)
+				units.add((ICompilationUnit) element);
+			return true;
+		}
+		if (change instanceof MultiStateCompilationUnitChange) {
+			units.add(((MultiStateCompilationUnitChange) change).getCompilationUnit());
+			return true;
+		}
+		return change instanceof NullChange;
+	}
+
+	private String getDescription(int index) {
+		return fProxies != null ? fProxies[index].getDescription() : fDescriptors[index].getDescription();
+	}
+
+	private long getTimeStamp(int index) {
+		return fProxies != null ? fProxies[index].getTimeStamp() : fDescriptors[index].getTimeStamp();
+	}
+
+	private int readCheckpoint() throws CoreException {
+		if (fCheckpointFile == null || !fCheckpointFile.exists())
+			return 0;
+
+		Properties properties= new Properties();
+		try (InputStream stream= Files.newInputStream(fCheckpointFile.toPath())) {
+			properties.load(stream);
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), e.getMessage(), e));
+		}
+		int step;
+		try {
+			step= Integer.parseInt(properties.getProperty(CHECKPOINT_STEP, "")); //$NON-NLS-1$
+		} catch (NumberFormatException e) {
+			step= -1;
+		}
+		int count= fProxies != null ? fProxies.length : fDescriptors.length;
+		if (step < 0 || step > count || step > 0
+				&& (!getDescription(step - 1).equals(properties.getProperty(CHECKPOINT_DESCRIPTION))
+						|| !String.valueOf(getTimeStamp(step - 1)).equals(properties.getProperty(CHECKPOINT_TIME_STAMP)))) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), Messages.format(RefactoringCoreMessages.RefactoringScriptExecutor_checkpoint_mismatch, fCheckpointFile.getPath())));
+		}
+		return step;
+	}
+
+	private void writeCheckpoint(int step) throws CoreException {
+		if (fCheckpointFile == null)
+			return;
+
+		Properties properties= new Properties();
+		properties.setProperty(CHECKPOINT_STEP, String.valueOf(step));
+		properties.setProperty(CHECKPOINT_DESCRIPTION, getDescription(step - 1));
+		properties.setProperty(CHECKPOINT_TIME_STAMP, String.valueOf(getTimeStamp(step - 1)));
+		Path file= fCheckpointFile.toPath();
+		Path temp= file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (OutputStream stream= Files.newOutputStream(temp)) {
+				properties.store(stream, null);
+			}
+			// replace the checkpoint atomically, so that an interrupted execution leaves a valid one
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), e.getMessage(), e));
+		}
+	}
+}
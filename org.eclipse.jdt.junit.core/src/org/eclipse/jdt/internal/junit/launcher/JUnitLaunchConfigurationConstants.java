@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -85,6 +85,40 @@ public class JUnitLaunchConfigurationConstants {
 	 */
 	public static final String ATTR_TEST_UNIQUE_ID= JUnitCorePlugin.PLUGIN_ID + ".TEST_UNIQUE_ID"; //$NON-NLS-1$
 
+	/**
+	 * Whether the test runner should report results using the binary protocol (default:
+	 * <code>true</code>). The client falls back to the text protocol if the runner does not
+	 * support it.
+	 */
+	public static final String ATTR_BINARY_PROTOCOL= JUnitCorePlugin.PLUGIN_ID + ".BINARY_PROTOCOL"; //$NON-NLS-1$
+
+	/**
+	 * Whether the tests should be executed in parallel (default: <code>false</code>). Only
+	 * supported by the JUnit 5 runner, which enables JUnit Platform parallel execution.
+	 */
+	public static final String ATTR_PARALLEL_EXECUTION= JUnitCorePlugin.PLUGIN_ID + ".PARALLEL_EXECUTION"; //$NON-NLS-1$
+
+	/**
+	 * The maximal number of VMs to split the test classes across (default: <code>1</code>).
+	 * The classes are distributed by their durations in the previous run, see
+	 * {@link TestShardPlanner}. The results of all VMs are merged into one test run session.
+	 */
+	public static final String ATTR_SHARD_COUNT= JUnitCorePlugin.PLUGIN_ID + ".SHARD_COUNT"; //$NON-NLS-1$
+
+	/**
+	 * Launch attribute with the comma-separated ports of all VMs of a sharded launch. The
+	 * first port is also stored in {@link #ATTR_PORT}.
+	 */
+	public static final String ATTR_SHARD_PORTS= JUnitCorePlugin.PLUGIN_ID + ".SHARD_PORTS"; //$NON-NLS-1$
+
+	/**
+	 * Whether the tests that failed in the previous run and then the fastest tests should be
+	 * run first (default: <code>false</code>). The durations and failures are taken from the
+	 * previous run of the same configuration in the test run history, see
+	 * {@link TestRunHistory}.
+	 */
+	public static final String ATTR_PRIORITIZE_BY_DURATION= JUnitCorePlugin.PLUGIN_ID + ".PRIORITIZE_BY_DURATION"; //$NON-NLS-1$
+
 	public static ITestKind getTestRunnerKind(ILaunchConfiguration launchConfiguration) {
 		try {
 			String loaderId = launchConfiguration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_RUNNER_KIND, (String) null);
@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IRegion;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
+
+/**
+ * Caches the test classes found in a container (project, source folder or package), so that
+ * launching the same container again doesn't have to search all type hierarchies and
+ * annotations again.
+ * <p>
+ * The index is kept up to date from Java element deltas: compilation units that have been
+ * added or changed since a container has been searched are checked again with
+ * {@link ITestFinder#isTest(IType)} the next time the container is looked up. A container is
+ * only searched again if such a check could affect other types, i.e. if a type changed its
+ * test status or has been removed or renamed, if an abstract class or an interface changed, or
+ * if a direct super type of a cached test changed outside of the container. Removed compilation units and changes to
+ * projects, classpaths, package fragment roots or packages discard the whole index.
+ * </p>
+ */
+public class TestClassIndex implements IElementChangedListener {
+
+	private static final int MAX_ENTRIES= 32;
+
+	private static class Entry {
+		final IRegion fRegion;
+		final Set<IType> fTests;
+		final Set<String> fSuperTypeNames= new HashSet<>();
+
+		/** Compilation units added since the last lookup, guarded by the index */
+		Set<ICompilationUnit> fAddedUnits= new HashSet<>();
+		/** Compilation units changed since the last lookup, guarded by the index */
+		Set<ICompilationUnit> fChangedUnits= new HashSet<>();
+
+		Entry(IRegion region, Set<IType> tests) {
+			fRegion= region;
+			fTests= tests;
+			for (IType test : tests) {
+				addSuperTypeNames(test);
+			}
+		}
+
+		void addSuperTypeNames(IType type) {
+			try {
+				String superclassName= type.getSuperclassName();
+				if (superclassName != null) {
+					fSuperTypeNames.add(getSimpleName(superclassName));
+				}
+				for (String superInterfaceName : type.getSuperInterfaceNames()) {
+					fSuperTypeNames.add(getSimpleName(superInterfaceName));
+				}
+			} catch (JavaModelException e) {
+				// the type will be checked again when its compilation unit changes
+			}
+		}
+	}
+
+	private final Map<String, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/** Incremented on every relevant delta, to detect changes during a search */
+	private long fModificationStamp;
+
+	public void start() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public synchronized void stop() {
+		JavaCore.removeElementChangedListener(this);
+		fEntries.clear();
+	}
+
+	/**
+	 * Finds the tests in the given container like
+	 * {@link ITestFinder#findTestsInContainer(IJavaElement, Set, IProgressMonitor)} of the
+	 * given test kind, but reuses the result of a previous search if the container has not
+	 * changed in a way that could affect it.
+	 *
+	 * @param testKind the test kind
+	 * @param container the container to search
+	 * @param result the set to add the found tests to
+	 * @param pm the progress monitor, can be <code>null</code>
+	 * @throws CoreException if the search fails
+	 */
+	public void findTestsInContainer(ITestKind testKind, IJavaElement container, Set<IType> result, IProgressMonitor pm) throws CoreException {
+		ITestFinder finder= testKind.getFinder();
+		if (testKind.isNull() || container instanceof IMember) {
+			finder.findTestsInContainer(container, result, pm);
+			return;
+		}
+
+		String key= testKind.getId() + '|' + container.getHandleIdentifier();
+		Entry entry;
+		Set<ICompilationUnit> addedUnits= null;
+		Set<ICompilationUnit> changedUnits= null;
+		long stamp;
+		synchronized (this) {
+			stamp= fModificationStamp;
+			entry= fEntries.get(key);
+			if (entry != null) {
+				addedUnits= entry.fAddedUnits;
+				changedUnits= entry.fChangedUnits;
+				entry.fAddedUnits= new HashSet<>();
+				entry.fChangedUnits= new HashSet<>();
+			}
+		}
+
+		if (entry != null) {
+			synchronized (entry) {
+				try {
+					if (update(entry, finder, addedUnits, changedUnits)) {
+						result.addAll(entry.fTests);
+						return;
+					}
+				} catch (CoreException e) {
+					// search the whole container again
+				}
+			}
+		}
+
+		Set<IType> tests= new HashSet<>();
+		finder.findTestsInContainer(container, tests, pm);
+		Entry newEntry= new Entry(CoreTestSearchEngine.getRegion(container), tests);
+		synchronized (this) {
+			if (fModificationStamp == stamp) {
+				fEntries.put(key, newEntry);
+			} else {
+				fEntries.remove(key);
+			}
+		}
+		result.addAll(tests);
+	}
+
+	/**
+	 * Checks the given compilation units again and updates the tests of the entry.
+	 *
+	 * @return <code>false</code> if the entry has to be searched again
+	 */
+	private static boolean update(Entry entry, ITestFinder finder, Set<ICompilationUnit> addedUnits, Set<ICompilationUnit> changedUnits) throws CoreException {
+		for (ICompilationUnit unit : changedUnits) {
+			if (!unit.exists())
+				return false;
+			boolean inRegion= entry.fRegion.contains(unit);
+			// the cached tests of the unit that have not been found in it again
+			Set<IType> removedTests= new HashSet<>();
+			for (IType test : entry.fTests) {
+				if (unit.equals(test.getCompilationUnit()))
+					removedTests.add(test);
+			}
+			for (IType type : unit.getAllTypes()) {
+				if (!inRegion) {
+					if (entry.fSuperTypeNames.contains(type.getElementName()))
+						return false;
+					continue;
+				}
+				if (type.isInterface() || Flags.isAbstract(type.getFlags()))
+					return false;
+				if (finder.isTest(type) != removedTests.remove(type))
+					return false;
+			}
+			// a test that was deleted or renamed may have been the super class of other tests
+			if (!removedTests.isEmpty())
+				return false;
+		}
+		for (IType test : entry.fTests) {
+			if (!test.exists())
+				return false;
+		}
+		List<IType> addedTests= new ArrayList<>();
+		for (ICompilationUnit unit : addedUnits) {
+			if (!unit.exists() || !entry.fRegion.contains(unit))
+				continue;
+			for (IType type : unit.getAllTypes()) {
+				if (finder.isTest(type))
+					addedTests.add(type);
+			}
+		}
+		for (IType test : addedTests) {
+			entry.fTests.add(test);
+			entry.addSuperTypeNames(test);
+		}
+		return true;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			processDelta(event.getDelta());
+		}
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					invalidateAll();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (kind != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER
+								| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+					invalidateAll();
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit= ((ICompilationUnit) element).getPrimary();
+				if (kind == IJavaElementDelta.REMOVED) {
+					invalidateAll();
+				} else if (kind == IJavaElementDelta.ADDED) {
+					fModificationStamp++;
+					for (Entry entry : fEntries.values()) {
+						entry.fAddedUnits.add(unit);
+					}
+				} else if ((flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED
+						| IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0) {
+					fModificationStamp++;
+					for (Entry entry : fEntries.values()) {
+						entry.fChangedUnits.add(unit);
+					}
+				}
+				return;
+			default:
+				// class files and members are covered by their parents
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private void invalidateAll() {
+		fModificationStamp++;
+		fEntries.clear();
+	}
+
+	private static String getSimpleName(String typeName) {
+		int typeArgumentsStart= typeName.indexOf('<');
+		if (typeArgumentsStart != -1) {
+			typeName= typeName.substring(0, typeArgumentsStart);
+		}
+		return typeName.substring(typeName.lastIndexOf('.') + 1).trim();
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Access to the results of earlier runs of a launch configuration that are still in the test
+ * run history of the {@link org.eclipse.jdt.internal.junit.model.JUnitModel}.
+ */
+public class TestRunHistory {
+
+	private TestRunHistory() {
+	}
+
+	/**
+	 * Returns the durations of the test classes in the most recent test run of the given
+	 * launch configuration that is still in the test run history.
+	 *
+	 * @param configuration the launch configuration
+	 * @return the durations in seconds, keyed by fully qualified class name; empty if there
+	 *         is no previous run
+	 */
+	public static Map<String, Double> getClassDurations(ILaunchConfiguration configuration) {
+		Map<String, Double> durations= new HashMap<>();
+		TestRunSession session= findLastRun(configuration);
+		if (session != null) {
+			for (TestElement child : session.getTestRoot().getChildElements()) {
+				double time= child.getElapsedTimeInSeconds();
+				if (child instanceof TestSuiteElement && !Double.isNaN(time)) {
+					durations.merge(child.getClassName(), Double.valueOf(time), Double::sum);
+				}
+			}
+		}
+		return durations;
+	}
+
+	/**
+	 * Writes the durations and failures of the test cases in the most recent test run of the
+	 * given launch configuration to a file that is passed to the test runner with
+	 * <code>-testdurations</code>. Each line has the form
+	 * <code>&lt;seconds&gt; &lt;F|P&gt; &lt;test name&gt;</code>, where <code>F</code> marks a
+	 * failed test.
+	 *
+	 * @param configuration the launch configuration
+	 * @param file the file to write
+	 * @return <code>true</code> if there was a previous run, <code>false</code> if nothing has
+	 *         been written
+	 * @throws IOException if writing fails
+	 */
+	public static boolean writeTestDurations(ILaunchConfiguration configuration, File file) throws IOException {
+		TestRunSession session= findLastRun(configuration);
+		if (session == null)
+			return false;
+		try (BufferedWriter bw= new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+			writeTestDurations(session.getTestRoot(), bw);
+		}
+		return true;
+	}
+
+	private static void writeTestDurations(TestSuiteElement suite, BufferedWriter bw) throws IOException {
+		for (TestElement child : suite.getChildElements()) {
+			if (child instanceof TestSuiteElement) {
+				writeTestDurations((TestSuiteElement) child, bw);
+			} else if (child instanceof TestCaseElement) {
+				double time= child.getElapsedTimeInSeconds();
+				if (Double.isNaN(time))
+					continue;
+				bw.write(Double.toString(time));
+				bw.write(child.getStatus().isErrorOrFailure() ? " F " : " P "); //$NON-NLS-1$ //$NON-NLS-2$
+				bw.write(child.getTestName());
+				bw.newLine();
+			}
+		}
+	}
+
+	private static TestRunSession findLastRun(ILaunchConfiguration configuration) {
+		for (TestRunSession session : JUnitCorePlugin.getModel().getTestRunSessions()) {
+			if (!session.isRunning() && !session.isStarting() && isRunOf(session, configuration))
+				return session;
+		}
+		return null;
+	}
+
+	private static boolean isRunOf(TestRunSession session, ILaunchConfiguration configuration) {
+		ILaunch launch= session.getLaunch();
+		if (launch != null && launch.getLaunchConfiguration() != null)
+			return configuration.getName().equals(launch.getLaunchConfiguration().getName());
+		return configuration.getName().equals(session.getTestRunName());
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import org.eclipse.jdt.core.IType;
+
+/**
+ * Splits the test classes of a launch into shards that are executed in separate VMs.
+ * <p>
+ * The classes are distributed by their durations in the last run of the same launch
+ * configuration, so that all shards take about the same time: the longest classes are
+ * assigned first, each to the shard with the smallest total duration so far. Classes
+ * without a known duration are assumed to take the average time.
+ * </p>
+ */
+public class TestShardPlanner {
+
+	private static class Shard {
+		final List<IType> fTypes= new ArrayList<>();
+		double fDuration;
+	}
+
+	private TestShardPlanner() {
+	}
+
+	/**
+	 * Splits the given test classes into at most <code>shardCount</code> shards.
+	 *
+	 * @param types the test classes
+	 * @param shardCount the maximum number of shards
+	 * @param durations the durations of test classes in seconds, keyed by fully qualified
+	 *            class name (see {@link TestRunHistory#getClassDurations(ILaunchConfiguration)})
+	 * @return the non-empty shards
+	 */
+	public static IType[][] plan(List<IType> types, int shardCount, Map<String, Double> durations) {
+		if (types.isEmpty())
+			return new IType[0][];
+		double defaultDuration= 1.0;
+		if (!durations.isEmpty()) {
+			double sum= 0;
+			for (Double duration : durations.values()) {
+				sum+= duration.doubleValue();
+			}
+			defaultDuration= sum / durations.size();
+		}
+
+		Map<IType, Double> typeDurations= new HashMap<>();
+		for (IType type : types) {
+			Double duration= durations.get(type.getFullyQualifiedName('.'));
+			typeDurations.put(type, duration != null ? duration : Double.valueOf(defaultDuration));
+		}
+		List<IType> sorted= new ArrayList<>(types);
+		sorted.sort(Comparator.comparing((IType type) -> typeDurations.get(type)).reversed()
+				.thenComparing(type -> type.getFullyQualifiedName()));
+
+		int count= Math.max(1, Math.min(shardCount, types.size()));
+		PriorityQueue<Shard> shards= new PriorityQueue<>(count, Comparator.comparingDouble(shard -> shard.fDuration));
+		List<Shard> allShards= new ArrayList<>(count);
+		for (int i= 0; i < count; i++) {
+			Shard shard= new Shard();
+			shards.add(shard);
+			allShards.add(shard);
+		}
+		for (IType type : sorted) {
+			Shard shard= shards.poll();
+			shard.fTypes.add(type);
+			shard.fDuration+= typeDurations.get(type).doubleValue();
+			shards.add(shard);
+		}
+
+		IType[][] result= new IType[count][];
+		for (int i= 0; i < count; i++) {
+			List<IType> shardTypes= allShards.get(i).fTypes;
+			result[i]= shardTypes.toArray(new IType[shardTypes.size()]);
+		}
+		return result;
+	}
+}
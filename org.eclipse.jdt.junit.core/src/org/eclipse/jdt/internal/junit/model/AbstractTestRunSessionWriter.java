@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *     Brock Janiczak (brockj@tpg.com.au)
+ *         - https://bugs.eclipse.org/bugs/show_bug.cgi?id=102236: [JUnit] display execution time next to each test
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElement.FailureTrace;
+import org.eclipse.jdt.junit.model.ITestElement.ProgressState;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+/**
+ * Walks a test run session and reports its elements and attributes in the format that is read
+ * by {@link TestRunSessionBuilder}. Used by the writers of test run session transcripts,
+ * {@link TestRunSessionSerializer} and {@link TestRunSessionStreamWriter}.
+ *
+ * @param <X> the type of exception thrown by the output
+ */
+abstract class AbstractTestRunSessionWriter<X extends Exception> {
+
+	private static final Map<String, String> NO_ATTS= Collections.emptyMap();
+
+	private final TestRunSession fTestRunSession;
+
+	private final NumberFormat timeFormat= new DecimalFormat("0.0##", new DecimalFormatSymbols(Locale.US)); //$NON-NLS-1$ // not localized, parseable by Double.parseDouble(..)
+
+	/**
+	 * @param testRunSession the test run session to write
+	 */
+	AbstractTestRunSessionWriter(TestRunSession testRunSession) {
+		Assert.isNotNull(testRunSession);
+		fTestRunSession= testRunSession;
+	}
+
+	/**
+	 * Reports the test run and all its test elements.
+	 *
+	 * @throws X if the output fails
+	 */
+	protected void writeTestRun() throws X {
+		Map<String, String> atts= new LinkedHashMap<>();
+		atts.put(IXMLTags.ATTR_NAME, fTestRunSession.getTestRunName());
+		IJavaProject project= fTestRunSession.getLaunchedProject();
+		if (project != null)
+			atts.put(IXMLTags.ATTR_PROJECT, project.getElementName());
+		atts.put(IXMLTags.ATTR_TESTS, Integer.toString(fTestRunSession.getTotalCount()));
+		atts.put(IXMLTags.ATTR_STARTED, Integer.toString(fTestRunSession.getStartedCount()));
+		atts.put(IXMLTags.ATTR_FAILURES, Integer.toString(fTestRunSession.getFailureCount()));
+		atts.put(IXMLTags.ATTR_ERRORS, Integer.toString(fTestRunSession.getErrorCount()));
+		atts.put(IXMLTags.ATTR_IGNORED, Integer.toString(fTestRunSession.getIgnoredCount()));
+		String includeTags= fTestRunSession.getIncludeTags();
+		if (includeTags != null && !includeTags.trim().isEmpty()) {
+			atts.put(IXMLTags.ATTR_INCLUDE_TAGS, includeTags);
+		}
+		String excludeTags= fTestRunSession.getExcludeTags();
+		if (excludeTags != null && !excludeTags.trim().isEmpty()) {
+			atts.put(IXMLTags.ATTR_EXCLUDE_TAGS, excludeTags);
+		}
+
+		TestRoot testRoot= fTestRunSession.getTestRoot();
+		ITestElement[] topSuites= testRoot.getChildren();
+		boolean empty= topSuites.length == 0;
+		startElement(IXMLTags.NODE_TESTRUN, atts, empty);
+		for (ITestElement topSuite : topSuites) {
+			writeTestElement(topSuite);
+		}
+		endElement(IXMLTags.NODE_TESTRUN, empty);
+	}
+
+	private void writeTestElement(ITestElement testElement) throws X {
+		if (testElement instanceof TestSuiteElement) {
+			TestSuiteElement testSuiteElement= (TestSuiteElement) testElement;
+			FailureTrace failureTrace= testSuiteElement.getFailureTrace();
+			ITestElement[] children= testSuiteElement.getChildren();
+			boolean empty= children.length == 0 && !hasFailure(testSuiteElement, failureTrace);
+
+			Map<String, String> atts= new LinkedHashMap<>();
+			// Need to store the full #getTestName instead of only the #getSuiteTypeName for test factory methods
+			atts.put(IXMLTags.ATTR_NAME, testSuiteElement.getTestName());
+			if (! Double.isNaN(testSuiteElement.getElapsedTimeInSeconds()))
+				atts.put(IXMLTags.ATTR_TIME, timeFormat.format(testSuiteElement.getElapsedTimeInSeconds()));
+			if (testElement.getProgressState() != ProgressState.COMPLETED || testElement.getTestResult(false) != Result.UNDEFINED)
+				atts.put(IXMLTags.ATTR_INCOMPLETE, Boolean.TRUE.toString());
+			addCommonAttributes(atts, testSuiteElement);
+			startElement(IXMLTags.NODE_TESTSUITE, atts, empty);
+			writeFailure(testSuiteElement, failureTrace);
+
+			for (ITestElement child : children) {
+				writeTestElement(child);
+			}
+			endElement(IXMLTags.NODE_TESTSUITE, empty);
+
+		} else if (testElement instanceof TestCaseElement) {
+			TestCaseElement testCaseElement= (TestCaseElement) testElement;
+			FailureTrace failureTrace= testCaseElement.getFailureTrace();
+			boolean empty= !hasFailure(testCaseElement, failureTrace);
+
+			Map<String, String> atts= new LinkedHashMap<>();
+			atts.put(IXMLTags.ATTR_NAME, testCaseElement.getTestMethodName());
+			atts.put(IXMLTags.ATTR_CLASSNAME, testCaseElement.getClassName());
+			if (! Double.isNaN(testCaseElement.getElapsedTimeInSeconds()))
+				atts.put(IXMLTags.ATTR_TIME, timeFormat.format(testCaseElement.getElapsedTimeInSeconds()));
+			if (testElement.getProgressState() != ProgressState.COMPLETED)
+				atts.put(IXMLTags.ATTR_INCOMPLETE, Boolean.TRUE.toString());
+			if (testCaseElement.isIgnored())
+				atts.put(IXMLTags.ATTR_IGNORED, Boolean.TRUE.toString());
+			if (testCaseElement.isDynamicTest()) {
+				atts.put(IXMLTags.ATTR_DYNAMIC_TEST, Boolean.TRUE.toString());
+			}
+			addCommonAttributes(atts, testCaseElement);
+			startElement(IXMLTags.NODE_TESTCASE, atts, empty);
+			writeFailure(testCaseElement, failureTrace);
+
+			endElement(IXMLTags.NODE_TESTCASE, empty);
+
+		} else {
+			throw new IllegalStateException(String.valueOf(testElement));
+		}
+	}
+
+	private static void addCommonAttributes(Map<String, String> atts, TestElement testElement) {
+		if (testElement.getDisplayName() != null) {
+			atts.put(IXMLTags.ATTR_DISPLAY_NAME, testElement.getDisplayName());
+		}
+		String[] paramTypes= testElement.getParameterTypes();
+		if (paramTypes != null) {
+			atts.put(IXMLTags.ATTR_PARAMETER_TYPES, String.join(",", paramTypes)); //$NON-NLS-1$
+		}
+		if (testElement.getUniqueId() != null) {
+			atts.put(IXMLTags.ATTR_UNIQUE_ID, testElement.getUniqueId());
+		}
+	}
+
+	private static boolean hasFailure(TestElement testElement, FailureTrace failureTrace) {
+		return failureTrace != null || testElement.isAssumptionFailure();
+	}
+
+	private void writeFailure(TestElement testElement, FailureTrace failureTrace) throws X {
+		if (testElement.isAssumptionFailure()) {
+			boolean empty= failureTrace == null || failureTrace.getTrace() == null;
+			startElement(IXMLTags.NODE_SKIPPED, NO_ATTS, empty);
+			if (!empty) {
+				writeCharacters(failureTrace.getTrace());
+				endTextElement(IXMLTags.NODE_SKIPPED);
+			}
+
+		} else if (failureTrace != null) {
+			String failureKind= testElement.getTestResult(false) == Result.ERROR ? IXMLTags.NODE_ERROR : IXMLTags.NODE_FAILURE;
+			startElement(failureKind, NO_ATTS, false);
+			String expected= failureTrace.getExpected();
+			String actual= failureTrace.getActual();
+			if (expected != null) {
+				startElement(IXMLTags.NODE_EXPECTED, NO_ATTS, false);
+				writeCharacters(expected);
+				endTextElement(IXMLTags.NODE_EXPECTED);
+			}
+			if (actual != null) {
+				startElement(IXMLTags.NODE_ACTUAL, NO_ATTS, false);
+				writeCharacters(actual);
+				endTextElement(IXMLTags.NODE_ACTUAL);
+			}
+			writeCharacters(failureTrace.getTrace());
+			endTextElement(failureKind);
+		}
+	}
+
+	private void writeCharacters(String string) throws X {
+		if (string != null)
+			characters(escapeNonUnicodeChars(string));
+	}
+
+	/**
+	 * Starts an element.
+	 *
+	 * @param name the element name
+	 * @param attributes the attributes of the element, in the order in which they should be written
+	 * @param empty whether the element has no content
+	 * @throws X if the output fails
+	 */
+	protected abstract void startElement(String name, Map<String, String> attributes, boolean empty) throws X;
+
+	/**
+	 * Ends an element that may have child elements.
+	 *
+	 * @param name the element name
+	 * @param empty whether the element has been started as empty element
+	 * @throws X if the output fails
+	 */
+	protected abstract void endElement(String name, boolean empty) throws X;
+
+	/**
+	 * Ends an element with text content.
+	 *
+	 * @param name the element name
+	 * @throws X if the output fails
+	 */
+	protected abstract void endTextElement(String name) throws X;
+
+	/**
+	 * Adds text content to the current element.
+	 *
+	 * @param string the text, without non-Unicode characters
+	 * @throws X if the output fails
+	 */
+	protected abstract void characters(String string) throws X;
+
+	/**
+	 * Replaces all non-Unicode characters in the given string.
+	 *
+	 * @param string a string
+	 * @return string with Java-escapes
+	 */
+	static String escapeNonUnicodeChars(String string) {
+		StringBuilder buf= null;
+		for (int i= 0; i < string.length(); i++) {
+			char ch= string.charAt(i);
+			if (ch != 9 && ch != 10 && ch != 13 && ch < 32) {
+				if (buf == null) {
+					buf= new StringBuilder(string.substring(0, i));
+				}
+				buf.append("\\u"); //$NON-NLS-1$
+				String hex= Integer.toHexString(ch);
+				for (int j= hex.length(); j < 4; j++)
+					buf.append('0');
+				buf.append(hex);
+			} else if (buf != null) {
+				buf.append(ch);
+			}
+		}
+		if (buf != null) {
+			return buf.toString();
+		}
+		return string;
+	}
+}
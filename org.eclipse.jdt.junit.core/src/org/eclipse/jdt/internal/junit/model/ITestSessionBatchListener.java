@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+/**
+ * A test session listener that receives the events about individual tests in batches.
+ * <p>
+ * For listeners implementing this interface, {@link #testAdded(TestElement)},
+ * {@link #testStarted(TestCaseElement)}, {@link #testEnded(TestCaseElement)} and
+ * {@link #testFailed(TestElement, TestElement.Status, String, String, String)} are not called
+ * while a test run is in progress. Instead, the corresponding changes are accumulated and
+ * delivered with {@link #testsChanged(TestSessionBatch)}. All pending changes are delivered
+ * before any of the session events and before {@link #testReran(TestCaseElement, TestElement.Status, String, String, String)}.
+ * </p>
+ * <p>
+ * Listeners that only implement {@link ITestSessionListener} keep receiving every event individually.
+ * </p>
+ */
+public interface ITestSessionBatchListener extends ITestSessionListener {
+
+	/**
+	 * A batch of changes to individual tests is available.
+	 *
+	 * @param batch the changes since the last batch, in the order they happened
+	 */
+	void testsChanged(TestSessionBatch batch);
+
+}
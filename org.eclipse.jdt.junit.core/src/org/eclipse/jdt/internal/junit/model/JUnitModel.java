@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,13 @@
 
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
@@ -29,9 +33,9 @@ import java.util.List;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactoryConfigurationError;
 import javax.xml.transform.sax.SAXSource;
@@ -126,16 +130,26 @@ public final class JUnitModel {
 			if (portStr == null)
 				return;
 			try {
-				final int port= Integer.parseInt(portStr);
+				int[] ports;
+				String shardPortsStr= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS);
+				if (shardPortsStr != null) {
+					String[] shardPorts= shardPortsStr.split(","); //$NON-NLS-1$
+					ports= new int[shardPorts.length];
+					for (int i= 0; i < shardPorts.length; i++) {
+						ports[i]= Integer.parseInt(shardPorts[i]);
+					}
+				} else {
+					ports= new int[] { Integer.parseInt(portStr) };
+				}
 				fTrackedLaunches.remove(launch);
-				connectTestRunner(launch, javaProject, port);
+				connectTestRunner(launch, javaProject, ports);
 			} catch (NumberFormatException e) {
 				return;
 			}
 		}
 
-		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int port) {
-			TestRunSession testRunSession= new TestRunSession(launch, javaProject, port);
+		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int[] ports) {
+			TestRunSession testRunSession= new TestRunSession(launch, javaProject, ports);
 			addTestRunSession(testRunSession);
 
 			for (TestRunListener listener : JUnitCorePlugin.getDefault().getNewTestRunListeners()) {
@@ -264,6 +278,9 @@ public final class JUnitModel {
 		ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(fLaunchListener);
 
+		// sessions are not restored, so swap files and trace stores are left over from a crash
+		deleteHistoryFiles();
+
 /*
  * TODO: restore on restart:
  * - only import headers!
@@ -302,13 +319,7 @@ public final class JUnitModel {
 		ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.removeLaunchListener(fLaunchListener);
 
-		File historyDirectory= JUnitCorePlugin.getHistoryDirectory();
-		File[] swapFiles= historyDirectory.listFiles();
-		if (swapFiles != null) {
-			for (File swapFile : swapFiles) {
-				swapFile.delete();
-			}
-		}
+		deleteHistoryFiles();
 
 //		for (Iterator iter= fTestRunSessions.iterator(); iter.hasNext();) {
 //			final TestRunSession session= (TestRunSession) iter.next();
@@ -323,6 +334,16 @@ public final class JUnitModel {
 //		}
 	}
 
+	private static void deleteHistoryFiles() {
+		File historyDirectory= JUnitCorePlugin.getHistoryDirectory();
+		File[] swapFiles= historyDirectory.listFiles();
+		if (swapFiles != null) {
+			for (File swapFile : swapFiles) {
+				swapFile.delete();
+			}
+		}
+	}
+
 
 	public void addTestRunSessionListener(ITestRunSessionListener listener) {
 		fTestRunSessionListeners.add(listener);
@@ -384,21 +405,39 @@ public final class JUnitModel {
 	 * @throws CoreException if the import failed
 	 */
 	public static TestRunSession importTestRunSession(File file) throws CoreException {
+		TestRunSession session= readTestRunSession(file, new TestRunSessionStreamReader(null, false, false));
+		JUnitCorePlugin.getModel().addTestRunSession(session);
+		return session;
+	}
+
+	/**
+	 * Imports a test run session from the given file. The session is added to the model as
+	 * soon as the file header has been read, and the test elements are reported to the session
+	 * listeners while they are read. Failure traces are kept on disk until they are requested.
+	 *
+	 * @param file a file containing a test run session transcript
+	 * @param monitor a progress monitor for cancellation
+	 * @return the imported test run session
+	 * @throws CoreException if the import failed
+	 * @throws OperationCanceledException if the import was cancelled
+	 */
+	public static TestRunSession importTestRunSession(File file, IProgressMonitor monitor) throws CoreException {
+		monitor.beginTask(Messages.format(ModelMessages.JUnitModel_importing_from_file, BasicElementLabels.getPathLabel(file)), IProgressMonitor.UNKNOWN);
 		try {
-			SAXParserFactory parserFactory= XmlProcessorFactoryJdtJunit.createSAXFactoryWithErrorOnDOCTYPE();
-//			parserFactory.setValidating(true); // TODO: add DTD and debug flag
-			SAXParser parser= parserFactory.newSAXParser();
-			TestRunHandler handler= new TestRunHandler();
-			parser.parse(file, handler);
-			TestRunSession session= handler.getTestRunSession();
-			JUnitCorePlugin.getModel().addTestRunSession(session);
+			// the reader adds the session to the model
+			return readTestRunSession(file, new TestRunSessionStreamReader(monitor, true, true));
+		} finally {
+			monitor.done();
+		}
+	}
+
+	private static TestRunSession readTestRunSession(File file, TestRunSessionStreamReader reader) throws CoreException {
+		try (InputStream in= new BufferedInputStream(new FileInputStream(file))) {
+			TestRunSession session= reader.read(in);
+			if (session == null)
+				throwImportError(file, new XMLStreamException("no test run found")); //$NON-NLS-1$
 			return session;
-		} catch (ParserConfigurationException | SAXException e) {
-			throwImportError(file, e);
-		} catch (IOException e) {
-			throwImportError(file, e);
-		} catch (IllegalArgumentException e) {
-			// Bug in parser: can throw IAE even if file is not null
+		} catch (XMLStreamException | IOException e) {
 			throwImportError(file, e);
 		}
 		return null; // does not happen
@@ -471,20 +510,7 @@ public final class JUnitModel {
 	}
 
 	public static void importIntoTestRunSession(File swapFile, TestRunSession testRunSession) throws CoreException {
-		try {
-			SAXParserFactory parserFactory= XmlProcessorFactoryJdtJunit.createSAXFactoryWithErrorOnDOCTYPE();
-//			parserFactory.setValidating(true); // TODO: add DTD and debug flag
-			SAXParser parser= parserFactory.newSAXParser();
-			TestRunHandler handler= new TestRunHandler(testRunSession);
-			parser.parse(swapFile, handler);
-		} catch (ParserConfigurationException | SAXException e) {
-			throwImportError(swapFile, e);
-		} catch (IOException e) {
-			throwImportError(swapFile, e);
-		} catch (IllegalArgumentException e) {
-			// Bug in parser: can throw IAE even if file is not null
-			throwImportError(swapFile, e);
-		}
+		readTestRunSession(swapFile, new TestRunSessionStreamReader(testRunSession));
 	}
 
 	/**
@@ -495,11 +521,9 @@ public final class JUnitModel {
 	 * @throws CoreException if an error occurred
 	 */
 	public static void exportTestRunSession(TestRunSession testRunSession, File file) throws CoreException {
-		try (FileOutputStream out= new FileOutputStream(file)) {
-			exportTestRunSession(testRunSession, out);
-		} catch (IOException | TransformerConfigurationException e) {
-			throwExportError(file, e);
-		} catch (TransformerException e) {
+		try (OutputStream out= new BufferedOutputStream(new FileOutputStream(file))) {
+			new TestRunSessionStreamWriter(testRunSession).write(out);
+		} catch (IOException | XMLStreamException e) {
 			throwExportError(file, e);
 		}
 	}
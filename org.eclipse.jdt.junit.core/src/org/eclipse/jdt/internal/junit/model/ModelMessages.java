@@ -23,8 +23,10 @@ public class ModelMessages extends NLS {
 	public static String JUnitModel_could_not_export;
 	public static String JUnitModel_could_not_read;
 	public static String JUnitModel_could_not_write;
+	public static String JUnitModel_importing_from_file;
 	public static String JUnitModel_importing_from_url;
 	public static String TestRunHandler_lines_read;
+	public static String TestSessionEventBatcher_job_name;
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, ModelMessages.class);
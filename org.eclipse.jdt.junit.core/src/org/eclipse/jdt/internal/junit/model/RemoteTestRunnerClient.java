@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,12 +15,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.PushbackReader;
+import java.net.ProtocolException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
@@ -237,6 +242,11 @@ public class RemoteTestRunnerClient {
 	private int fPort= -1;
 	private PrintWriter fWriter;
 	private PushbackReader fPushbackReader;
+	/**
+	 * The input stream if the RemoteTestRunner uses the binary protocol,
+	 * see {@link MessageIds#BINARY_PROTOCOL_START}
+	 */
+	private DataInputStream fFrameInput;
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
@@ -275,13 +285,23 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
+				InputStream in= new BufferedInputStream(fSocket.getInputStream(), 64 * 1024);
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
-				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				if (isBinaryProtocol(in)) {
+					fFrameInput= new DataInputStream(in);
+					readFrames();
+				} else {
+					fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+					String message;
+					while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+						receiveMessage(message);
+				}
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
+			} catch (ProtocolException e) {
+				// the rest of the stream can't be trusted
+				JUnitCorePlugin.log(e);
+				notifyTestRunTerminated();
 			} catch (IOException e) {
 				JUnitCorePlugin.log(e);
 				// fall through
@@ -335,6 +355,13 @@ public class RemoteTestRunnerClient {
 			}
 		} catch(IOException e) {
 		}
+		try {
+			if (fFrameInput != null) {
+				fFrameInput.close();
+				fFrameInput= null;
+			}
+		} catch(IOException e) {
+		}
 		try {
 			if (fSocket != null) {
 				fSocket.close();
@@ -383,6 +410,75 @@ public class RemoteTestRunnerClient {
 		return buf.toString();
 	}
 
+	/**
+	 * Checks whether the stream starts with the marker of the binary protocol.
+	 * Consumes the marker if present, otherwise leaves the stream untouched.
+	 *
+	 * @param in the stream to check, must support {@link InputStream#mark(int)}
+	 * @return <code>true</code> iff the RemoteTestRunner uses the binary protocol
+	 * @throws IOException if reading fails
+	 */
+	private static boolean isBinaryProtocol(InputStream in) throws IOException {
+		byte[] marker= MessageIds.BINARY_PROTOCOL_START.getBytes(StandardCharsets.US_ASCII);
+		in.mark(marker.length);
+		int read= 0;
+		while (read < marker.length) {
+			int ch= in.read();
+			if (ch != marker[read]) {
+				in.reset();
+				return false;
+			}
+			read++;
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the frames of the binary protocol and dispatches the contained messages
+	 * until the stream ends or the client is shut down.
+	 *
+	 * @throws ProtocolException if a frame is truncated or its lengths are invalid
+	 * @throws IOException if reading fails
+	 */
+	private void readFrames() throws IOException {
+		byte[] frame= new byte[8 * 1024];
+		while (true) {
+			DataInputStream in= fFrameInput;
+			if (in == null)
+				return;
+			int length;
+			try {
+				length= in.readInt();
+			} catch (EOFException e) {
+				return;
+			}
+			if (length < 0)
+				throw new ProtocolException("Invalid frame length: " + length); //$NON-NLS-1$
+			if (length > frame.length)
+				frame= new byte[Math.max(length, (int) Math.min(2L * frame.length, Integer.MAX_VALUE))];
+			try {
+				in.readFully(frame, 0, length);
+			} catch (EOFException e) {
+				throw new ProtocolException("Truncated frame of length " + length); //$NON-NLS-1$
+			}
+			int offset= 0;
+			while (offset < length && fFrameInput != null) {
+				if (offset + 4 > length)
+					throw new ProtocolException("Truncated message length at " + offset + " in frame of length " + length); //$NON-NLS-1$ //$NON-NLS-2$
+				int messageLength= ((frame[offset] & 0xff) << 24) | ((frame[offset + 1] & 0xff) << 16)
+						| ((frame[offset + 2] & 0xff) << 8) | (frame[offset + 3] & 0xff);
+				offset+= 4;
+				if (messageLength < 0 || messageLength > length - offset)
+					throw new ProtocolException("Invalid message length " + messageLength + " at " + offset + " in frame of length " + length); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				String message= new String(frame, offset, messageLength, StandardCharsets.UTF_8);
+				offset+= messageLength;
+				// messages are not split into lines, see MessageIds#BINARY_PROTOCOL_START
+				fLastLineDelimiter= "\n"; //$NON-NLS-1$
+				receiveMessage(message);
+			}
+		}
+	}
+
 	private void receiveMessage(String message) {
 	    fCurrentState= fCurrentState.readMessage(message);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@
 
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.IOException;
+
 import org.eclipse.jdt.junit.model.ITestElement;
 import org.eclipse.jdt.junit.model.ITestElementContainer;
 import org.eclipse.jdt.junit.model.ITestRunSession;
@@ -194,6 +196,15 @@ public abstract class TestElement implements ITestElement {
 	private String fExpected;
 	private String fActual;
 
+	/**
+	 * The store that holds the trace, expected and actual strings if they have not been loaded
+	 * into memory, or <code>null</code>.
+	 */
+	private TraceStore fTraceStore;
+	private long fTraceHandle= TraceStore.NULL_HANDLE;
+	private long fExpectedHandle= TraceStore.NULL_HANDLE;
+	private long fActualHandle= TraceStore.NULL_HANDLE;
+
 	private boolean fAssumptionFailed;
 
 	/**
@@ -262,8 +273,8 @@ public abstract class TestElement implements ITestElement {
 	public FailureTrace getFailureTrace() {
 		Result testResult= getTestResult(false);
 		if (testResult == Result.ERROR || testResult == Result.FAILURE
-				|| (testResult == Result.IGNORED && fTrace != null)) {
-			return new FailureTrace(fTrace, fExpected, fActual);
+				|| (testResult == Result.IGNORED && hasTrace())) {
+			return new FailureTrace(getTrace(), getExpected(), getActual());
 		}
 		return null;
 	}
@@ -304,6 +315,9 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public void setStatus(Status status, String trace, String expected, String actual) {
+		if (fTraceStore != null) {
+			loadTraces();
+		}
 		if (trace != null && fTrace != null) {
 			//don't overwrite first trace if same test run logs multiple errors
 			fTrace= fTrace + trace;
@@ -315,23 +329,131 @@ public abstract class TestElement implements ITestElement {
 		setStatus(status);
 	}
 
+	/**
+	 * Sets the status and refers to a trace and comparison result that stay in the given store
+	 * until they are requested.
+	 *
+	 * @param status the status
+	 * @param store the trace store
+	 * @param trace handle of the trace in <code>store</code>
+	 * @param expected handle of the expected value in <code>store</code>
+	 * @param actual handle of the actual value in <code>store</code>
+	 */
+	public void setStatus(Status status, TraceStore store, long trace, long expected, long actual) {
+		fTrace= null;
+		fExpected= null;
+		fActual= null;
+		fTraceStore= store;
+		fTraceHandle= trace;
+		fExpectedHandle= expected;
+		fActualHandle= actual;
+		setStatus(status);
+	}
+
+	/**
+	 * Moves the trace and comparison result of this element to the given store, unless they
+	 * are already kept there.
+	 *
+	 * @param store the trace store
+	 * @return the handles of the trace, the expected and the actual value in <code>store</code>
+	 * @throws IOException if the store could not be written
+	 */
+	long[] moveTracesTo(TraceStore store) throws IOException {
+		if (fTraceStore != store) {
+			if (fTraceStore != null)
+				loadTraces();
+			fTraceHandle= store.add(fTrace);
+			fExpectedHandle= store.add(fExpected);
+			fActualHandle= store.add(fActual);
+			fTrace= null;
+			fExpected= null;
+			fActual= null;
+			fTraceStore= store;
+		}
+		return new long[] { fTraceHandle, fExpectedHandle, fActualHandle };
+	}
+
+	/**
+	 * @return whether this element has a trace or comparison result, in memory or in a store
+	 */
+	boolean hasTraces() {
+		return fTraceStore != null || fTrace != null || fExpected != null || fActual != null;
+	}
+
+	/**
+	 * @return the status of this element, without the status of its children
+	 */
+	Status getOwnStatus() {
+		return fStatus;
+	}
+
+	/**
+	 * @return whether an assumption of this element failed, regardless of its children
+	 */
+	boolean isOwnAssumptionFailure() {
+		return fAssumptionFailed;
+	}
+
+	/**
+	 * Restores the state of an element that has been swapped out. Unlike
+	 * {@link #setStatus(Status)}, this does not update the parent.
+	 *
+	 * @param status the own status of this element
+	 * @param assumptionFailed whether an assumption failed
+	 * @param time the value of {@link #fTime}
+	 * @param store the trace store, or <code>null</code> if the element has no trace
+	 * @param trace handle of the trace in <code>store</code>
+	 * @param expected handle of the expected value in <code>store</code>
+	 * @param actual handle of the actual value in <code>store</code>
+	 */
+	void restoreState(Status status, boolean assumptionFailed, double time, TraceStore store, long trace, long expected, long actual) {
+		fStatus= status;
+		fAssumptionFailed= assumptionFailed;
+		fTime= time;
+		fTraceStore= store;
+		fTraceHandle= trace;
+		fExpectedHandle= expected;
+		fActualHandle= actual;
+	}
+
+	private void loadTraces() {
+		fTrace= fTraceStore.get(fTraceHandle);
+		fExpected= fTraceStore.get(fExpectedHandle);
+		fActual= fTraceStore.get(fActualHandle);
+		fTraceStore= null;
+	}
+
 	public Status getStatus() {
 		return fStatus;
 	}
 
 	public String getTrace() {
+		if (fTraceStore != null)
+			return fTraceStore.get(fTraceHandle);
 		return fTrace;
 	}
 
 	public String getExpected() {
+		if (fTraceStore != null)
+			return fTraceStore.get(fExpectedHandle);
 		return fExpected;
 	}
 
 	public String getActual() {
+		if (fTraceStore != null)
+			return fTraceStore.get(fActualHandle);
 		return fActual;
 	}
 
+	private boolean hasTrace() {
+		if (fTraceStore != null)
+			return fTraceHandle != TraceStore.NULL_HANDLE;
+		return fTrace != null;
+	}
+
 	public boolean isComparisonFailure() {
+		if (fTraceStore != null)
+			return fExpectedHandle != TraceStore.NULL_HANDLE && fActualHandle != TraceStore.NULL_HANDLE;
 		return fExpected != null && fActual != null;
 	}
 
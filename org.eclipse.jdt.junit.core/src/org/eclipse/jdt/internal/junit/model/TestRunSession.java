@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,13 +16,16 @@
 package org.eclipse.jdt.internal.junit.model;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.jdt.junit.model.ITestElement;
 import org.eclipse.jdt.junit.model.ITestElementContainer;
@@ -70,9 +73,19 @@ public class TestRunSession implements ITestRunSession {
 	 * Test runner client or <code>null</code>.
 	 */
 	private RemoteTestRunnerClient fTestRunnerClient;
+	/**
+	 * The clients for all test runner VMs of a sharded launch, or <code>null</code> if the
+	 * launch has a single VM. The first client is also {@link #fTestRunnerClient}.
+	 */
+	private RemoteTestRunnerClient[] fShardClients;
 
 	private final ListenerList<ITestSessionListener> fSessionListeners;
 
+	/**
+	 * Delivers the events about individual tests to the session listeners.
+	 */
+	private final TestSessionEventBatcher fEventBatcher;
+
 	/**
 	 * The model root, or <code>null</code> if swapped to disk.
 	 */
@@ -100,6 +113,11 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private TestSuiteElement fUnrootedSuite;
 
+	/**
+	 * Store for failure traces that are kept on disk, or <code>null</code>.
+	 */
+	private TraceStore fTraceStore;
+
 	private static final String EMPTY_STRING= ""; //$NON-NLS-1$
 
 	/**
@@ -136,6 +154,16 @@ public class TestRunSession implements ITestRunSession {
 	 * Total number of tests to run.
 	 */
 	volatile int fTotalCount;
+	/**
+	 * Tests that have been started but not ended yet. More than one test is running at
+	 * the same time if the tests are executed in parallel. Only accessed by the thread that
+	 * receives the test run events.
+	 */
+	private final Set<TestCaseElement> fRunningTests= new HashSet<>();
+	/**
+	 * Number of tests that are currently running.
+	 */
+	volatile int fRunningCount;
 	/**
 	 * <ul>
 	 * <li>If &gt; 0: Start time in millis</li>
@@ -172,11 +200,27 @@ public class TestRunSession implements ITestRunSession {
 		fTestRunnerClient= null;
 
 		fSessionListeners= new ListenerList<>();
+		fEventBatcher= new TestSessionEventBatcher(this, fSessionListeners);
 	}
 
 
 	public TestRunSession(ILaunch launch, IJavaProject project, int port) {
+		this(launch, project, new int[] { port });
+	}
+
+	/**
+	 * Creates a test run session that receives the results of one or more test runner VMs.
+	 * The results of a sharded launch (see
+	 * {@link JUnitLaunchConfigurationConstants#ATTR_SHARD_COUNT}) are merged into this
+	 * session.
+	 *
+	 * @param launch the launch
+	 * @param project the launched project
+	 * @param ports the ports of the test runner VMs
+	 */
+	public TestRunSession(ILaunch launch, IJavaProject project, int[] ports) {
 		Assert.isNotNull(launch);
+		Assert.isTrue(ports.length > 0);
 
 		fLaunch= launch;
 		fProject= project;
@@ -193,26 +237,32 @@ public class TestRunSession implements ITestRunSession {
 		fTestRoot= new TestRoot(this);
 		fIdToTest= new HashMap<>();
 
-		fTestRunnerClient= new RemoteTestRunnerClient();
-		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
+		if (ports.length == 1) {
+			fTestRunnerClient= new RemoteTestRunnerClient();
+			fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, ports[0]);
+		} else {
+			ShardedRun shardedRun= new ShardedRun(ports.length);
+			fShardClients= new RemoteTestRunnerClient[ports.length];
+			for (int i= 0; i < ports.length; i++) {
+				fShardClients[i]= new RemoteTestRunnerClient();
+				fShardClients[i].startListening(new ITestRunListener2[] { new ShardNotifier(shardedRun, i) }, ports[i]);
+			}
+			fTestRunnerClient= fShardClients[0];
+		}
 
 		final ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(new ILaunchesListener2() {
 			@Override
 			public void launchesTerminated(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
 			@Override
 			public void launchesRemoved(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
@@ -225,9 +275,20 @@ public class TestRunSession implements ITestRunSession {
 		});
 
 		fSessionListeners= new ListenerList<>();
+		fEventBatcher= new TestSessionEventBatcher(this, fSessionListeners);
 		addTestSessionListener(new TestRunListenerAdapter(this));
 	}
 
+	private void stopWaiting() {
+		if (fShardClients != null) {
+			for (RemoteTestRunnerClient client : fShardClients) {
+				client.stopWaiting();
+			}
+		} else if (fTestRunnerClient != null) {
+			fTestRunnerClient.stopWaiting();
+		}
+	}
+
 	void reset() {
 		fStartedCount= 0;
 		fFailureCount= 0;
@@ -328,6 +389,14 @@ public class TestRunSession implements ITestRunSession {
 		return fStartedCount;
 	}
 
+	/**
+	 * @return the number of tests that are currently running; can be more than one if the
+	 *         tests are executed in parallel
+	 */
+	public int getRunningCount() {
+		return fRunningCount;
+	}
+
 	public int getIgnoredCount() {
 		return fIgnoredCount;
 	}
@@ -370,16 +439,17 @@ public class TestRunSession implements ITestRunSession {
 		try {
 			File swapFile= getSwapFile();
 
-			JUnitModel.exportTestRunSession(this, swapFile);
+			TestRunSessionSwapFile.write(this, swapFile);
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
 			fTestRunnerClient= null;
+			fShardClients= null;
 			fIdToTest= new HashMap<>();
 			fIncompleteTestSuites= null;
 			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
 
-		} catch (IllegalStateException | CoreException e) {
+		} catch (IllegalStateException | IOException e) {
 			JUnitCorePlugin.log(e);
 		}
 	}
@@ -393,12 +463,30 @@ public class TestRunSession implements ITestRunSession {
 		File swapFile= getSwapFile();
 		if (swapFile.exists())
 			swapFile.delete();
+		synchronized (this) {
+			if (fTraceStore != null) {
+				fTraceStore.delete();
+				fTraceStore= null;
+			}
+		}
+	}
+
+	/**
+	 * @return the store for failure traces of this session that are kept on disk
+	 * @throws IOException if the store could not be created
+	 */
+	public synchronized TraceStore getTraceStore() throws IOException {
+		if (fTraceStore == null) {
+			File historyDir= JUnitCorePlugin.getHistoryDirectory();
+			fTraceStore= new TraceStore(File.createTempFile("traces", ".bin", historyDir)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return fTraceStore;
 	}
 
 	private File getSwapFile() throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
+		String swapFileName= isoTime + ".swap"; //$NON-NLS-1$
 		return new File(historyDir, swapFileName);
 	}
 
@@ -407,11 +495,14 @@ public class TestRunSession implements ITestRunSession {
 		if (fTestRoot != null)
 			return;
 
+		fTestRoot= new TestRoot(this);
 		try {
-			JUnitModel.importIntoTestRunSession(getSwapFile(), this);
-		} catch (IllegalStateException | CoreException e) {
+			TestRunSessionSwapFile.read(getSwapFile(), this);
+			fTestResult= null;
+		} catch (IllegalStateException | IOException e) {
 			JUnitCorePlugin.log(e);
 			fTestRoot= new TestRoot(this);
+			fIdToTest= new HashMap<>();
 			fTestResult= null;
 		}
 	}
@@ -419,8 +510,13 @@ public class TestRunSession implements ITestRunSession {
 	public void stopTestRun() {
 		if (isRunning() || ! isKeptAlive())
 			fIsStopped= true;
-		if (fTestRunnerClient != null)
+		if (fShardClients != null) {
+			for (RemoteTestRunnerClient client : fShardClients) {
+				client.stopTest();
+			}
+		} else if (fTestRunnerClient != null) {
 			fTestRunnerClient.stopTest();
+		}
 	}
 
 	/**
@@ -611,6 +707,45 @@ public class TestRunSession implements ITestRunSession {
 		return i;
 	}
 
+	/**
+	 * Called by {@link TestRunSessionStreamReader} before it imports the elements of this
+	 * session progressively. Until {@link #importEnded()}, the session is running and
+	 * listeners are notified about the elements as they are read.
+	 */
+	void importStarted() {
+		fIsRunning= true;
+		fEventBatcher.testRunStarted();
+		for (ITestSessionListener listener : fSessionListeners) {
+			listener.sessionStarted();
+		}
+	}
+
+	void importTestAdded(TestElement testElement) {
+		fEventBatcher.testAdded(testElement);
+	}
+
+	void importTestEnded(TestElement testElement) {
+		if (testElement instanceof TestCaseElement)
+			fEventBatcher.testEnded((TestCaseElement) testElement);
+	}
+
+	void importTestFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+		fEventBatcher.testFailed(testElement, status, trace, expected, actual);
+	}
+
+	void importEnded() {
+		fIsRunning= false;
+		fEventBatcher.flush();
+		double elapsedTime= fTestRoot.getElapsedTimeInSeconds();
+		long elapsedMillis= Double.isNaN(elapsedTime) ? 0 : Math.round(elapsedTime * 1000);
+		for (ITestSessionListener listener : fSessionListeners) {
+			if (fIsStopped)
+				listener.sessionStopped(elapsedMillis);
+			else
+				listener.sessionEnded(elapsedMillis);
+		}
+	}
+
 	private TestSuiteElement getUnrootedSuite() {
 		if (fUnrootedSuite == null) {
 			fUnrootedSuite= (TestSuiteElement) createTestElement(fTestRoot, "-2", JUnitMessages.TestRunSession_unrootedTests, true, 0, false, JUnitMessages.TestRunSession_unrootedTests, null, null); //$NON-NLS-1$
@@ -636,9 +771,11 @@ public class TestRunSession implements ITestRunSession {
 			fAssumptionFailureCount = 0;
 			fErrorCount= 0;
 			fTotalCount= testCount;
+			clearRunningTests();
 
 			fStartTime= System.currentTimeMillis();
 			fIsRunning= true;
+			fEventBatcher.testRunStarted();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionStarted();
@@ -648,6 +785,8 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testRunEnded(long elapsedTime) {
 			fIsRunning= false;
+			clearRunningTests();
+			fEventBatcher.flush();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionEnded(elapsedTime);
@@ -657,7 +796,9 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testRunStopped(long elapsedTime) {
 			fIsRunning= false;
+			clearRunningTests();
 			fIsStopped= true;
+			fEventBatcher.flush();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionStopped(elapsedTime);
@@ -667,29 +808,30 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testRunTerminated() {
 			fIsRunning= false;
+			clearRunningTests();
 			fIsStopped= true;
+			fEventBatcher.flush();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionTerminated();
 			}
 		}
 
+		private void clearRunningTests() {
+			fRunningTests.clear();
+			fRunningCount= 0;
+		}
+
 		@Override
 		public void testTreeEntry(String description) {
 			TestElement testElement= addTreeEntry(description);
-
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testAdded(testElement);
-			}
+			fEventBatcher.testAdded(testElement);
 		}
 
 		private TestElement createUnrootedTestElement(String testId, String testName) {
 			TestSuiteElement unrootedSuite= getUnrootedSuite();
 			TestElement testElement= createTestElement(unrootedSuite, testId, testName, false, 1, false, testName, null, null);
-
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testAdded(testElement);
-			}
+			fEventBatcher.testAdded(testElement);
 
 			return testElement;
 		}
@@ -697,6 +839,7 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testStarted(String testId, String testName) {
 			if (fStartedCount == 0) {
+				fEventBatcher.flush();
 				for (ITestSessionListener listener : fSessionListeners) {
 					listener.runningBegins();
 				}
@@ -716,10 +859,10 @@ public class TestRunSession implements ITestRunSession {
 			}
 
 			fStartedCount++;
+			if (fRunningTests.add(testCaseElement))
+				fRunningCount= fRunningTests.size();
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testStarted(testCaseElement);
-			}
+			fEventBatcher.testStarted(testCaseElement);
 		}
 
 		@Override
@@ -747,10 +890,10 @@ public class TestRunSession implements ITestRunSession {
 
 			if (testCaseElement.getStatus() == Status.RUNNING)
 				setStatus(testCaseElement, Status.OK);
+			if (fRunningTests.remove(testCaseElement))
+				fRunningCount= fRunningTests.size();
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testEnded(testCaseElement);
-			}
+			fEventBatcher.testEnded(testCaseElement);
 		}
 
 
@@ -772,9 +915,7 @@ public class TestRunSession implements ITestRunSession {
 
 			registerTestFailureStatus(testElement, status, trace, expected, actual);
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testFailed(testElement, status, trace, expected, actual);
-			}
+			fEventBatcher.testFailed(testElement, status, trace, expected, actual);
 		}
 
 		@Override
@@ -791,6 +932,7 @@ public class TestRunSession implements ITestRunSession {
 			Status status= Status.convert(statusCode);
 			registerTestFailureStatus(testElement, status, trace, expectedResult, actualResult);
 
+			fEventBatcher.flush();
 			for (ITestSessionListener listener : fSessionListeners) {
 				//TODO: post old & new status?
 				listener.testReran(testCaseElement, status, trace, expectedResult, actualResult);
@@ -802,6 +944,170 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	/**
+	 * The state of a sharded launch that is shared by the {@link ShardNotifier}s of all shards.
+	 */
+	private class ShardedRun {
+		final TestSessionNotifier fNotifier= new TestSessionNotifier();
+		final int fShardCount;
+		int fStartedShards;
+		int fFinishedShards;
+		long fElapsedTime;
+		boolean fStopped;
+		boolean fTerminated;
+
+		ShardedRun(int shardCount) {
+			fShardCount= shardCount;
+		}
+	}
+
+	/**
+	 * Merges the events of one VM of a sharded launch into this session. The events of
+	 * all shards are processed one at a time. Every shard numbers its tests independently,
+	 * so the test ids are prefixed with the shard index, and every shard has its own
+	 * incomplete suites, since the tree entries of the shards are interleaved. The run is
+	 * started with the first shard and ends when all shards have ended.
+	 */
+	private class ShardNotifier implements ITestRunListener2 {
+		private final ShardedRun fRun;
+		private final String fIdPrefix;
+		private List<IncompleteTestSuite> fShardIncompleteTestSuites= new ArrayList<>();
+		private List<IncompleteTestSuite> fShardFactoryTestSuites= new ArrayList<>();
+		private boolean fFinished;
+
+		ShardNotifier(ShardedRun run, int shardIndex) {
+			fRun= run;
+			fIdPrefix= shardIndex + ":"; //$NON-NLS-1$
+		}
+
+		private void enter() {
+			fIncompleteTestSuites= fShardIncompleteTestSuites;
+			fFactoryTestSuites= fShardFactoryTestSuites;
+		}
+
+		private void exit() {
+			fShardIncompleteTestSuites= fIncompleteTestSuites;
+			fShardFactoryTestSuites= fFactoryTestSuites;
+		}
+
+		@Override
+		public void testRunStarted(int testCount) {
+			synchronized (fRun) {
+				enter();
+				if (fRun.fStartedShards++ == 0) {
+					fRun.fNotifier.testRunStarted(testCount);
+				} else {
+					fTotalCount+= testCount;
+				}
+				exit();
+			}
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			shardFinished(elapsedTime, false, false);
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			shardFinished(elapsedTime, true, false);
+		}
+
+		@Override
+		public void testRunTerminated() {
+			shardFinished(0, false, true);
+		}
+
+		private void shardFinished(long elapsedTime, boolean stopped, boolean terminated) {
+			synchronized (fRun) {
+				if (fFinished)
+					return;
+				fFinished= true;
+				fRun.fElapsedTime= Math.max(fRun.fElapsedTime, elapsedTime);
+				fRun.fStopped|= stopped;
+				fRun.fTerminated|= terminated;
+				if (++fRun.fFinishedShards < fRun.fShardCount)
+					return;
+
+				if (fRun.fTerminated) {
+					fRun.fNotifier.testRunTerminated();
+				} else if (fRun.fStopped) {
+					fRun.fNotifier.testRunStopped(fRun.fElapsedTime);
+				} else {
+					fRun.fNotifier.testRunEnded(fRun.fElapsedTime);
+				}
+			}
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			synchronized (fRun) {
+				enter();
+				fRun.fNotifier.testStarted(fIdPrefix + testId, testName);
+				exit();
+			}
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			synchronized (fRun) {
+				enter();
+				fRun.fNotifier.testEnded(fIdPrefix + testId, testName);
+				exit();
+			}
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			synchronized (fRun) {
+				enter();
+				fRun.fNotifier.testTreeEntry(toShardTreeEntry(description));
+				exit();
+			}
+		}
+
+		/**
+		 * @param treeEntry a tree entry, see {@link #addTreeEntry(String)}
+		 * @return the tree entry with the test id and the parent id of this shard
+		 */
+		private String toShardTreeEntry(String treeEntry) {
+			StringBuilder result= new StringBuilder(treeEntry.length() + 2 * fIdPrefix.length());
+			result.append(fIdPrefix);
+			int index0= treeEntry.indexOf(',');
+			int index1= scanTestName(treeEntry, index0 + 1, new StringBuilder());
+			int index2= treeEntry.indexOf(',', index1 + 1);
+			int index3= treeEntry.indexOf(',', index2 + 1);
+			if (index3 == -1)
+				return result.append(treeEntry).toString();
+
+			int index4= treeEntry.indexOf(',', index3 + 1);
+			int index5= treeEntry.indexOf(',', index4 + 1);
+			result.append(treeEntry, 0, index4 + 1);
+			String parentId= treeEntry.substring(index4 + 1, index5);
+			if (!"-1".equals(parentId)) //$NON-NLS-1$
+				result.append(fIdPrefix);
+			return result.append(treeEntry, index4 + 1, treeEntry.length()).toString();
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			synchronized (fRun) {
+				enter();
+				fRun.fNotifier.testFailed(status, fIdPrefix + testId, testName, trace, expected, actual);
+				exit();
+			}
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+			synchronized (fRun) {
+				enter();
+				fRun.fNotifier.testReran(fIdPrefix + testId, testClass, testName, status, trace, expected, actual);
+				exit();
+			}
+		}
+	}
+
 	private static class IncompleteTestSuite {
 		public TestSuiteElement fTestSuiteElement;
 		public int fOutstandingChildren;
@@ -823,6 +1129,17 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	public void registerTestFailureStatus(TestElement testElement, Status status, TraceStore store, long trace, long expected, long actual) {
+		testElement.setStatus(status, store, trace, expected, actual);
+		if (!testElement.isAssumptionFailure()) {
+			if (status.isError()) {
+				fErrorCount++;
+			} else if (status.isFailure()) {
+				fFailureCount++;
+			}
+		}
+	}
+
 	public void registerTestEnded(TestElement testElement, boolean completed) {
 		if (testElement instanceof TestCaseElement) {
 			fTotalCount++;
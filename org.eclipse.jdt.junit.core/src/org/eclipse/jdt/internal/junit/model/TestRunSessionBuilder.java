@@ -0,0 +1,377 @@
+/*******************************************************************************
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *     Brock Janiczak (brockj@tpg.com.au)
+ *         - https://bugs.eclipse.org/bugs/show_bug.cgi?id=102236: [JUnit] display execution time next to each test
+ *     Neale Upstone <neale@nealeupstone.com> - [JUnit] JUnit viewer doesn't recognise <skipped/> node - https://bugs.eclipse.org/bugs/show_bug.cgi?id=276068
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IJavaModel;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Builds a test run session from the elements of a test run session transcript. Used by the
+ * parsers that read transcripts, {@link TestRunHandler} and {@link TestRunSessionStreamReader}.
+ * <p>
+ * Subclasses can override the hooks that are called when the session and its test elements
+ * have been created.
+ * </p>
+ */
+class TestRunSessionBuilder {
+
+	/*
+	 * TODO: validate (currently assumes correct XML)
+	 */
+
+	private int fId;
+
+	private TestRunSession fTestRunSession;
+	private TestSuiteElement fTestSuite;
+	private TestCaseElement fTestCase;
+	private final Deque<Boolean> fNotRun= new ArrayDeque<>();
+
+	private StringBuilder fFailureBuffer;
+	private boolean fInExpected;
+	private boolean fInActual;
+	private StringBuilder fExpectedBuffer;
+	private StringBuilder fActualBuffer;
+
+	private Status fStatus;
+
+	/**
+	 * @param testRunSession the test run session to fill, or <code>null</code> to create a new
+	 *            session
+	 */
+	TestRunSessionBuilder(TestRunSession testRunSession) {
+		fTestRunSession= testRunSession;
+	}
+
+	/**
+	 * @return the test run session, or <code>null</code> if no session has been read yet
+	 */
+	TestRunSession getTestRunSession() {
+		return fTestRunSession;
+	}
+
+	/**
+	 * Handles the start of an element.
+	 *
+	 * @param name the name of the element
+	 * @param attributes returns the value of an attribute of the element, or <code>null</code>
+	 * @return <code>false</code> if the element is unknown
+	 */
+	boolean startElement(String name, Function<String, String> attributes) {
+		switch (name) {
+		case IXMLTags.NODE_TESTRUN:
+			if (fTestRunSession == null) {
+				String runName= attributes.apply(IXMLTags.ATTR_NAME);
+				String project= attributes.apply(IXMLTags.ATTR_PROJECT);
+				IJavaProject javaProject= null;
+				if (project != null) {
+					IJavaModel javaModel= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot());
+					javaProject= javaModel.getJavaProject(project);
+					if (! javaProject.exists())
+						javaProject= null;
+				}
+				fTestRunSession= new TestRunSession(runName, javaProject);
+				String includeTags= attributes.apply(IXMLTags.ATTR_INCLUDE_TAGS);
+				if (includeTags != null && includeTags.trim().length() > 0) {
+					fTestRunSession.setIncludeTags(includeTags);
+				}
+				String excludeTags= attributes.apply(IXMLTags.ATTR_EXCLUDE_TAGS);
+				if (excludeTags != null && excludeTags.trim().length() > 0) {
+					fTestRunSession.setExcludeTags(excludeTags);
+				}
+				//TODO: read counts?
+				sessionCreated(fTestRunSession);
+
+			} else {
+				fTestRunSession.reset();
+			}
+			fTestSuite= fTestRunSession.getTestRoot();
+			break;
+		// support Ant's 'junitreport' task; create suite from NODE_TESTSUITE
+		case IXMLTags.NODE_TESTSUITES:
+			break;
+		case IXMLTags.NODE_TESTSUITE:
+			{
+				String suiteName= attributes.apply(IXMLTags.ATTR_NAME);
+				if (fTestRunSession == null) {
+					// support standalone suites and Ant's 'junitreport' task:
+					fTestRunSession= new TestRunSession(suiteName, null);
+					fTestSuite= fTestRunSession.getTestRoot();
+					sessionCreated(fTestRunSession);
+				}
+				String pack= attributes.apply(IXMLTags.ATTR_PACKAGE);
+				if (pack != null)
+					suiteName= pack + "." + suiteName; //$NON-NLS-1$
+				fTestSuite= (TestSuiteElement) fTestRunSession.createTestElement(fTestSuite, getNextId(), suiteName, true, 0, false,
+						attributes.apply(IXMLTags.ATTR_DISPLAY_NAME), getParameterTypes(attributes), getUniqueId(attributes));
+				readTime(fTestSuite, attributes);
+				fNotRun.push(Boolean.valueOf(attributes.apply(IXMLTags.ATTR_INCOMPLETE)));
+				testAdded(fTestSuite);
+				break;
+			}
+		// not interested
+		case IXMLTags.NODE_PROPERTIES:
+		case IXMLTags.NODE_PROPERTY:
+			break;
+		case IXMLTags.NODE_TESTCASE:
+			{
+				String testName= attributes.apply(IXMLTags.ATTR_NAME) + '(' + attributes.apply(IXMLTags.ATTR_CLASSNAME) + ')';
+				boolean isDynamicTest= Boolean.parseBoolean(attributes.apply(IXMLTags.ATTR_DYNAMIC_TEST));
+				fTestCase= (TestCaseElement) fTestRunSession.createTestElement(fTestSuite, getNextId(), testName, false, 0, isDynamicTest,
+						attributes.apply(IXMLTags.ATTR_DISPLAY_NAME), getParameterTypes(attributes), getUniqueId(attributes));
+				fNotRun.push(Boolean.valueOf(attributes.apply(IXMLTags.ATTR_INCOMPLETE)));
+				fTestCase.setIgnored(Boolean.parseBoolean(attributes.apply(IXMLTags.ATTR_IGNORED)));
+				readTime(fTestCase, attributes);
+				testAdded(fTestCase);
+				break;
+			}
+		case IXMLTags.NODE_ERROR:
+			//TODO: multiple failures: https://bugs.eclipse.org/bugs/show_bug.cgi?id=125296
+			fStatus= Status.ERROR;
+			fFailureBuffer= new StringBuilder();
+			break;
+		case IXMLTags.NODE_FAILURE:
+			//TODO: multiple failures: https://bugs.eclipse.org/bugs/show_bug.cgi?id=125296
+			fStatus= Status.FAILURE;
+			fFailureBuffer= new StringBuilder();
+			break;
+		case IXMLTags.NODE_EXPECTED:
+			fInExpected= true;
+			fExpectedBuffer= new StringBuilder();
+			break;
+		case IXMLTags.NODE_ACTUAL:
+			fInActual= true;
+			fActualBuffer= new StringBuilder();
+			break;
+		// not interested
+		case IXMLTags.NODE_SYSTEM_OUT:
+		case IXMLTags.NODE_SYSTEM_ERR:
+			break;
+		case IXMLTags.NODE_ABORTED:		// fall through to the skipped
+		case IXMLTags.NODE_SKIPPED:
+			// before Ant 1.9.0: not an Ant JUnit tag, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=276068
+			// later: child of <suite> or <test>, see https://issues.apache.org/bugzilla/show_bug.cgi?id=43969
+			fStatus= Status.OK;
+			fFailureBuffer= new StringBuilder();
+			String message= attributes.apply(IXMLTags.ATTR_MESSAGE);
+			if (message != null) {
+				fFailureBuffer.append(message).append('\n');
+			}
+			break;
+		default:
+			return false;
+		}
+		return true;
+	}
+
+	private static String[] getParameterTypes(Function<String, String> attributes) {
+		String paramTypesStr= attributes.apply(IXMLTags.ATTR_PARAMETER_TYPES);
+		if (paramTypesStr == null || paramTypesStr.trim().isEmpty())
+			return null;
+		String[] paramTypes= paramTypesStr.split(","); //$NON-NLS-1$
+		for (int i= 0; i < paramTypes.length; i++) {
+			paramTypes[i]= paramTypes[i].trim();
+		}
+		return paramTypes;
+	}
+
+	private static String getUniqueId(Function<String, String> attributes) {
+		String uniqueId= attributes.apply(IXMLTags.ATTR_UNIQUE_ID);
+		if (uniqueId != null && uniqueId.trim().isEmpty())
+			return null;
+		return uniqueId;
+	}
+
+	private static void readTime(TestElement testElement, Function<String, String> attributes) {
+		String timeString= attributes.apply(IXMLTags.ATTR_TIME);
+		if (timeString != null) {
+			try {
+				testElement.setElapsedTimeInSeconds(Double.parseDouble(timeString));
+			} catch (NumberFormatException e) {
+			}
+		}
+	}
+
+	/**
+	 * Handles character data.
+	 *
+	 * @param ch the characters
+	 * @param start the start of the characters in <code>ch</code>
+	 * @param length the number of characters
+	 */
+	void characters(char[] ch, int start, int length) {
+		if (fInExpected) {
+			fExpectedBuffer.append(ch, start, length);
+
+		} else if (fInActual) {
+			fActualBuffer.append(ch, start, length);
+
+		} else if (fFailureBuffer != null) {
+			fFailureBuffer.append(ch, start, length);
+		}
+	}
+
+	/**
+	 * Handles the end of an element.
+	 *
+	 * @param name the name of the element
+	 * @return <code>false</code> if the element is unknown
+	 * @throws IOException if a failure trace could not be stored
+	 */
+	boolean endElement(String name) throws IOException {
+		switch (name) {
+		// OK
+		case IXMLTags.NODE_TESTRUN:
+		case IXMLTags.NODE_TESTSUITES:
+			break;
+		case IXMLTags.NODE_TESTSUITE:
+			handleTestElementEnd(fTestSuite);
+			fTestSuite= fTestSuite.getParent();
+			//TODO: end suite: compare counters?
+			break;
+		// OK
+		case IXMLTags.NODE_PROPERTIES:
+		case IXMLTags.NODE_PROPERTY:
+			break;
+		case IXMLTags.NODE_TESTCASE:
+			handleTestElementEnd(fTestCase);
+			fTestCase= null;
+			break;
+		case IXMLTags.NODE_FAILURE:
+		case IXMLTags.NODE_ERROR:
+			handleFailure(getCurrentElement());
+			break;
+		case IXMLTags.NODE_EXPECTED:
+			fInExpected= false;
+			if (fFailureBuffer != null) {
+				// skip whitespace from before <expected> and <actual> nodes
+				fFailureBuffer.setLength(0);
+			}
+			break;
+		case IXMLTags.NODE_ACTUAL:
+			fInActual= false;
+			if (fFailureBuffer != null) {
+				// skip whitespace from before <expected> and <actual> nodes
+				fFailureBuffer.setLength(0);
+			}
+			break;
+		// OK
+		case IXMLTags.NODE_SYSTEM_OUT:
+		case IXMLTags.NODE_SYSTEM_ERR:
+			break;
+		case IXMLTags.NODE_ABORTED:		// fall through to the skipped
+		case IXMLTags.NODE_SKIPPED:
+			{
+				TestElement testElement= getCurrentElement();
+				if (fFailureBuffer != null && fFailureBuffer.length() > 0) {
+					handleFailure(testElement);
+					testElement.setAssumptionFailed(true);
+				} else if (fTestCase != null) {
+					fTestCase.setIgnored(true);
+				} else { // not expected
+					testElement.setAssumptionFailed(true);
+				}
+				break;
+			}
+		default:
+			return false;
+		}
+		return true;
+	}
+
+	private TestElement getCurrentElement() {
+		return fTestCase != null ? fTestCase : fTestSuite;
+	}
+
+	private void handleTestElementEnd(TestElement testElement) {
+		boolean completed= fNotRun.pop() != Boolean.TRUE;
+		fTestRunSession.registerTestEnded(testElement, completed);
+		testEnded(testElement);
+	}
+
+	private void handleFailure(TestElement testElement) throws IOException {
+		if (fFailureBuffer == null)
+			return;
+		String trace= fFailureBuffer.toString();
+		String expected= toString(fExpectedBuffer);
+		String actual= toString(fActualBuffer);
+		registerFailure(testElement, fStatus, trace, expected, actual);
+		fFailureBuffer= null;
+		fExpectedBuffer= null;
+		fActualBuffer= null;
+		fStatus= null;
+	}
+
+	private static String toString(StringBuilder buffer) {
+		return buffer != null ? buffer.toString() : null;
+	}
+
+	private String getNextId() {
+		return Integer.toString(fId++);
+	}
+
+	/**
+	 * Called when the test run session has been created.
+	 *
+	 * @param testRunSession the new session
+	 */
+	protected void sessionCreated(TestRunSession testRunSession) {
+		// hook for subclasses
+	}
+
+	/**
+	 * Called when a test element has been added to the session.
+	 *
+	 * @param testElement the test element
+	 */
+	protected void testAdded(TestElement testElement) {
+		// hook for subclasses
+	}
+
+	/**
+	 * Called when a test element has ended.
+	 *
+	 * @param testElement the test element
+	 */
+	protected void testEnded(TestElement testElement) {
+		// hook for subclasses
+	}
+
+	/**
+	 * Registers a failure of a test element with the session.
+	 *
+	 * @param testElement the test element
+	 * @param status the status of the failure
+	 * @param trace the failure trace
+	 * @param expected the expected value, or <code>null</code>
+	 * @param actual the actual value, or <code>null</code>
+	 * @throws IOException if the trace could not be stored
+	 */
+	protected void registerFailure(TestElement testElement, Status status, String trace, String expected, String actual) throws IOException {
+		fTestRunSession.registerTestFailureStatus(testElement, status, trace, expected, actual);
+	}
+}
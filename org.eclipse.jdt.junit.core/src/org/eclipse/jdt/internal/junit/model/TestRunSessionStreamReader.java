@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.osgi.util.NLS;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.util.XmlProcessorFactoryJdtJunit;
+
+/**
+ * Reads a test run session with a StAX parser. Understands the same format as
+ * {@link TestRunHandler}.
+ * <p>
+ * In progressive mode, the session is added to the {@link JUnitModel} as soon as its header
+ * has been read, and listeners are informed about the test elements while they are read.
+ * The session reports itself as running until the import is done, so that the import
+ * can be stopped like a test run. If the import fails, the session is removed from the model
+ * again.
+ * </p>
+ * <p>
+ * If traces are stored on disk, failure traces and comparison results are written to the
+ * {@link TraceStore} of the session and are only read again when they are requested.
+ * </p>
+ */
+public class TestRunSessionStreamReader {
+
+	private final IProgressMonitor fMonitor;
+	private final boolean fProgressive;
+	private final boolean fStoreTraces;
+
+	private final TestRunSessionBuilder fBuilder;
+
+	private XMLStreamReader fReader;
+	private int fLastReportedLine;
+	private boolean fSessionCreated;
+	private boolean fImportStarted;
+
+	/**
+	 * Creates a reader that creates a new test run session.
+	 *
+	 * @param monitor a progress monitor, or <code>null</code>
+	 * @param progressive whether to add the session to the model before it has been read completely
+	 * @param storeTraces whether to keep failure traces on disk until they are requested
+	 */
+	public TestRunSessionStreamReader(IProgressMonitor monitor, boolean progressive, boolean storeTraces) {
+		this(null, monitor, progressive, storeTraces);
+	}
+
+	/**
+	 * Creates a reader that reads into an existing test run session.
+	 *
+	 * @param testRunSession the test run session to fill
+	 */
+	public TestRunSessionStreamReader(TestRunSession testRunSession) {
+		this(testRunSession, null, false, false);
+	}
+
+	private TestRunSessionStreamReader(TestRunSession testRunSession, IProgressMonitor monitor, boolean progressive, boolean storeTraces) {
+		fMonitor= monitor;
+		fProgressive= progressive;
+		fStoreTraces= storeTraces;
+		fBuilder= new Builder(testRunSession);
+	}
+
+	/**
+	 * Reads a test run session from the given stream. The stream is not closed.
+	 *
+	 * @param in the stream
+	 * @return the test run session, or <code>null</code> if the stream contains no test run
+	 * @throws XMLStreamException if the contents could not be parsed
+	 * @throws IOException if the traces could not be stored
+	 * @throws OperationCanceledException if the import has been canceled
+	 */
+	public TestRunSession read(InputStream in) throws XMLStreamException, IOException {
+		fReader= XmlProcessorFactoryJdtJunit.createXMLInputFactoryWithoutDTD().createXMLStreamReader(in);
+		boolean failed= true;
+		try {
+			while (fReader.hasNext()) {
+				switch (fReader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					startElement(fReader.getLocalName());
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					endElement(fReader.getLocalName());
+					break;
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+				case XMLStreamConstants.SPACE:
+					fBuilder.characters(fReader.getTextCharacters(), fReader.getTextStart(), fReader.getTextLength());
+					break;
+				default:
+					break;
+				}
+				if (fImportStarted && fBuilder.getTestRunSession().isStopped())
+					break;
+			}
+			failed= false;
+		} catch (OperationCanceledException e) {
+			// a canceled import keeps the tests that have been read so far
+			failed= false;
+			if (fImportStarted)
+				fBuilder.getTestRunSession().stopTestRun();
+			throw e;
+		} finally {
+			fReader.close();
+			fReader= null;
+			TestRunSession session= fBuilder.getTestRunSession();
+			if (fImportStarted)
+				session.importEnded();
+			if (failed && fSessionCreated) {
+				if (fImportStarted)
+					JUnitCorePlugin.getModel().removeTestRunSession(session);
+				else
+					session.removeSwapFile();
+			}
+		}
+		return fBuilder.getTestRunSession();
+	}
+
+	private void startElement(String name) throws XMLStreamException {
+		if (fMonitor != null) {
+			int line= fReader.getLocation().getLineNumber();
+			if (line - 20 >= fLastReportedLine) {
+				line -= line % 20;
+				fLastReportedLine= line;
+				fMonitor.subTask(NLS.bind(ModelMessages.TestRunHandler_lines_read, Integer.valueOf(line)));
+			}
+			if (fMonitor.isCanceled())
+				throw new OperationCanceledException();
+		}
+		if (Thread.interrupted())
+			throw new OperationCanceledException();
+
+		if (!fBuilder.startElement(name, attribute -> fReader.getAttributeValue(null, attribute)))
+			throw new XMLStreamException("unknown node '" + name + "'", fReader.getLocation());  //$NON-NLS-1$//$NON-NLS-2$
+	}
+
+	private void endElement(String name) throws IOException, XMLStreamException {
+		if (!fBuilder.endElement(name)) {
+			Location location= fReader.getLocation();
+			throw new XMLStreamException("unknown node '" + name + "' at line " + location.getLineNumber() + ", column " + location.getColumnNumber()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	private class Builder extends TestRunSessionBuilder {
+
+		Builder(TestRunSession testRunSession) {
+			super(testRunSession);
+		}
+
+		@Override
+		protected void sessionCreated(TestRunSession testRunSession) {
+			fSessionCreated= true;
+			if (fProgressive) {
+				testRunSession.importStarted();
+				fImportStarted= true;
+				JUnitCorePlugin.getModel().addTestRunSession(testRunSession);
+			}
+		}
+
+		@Override
+		protected void testAdded(TestElement testElement) {
+			if (fImportStarted)
+				getTestRunSession().importTestAdded(testElement);
+		}
+
+		@Override
+		protected void testEnded(TestElement testElement) {
+			if (fImportStarted)
+				getTestRunSession().importTestEnded(testElement);
+		}
+
+		@Override
+		protected void registerFailure(TestElement testElement, Status status, String trace, String expected, String actual) throws IOException {
+			TestRunSession testRunSession= getTestRunSession();
+			if (fStoreTraces && !testElement.getStatus().isErrorOrFailure()) {
+				TraceStore store= testRunSession.getTraceStore();
+				testRunSession.registerTestFailureStatus(testElement, status, store, store.add(trace), store.add(expected), store.add(actual));
+			} else {
+				// a second failure of the same element is appended to the first trace
+				super.registerFailure(testElement, status, trace, expected, actual);
+			}
+			if (fImportStarted)
+				testRunSession.importTestFailed(testElement, status, trace, expected, actual);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Writes a test run session in the same format as {@link TestRunSessionSerializer}, but
+ * streams the elements directly to the output instead of going through a transformer.
+ * Failure traces are written one at a time, so that they don't all have to be in memory.
+ */
+public class TestRunSessionStreamWriter extends AbstractTestRunSessionWriter<XMLStreamException> {
+
+	private static final String ENCODING= "UTF-8"; //$NON-NLS-1$
+	private static final String INDENT= "  "; //$NON-NLS-1$
+
+	private XMLStreamWriter fWriter;
+
+	private int fDepth;
+
+	/**
+	 * @param testRunSession the test run session to write
+	 */
+	public TestRunSessionStreamWriter(TestRunSession testRunSession) {
+		super(testRunSession);
+	}
+
+	/**
+	 * Writes the test run session to the given stream. The stream is not closed.
+	 *
+	 * @param out the destination
+	 * @throws XMLStreamException if writing fails
+	 */
+	public void write(OutputStream out) throws XMLStreamException {
+		fWriter= XMLOutputFactory.newInstance().createXMLStreamWriter(out, ENCODING);
+		fDepth= 0;
+		try {
+			fWriter.writeStartDocument(ENCODING, "1.0"); //$NON-NLS-1$
+			writeTestRun();
+			fWriter.writeCharacters("\n"); //$NON-NLS-1$
+			fWriter.writeEndDocument();
+			fWriter.flush();
+		} finally {
+			fWriter.close();
+			fWriter= null;
+		}
+	}
+
+	/**
+	 * Starts an element on a new line.
+	 *
+	 * @param name the element name
+	 * @param attributes the attributes of the element
+	 * @param empty whether the element will have no content
+	 * @throws XMLStreamException if writing fails
+	 */
+	@Override
+	protected void startElement(String name, Map<String, String> attributes, boolean empty) throws XMLStreamException {
+		newLine();
+		if (empty) {
+			fWriter.writeEmptyElement(name);
+		} else {
+			fWriter.writeStartElement(name);
+			fDepth++;
+		}
+		for (Entry<String, String> attribute : attributes.entrySet()) {
+			fWriter.writeAttribute(attribute.getKey(), attribute.getValue());
+		}
+	}
+
+	/**
+	 * Ends an element that has been started with {@link #startElement(String, Map, boolean)},
+	 * on a new line if it has child elements.
+	 *
+	 * @param name the element name
+	 * @param empty whether the element has been started as empty element
+	 * @throws XMLStreamException if writing fails
+	 */
+	@Override
+	protected void endElement(String name, boolean empty) throws XMLStreamException {
+		if (empty)
+			return;
+		fDepth--;
+		newLine();
+		fWriter.writeEndElement();
+	}
+
+	/**
+	 * Ends an element with text content, without adding whitespace to the content.
+	 *
+	 * @param name the element name
+	 * @throws XMLStreamException if writing fails
+	 */
+	@Override
+	protected void endTextElement(String name) throws XMLStreamException {
+		fDepth--;
+		fWriter.writeEndElement();
+	}
+
+	private void newLine() throws XMLStreamException {
+		fWriter.writeCharacters("\n"); //$NON-NLS-1$
+		for (int i= 0; i < fDepth; i++) {
+			fWriter.writeCharacters(INDENT);
+		}
+	}
+
+	@Override
+	protected void characters(String string) throws XMLStreamException {
+		char[] chars= string.toCharArray();
+		int start= 0;
+		for (int i= 0; i < chars.length; i++) {
+			if (chars[i] == '\r') {
+				// would be normalized to '\n' when reading the file again
+				fWriter.writeCharacters(chars, start, i - start);
+				fWriter.writeEntityRef("#13"); //$NON-NLS-1$
+				start= i + 1;
+			}
+		}
+		fWriter.writeCharacters(chars, start, chars.length - start);
+	}
+}
@@ -0,0 +1,327 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Compact binary format for the test tree of a swapped out {@link TestRunSession}.
+ * <p>
+ * All strings (test names, class names, ids, ...) are written once to a string table
+ * and referenced by their index, so that the many test names that share a class name
+ * don't repeat it. The test elements are written in pre-order as columns of primitive
+ * values, except for the parameter types, which are written as their number followed by
+ * their string indexes. Failure traces are not part of the file: they are moved to the
+ * {@link TraceStore} of the session and stay there after the session has been swapped
+ * in again, until a trace is requested.
+ * </p>
+ * <p>
+ * The summary of a session (counters, name, result) is not written, since it stays in
+ * memory while the session is swapped out.
+ * </p>
+ */
+class TestRunSessionSwapFile {
+
+	private static final int MAGIC= 0x4A555332; // "JUS2"
+
+	private static final byte KIND_SUITE= 0;
+	private static final byte KIND_CASE= 1;
+
+	private static final byte FLAG_IGNORED= 1;
+	private static final byte FLAG_DYNAMIC= 2;
+	private static final byte FLAG_ASSUMPTION_FAILED= 4;
+
+	/**
+	 * The status constants, indexed by their code in the file.
+	 */
+	private static final Status[] STATUSES= { Status.OK, Status.ERROR, Status.FAILURE, Status.RUNNING, Status.NOT_RUN, Status.RUNNING_ERROR, Status.RUNNING_FAILURE };
+
+	private static final int NONE= -1;
+
+	private TestRunSessionSwapFile() {
+		// static utility
+	}
+
+	/**
+	 * Writes the test tree of the given session.
+	 *
+	 * @param session the session to swap out
+	 * @param file the swap file
+	 * @throws IOException if writing fails
+	 */
+	static void write(TestRunSession session, File file) throws IOException {
+		TraceStore traceStore= null;
+		List<TestElement> elements= new ArrayList<>();
+		collect(session.getTestRoot(), elements);
+		int count= elements.size();
+
+		HashMap<String, Integer> stringTable= new HashMap<>();
+		List<String> strings= new ArrayList<>();
+		IdentityHashMap<TestElement, Integer> indexes= new IdentityHashMap<>(count);
+
+		int[] parents= new int[count];
+		byte[] kinds= new byte[count];
+		byte[] flags= new byte[count];
+		byte[] statuses= new byte[count];
+		byte[] childrenStatuses= new byte[count];
+		double[] times= new double[count];
+		int[] ids= new int[count];
+		int[] names= new int[count];
+		int[] classNames= new int[count];
+		int[] displayNames= new int[count];
+		int[][] parameterTypes= new int[count][];
+		int[] uniqueIds= new int[count];
+		long[] traces= new long[count * 3];
+
+		for (int i= 0; i < count; i++) {
+			TestElement element= elements.get(i);
+			indexes.put(element, Integer.valueOf(i));
+			parents[i]= i == 0 ? NONE : indexes.get(element.getParent()).intValue();
+			if (element instanceof TestSuiteElement) {
+				kinds[i]= KIND_SUITE;
+				childrenStatuses[i]= toCode(((TestSuiteElement) element).getChildrenStatus());
+			} else {
+				TestCaseElement testCase= (TestCaseElement) element;
+				kinds[i]= KIND_CASE;
+				if (testCase.isIgnored())
+					flags[i]|= FLAG_IGNORED;
+				if (testCase.isDynamicTest())
+					flags[i]|= FLAG_DYNAMIC;
+				childrenStatuses[i]= NONE;
+			}
+			if (element.isOwnAssumptionFailure())
+				flags[i]|= FLAG_ASSUMPTION_FAILED;
+			statuses[i]= toCode(element.getOwnStatus());
+			times[i]= element.fTime;
+			ids[i]= intern(element.getId(), stringTable, strings);
+
+			String testName= element.getTestName();
+			int classStart= testName.lastIndexOf('(');
+			if (classStart > 0 && testName.endsWith(")")) { //$NON-NLS-1$
+				names[i]= intern(testName.substring(0, classStart), stringTable, strings);
+				classNames[i]= intern(testName.substring(classStart + 1, testName.length() - 1), stringTable, strings);
+			} else {
+				names[i]= intern(testName, stringTable, strings);
+				classNames[i]= NONE;
+			}
+			displayNames[i]= intern(element.getDisplayName(), stringTable, strings);
+			String[] types= element.getParameterTypes();
+			if (types != null) {
+				parameterTypes[i]= new int[types.length];
+				for (int j= 0; j < types.length; j++) {
+					parameterTypes[i][j]= intern(types[j], stringTable, strings);
+				}
+			}
+			uniqueIds[i]= intern(element.getUniqueId(), stringTable, strings);
+
+			if (element.hasTraces()) {
+				if (traceStore == null)
+					traceStore= session.getTraceStore();
+				long[] handles= element.moveTracesTo(traceStore);
+				System.arraycopy(handles, 0, traces, i * 3, 3);
+			} else {
+				Arrays.fill(traces, i * 3, i * 3 + 3, TraceStore.NULL_HANDLE);
+			}
+		}
+
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(strings.size());
+			for (String string : strings) {
+				byte[] bytes= string.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			out.writeInt(count);
+			writeInts(out, parents);
+			out.write(kinds);
+			out.write(flags);
+			out.write(statuses);
+			out.write(childrenStatuses);
+			for (double time : times) {
+				out.writeDouble(time);
+			}
+			writeInts(out, ids);
+			writeInts(out, names);
+			writeInts(out, classNames);
+			writeInts(out, displayNames);
+			for (int[] types : parameterTypes) {
+				if (types == null) {
+					out.writeInt(NONE);
+				} else {
+					out.writeInt(types.length);
+					writeInts(out, types);
+				}
+			}
+			writeInts(out, uniqueIds);
+			for (long trace : traces) {
+				out.writeLong(trace);
+			}
+		}
+	}
+
+	/**
+	 * Reads the test tree of the given session. The test root of the session must be empty.
+	 *
+	 * @param file the swap file
+	 * @param session the session to swap in
+	 * @throws IOException if reading fails
+	 */
+	static void read(File file, TestRunSession session) throws IOException {
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC)
+				throw new IOException("Not a test run swap file: " + file); //$NON-NLS-1$
+			String[] strings= new String[in.readInt()];
+			for (int i= 0; i < strings.length; i++) {
+				byte[] bytes= new byte[in.readInt()];
+				in.readFully(bytes);
+				strings[i]= new String(bytes, StandardCharsets.UTF_8);
+			}
+			int count= in.readInt();
+			int[] parents= readInts(in, count);
+			byte[] kinds= readBytes(in, count);
+			byte[] flags= readBytes(in, count);
+			byte[] statuses= readBytes(in, count);
+			byte[] childrenStatuses= readBytes(in, count);
+			double[] times= new double[count];
+			for (int i= 0; i < count; i++) {
+				times[i]= in.readDouble();
+			}
+			int[] ids= readInts(in, count);
+			int[] names= readInts(in, count);
+			int[] classNames= readInts(in, count);
+			int[] displayNames= readInts(in, count);
+			int[][] parameterTypes= new int[count][];
+			for (int i= 0; i < count; i++) {
+				int typeCount= in.readInt();
+				if (typeCount != NONE)
+					parameterTypes[i]= readInts(in, typeCount);
+			}
+			int[] uniqueIds= readInts(in, count);
+			long[] traces= new long[count * 3];
+			for (int i= 0; i < traces.length; i++) {
+				traces[i]= in.readLong();
+			}
+
+			TraceStore traceStore= null;
+			TestElement[] elements= new TestElement[count];
+			for (int i= 0; i < count; i++) {
+				TestElement element;
+				if (i == 0) {
+					element= session.getTestRoot();
+				} else {
+					String testName= strings[names[i]];
+					if (classNames[i] != NONE)
+						testName= testName + '(' + strings[classNames[i]] + ')';
+					String[] types= null;
+					if (parameterTypes[i] != null) {
+						types= new String[parameterTypes[i].length];
+						for (int j= 0; j < types.length; j++) {
+							types[j]= strings[parameterTypes[i][j]];
+						}
+					}
+					element= session.createTestElement((TestSuiteElement) elements[parents[i]], strings[ids[i]], testName,
+							kinds[i] == KIND_SUITE, 0, (flags[i] & FLAG_DYNAMIC) != 0,
+							get(strings, displayNames[i]), types, get(strings, uniqueIds[i]));
+				}
+				elements[i]= element;
+				if (element instanceof TestSuiteElement) {
+					((TestSuiteElement) element).restoreChildrenStatus(fromCode(childrenStatuses[i]));
+				} else {
+					((TestCaseElement) element).setIgnored((flags[i] & FLAG_IGNORED) != 0);
+				}
+				long trace= traces[i * 3];
+				long expected= traces[i * 3 + 1];
+				long actual= traces[i * 3 + 2];
+				if (traceStore == null && (trace != TraceStore.NULL_HANDLE || expected != TraceStore.NULL_HANDLE || actual != TraceStore.NULL_HANDLE))
+					traceStore= session.getTraceStore();
+				element.restoreState(fromCode(statuses[i]), (flags[i] & FLAG_ASSUMPTION_FAILED) != 0, times[i],
+						traceStore, trace, expected, actual);
+			}
+		}
+	}
+
+	private static void collect(TestElement element, List<TestElement> elements) {
+		elements.add(element);
+		if (element instanceof TestSuiteElement) {
+			for (TestElement child : ((TestSuiteElement) element).getChildElements()) {
+				collect(child, elements);
+			}
+		}
+	}
+
+	private static int intern(String string, HashMap<String, Integer> stringTable, List<String> strings) {
+		if (string == null)
+			return NONE;
+		Integer index= stringTable.get(string);
+		if (index == null) {
+			index= Integer.valueOf(strings.size());
+			stringTable.put(string, index);
+			strings.add(string);
+		}
+		return index.intValue();
+	}
+
+	private static String get(String[] strings, int index) {
+		return index == NONE ? null : strings[index];
+	}
+
+	private static byte toCode(Status status) {
+		for (byte i= 0; i < STATUSES.length; i++) {
+			if (STATUSES[i] == status)
+				return i;
+		}
+		return NONE;
+	}
+
+	private static Status fromCode(byte code) {
+		return code == NONE ? null : STATUSES[code];
+	}
+
+	private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+		for (int value : values) {
+			out.writeInt(value);
+		}
+	}
+
+	private static int[] readInts(DataInputStream in, int count) throws IOException {
+		int[] values= new int[count];
+		for (int i= 0; i < count; i++) {
+			values[i]= in.readInt();
+		}
+		return values;
+	}
+
+	private static byte[] readBytes(DataInputStream in, int count) throws IOException {
+		byte[] values= new byte[count];
+		in.readFully(values);
+		return values;
+	}
+}
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * A batch of changes to the tests of a {@link TestRunSession}, in the order in which they
+ * happened, together with the counters of the session at the time the batch was published.
+ *
+ * @see ITestSessionBatchListener
+ */
+public final class TestSessionBatch {
+
+	/**
+	 * The kind of an {@link Event}.
+	 */
+	public enum Kind {
+		/**
+		 * A test has been added to the plan, see {@link ITestSessionListener#testAdded(TestElement)}.
+		 */
+		ADDED,
+		/**
+		 * A test has been started, see {@link ITestSessionListener#testStarted(TestCaseElement)}.
+		 */
+		STARTED,
+		/**
+		 * A test has ended, see {@link ITestSessionListener#testEnded(TestCaseElement)}.
+		 */
+		ENDED,
+		/**
+		 * A failure has been reported, the event is a {@link Failure}.
+		 */
+		FAILED
+	}
+
+	/**
+	 * A change to a test.
+	 */
+	public static class Event {
+		private final Kind fKind;
+		private final TestElement fTestElement;
+
+		Event(Kind kind, TestElement testElement) {
+			fKind= kind;
+			fTestElement= testElement;
+		}
+
+		public Kind getKind() {
+			return fKind;
+		}
+
+		/**
+		 * @return the test, a {@link TestCaseElement} for {@link Kind#STARTED} and {@link Kind#ENDED}
+		 */
+		public TestElement getTestElement() {
+			return fTestElement;
+		}
+	}
+
+	/**
+	 * A failure of a test, as reported by {@link ITestSessionListener#testFailed(TestElement, Status, String, String, String)}.
+	 */
+	public static final class Failure extends Event {
+		private final Status fStatus;
+		private final String fTrace;
+		private final String fExpected;
+		private final String fActual;
+		private final boolean fFirstErrorOrFailure;
+
+		Failure(TestElement testElement, Status status, String trace, String expected, String actual, boolean firstErrorOrFailure) {
+			super(Kind.FAILED, testElement);
+			fStatus= status;
+			fTrace= trace;
+			fExpected= expected;
+			fActual= actual;
+			fFirstErrorOrFailure= firstErrorOrFailure;
+		}
+
+		public Status getStatus() {
+			return fStatus;
+		}
+
+		public String getTrace() {
+			return fTrace;
+		}
+
+		public String getExpected() {
+			return fExpected;
+		}
+
+		public String getActual() {
+			return fActual;
+		}
+
+		/**
+		 * @return <code>true</code> if this is the first error or failure of the test run that
+		 *         is not an assumption failure
+		 */
+		public boolean isFirstErrorOrFailure() {
+			return fFirstErrorOrFailure;
+		}
+	}
+
+	private final List<Event> fEvents= new ArrayList<>();
+
+	private TestCaseElement fLastStarted;
+	private boolean fContainsFirstErrorOrFailure;
+
+	private int fStartedCount;
+	private int fIgnoredCount;
+	private int fAssumptionFailureCount;
+	private int fErrorCount;
+	private int fFailureCount;
+	private int fTotalCount;
+
+	void addAdded(TestElement testElement) {
+		fEvents.add(new Event(Kind.ADDED, testElement));
+	}
+
+	void addStarted(TestCaseElement testCaseElement) {
+		fEvents.add(new Event(Kind.STARTED, testCaseElement));
+		fLastStarted= testCaseElement;
+	}
+
+	void addEnded(TestCaseElement testCaseElement) {
+		fEvents.add(new Event(Kind.ENDED, testCaseElement));
+	}
+
+	void addFailure(TestElement testElement, Status status, String trace, String expected, String actual, boolean firstErrorOrFailure) {
+		fEvents.add(new Failure(testElement, status, trace, expected, actual, firstErrorOrFailure));
+		if (firstErrorOrFailure)
+			fContainsFirstErrorOrFailure= true;
+	}
+
+	/**
+	 * @return the number of events in this batch
+	 */
+	public int size() {
+		return fEvents.size();
+	}
+
+	public boolean isEmpty() {
+		return fEvents.isEmpty();
+	}
+
+	void setCounts(TestRunSession session) {
+		fStartedCount= session.getStartedCount();
+		fIgnoredCount= session.getIgnoredCount();
+		fAssumptionFailureCount= session.getAssumptionFailureCount();
+		fErrorCount= session.getErrorCount();
+		fFailureCount= session.getFailureCount();
+		fTotalCount= session.getTotalCount();
+	}
+
+	/**
+	 * @return the events, in the order in which they happened
+	 */
+	public List<Event> getEvents() {
+		return Collections.unmodifiableList(fEvents);
+	}
+
+	/**
+	 * @return the last test that has been started in this batch, or <code>null</code>
+	 */
+	public TestCaseElement getLastStartedTest() {
+		return fLastStarted;
+	}
+
+	/**
+	 * @return <code>true</code> if this batch contains the first error or failure of the test run
+	 * @see Failure#isFirstErrorOrFailure()
+	 */
+	public boolean containsFirstErrorOrFailure() {
+		return fContainsFirstErrorOrFailure;
+	}
+
+	public int getStartedCount() {
+		return fStartedCount;
+	}
+
+	public int getIgnoredCount() {
+		return fIgnoredCount;
+	}
+
+	public int getAssumptionFailureCount() {
+		return fAssumptionFailureCount;
+	}
+
+	public int getErrorCount() {
+		return fErrorCount;
+	}
+
+	public int getFailureCount() {
+		return fFailureCount;
+	}
+
+	public int getTotalCount() {
+		return fTotalCount;
+	}
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Forwards the events about individual tests of a {@link TestRunSession} to its listeners.
+ * Plain {@link ITestSessionListener}s are notified immediately, {@link ITestSessionBatchListener}s
+ * receive the events in batches that are bounded by {@link #MAX_BATCH_SIZE} and {@link #MAX_BATCH_DELAY}.
+ * The events of a batch keep the order in which they have been reported.
+ * <p>
+ * The batcher is only used by {@link TestRunSession}. It is public so that it can be tested
+ * without a running test session.
+ * </p>
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class TestSessionEventBatcher {
+
+	/**
+	 * A batch is published as soon as it contains this number of events.
+	 */
+	static final int MAX_BATCH_SIZE= 1000;
+
+	/**
+	 * A batch is published at the latest after this number of milliseconds.
+	 */
+	static final long MAX_BATCH_DELAY= 100;
+
+	private final TestRunSession fSession;
+
+	private final ListenerList<ITestSessionListener> fListeners;
+
+	/**
+	 * Serializes the delivery of batches, so that listeners see them in order.
+	 */
+	private final Object fDeliveryLock= new Object();
+
+	/**
+	 * The batch that is being accumulated, or <code>null</code>. Guarded by <code>this</code>.
+	 */
+	private TestSessionBatch fPending;
+
+	/**
+	 * Whether the first error or failure of the test run has been added to a batch. Guarded by
+	 * <code>this</code>.
+	 */
+	private boolean fErrorOrFailureAdded;
+
+	private final Job fFlushJob;
+
+	/**
+	 * @param session the session whose counters are published with the batches
+	 * @param listeners the listeners of the session
+	 */
+	public TestSessionEventBatcher(TestRunSession session, ListenerList<ITestSessionListener> listeners) {
+		fSession= session;
+		fListeners= listeners;
+		fFlushJob= new Job(ModelMessages.TestSessionEventBatcher_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				flush();
+				return Status.OK_STATUS;
+			}
+		};
+		fFlushJob.setSystem(true);
+	}
+
+	public void testAdded(TestElement testElement) {
+		for (ITestSessionListener listener : fListeners) {
+			if (!(listener instanceof ITestSessionBatchListener))
+				listener.testAdded(testElement);
+		}
+		if (hasBatchListeners()) {
+			boolean full;
+			synchronized (this) {
+				getPending().addAdded(testElement);
+				full= isFull();
+			}
+			if (full)
+				flush();
+		}
+	}
+
+	public void testStarted(TestCaseElement testCaseElement) {
+		for (ITestSessionListener listener : fListeners) {
+			if (!(listener instanceof ITestSessionBatchListener))
+				listener.testStarted(testCaseElement);
+		}
+		if (hasBatchListeners()) {
+			boolean full;
+			synchronized (this) {
+				getPending().addStarted(testCaseElement);
+				full= isFull();
+			}
+			if (full)
+				flush();
+		}
+	}
+
+	public void testEnded(TestCaseElement testCaseElement) {
+		for (ITestSessionListener listener : fListeners) {
+			if (!(listener instanceof ITestSessionBatchListener))
+				listener.testEnded(testCaseElement);
+		}
+		if (hasBatchListeners()) {
+			boolean full;
+			synchronized (this) {
+				getPending().addEnded(testCaseElement);
+				full= isFull();
+			}
+			if (full)
+				flush();
+		}
+	}
+
+	public void testFailed(TestElement testElement, TestElement.Status status, String trace, String expected, String actual) {
+		for (ITestSessionListener listener : fListeners) {
+			if (!(listener instanceof ITestSessionBatchListener))
+				listener.testFailed(testElement, status, trace, expected, actual);
+		}
+		if (hasBatchListeners()) {
+			boolean full;
+			synchronized (this) {
+				boolean first= !fErrorOrFailureAdded && status.isErrorOrFailure() && !testElement.isAssumptionFailure();
+				if (first)
+					fErrorOrFailureAdded= true;
+				getPending().addFailure(testElement, status, trace, expected, actual, first);
+				full= isFull();
+			}
+			if (full)
+				flush();
+		}
+	}
+
+	/**
+	 * Starts a new test run, so that the next error or failure is marked as the first one.
+	 */
+	public void testRunStarted() {
+		synchronized (this) {
+			fErrorOrFailureAdded= false;
+		}
+	}
+
+	/**
+	 * Publishes the pending batch, if any, to the batch listeners.
+	 */
+	public void flush() {
+		synchronized (fDeliveryLock) {
+			TestSessionBatch batch;
+			synchronized (this) {
+				batch= fPending;
+				fPending= null;
+			}
+			if (batch == null)
+				return;
+			batch.setCounts(fSession);
+			for (ITestSessionListener listener : fListeners) {
+				if (listener instanceof ITestSessionBatchListener)
+					((ITestSessionBatchListener) listener).testsChanged(batch);
+			}
+		}
+	}
+
+	private boolean hasBatchListeners() {
+		for (ITestSessionListener listener : fListeners) {
+			if (listener instanceof ITestSessionBatchListener)
+				return true;
+		}
+		return false;
+	}
+
+	private TestSessionBatch getPending() {
+		if (fPending == null) {
+			fPending= new TestSessionBatch();
+			fFlushJob.schedule(MAX_BATCH_DELAY);
+		}
+		return fPending;
+	}
+
+	private boolean isFull() {
+		return fPending.size() >= MAX_BATCH_SIZE;
+	}
+}
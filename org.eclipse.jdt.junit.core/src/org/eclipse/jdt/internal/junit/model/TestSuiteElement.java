@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,13 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 		return new ITestElement[0];
 	}
 
+	/**
+	 * @return all children, including a single dynamic test that {@link #getChildren()} hides
+	 */
+	public TestElement[] getChildElements() {
+		return fChildren.toArray(new TestElement[fChildren.size()]);
+	}
+
 	public void addChild(TestElement child) {
 		fChildren.add(child);
 	}
@@ -101,8 +108,8 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	public void childChangedStatus(TestElement child, Status childStatus) {
 		int childCount= fChildren.size();
-		if (child == fChildren.get(0) && childStatus.isRunning()) {
-			// is first child, and is running -> copy status
+		if (childStatus.isRunning() && (child == fChildren.get(0) || fChildrenStatus == null || fChildrenStatus.isNotRun())) {
+			// is first child (or the first started child when tests run in parallel), and is running -> copy status
 			internalSetChildrenStatus(childStatus);
 			return;
 		}
@@ -135,6 +142,23 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 		}
 	}
 
+	/**
+	 * @return the cumulated status of the children, or <code>null</code> if not known yet
+	 */
+	Status getChildrenStatus() {
+		return fChildrenStatus;
+	}
+
+	/**
+	 * Restores the cumulated status of the children of a suite that has been swapped out,
+	 * without updating the parent.
+	 *
+	 * @param status the status, can be <code>null</code>
+	 */
+	void restoreChildrenStatus(Status status) {
+		fChildrenStatus= status;
+	}
+
 	private void internalSetChildrenStatus(Status status) {
 		if (fChildrenStatus == status)
 			return;
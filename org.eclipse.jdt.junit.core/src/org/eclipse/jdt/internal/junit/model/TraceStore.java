@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+
+/**
+ * An append-only store on disk for failure traces and comparison results, so that they
+ * don't have to be kept in memory. Strings are addressed by the handle returned from
+ * {@link #add(String)}.
+ * <p>
+ * The strings that have been read last are cached, up to a total of {@link #CACHE_SIZE}
+ * characters, so that a trace that is shown repeatedly is not read from disk every time.
+ * </p>
+ * <p>
+ * A trace store is thread safe.
+ * </p>
+ */
+public class TraceStore {
+
+	/**
+	 * Handle for a <code>null</code> string.
+	 */
+	public static final long NULL_HANDLE= -1;
+
+	/**
+	 * Maximum number of characters of the cached strings.
+	 */
+	static final int CACHE_SIZE= 1 << 20;
+
+	private final File fFile;
+
+	/** Strings read last, in access order. Entries never become stale, since the store is append-only. */
+	private final LinkedHashMap<Long, String> fCache= new LinkedHashMap<>(16, 0.75f, true);
+
+	private int fCacheSize;
+
+	private FileChannel fChannel;
+
+	private long fSize;
+
+	/**
+	 * Creates a new, empty trace store.
+	 *
+	 * @param file the file to store the strings in; existing contents are discarded
+	 * @throws IOException if the file cannot be created
+	 */
+	public TraceStore(File file) throws IOException {
+		fFile= file;
+		fChannel= FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+
+	/**
+	 * Opens an existing trace store.
+	 *
+	 * @param file the file that contains the strings
+	 * @return the trace store
+	 * @throws IOException if the file cannot be opened
+	 */
+	public static TraceStore open(File file) throws IOException {
+		return new TraceStore(file, FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE));
+	}
+
+	private TraceStore(File file, FileChannel channel) throws IOException {
+		fFile= file;
+		fChannel= channel;
+		fSize= channel.size();
+	}
+
+	/**
+	 * Appends a string to the store.
+	 *
+	 * @param string the string, can be <code>null</code>
+	 * @return the handle to retrieve the string with {@link #get(long)}
+	 * @throws IOException if writing fails
+	 */
+	public synchronized long add(String string) throws IOException {
+		if (string == null)
+			return NULL_HANDLE;
+		byte[] bytes= string.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer= ByteBuffer.allocate(4 + bytes.length);
+		buffer.putInt(bytes.length).put(bytes).flip();
+		long handle= fSize;
+		while (buffer.hasRemaining()) {
+			fChannel.write(buffer, fSize + buffer.position());
+		}
+		fSize+= 4 + bytes.length;
+		return handle;
+	}
+
+	/**
+	 * Reads a string from the store.
+	 *
+	 * @param handle a handle returned by {@link #add(String)}
+	 * @return the string, or <code>null</code> if the handle is {@link #NULL_HANDLE} or
+	 *         the store could not be read
+	 */
+	public synchronized String get(long handle) {
+		if (handle == NULL_HANDLE || fChannel == null)
+			return null;
+		Long key= Long.valueOf(handle);
+		String string= fCache.get(key);
+		if (string != null)
+			return string;
+		try {
+			ByteBuffer lengthBuffer= ByteBuffer.allocate(4);
+			read(lengthBuffer, handle);
+			ByteBuffer buffer= ByteBuffer.allocate(lengthBuffer.getInt(0));
+			read(buffer, handle + 4);
+			string= new String(buffer.array(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+			return null;
+		}
+		cache(key, string);
+		return string;
+	}
+
+	private void cache(Long key, String string) {
+		if (string.length() > CACHE_SIZE)
+			return;
+		fCache.put(key, string);
+		fCacheSize+= string.length();
+		Iterator<String> iterator= fCache.values().iterator();
+		while (fCacheSize > CACHE_SIZE) {
+			fCacheSize-= iterator.next().length();
+			iterator.remove();
+		}
+	}
+
+	private void read(ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (fChannel.read(buffer, position + buffer.position()) < 0)
+				throw new IOException("Unexpected end of trace store " + fFile); //$NON-NLS-1$
+		}
+	}
+
+	public File getFile() {
+		return fFile;
+	}
+
+	/**
+	 * Closes the store. Strings can no longer be read afterwards.
+	 */
+	public synchronized void close() {
+		if (fChannel == null)
+			return;
+		fCache.clear();
+		fCacheSize= 0;
+		try {
+			fChannel.close();
+		} catch (IOException e) {
+			// ignore
+		}
+		fChannel= null;
+	}
+
+	/**
+	 * Closes the store and deletes its file.
+	 */
+	public void delete() {
+		close();
+		fFile.delete();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023 Joerg Kubitz and others.
+ *  Copyright (c) 2023, 2026 Joerg Kubitz and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.transform.TransformerFactory;
 
 import org.xml.sax.SAXException;
@@ -51,6 +52,19 @@ public class XmlProcessorFactoryJdtJunit {
 		return factory;
 	}
 
+	/**
+	 * Creates XMLInputFactory which does not support DTDs and does not resolve
+	 * external entities.
+	 *
+	 * @return javax.xml.stream.XMLInputFactory
+	 */
+	public static XMLInputFactory createXMLInputFactoryWithoutDTD() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		return factory;
+	}
+
 	/**
 	 * Creates DocumentBuilderFactory which throws SAXParseException when
 	 * detecting external entities. It's magnitudes faster to call
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,7 +39,7 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
-import org.eclipse.jdt.internal.junit.launcher.ITestFinder;
+import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 import org.eclipse.jdt.internal.junit.model.ModelMessages;
@@ -157,9 +157,9 @@ public class JUnitCore {
 	 */
 	public static IType[] findTestTypes(IJavaElement container, IProgressMonitor monitor) throws CoreException, OperationCanceledException {
 		final Set<IType> result= new HashSet<>();
-		ITestFinder finder= TestKindRegistry.getContainerTestKind(container).getFinder();
+		ITestKind testKind= TestKindRegistry.getContainerTestKind(container);
 
-		finder.findTestsInContainer(container, result, monitor);
+		JUnitCorePlugin.getTestClassIndex().findTestsInContainer(testKind, container, result, monitor);
 
 		return result.toArray(new IType[result.size()]);
 	}
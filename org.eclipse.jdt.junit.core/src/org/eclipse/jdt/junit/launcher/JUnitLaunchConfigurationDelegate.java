@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,8 @@ import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.JUnitRuntimeClasspathEntry;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.launcher.TestRunHistory;
+import org.eclipse.jdt.internal.junit.launcher.TestShardPlanner;
 import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
 import org.eclipse.jdt.internal.junit.util.IJUnitStatusConstants;
 
@@ -105,12 +107,12 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			monitor = new NullProgressMonitor();
 		}
 		try {
-			VMRunnerConfiguration runConfig = getVMRunnerConfiguration(configuration, launch, mode, monitor);
-			if (runConfig == null) {
+			VMRunnerConfiguration[] runConfigs = getVMRunnerConfigurations(configuration, launch, mode, false, monitor);
+			if (runConfigs == null) {
 				return ""; //$NON-NLS-1$
 			}
 			IVMRunner runner = getVMRunner(configuration, mode);
-			String cmdLine = runner.showCommandLine(runConfig, launch, monitor);
+			String cmdLine = runner.showCommandLine(runConfigs[0], launch, monitor);
 
 			// check for cancellation
 			if (monitor.isCanceled()) {
@@ -122,8 +124,20 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		}
 	}
 
-	private VMRunnerConfiguration getVMRunnerConfiguration(ILaunchConfiguration configuration, ILaunch launch, String mode, IProgressMonitor monitor) throws CoreException {
-		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 4);
+	/**
+	 * Creates the configurations of the VMs to launch.
+	 *
+	 * @param configuration the launch configuration
+	 * @param launch the launch
+	 * @param mode the launch mode
+	 * @param allowSharding whether the tests may be split across several VMs, see
+	 *            {@link JUnitLaunchConfigurationConstants#ATTR_SHARD_COUNT}
+	 * @param monitor the progress monitor
+	 * @return one configuration per VM, or <code>null</code> if canceled
+	 * @throws CoreException if the launch configuration is invalid
+	 */
+	private VMRunnerConfiguration[] getVMRunnerConfigurations(ILaunchConfiguration configuration, ILaunch launch, String mode, boolean allowSharding, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 5);
 		// check for cancellation
 		if (subMon.isCanceled()) {
 			return null;
@@ -150,7 +164,6 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 			fKeepAlive= ILaunchManager.DEBUG_MODE.equals(mode) && configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, false);
 			fPort= evaluatePort();
-			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
 
 			ITestKind testKind= getTestRunnerKind(configuration);
 			IJavaProject javaProject= getJavaProject(configuration);
@@ -165,6 +178,24 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 				}
 			}
 
+			IJavaElement[][] shards= allowSharding ? evaluateShards(configuration, subMon.newChild(1)) : new IJavaElement[][] { fTestElements };
+			int[] ports= new int[shards.length];
+			ports[0]= fPort;
+			for (int i= 1; i < shards.length; i++) {
+				ports[i]= evaluatePort(ports, i);
+			}
+			if (shards.length > 1) {
+				StringBuilder shardPorts= new StringBuilder();
+				for (int port : ports) {
+					if (shardPorts.length() > 0)
+						shardPorts.append(',');
+					shardPorts.append(port);
+				}
+				launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, shardPorts.toString());
+			}
+			// set last, the test run session is created when the port is known
+			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
+
 			String mainTypeName= verifyMainTypeName(configuration);
 
 
@@ -177,14 +208,6 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Environment variables
 			String[] envp= getEnvironment(configuration);
 
-			ArrayList<String> vmArguments= new ArrayList<>();
-			ArrayList<String> programArguments= new ArrayList<>();
-			collectExecutionArguments(configuration, vmArguments, programArguments);
-			vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
-			if (JavaRuntime.isModularProject(javaProject)) {
-				vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
-			}
-
 			// VM-specific attributes
 			Map<String, Object> vmAttributesMap= getVMSpecificAttributesMap(configuration);
 
@@ -231,33 +254,49 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 				}
 			}
 
-			// Create VM config
-			VMRunnerConfiguration runConfig= new VMRunnerConfiguration(mainTypeName, classpath);
-			runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
-			runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
-			runConfig.setEnvironment(envp);
-			runConfig.setWorkingDirectory(workingDirName);
-			runConfig.setVMSpecificAttributesMap(vmAttributesMap);
-			runConfig.setPreviewEnabled(supportsPreviewFeatures(configuration));
+			VMRunnerConfiguration[] runConfigs= new VMRunnerConfiguration[shards.length];
+			for (int i= 0; i < shards.length; i++) {
+				// the execution arguments are computed from the tests and the port of the shard
+				fTestElements= shards[i];
+				fPort= ports[i];
 
-			if (!JavaRuntime.isModularConfiguration(configuration)) {
-				// Bootpath
-				runConfig.setBootClassPath(getBootpath(configuration));
-			} else {
-				// module path
-				runConfig.setModulepath(modulepath);
-				if (!configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_DEFAULT_MODULE_CLI_OPTIONS, true)) {
-					runConfig.setOverrideDependencies(configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_MODULE_CLI_OPTIONS, "")); //$NON-NLS-1$
+				ArrayList<String> vmArguments= new ArrayList<>();
+				ArrayList<String> programArguments= new ArrayList<>();
+				collectExecutionArguments(configuration, vmArguments, programArguments);
+				vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
+				if (JavaRuntime.isModularProject(javaProject)) {
+					vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+				}
+
+				// Create VM config
+				VMRunnerConfiguration runConfig= new VMRunnerConfiguration(mainTypeName, classpath);
+				runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
+				runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+				runConfig.setEnvironment(envp);
+				runConfig.setWorkingDirectory(workingDirName);
+				runConfig.setVMSpecificAttributesMap(vmAttributesMap);
+				runConfig.setPreviewEnabled(supportsPreviewFeatures(configuration));
+
+				if (!JavaRuntime.isModularConfiguration(configuration)) {
+					// Bootpath
+					runConfig.setBootClassPath(getBootpath(configuration));
 				} else {
-					runConfig.setOverrideDependencies(getModuleCLIOptions(configuration));
+					// module path
+					runConfig.setModulepath(modulepath);
+					if (!configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_DEFAULT_MODULE_CLI_OPTIONS, true)) {
+						runConfig.setOverrideDependencies(configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_MODULE_CLI_OPTIONS, "")); //$NON-NLS-1$
+					} else {
+						runConfig.setOverrideDependencies(getModuleCLIOptions(configuration));
+					}
 				}
+				runConfigs[i]= runConfig;
 			}
 
 			// check for cancellation
 			if (subMon.isCanceled()) {
 				return null;
 			}
-			return runConfig;
+			return runConfigs;
 		} finally {
 			// done the verification phase
 			subMon.worked(1);
@@ -272,8 +311,8 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 		try {
 
-			VMRunnerConfiguration runConfig = getVMRunnerConfiguration(configuration, launch, mode, monitor);
-			if ( monitor.isCanceled() || runConfig == null) {
+			VMRunnerConfiguration[] runConfigs = getVMRunnerConfigurations(configuration, launch, mode, true, monitor);
+			if ( monitor.isCanceled() || runConfigs == null) {
 				return;
 			}
 			IVMRunner runner= getVMRunner(configuration, mode);
@@ -282,8 +321,13 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			setDefaultSourceLocator(launch, configuration);
 			monitor.worked(1);
 
-			// Launch the configuration - 1 unit of work
-			runner.run(runConfig, launch, monitor);
+			// Launch the configuration - 1 unit of work, one VM per shard
+			for (VMRunnerConfiguration runConfig : runConfigs) {
+				runner.run(runConfig, launch, monitor);
+				if (monitor.isCanceled()) {
+					return;
+				}
+			}
 
 			// check for cancellation
 			if (monitor.isCanceled()) {
@@ -303,6 +347,55 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		return port;
 	}
 
+	private int evaluatePort(int[] usedPorts, int usedCount) throws CoreException {
+		// the ports are only bound when the test run session starts listening
+		for (int attempt= 0; attempt < 10; attempt++) {
+			int port= evaluatePort();
+			boolean used= false;
+			for (int i= 0; i < usedCount; i++) {
+				used|= usedPorts[i] == port;
+			}
+			if (!used)
+				return port;
+		}
+		abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_no_socket, null, IJavaLaunchConfigurationConstants.ERR_NO_SOCKET_AVAILABLE);
+		return -1;
+	}
+
+	/**
+	 * Splits the tests into shards that are executed in separate VMs, see
+	 * {@link JUnitLaunchConfigurationConstants#ATTR_SHARD_COUNT}. Only test classes are
+	 * split; a single test method, a rerun of failures and a kept alive VM always run in one VM.
+	 *
+	 * @param configuration the launch configuration
+	 * @param monitor the progress monitor
+	 * @return the tests of each shard
+	 * @throws CoreException if the tests cannot be evaluated
+	 */
+	private IJavaElement[][] evaluateShards(ILaunchConfiguration configuration, IProgressMonitor monitor) throws CoreException {
+		IJavaElement[][] unsharded= new IJavaElement[][] { fTestElements };
+		int shardCount= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+		if (shardCount <= 1 || fKeepAlive
+				|| configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_FAILURES_NAMES, "").length() > 0 //$NON-NLS-1$
+				|| configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID, "").trim().length() > 0) { //$NON-NLS-1$
+			return unsharded;
+		}
+		IJavaElement[] testElements= fTestElements;
+		if (testElements.length == 1 && !(testElements[0] instanceof IMember)) {
+			// a test container, find the test classes in it
+			testElements= evaluateTests(configuration, monitor);
+		}
+		List<IType> types= new ArrayList<>(testElements.length);
+		for (IJavaElement testElement : testElements) {
+			if (!(testElement instanceof IType))
+				return unsharded;
+			types.add((IType) testElement);
+		}
+		if (types.size() < 2)
+			return unsharded;
+		return TestShardPlanner.plan(types, shardCount, TestRunHistory.getClassDurations(configuration));
+	}
+
 	/**
 	 * Performs a check on the launch configuration's attributes. If an attribute contains an invalid value, a {@link CoreException}
 	 * with the error is thrown.
@@ -373,7 +466,7 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		}
 		HashSet<IType> result= new HashSet<>();
 		ITestKind testKind= getTestRunnerKind(configuration);
-		testKind.getFinder().findTestsInContainer(testTarget, result, monitor);
+		JUnitCorePlugin.getTestClassIndex().findTestsInContainer(testKind, testTarget, result, monitor);
 		if (result.isEmpty()) {
 			String msg= Messages.format(JUnitMessages.JUnitLaunchConfigurationDelegate_error_notests_kind, testKind.getDisplayName());
 			abort(msg, null, IJavaLaunchConfigurationConstants.ERR_UNSPECIFIED_MAIN_TYPE);
@@ -438,6 +531,12 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		if (fKeepAlive)
 			programArguments.add(0, "-keepalive"); //$NON-NLS-1$
 
+		if (configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_BINARY_PROTOCOL, true))
+			programArguments.add("-binaryprotocol"); //$NON-NLS-1$
+
+		if (configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PARALLEL_EXECUTION, false))
+			programArguments.add("-parallel"); //$NON-NLS-1$
+
 		ITestKind testRunnerKind= getTestRunnerKind(configuration);
 
 		programArguments.add("-testLoaderClass"); //$NON-NLS-1$
@@ -494,6 +593,12 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		if (testFailureNames.length() > 0) {
 			programArguments.add("-testfailures"); //$NON-NLS-1$
 			programArguments.add(testFailureNames);
+		} else if (configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PRIORITIZE_BY_DURATION, false)) {
+			String fileName= createTestDurationsFile(configuration);
+			if (fileName != null) {
+				programArguments.add("-testdurations"); //$NON-NLS-1$
+				programArguments.add(fileName);
+			}
 		}
 
 		String uniqueId= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID, ""); //$NON-NLS-1$
@@ -658,6 +763,18 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		return elementName;
 	}
 
+	private String createTestDurationsFile(ILaunchConfiguration configuration) throws CoreException {
+		try {
+			File file= File.createTempFile("testDurations", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+			file.deleteOnExit();
+			if (!TestRunHistory.writeTestDurations(configuration, file))
+				return null;
+			return file.getAbsolutePath();
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
+		}
+	}
+
 	private String createTestNamesFile(IJavaElement[] testElements) throws CoreException {
 		try {
 			File file= File.createTempFile("testNames", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
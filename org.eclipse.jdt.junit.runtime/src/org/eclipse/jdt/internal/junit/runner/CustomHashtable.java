@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,10 @@ import java.util.NoSuchElementException;
 
 /**
  * This is a copy of CustomHashtable from org.eclipse.jface.viewers
+ *
+ * @deprecated no longer used by the test runner, which maps its tests with {@link ObjectIntMap}
  */
+@Deprecated
 /* package */public final class CustomHashtable {
 
 	/**
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Vector;
+
+import junit.extensions.TestDecorator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Reorders the tests of every suite so that the tests that failed in the previous run come
+ * first, followed by the fastest tests.
+ */
+public class DurationPrioritizer implements ITestPrioritizer {
+
+	private final TestDurations fDurations;
+
+	/** The index of each test in {@link #fFailed} and {@link #fDurationsByTest} */
+	private final ObjectIntMap fIndexes= new ObjectIntMap(256, true);
+	private final BitSet fFailed= new BitSet();
+	private double[] fDurationsByTest= new double[256];
+
+	public DurationPrioritizer(TestDurations durations) {
+		fDurations= durations;
+	}
+
+	@Override
+	public Test prioritize(Test input) {
+		doPrioritize(input);
+		return input;
+	}
+
+	/**
+	 * Sorts the children of the given test and computes its failure and duration.
+	 *
+	 * @return the index of the test
+	 */
+	private int doPrioritize(Test test) {
+		boolean failed= false;
+		double duration= 0;
+		if (test instanceof TestCase) {
+			String testName= test.toString();
+			failed= fDurations.hasTestFailed(testName);
+			duration= fDurations.getTestDuration(testName);
+		} else if (test instanceof TestSuite) {
+			@SuppressWarnings("unchecked")
+			Vector<Test> tests= (Vector<Test>) FailuresFirstPrioritizer.getField(test, "fTests"); //$NON-NLS-1$
+			for (Enumeration<Test> e= ((TestSuite) test).tests(); e.hasMoreElements();) {
+				Test child= e.nextElement();
+				int index= doPrioritize(child);
+				failed|= fFailed.get(index);
+				duration+= fDurationsByTest[index];
+			}
+			if (tests != null) {
+				Collections.sort(tests, (t1, t2) -> {
+					int i1= fIndexes.get(t1);
+					int i2= fIndexes.get(t2);
+					return TestDurations.compare(fFailed.get(i1), fDurationsByTest[i1], fFailed.get(i2), fDurationsByTest[i2]);
+				});
+			}
+		} else if (test instanceof TestDecorator) {
+			int index= doPrioritize(((TestDecorator) test).getTest());
+			failed= fFailed.get(index);
+			duration= fDurationsByTest[index];
+		} else {
+			duration= fDurations.getTestDuration(test.toString());
+		}
+		int index= fIndexes.get(test);
+		if (index == ObjectIntMap.NOT_FOUND) {
+			index= fIndexes.size();
+			fIndexes.put(test, index);
+			if (index == fDurationsByTest.length)
+				fDurationsByTest= Arrays.copyOf(fDurationsByTest, index * 2);
+		}
+		fFailed.set(index, failed);
+		fDurationsByTest[index]= duration;
+		return index;
+	}
+}
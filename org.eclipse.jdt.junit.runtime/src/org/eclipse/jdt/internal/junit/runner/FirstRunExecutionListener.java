@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,37 +30,46 @@ public class FirstRunExecutionListener implements IListensToTestExecutions {
 
 	@Override
 	public void notifyTestEnded(ITestIdentifier test) {
-		sendMessage(test, MessageIds.TEST_END);
-		fSender.flush();
+		synchronized (fSender.getMessageLock()) {
+			sendMessage(test, MessageIds.TEST_END);
+			fSender.flush();
+		}
 	}
 
 	@Override
-	public synchronized void notifyTestFailed(TestReferenceFailure failure) {
-		sendMessage(failure.getTest(), failure.getStatus());
-		sendFailure(failure, MessageIds.TRACE_START, MessageIds.TRACE_END);
-		// fSender.flush(); // flush is implicitly done by sendFailure()
+	public void notifyTestFailed(TestReferenceFailure failure) {
+		synchronized (fSender.getMessageLock()) {
+			sendMessage(failure.getTest(), failure.getStatus());
+			sendFailure(failure, MessageIds.TRACE_START, MessageIds.TRACE_END);
+			// fSender.flush(); // flush is implicitly done by sendFailure()
+		}
 	}
 
 	@Override
 	public void notifyTestStarted(ITestIdentifier test) {
-		sendMessage(test, MessageIds.TEST_START);
-		fSender.flush();
+		synchronized (fSender.getMessageLock()) {
+			sendMessage(test, MessageIds.TEST_START);
+			fSender.flush();
+		}
 	}
 
-	private String getTestId(ITestIdentifier test) {
-		return fIds.getTestId(test);
+	private int getTestId(ITestIdentifier test) {
+		return fIds.getId(test);
 	}
 
 	protected void sendFailure(TestReferenceFailure failure, String startTrace,
 			String endTrace) {
-		FailedComparison comparison = failure.getComparison();
-		if (comparison != null)
-			comparison.sendMessages(fSender);
+		// the client expects the trace lines in one block, even if tests run in parallel
+		synchronized (fSender.getMessageLock()) {
+			FailedComparison comparison = failure.getComparison();
+			if (comparison != null)
+				comparison.sendMessages(fSender);
 
-		fSender.sendMessage(startTrace);
-		fSender.sendMessage(failure.getTrace());
-		fSender.sendMessage(endTrace);
-		fSender.flush();
+			fSender.sendMessage(startTrace);
+			fSender.sendMessage(failure.getTrace());
+			fSender.sendMessage(endTrace);
+			fSender.flush();
+		}
 	}
 
 	private void sendMessage(ITestIdentifier test, String status) {
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes messages using the binary protocol of the RemoteTestRunner.
+ * <p>
+ * The stream starts with the {@link MessageIds#BINARY_PROTOCOL_START} marker. After that,
+ * messages are sent in frames. Each frame starts with the length of its payload (an
+ * <code>int</code>), and the payload is a sequence of messages, each written as its length
+ * in bytes (an <code>int</code>) followed by the UTF-8 encoded message.
+ * </p>
+ * <p>
+ * Messages are batched: a {@link #flush()} only sends the pending frame if it has become large
+ * or old enough. A daemon thread takes care of pending messages that would otherwise be held
+ * back while a long running test executes.
+ * </p>
+ *
+ * @see MessageIds#BINARY_PROTOCOL_START
+ */
+public class FramedMessageWriter {
+
+	/**
+	 * Pending messages are sent at the latest after this number of milliseconds.
+	 */
+	public static final int MAX_BATCH_DELAY= 50;
+
+	/**
+	 * A frame is sent as soon as its payload exceeds this number of bytes.
+	 */
+	public static final int MAX_BATCH_SIZE= 32 * 1024;
+
+	private final DataOutputStream fOut;
+
+	private final ByteArrayOutputStream fBatch= new ByteArrayOutputStream(MAX_BATCH_SIZE + 1024);
+
+	private final DataOutputStream fBatchData= new DataOutputStream(fBatch);
+
+	/**
+	 * Time in nanoseconds when the first message of the pending frame was written,
+	 * or <code>-1</code> if there are no pending messages.
+	 */
+	private long fBatchStart= -1;
+
+	private boolean fClosed= false;
+
+	private Thread fFlusher;
+
+	public FramedMessageWriter(OutputStream out) throws IOException {
+		fOut= new DataOutputStream(out);
+		fOut.write(MessageIds.BINARY_PROTOCOL_START.getBytes(StandardCharsets.US_ASCII));
+		fOut.flush();
+		fFlusher= new Thread("FramedMessageWriter") { //$NON-NLS-1$
+			@Override
+			public void run() {
+				flushPeriodically();
+			}
+		};
+		fFlusher.setDaemon(true);
+		fFlusher.start();
+	}
+
+	/**
+	 * Adds a message to the current frame.
+	 *
+	 * @param message the message
+	 */
+	public synchronized void write(String message) {
+		if (fClosed)
+			return;
+		try {
+			byte[] bytes= message.getBytes(StandardCharsets.UTF_8);
+			fBatchData.writeInt(bytes.length);
+			fBatchData.write(bytes);
+			if (fBatchStart == -1)
+				fBatchStart= System.nanoTime();
+			if (fBatch.size() >= MAX_BATCH_SIZE)
+				writeFrame();
+		} catch (IOException e) {
+			close();
+		}
+	}
+
+	/**
+	 * Sends the pending frame if it exceeds the batch size or delay.
+	 */
+	public synchronized void flush() {
+		if (fBatchStart != -1 && System.nanoTime() - fBatchStart >= MAX_BATCH_DELAY * 1_000_000L)
+			flushNow();
+	}
+
+	/**
+	 * Sends the pending frame immediately.
+	 */
+	public synchronized void flushNow() {
+		if (fClosed)
+			return;
+		try {
+			writeFrame();
+		} catch (IOException e) {
+			close();
+		}
+	}
+
+	/**
+	 * Sends pending messages and closes the underlying stream.
+	 */
+	public synchronized void close() {
+		if (fClosed)
+			return;
+		try {
+			writeFrame();
+		} catch (IOException e) {
+			// ignore, we are closing anyway
+		}
+		fClosed= true;
+		fFlusher.interrupt();
+		notifyAll();
+		try {
+			fOut.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	private void writeFrame() throws IOException {
+		if (fBatch.size() == 0)
+			return;
+		fOut.writeInt(fBatch.size());
+		fBatch.writeTo(fOut);
+		fOut.flush();
+		fBatch.reset();
+		fBatchStart= -1;
+	}
+
+	private synchronized void flushPeriodically() {
+		while (!fClosed) {
+			try {
+				wait(MAX_BATCH_DELAY);
+			} catch (InterruptedException e) {
+				// check fClosed
+			}
+			if (fBatchStart != -1)
+				flushNow();
+		}
+	}
+}
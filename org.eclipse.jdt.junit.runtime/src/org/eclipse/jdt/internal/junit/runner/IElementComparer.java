@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,10 @@ package org.eclipse.jdt.internal.junit.runner;
 
 /**
  * This is a copy of IElementComparer from org.eclipse.jface.viewers
+ *
+ * @deprecated only used by the deprecated {@link CustomHashtable}
  */
+@Deprecated
 public /* package */ interface IElementComparer {
 
 	/**
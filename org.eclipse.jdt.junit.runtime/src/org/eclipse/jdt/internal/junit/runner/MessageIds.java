@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -133,6 +133,23 @@ public class MessageIds {
 	 */
 	public static final String TEST_RERUN=	">RERUN  "; //$NON-NLS-1$
 
+	/**
+	 * Marker that starts a stream using the binary protocol. The RemoteTestRunner
+	 * only uses the binary protocol if it was started with the <code>-binaryprotocol</code>
+	 * argument, and clients that do not see this marker as the first bytes of the stream
+	 * fall back to the line based text protocol.
+	 * <p>
+	 * After the marker, the stream consists of frames. Each frame starts with the length
+	 * of its payload, followed by a batch of the same messages as in the text protocol,
+	 * each prefixed with its length. All lengths are 4 byte big-endian integers, messages
+	 * are encoded in UTF-8. A multi-line message like a stack trace is sent as one message.
+	 * Requests sent to the RemoteTestRunner always use the text protocol.
+	 * </p>
+	 *
+	 * @see FramedMessageWriter
+	 */
+	public static final String BINARY_PROTOCOL_START= "%BINARY1"; //$NON-NLS-1$
+
 	/**
 	 * MessageFormat to encode test method identifiers:
 	 * testMethod(testClass)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,4 +22,18 @@ public interface MessageSender {
 
 	void flush();
 
+	/**
+	 * Returns the lock that has to be held while sending a group of messages that must not
+	 * be interleaved with the messages of other threads, e.g. a test status followed by its
+	 * failure trace. Tests may run in parallel, see {@link IListensToTestExecutions}.
+	 * <p>
+	 * {@link #sendMessage(String)} and {@link #flush()} must also acquire this lock.
+	 * </p>
+	 *
+	 * @return the lock for sending messages
+	 */
+	default Object getMessageLock() {
+		return this;
+	}
+
 }
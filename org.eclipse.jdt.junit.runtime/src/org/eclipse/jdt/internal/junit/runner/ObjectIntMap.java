@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+/**
+ * A map from objects to <code>int</code> values.
+ * <p>
+ * The runner executes in the VM under test, so it should allocate as little as possible.
+ * This map stores keys and values in two parallel arrays with open addressing: unlike
+ * {@link java.util.HashMap}, it needs no entry object per mapping and no boxed values.
+ * Keys are compared with {@link Object#equals(Object)}, or by identity if the map has been
+ * created as an identity map. <code>null</code> keys are not supported, and mappings can't be
+ * removed.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ */
+public final class ObjectIntMap {
+
+	/**
+	 * Returned by {@link #get(Object)} if there is no mapping for a key.
+	 */
+	public static final int NOT_FOUND= -1;
+
+	private final boolean fIdentity;
+
+	private Object[] fKeys;
+	private int[] fValues;
+	private int fSize;
+
+	/**
+	 * Creates a map that compares keys with {@link Object#equals(Object)}.
+	 *
+	 * @param expectedSize the expected number of mappings
+	 */
+	public ObjectIntMap(int expectedSize) {
+		this(expectedSize, false);
+	}
+
+	/**
+	 * Creates a map.
+	 *
+	 * @param expectedSize the expected number of mappings
+	 * @param identity <code>true</code> to compare keys by identity, <code>false</code> to
+	 *            compare them with {@link Object#equals(Object)}
+	 */
+	public ObjectIntMap(int expectedSize, boolean identity) {
+		fIdentity= identity;
+		int capacity= 16;
+		while (capacity < expectedSize * 2) {
+			capacity<<= 1;
+		}
+		fKeys= new Object[capacity];
+		fValues= new int[capacity];
+	}
+
+	/**
+	 * @param key the key
+	 * @return the value for the given key, or {@link #NOT_FOUND} if there is none
+	 */
+	public int get(Object key) {
+		Object[] keys= fKeys;
+		int mask= keys.length - 1;
+		for (int i= hash(key) & mask; ; i= (i + 1) & mask) {
+			Object k= keys[i];
+			if (k == null)
+				return NOT_FOUND;
+			if (k == key || !fIdentity && k.equals(key))
+				return fValues[i];
+		}
+	}
+
+	/**
+	 * Associates the given value with the given key.
+	 *
+	 * @param key the key, must not be <code>null</code>
+	 * @param value the value
+	 */
+	public void put(Object key, int value) {
+		Object[] keys= fKeys;
+		int mask= keys.length - 1;
+		int i= hash(key) & mask;
+		for (Object k= keys[i]; k != null; k= keys[i]) {
+			if (k == key || !fIdentity && k.equals(key)) {
+				fValues[i]= value;
+				return;
+			}
+			i= (i + 1) & mask;
+		}
+		keys[i]= key;
+		fValues[i]= value;
+		if (++fSize * 2 > keys.length)
+			rehash();
+	}
+
+	/**
+	 * @return the number of mappings
+	 */
+	public int size() {
+		return fSize;
+	}
+
+	private int hash(Object key) {
+		int h= fIdentity ? System.identityHashCode(key) : key.hashCode();
+		h*= 0x9E3779B9; // spread the bits, hash codes of related objects tend to differ only in the lower bits
+		return h ^ (h >>> 16);
+	}
+
+	private void rehash() {
+		Object[] oldKeys= fKeys;
+		int[] oldValues= fValues;
+		int capacity= oldKeys.length * 2;
+		int mask= capacity - 1;
+		fKeys= new Object[capacity];
+		fValues= new int[capacity];
+		for (int j= 0; j < oldKeys.length; j++) {
+			Object key= oldKeys[j];
+			if (key != null) {
+				int i= hash(key) & mask;
+				while (fKeys[i] != null) {
+					i= (i + 1) & mask;
+				}
+				fKeys[i]= key;
+				fValues[i]= oldValues[j];
+			}
+		}
+	}
+}
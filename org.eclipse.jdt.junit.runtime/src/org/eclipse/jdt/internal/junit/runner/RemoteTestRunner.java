@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.runner;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
@@ -91,6 +92,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Print writer for sending messages
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Writer for sending messages with the binary protocol, or <code>null</code>
+	 * if the text protocol is used
+	 */
+	private FramedMessageWriter fFramedWriter;
 	/**
 	 * Reader for incoming messages
 	 */
@@ -112,6 +118,19 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * This allows to rerun tests.
 	 */
 	private boolean fKeepAlive= false;
+	/**
+	 * Use the binary protocol to send messages, see {@link MessageIds#BINARY_PROTOCOL_START}.
+	 */
+	private boolean fBinaryProtocol= false;
+	/**
+	 * Run the tests in parallel, if the test framework supports it.
+	 */
+	private boolean fParallel= false;
+	/**
+	 * Lock for sending messages, see {@link MessageSender#getMessageLock()}. Not the runner
+	 * itself, since reruns are executed while the runner is locked in {@link #waitForReruns()}.
+	 */
+	private final Object fMessageLock= new Object();
 	/**
 	 * Has the server been stopped
 	 */
@@ -131,6 +150,12 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private String[] fFailureNames;
 
+	/**
+	 * The durations and failures of a previous run, or <code>null</code> if the tests
+	 * should not be prioritized by them
+	 */
+	private TestDurations fTestDurations;
+
 	private ITestLoader fLoader;
 
 	private MessageSender fSender;
@@ -202,6 +227,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * -host: the host to connect to default local host
 	 * -port: the port to connect to, mandatory argument
 	 * -keepalive: keep the process alive after a test run
+	 * -binaryprotocol: send messages using the binary protocol
+	 * -parallel: run the tests in parallel, if the test framework supports it
      * </pre>
      */
 	public static void main(String[] args) {
@@ -286,6 +313,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 				}
 				i++;
 
+			} else if ("-testdurations".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				String testDurationsFile= args[i+1];
+				try {
+					fTestDurations= TestDurations.read(testDurationsFile);
+				} catch (IOException e) {
+					throw new IllegalArgumentException("Cannot read testdurations file.");		 //$NON-NLS-1$
+				}
+				i++;
+
 			} else if("-port".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fPort= Integer.parseInt(args[i+1]);
 				i++;
@@ -301,6 +337,12 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			else if("-keepalive".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fKeepAlive= true;
 			}
+			else if("-binaryprotocol".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				fBinaryProtocol= true;
+			}
+			else if("-parallel".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				fParallel= true;
+			}
 			else if("-debugging".equalsIgnoreCase(args[i]) || "-debug".equalsIgnoreCase(args[i])){ //$NON-NLS-1$ //$NON-NLS-2$
 			    fDebugMode= true;
 
@@ -501,7 +543,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * @param execution executor
 	 */
 	private void runTests(String[] testClassNames, String testName, TestExecution execution) {
-		ITestReference[] suites= fLoader.loadTests(loadClasses(testClassNames), testName, fFailureNames, fPackageNames, fIncludeExcludeTags, fUniqueId, this);
+		Class<?>[] classes= loadClasses(testClassNames);
+		if (fTestDurations != null && fFailureNames == null)
+			fTestDurations.sortClasses(classes);
+		ITestReference[] suites= fLoader.loadTests(classes, testName, fFailureNames, fPackageNames, fIncludeExcludeTags, fUniqueId, this);
 
 		// count all testMethods and inform ITestRunListeners
 		int count= countTests(suites);
@@ -569,7 +614,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void visitTreeEntry(ITestIdentifier identifier, boolean hasChildren, int testCount, boolean isDynamicTest, String parentId) {
-		String treeEntry= getTestId(identifier) + ',' + escapeText(identifier.getName()) + ',' + hasChildren + ',' + testCount
+		String treeEntry= fIds.getId(identifier) + "," + escapeText(identifier.getName()) + ',' + hasChildren + ',' + testCount //$NON-NLS-1$
 				+ ',' + isDynamicTest + ',' + parentId + ',' + escapeText(identifier.getDisplayName()) + ',' + escapeText(identifier.getParameterTypes())
 				+ ',' + escapeText(identifier.getUniqueId());
 		notifyTestTreeEntry(treeEntry);
@@ -605,6 +650,22 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		return sb.toString();
 	}
 
+	/**
+	 * @return <code>true</code> if the tests should be run in parallel, if the test
+	 *         framework supports it
+	 */
+	public boolean isParallelExecution() {
+		return fParallel;
+	}
+
+	/**
+	 * @return the durations and failures of a previous run by which the tests should be
+	 *         ordered, or <code>null</code> if the tests should not be reordered
+	 */
+	public TestDurations getTestDurations() {
+		return fTestDurations;
+	}
+
 	// WANT: work in bug fixes since RC2?
 	public String getTestId(ITestIdentifier id) {
 		return fIds.getTestId(id);
@@ -639,11 +700,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		for (int i= 1; i < 20; i++) {
 			try{
 				fClientSocket= new Socket(fHost, fPort);
-				try {
-				    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
-	            } catch (UnsupportedEncodingException e1) {
-	                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
-	            }
+				if (fBinaryProtocol) {
+					fFramedWriter= new FramedMessageWriter(new BufferedOutputStream(fClientSocket.getOutputStream()));
+				} else {
+					try {
+					    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
+		            } catch (UnsupportedEncodingException e1) {
+		                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
+		            }
+				}
 				try {
 				    fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream(), StandardCharsets.UTF_8));
                 } catch (UnsupportedEncodingException e1) {
@@ -668,6 +733,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Shutsdown the connection to the remote test listener.
 	 */
 	private void shutDown() {
+		if (fFramedWriter != null) {
+			fFramedWriter.close();
+			fFramedWriter= null;
+		}
 		if (fWriter != null) {
 			fWriter.close();
 			fWriter= null;
@@ -701,11 +770,22 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
-		if(fWriter == null)
-			return;
-		fWriter.println(msg);
-//		if (!fConsoleMode)
-//			System.out.println(msg);
+		synchronized (fMessageLock) {
+			if (fFramedWriter != null) {
+				fFramedWriter.write(msg);
+				return;
+			}
+			if(fWriter == null)
+				return;
+			fWriter.println(msg);
+//			if (!fConsoleMode)
+//				System.out.println(msg);
+		}
+	}
+
+	@Override
+	public Object getMessageLock() {
+		return fMessageLock;
 	}
 
 	protected void notifyTestRunStarted(int testCount) {
@@ -714,13 +794,13 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private void notifyTestRunEnded(long elapsedTime) {
 		fSender.sendMessage(MessageIds.TEST_RUN_END + elapsedTime);
-		fSender.flush();
+		flushNow();
 		//shutDown();
 	}
 
 	protected void notifyTestRunStopped(long elapsedTime) {
 		fSender.sendMessage(MessageIds.TEST_STOPPED + elapsedTime);
-		fSender.flush();
+		flushNow();
 		//shutDown();
 	}
 
@@ -735,13 +815,32 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	public void notifyRerunComplete(RerunRequest r, String status) {
 		if (fPort != -1) {
 			fSender.sendMessage(MessageIds.TEST_RERAN + r.fRerunTestId + " " + r.fRerunClassName + " " + r.fRerunTestName + " " + status); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-			fSender.flush();
+			flushNow();
 		}
 	}
 
 	@Override
 	public void flush() {
-	    fWriter.flush();
+		synchronized (fMessageLock) {
+			if (fFramedWriter != null) {
+				// batched, see FramedMessageWriter
+				fFramedWriter.flush();
+				return;
+			}
+		    fWriter.flush();
+		}
+	}
+
+	/**
+	 * Flushes the message sender and, if the binary protocol is used,
+	 * sends pending messages without waiting for the batch to fill up.
+	 */
+	private void flushNow() {
+		synchronized (fMessageLock) {
+			fSender.flush();
+			if (fFramedWriter != null)
+				fFramedWriter.flushNow();
+		}
 	}
 
 	private void runTests(TestExecution execution) {
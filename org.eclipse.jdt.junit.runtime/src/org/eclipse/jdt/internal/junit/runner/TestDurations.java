@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Durations and failures of the tests in a previous run, used to run the tests that failed
+ * most recently and then the fastest tests first.
+ * <p>
+ * The file passed with <code>-testdurations</code> contains one line per test of the form
+ * <code>&lt;seconds&gt; &lt;F|P&gt; &lt;test name&gt;</code>, where <code>F</code> marks a
+ * test that failed and the test name has the form <code>method(class)</code>.
+ * </p>
+ */
+public class TestDurations {
+
+	private final Map<String, Double> fTestDurations= new HashMap<>();
+	private final Map<String, Double> fClassDurations= new HashMap<>();
+	private final Set<String> fFailedTests= new HashSet<>();
+	private final Set<String> fFailedClasses= new HashSet<>();
+	private double fDefaultDuration;
+	private final String fFileName;
+
+	private TestDurations(String fileName) {
+		fFileName= fileName;
+	}
+
+	public static TestDurations read(String fileName) throws IOException {
+		TestDurations durations= new TestDurations(fileName);
+		try (BufferedReader br= new BufferedReader(new InputStreamReader(new FileInputStream(new File(fileName)), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line= br.readLine()) != null) {
+				String[] parts= line.split(" ", 3); //$NON-NLS-1$
+				if (parts.length == 3) {
+					try {
+						durations.add(parts[2], Double.parseDouble(parts[0]), "F".equals(parts[1])); //$NON-NLS-1$
+					} catch (NumberFormatException e) {
+						// skip malformed line
+					}
+				}
+			}
+		}
+		durations.computeDefaultDuration();
+		return durations;
+	}
+
+	/**
+	 * @return the name of the file the durations have been read from
+	 */
+	public String getFileName() {
+		return fFileName;
+	}
+
+	private void add(String testName, double seconds, boolean failed) {
+		fTestDurations.put(testName, Double.valueOf(seconds));
+		String className= getClassName(testName);
+		if (className != null) {
+			Double classDuration= fClassDurations.get(className);
+			fClassDurations.put(className, Double.valueOf(classDuration == null ? seconds : classDuration.doubleValue() + seconds));
+			if (failed)
+				fFailedClasses.add(className);
+		}
+		if (failed)
+			fFailedTests.add(testName);
+	}
+
+	private void computeDefaultDuration() {
+		if (fTestDurations.isEmpty())
+			return;
+		double sum= 0;
+		for (Double duration : fTestDurations.values()) {
+			sum+= duration.doubleValue();
+		}
+		fDefaultDuration= sum / fTestDurations.size();
+	}
+
+	private static String getClassName(String testName) {
+		int classStart= testName.lastIndexOf('(');
+		if (classStart < 0 || !testName.endsWith(")")) //$NON-NLS-1$
+			return null;
+		return testName.substring(classStart + 1, testName.length() - 1);
+	}
+
+	/**
+	 * @param testName the test name, of the form <code>method(class)</code>
+	 * @return the duration of the test in seconds, or the average duration if unknown
+	 */
+	public double getTestDuration(String testName) {
+		Double duration= fTestDurations.get(testName);
+		return duration != null ? duration.doubleValue() : fDefaultDuration;
+	}
+
+	/**
+	 * @param className the fully qualified name of a test class
+	 * @return the duration of all tests in the class in seconds, or the average duration of a
+	 *         test if unknown
+	 */
+	public double getClassDuration(String className) {
+		Double duration= fClassDurations.get(className);
+		return duration != null ? duration.doubleValue() : fDefaultDuration;
+	}
+
+	public boolean hasTestFailed(String testName) {
+		return fFailedTests.contains(testName);
+	}
+
+	public boolean hasClassFailed(String className) {
+		return fFailedClasses.contains(className);
+	}
+
+	/**
+	 * Compares two tests or classes: failed ones first, then the faster ones.
+	 *
+	 * @param failed1 whether the first one failed
+	 * @param duration1 the duration of the first one
+	 * @param failed2 whether the second one failed
+	 * @param duration2 the duration of the second one
+	 * @return a negative number if the first one should run first, a positive number if the
+	 *         second one should run first, 0 otherwise
+	 */
+	public static int compare(boolean failed1, double duration1, boolean failed2, double duration2) {
+		if (failed1 != failed2)
+			return failed1 ? -1 : 1;
+		return Double.compare(duration1, duration2);
+	}
+
+	/**
+	 * Sorts test classes so that the classes with failures and then the fastest classes run
+	 * first. The sort is stable.
+	 *
+	 * @param classes the classes to sort in place
+	 */
+	public void sortClasses(Class<?>[] classes) {
+		Arrays.sort(classes, (c1, c2) -> compare(hasClassFailed(c1.getName()), getClassDuration(c1.getName()),
+				hasClassFailed(c2.getName()), getClassDuration(c2.getName())));
+	}
+}
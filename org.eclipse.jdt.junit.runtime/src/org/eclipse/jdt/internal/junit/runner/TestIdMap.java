@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,20 +16,31 @@
 
 package org.eclipse.jdt.internal.junit.runner;
 
-import java.util.HashMap;
-
+/**
+ * Assigns ids to tests. Ids are consecutive numbers starting with 1.
+ */
 public class TestIdMap {
-	private HashMap<ITestIdentifier, String> fIdMap= new HashMap<>();
+	private final ObjectIntMap fIdMap= new ObjectIntMap(256);
 
 	private int fNextId= 1;
 
+	/**
+	 * Returns the id of a test. This doesn't allocate anything if the test already has an id.
+	 *
+	 * @param identifier the test
+	 * @return the id
+	 */
+	public synchronized int getId(ITestIdentifier identifier) {
+		int id= fIdMap.get(identifier);
+		if (id == ObjectIntMap.NOT_FOUND) {
+			id= fNextId++;
+			fIdMap.put(identifier, id);
+		}
+		return id;
+	}
+
 	public String getTestId(ITestIdentifier identifier) {
-		Object id= fIdMap.get(identifier);
-		if (id != null)
-			return (String) id;
-		String newId= Integer.toString(fNextId++);
-		fIdMap.put(identifier, newId);
-		return newId;
+		return Integer.toString(getId(identifier));
 	}
 
 	public String getTestId(ITestReference ref) { // not used
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -79,6 +79,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ILock;
@@ -147,11 +148,12 @@ import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
 import org.eclipse.jdt.internal.junit.model.ITestRunSessionListener;
-import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
+import org.eclipse.jdt.internal.junit.model.ITestSessionBatchListener;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 import org.eclipse.jdt.internal.junit.model.TestCaseElement;
 import org.eclipse.jdt.internal.junit.model.TestElement;
 import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSessionBatch;
 
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 
@@ -520,14 +522,28 @@ public class TestRunnerViewPart extends ViewPart {
 				return;
 
 			//TODO: MULTI: getFileNames()
-			File file= new File(path);
+			final File file= new File(path);
 
-			try {
-				JUnitModel.importTestRunSession(file);
-			} catch (CoreException e) {
-				JUnitPlugin.log(e);
-				ErrorDialog.openError(fShell, JUnitMessages.TestRunnerViewPart_ImportTestRunSessionAction_error_title, e.getStatus().getMessage(), e.getStatus());
-			}
+			// the session shows up in the view while it is being read
+			Job importJob= new Job(JUnitMessages.TestRunnerViewPart_ImportTestRunSessionAction_title) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					try {
+						JUnitModel.importTestRunSession(file, monitor);
+					} catch (OperationCanceledException e) {
+						return Status.CANCEL_STATUS;
+					} catch (final CoreException e) {
+						JUnitPlugin.log(e);
+						fShell.getDisplay().asyncExec(() -> {
+							if (!fShell.isDisposed())
+								ErrorDialog.openError(fShell, JUnitMessages.TestRunnerViewPart_ImportTestRunSessionAction_error_title, e.getStatus().getMessage(), e.getStatus());
+						});
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			importJob.setUser(true);
+			importJob.schedule();
 		}
 	}
 
@@ -730,7 +746,7 @@ public class TestRunnerViewPart extends ViewPart {
 		}
 	}
 
-	private class TestSessionListener implements ITestSessionListener {
+	private class TestSessionListener implements ITestSessionBatchListener {
 		@Override
 		public void sessionStarted(){
 			fTestViewer.registerViewersRefresh();
@@ -820,7 +836,14 @@ public class TestRunnerViewPart extends ViewPart {
 
 			String className= BasicElementLabels.getJavaElementName(testCaseElement.getClassName());
 			String method= BasicElementLabels.getJavaElementName(testCaseElement.getTestMethodName());
-			String status= Messages.format(JUnitMessages.TestRunnerViewPart_message_started, new String[] { className, method });
+			int running= fTestRunSession.getRunningCount();
+			String status;
+			if (running > 1) {
+				// tests are executed in parallel
+				status= Messages.format(JUnitMessages.TestRunnerViewPart_message_started_parallel, new String[] { className, method, Integer.toString(running) });
+			} else {
+				status= Messages.format(JUnitMessages.TestRunnerViewPart_message_started, new String[] { className, method });
+			}
 			registerInfoMessage(status);
 		}
 
@@ -862,6 +885,39 @@ public class TestRunnerViewPart extends ViewPart {
 			fTestViewer.registerTestAdded(testElement);
 		}
 
+		@Override
+		public void testsChanged(TestSessionBatch batch) {
+			TestCaseElement lastStarted= batch.getLastStartedTest();
+			for (TestSessionBatch.Event event : batch.getEvents()) {
+				TestElement testElement= event.getTestElement();
+				switch (event.getKind()) {
+					case ADDED:
+						fTestViewer.registerTestAdded(testElement);
+						break;
+					case STARTED:
+						if (testElement == lastStarted) {
+							// only the last started test is of interest for auto scroll and status message
+							testStarted(lastStarted);
+						} else {
+							fTestViewer.registerViewerUpdate(testElement);
+						}
+						break;
+					case ENDED:
+						testEnded((TestCaseElement) testElement);
+						break;
+					case FAILED:
+						if (isAutoScroll()) {
+							fTestViewer.registerFailedForAutoScroll(testElement);
+						}
+						fTestViewer.registerViewerUpdate(testElement);
+						break;
+				}
+			}
+			// show the view on the first error only
+			if (fShowOnErrorOnly && batch.containsFirstErrorOrFailure())
+				postShowTestResultsView();
+		}
+
 		@Override
 		public boolean acceptsSwapToDisk() {
 			return false;
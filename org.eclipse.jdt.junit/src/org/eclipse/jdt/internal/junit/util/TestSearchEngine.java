@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,7 +52,7 @@ public class TestSearchEngine extends CoreTestSearchEngine {
 
 		IRunnableWithProgress runnable= progressMonitor -> {
 			try {
-				testKind.getFinder().findTestsInContainer(element, result, progressMonitor);
+				JUnitCorePlugin.getTestClassIndex().findTestsInContainer(testKind, element, result, progressMonitor);
 			} catch (CoreException e) {
 				throw new InvocationTargetException(e);
 			}
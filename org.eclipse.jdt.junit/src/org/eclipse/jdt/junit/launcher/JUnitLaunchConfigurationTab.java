@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Spinner;
 import org.eclipse.swt.widgets.Text;
 
 import org.eclipse.core.runtime.CoreException;
@@ -143,6 +144,12 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 
 	private Button fKeepRunning;
 
+	private Button fParallelExecution;
+
+	private Spinner fShardCount;
+
+	private Button fPrioritizeByDuration;
+
 	// Test class UI widgets
 	private Text fTestText;
 
@@ -282,6 +289,8 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 				if (first instanceof ITestKind) {
 					boolean isJUnit5= TestKindRegistry.JUNIT5_TEST_KIND_ID.equals(((ITestKind) first).getId());
 					fIncludeExcludeTagsButton.setEnabled(isJUnit5);
+					if (fParallelExecution != null)
+						fParallelExecution.setEnabled(isJUnit5);
 				}
 			}
 		}
@@ -461,6 +470,51 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		gd.horizontalAlignment= GridData.FILL;
 		gd.horizontalSpan= 2;
 		fKeepRunning.setLayoutData(gd);
+
+		fParallelExecution= new Button(comp, SWT.CHECK);
+		fParallelExecution.addSelectionListener(new SelectionListener() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				updateLaunchConfigurationDialog();
+			}
+
+			@Override
+			public void widgetDefaultSelected(SelectionEvent e) {
+			}
+		});
+		fParallelExecution.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_parallel);
+		gd= new GridData();
+		gd.horizontalAlignment= GridData.FILL;
+		gd.horizontalSpan= 3;
+		fParallelExecution.setLayoutData(gd);
+
+		Label shardCountLabel= new Label(comp, SWT.NONE);
+		shardCountLabel.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_shardCount);
+		gd= new GridData();
+		gd.horizontalSpan= 2;
+		shardCountLabel.setLayoutData(gd);
+		fShardCount= new Spinner(comp, SWT.BORDER);
+		fShardCount.setMinimum(1);
+		fShardCount.setMaximum(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2);
+		fShardCount.addModifyListener(e -> updateLaunchConfigurationDialog());
+		fShardCount.setLayoutData(new GridData());
+
+		fPrioritizeByDuration= new Button(comp, SWT.CHECK);
+		fPrioritizeByDuration.addSelectionListener(new SelectionListener() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				updateLaunchConfigurationDialog();
+			}
+
+			@Override
+			public void widgetDefaultSelected(SelectionEvent e) {
+			}
+		});
+		fPrioritizeByDuration.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_prioritizeByDuration);
+		gd= new GridData();
+		gd.horizontalAlignment= GridData.FILL;
+		gd.horizontalSpan= 3;
+		fPrioritizeByDuration.setLayoutData(gd);
 	}
 
 	private static Image createImage(String path) {
@@ -520,6 +574,27 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		} catch (CoreException ce) {
 		}
 		fKeepRunning.setSelection(running);
+
+		boolean parallel= false;
+		try {
+			parallel= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PARALLEL_EXECUTION, false);
+		} catch (CoreException ce) {
+		}
+		fParallelExecution.setSelection(parallel);
+
+		int shardCount= 1;
+		try {
+			shardCount= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+		} catch (CoreException ce) {
+		}
+		fShardCount.setSelection(shardCount);
+
+		boolean prioritize= false;
+		try {
+			prioritize= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PRIORITIZE_BY_DURATION, false);
+		} catch (CoreException ce) {
+		}
+		fPrioritizeByDuration.setSelection(prioritize);
 	}
 
 	private void updateProjectFromConfig(ILaunchConfiguration config) {
@@ -592,6 +667,9 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_NAME, fTestMethodText.getText());
 		}
 		config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, fKeepRunning.getSelection());
+		config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PARALLEL_EXECUTION, fParallelExecution.getSelection());
+		config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, fShardCount.getSelection());
+		config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PRIORITIZE_BY_DURATION, fPrioritizeByDuration.getSelection());
 		try {
 			mapResources(config);
 		} catch (CoreException e) {
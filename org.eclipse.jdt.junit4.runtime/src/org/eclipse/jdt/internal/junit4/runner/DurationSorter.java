@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit4.runner;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.runner.Description;
+
+import org.eclipse.jdt.internal.junit.runner.TestDurations;
+
+/**
+ * Comparator for descriptions that sorts the descriptions that failed in a previous run
+ * first, followed by the fastest ones. The duration of a suite is the sum of the durations
+ * of its children.
+ */
+public class DurationSorter implements Comparator<Description> {
+
+	private final TestDurations fDurations;
+
+	private final Map<Description, Boolean> fFailed= new HashMap<>();
+	private final Map<Description, Double> fDurationsByDescription= new HashMap<>();
+
+	/**
+	 * Creates a sorter.
+	 *
+	 * @param durations the durations and failures of a previous run
+	 */
+	public DurationSorter(TestDurations durations) {
+		fDurations= durations;
+	}
+
+	@Override
+	public int compare(Description d1, Description d2) {
+		return TestDurations.compare(hasFailed(d1), getDuration(d1), hasFailed(d2), getDuration(d2));
+	}
+
+	private boolean hasFailed(Description d) {
+		Boolean failed= fFailed.get(d);
+		if (failed == null) {
+			boolean result= fDurations.hasTestFailed(d.getDisplayName());
+			for (Description child : d.getChildren()) {
+				result|= hasFailed(child);
+			}
+			failed= Boolean.valueOf(result);
+			fFailed.put(d, failed);
+		}
+		return failed.booleanValue();
+	}
+
+	private double getDuration(Description d) {
+		Double duration= fDurationsByDescription.get(d);
+		if (duration == null) {
+			double result;
+			if (d.isTest()) {
+				result= fDurations.getTestDuration(d.getDisplayName());
+			} else {
+				result= 0;
+				for (Description child : d.getChildren()) {
+					result+= getDuration(child);
+				}
+			}
+			duration= Double.valueOf(result);
+			fDurationsByDescription.put(d, duration);
+		}
+		return duration.doubleValue();
+	}
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit5.runner;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+import org.eclipse.jdt.internal.junit.runner.TestDurations;
+
+/**
+ * Orders the test methods of a class so that the methods that failed in the previous run
+ * come first, followed by the fastest methods. The durations are read from the file given
+ * by the configuration parameter {@link JUnit5TestLoader#TEST_DURATIONS_FILE}.
+ */
+public class DurationMethodOrderer implements MethodOrderer {
+
+	private static final Map<String, TestDurations> fgDurations= new HashMap<>();
+
+	public DurationMethodOrderer() {
+	}
+
+	@Override
+	public void orderMethods(MethodOrdererContext context) {
+		Optional<String> fileName= context.getConfigurationParameter(JUnit5TestLoader.TEST_DURATIONS_FILE);
+		if (!fileName.isPresent())
+			return;
+		TestDurations durations= getDurations(fileName.get());
+		if (durations == null)
+			return;
+		String className= context.getTestClass().getName();
+		context.getMethodDescriptors().sort((d1, d2) -> {
+			// test names are of form METHOD_NAME(CLASS_NAME)
+			String name1= d1.getMethod().getName() + "(" + className + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+			String name2= d2.getMethod().getName() + "(" + className + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+			return TestDurations.compare(durations.hasTestFailed(name1), durations.getTestDuration(name1),
+					durations.hasTestFailed(name2), durations.getTestDuration(name2));
+		});
+	}
+
+	private static synchronized TestDurations getDurations(String fileName) {
+		TestDurations durations= fgDurations.get(fileName);
+		if (durations == null && !fgDurations.containsKey(fileName)) {
+			try {
+				durations= TestDurations.read(fileName);
+			} catch (IOException e) {
+				// keep the declared order
+			}
+			fgDurations.put(fileName, durations);
+		}
+		return durations;
+	}
+}
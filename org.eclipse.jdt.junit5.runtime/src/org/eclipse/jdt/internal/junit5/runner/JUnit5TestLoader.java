@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit5.runner;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
@@ -34,10 +39,24 @@ public class JUnit5TestLoader implements ITestLoader {
 
 	public final static String FAILURE_NAMES= "org.eclipse.jdt.junit5.runtime.failureNames"; //$NON-NLS-1$
 
+	public final static String TEST_DURATIONS_FILE= "org.eclipse.jdt.junit5.runtime.testDurationsFile"; //$NON-NLS-1$
+
+	private static final String METHOD_ORDER_DEFAULT= "junit.jupiter.testmethod.order.default"; //$NON-NLS-1$
+
+	private static final String PARALLEL_ENABLED= "junit.jupiter.execution.parallel.enabled"; //$NON-NLS-1$
+
+	private static final String PARALLEL_MODE_DEFAULT= "junit.jupiter.execution.parallel.mode.default"; //$NON-NLS-1$
+
+	private static final String PARALLEL_MODE_CLASSES_DEFAULT= "junit.jupiter.execution.parallel.mode.classes.default"; //$NON-NLS-1$
+
+	private static final String CONFIG_FILE= "junit-platform.properties"; //$NON-NLS-1$
+
 	private Launcher fLauncher= LauncherFactory.create();
 
 	private RemoteTestRunner fRemoteTestRunner;
 
+	private Properties fConfigFileProperties;
+
 	@Override
 	public ITestReference[] loadTests(Class<?>[] testClasses, String testName, String[] failureNames, String[] packages, String[][] includeExcludeTags, String uniqueId, RemoteTestRunner listener) {
 		fRemoteTestRunner= listener;
@@ -50,6 +69,10 @@ public class JUnit5TestLoader implements ITestLoader {
 			for (int i= 0; i < packages.length; i++) {
 				refs[i]= createTest(packages[i], includeExcludeTags);
 			}
+		} else if (testName == null && testClasses.length > 1 && isParallelExecution()) {
+			// the classes can only run concurrently if they are executed by the same request
+			refs= new ITestReference[1];
+			refs[0]= createUnfilteredTest(testClasses, includeExcludeTags, failureNames);
 		} else {
 			refs= new ITestReference[testClasses.length];
 			for (int i= 0; i < testClasses.length; i++) {
@@ -66,23 +89,35 @@ public class JUnit5TestLoader implements ITestLoader {
 		if (testName != null) {
 			return createFilteredTest(clazz, testName, includeExcludeTags);
 		}
-		return createUnfilteredTest(clazz, includeExcludeTags, failureNames);
+		return createUnfilteredTest(new Class<?>[] { clazz }, includeExcludeTags, failureNames);
 	}
 
 	private ITestReference createFilteredTest(Class<?> clazz, String testName, String[][] includeExcludeTags) {
-		LauncherDiscoveryRequest request= LauncherDiscoveryRequestBuilder.request().selectors(DiscoverySelectors.selectMethod(clazz.getName() + "#" + testName)).filters(getTagFilters(includeExcludeTags)).build(); //$NON-NLS-1$
+		LauncherDiscoveryRequest request= request().selectors(DiscoverySelectors.selectMethod(clazz.getName() + "#" + testName)).filters(getTagFilters(includeExcludeTags)).build(); //$NON-NLS-1$
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
 
-	private ITestReference createUnfilteredTest(Class<?> clazz, String[][] includeExcludeTags, String[] failureNames) {
-		LauncherDiscoveryRequestBuilder requestBuilder= LauncherDiscoveryRequestBuilder.request().selectors(DiscoverySelectors.selectClass(clazz)).filters(getTagFilters(includeExcludeTags));
+	private ITestReference createUnfilteredTest(Class<?>[] classes, String[][] includeExcludeTags, String[] failureNames) {
+		List<DiscoverySelector> selectors= new ArrayList<>(classes.length);
+		for (Class<?> clazz : classes) {
+			if (clazz != null) {
+				selectors.add(DiscoverySelectors.selectClass(clazz));
+			}
+		}
+		if (selectors.isEmpty()) {
+			return null;
+		}
+		LauncherDiscoveryRequestBuilder requestBuilder= request().selectors(selectors).filters(getTagFilters(includeExcludeTags));
 		if (failureNames != null && failureNames.length > 0) {
 			String failureNamesString= ""; //$NON-NLS-1$
 			for (String failureName : failureNames) {
 				failureNamesString += failureName + ";"; //$NON-NLS-1$
 			}
 			requestBuilder.configurationParameter(FAILURE_NAMES, failureNamesString);
-			requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", FailuresFirstMethodOrderer.class.getName()); //$NON-NLS-1$
+			requestBuilder.configurationParameter(METHOD_ORDER_DEFAULT, FailuresFirstMethodOrderer.class.getName());
+		} else if (fRemoteTestRunner != null && fRemoteTestRunner.getTestDurations() != null) {
+			requestBuilder.configurationParameter(TEST_DURATIONS_FILE, fRemoteTestRunner.getTestDurations().getFileName());
+			requestBuilder.configurationParameter(METHOD_ORDER_DEFAULT, DurationMethodOrderer.class.getName());
 		}
 		LauncherDiscoveryRequest request= requestBuilder.build();
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
@@ -99,7 +134,7 @@ public class JUnit5TestLoader implements ITestLoader {
 		} else {
 			pattern= "^" + pkg + "\\.[^.]+$"; //$NON-NLS-1$//$NON-NLS-2$
 		}
-		LauncherDiscoveryRequest request= LauncherDiscoveryRequestBuilder.request()
+		LauncherDiscoveryRequest request= request()
 				.selectors(DiscoverySelectors.selectPackage(pkg))
 				.filters(ClassNameFilter.includeClassNamePatterns(pattern))
 				.filters(getTagFilters(includeExcludeTags))
@@ -109,10 +144,69 @@ public class JUnit5TestLoader implements ITestLoader {
 	}
 
 	private ITestReference createUniqueIdTest(String uniqueId, String[][] includeExcludeTags) {
-		LauncherDiscoveryRequest request= LauncherDiscoveryRequestBuilder.request().selectors(DiscoverySelectors.selectUniqueId(uniqueId)).filters(getTagFilters(includeExcludeTags)).build();
+		LauncherDiscoveryRequest request= request().selectors(DiscoverySelectors.selectUniqueId(uniqueId)).filters(getTagFilters(includeExcludeTags)).build();
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
 
+	/**
+	 * Creates a discovery request builder. If parallel execution has been requested, test
+	 * classes and methods are executed concurrently by default. Tests can still opt out with
+	 * <code>@Execution(SAME_THREAD)</code>, and the defaults can be overridden with system
+	 * properties in the VM arguments or in a <code>junit-platform.properties</code> file.
+	 *
+	 * @return the request builder
+	 */
+	private LauncherDiscoveryRequestBuilder request() {
+		LauncherDiscoveryRequestBuilder requestBuilder= LauncherDiscoveryRequestBuilder.request();
+		if (isParallelExecution()) {
+			// configuration parameters of the request take precedence over the ones of the user
+			if (!isConfigured(PARALLEL_ENABLED))
+				requestBuilder.configurationParameter(PARALLEL_ENABLED, Boolean.TRUE.toString());
+			if (!isConfigured(PARALLEL_MODE_DEFAULT))
+				requestBuilder.configurationParameter(PARALLEL_MODE_DEFAULT, "concurrent"); //$NON-NLS-1$
+			if (!isConfigured(PARALLEL_MODE_CLASSES_DEFAULT))
+				requestBuilder.configurationParameter(PARALLEL_MODE_CLASSES_DEFAULT, "concurrent"); //$NON-NLS-1$
+		}
+		return requestBuilder;
+	}
+
+	private boolean isParallelExecution() {
+		return fRemoteTestRunner != null && fRemoteTestRunner.isParallelExecution();
+	}
+
+	/**
+	 * @param key the configuration parameter
+	 * @return <code>true</code> if the parameter is set as a system property or in the
+	 *         <code>junit-platform.properties</code> file on the class path, the places where the
+	 *         JUnit Platform looks it up
+	 */
+	private boolean isConfigured(String key) {
+		if (System.getProperty(key) != null) {
+			return true;
+		}
+		if (fConfigFileProperties == null) {
+			fConfigFileProperties= readConfigFile();
+		}
+		return fConfigFileProperties.containsKey(key);
+	}
+
+	private static Properties readConfigFile() {
+		Properties properties= new Properties();
+		ClassLoader classLoader= Thread.currentThread().getContextClassLoader();
+		if (classLoader == null) {
+			classLoader= JUnit5TestLoader.class.getClassLoader();
+		}
+		URL url= classLoader.getResource(CONFIG_FILE);
+		if (url != null) {
+			try (InputStream stream= url.openStream()) {
+				properties.load(stream);
+			} catch (IOException e) {
+				// the JUnit Platform ignores the file as well
+			}
+		}
+		return properties;
+	}
+
 	private Filter<?>[] getTagFilters(String[][] includeExcludeTags) {
 		String[] includeTags= includeExcludeTags[0];
 		String[] excludeTags= includeExcludeTags[1];
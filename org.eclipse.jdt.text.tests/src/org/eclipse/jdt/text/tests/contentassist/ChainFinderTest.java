@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.text.Chain;
+import org.eclipse.jdt.internal.ui.text.ChainElement;
+import org.eclipse.jdt.internal.ui.text.ChainFinder;
+import org.eclipse.jdt.internal.ui.text.ChainType;
+
+public class ChainFinderTest {
+
+	/**
+	 * More entry points than a search task handles without forking.
+	 */
+	private static final int ENTRYPOINT_COUNT= 40;
+
+	private static final int MAX_DEPTH= 3;
+
+	private IJavaProject fJProject;
+
+	private IType fTargetType;
+
+	private IType fMiddleType;
+
+	/** The type in which the chains are searched, it declares the entry points */
+	private IType fRootType;
+
+	private List<ChainElement> fEntrypoints;
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject= JavaProjectHelper.createJavaProject("ChainFinderProject", "bin");
+		JavaProjectHelper.addRTJar18(fJProject);
+		IPackageFragment pkg= JavaProjectHelper.addSourceContainer(fJProject, "src").createPackageFragment("test", false, null);
+		fTargetType= pkg.createCompilationUnit("Target.java", """
+				package test;
+				public class Target {
+				}
+				""", false, null).getType("Target");
+		fMiddleType= pkg.createCompilationUnit("Middle.java", """
+				package test;
+				public class Middle {
+				  public Target target;
+				}
+				""", false, null).getType("Middle");
+		pkg.createCompilationUnit("Hub.java", """
+				package test;
+				public class Hub {
+				  public Target target;
+				  public Middle middle;
+				  public Target getTarget() {
+				    return target;
+				  }
+				}
+				""", false, null);
+		StringBuilder root= new StringBuilder("package test;\npublic class Root {\n");
+		for (int i= 0; i < ENTRYPOINT_COUNT; i++) {
+			root.append("  public Hub hub").append(i).append(";\n");
+		}
+		root.append("}\n");
+		fRootType= pkg.createCompilationUnit("Root.java", root.toString(), false, null).getType("Root");
+
+		fEntrypoints= new ArrayList<>();
+		for (int i= 0; i < ENTRYPOINT_COUNT; i++) {
+			fEntrypoints.add(new ChainElement(fRootType.getField("hub" + i), true));
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJProject);
+	}
+
+	private ChainFinder createFinder(IType... expectedTypes) {
+		List<ChainType> types= new ArrayList<>();
+		for (IType type : expectedTypes) {
+			types.add(new ChainType(type));
+		}
+		return new ChainFinder(types, new ArrayList<>(), fRootType);
+	}
+
+	private List<String> search(int maxChains, int minDepth, IType... expectedTypes) {
+		ChainFinder finder= createFinder(expectedTypes);
+		finder.startChainSearch(fEntrypoints, maxChains, minDepth, MAX_DEPTH);
+		return toStrings(finder.getChains());
+	}
+
+	private static List<String> toStrings(List<Chain> chains) {
+		List<String> result= new ArrayList<>();
+		for (Chain chain : chains) {
+			StringBuilder buf= new StringBuilder();
+			for (ChainElement element : chain.getElements()) {
+				if (buf.length() > 0)
+					buf.append('.');
+				buf.append(element.getElement().getElementName());
+			}
+			result.add(buf.toString());
+		}
+		return result;
+	}
+
+	@Test
+	public void breadthFirstInEntrypointOrder() throws Exception {
+		List<String> chains= search(1000, 1, fTargetType);
+
+		assertEquals(3 * ENTRYPOINT_COUNT, chains.size());
+		Set<String> shortChains= new HashSet<>();
+		for (int i= 0; i < 2 * ENTRYPOINT_COUNT; i++) {
+			String chain= chains.get(i);
+			assertTrue(chain, chain.startsWith("hub" + i / 2 + "."));
+			shortChains.add(chain);
+		}
+		for (int i= 0; i < ENTRYPOINT_COUNT; i++) {
+			assertTrue(shortChains.contains("hub" + i + ".target"));
+			assertTrue(shortChains.contains("hub" + i + ".getTarget"));
+			assertEquals("hub" + i + ".middle.target", chains.get(2 * ENTRYPOINT_COUNT + i));
+		}
+
+		// the order doesn't depend on how the work was split
+		assertEquals(chains, search(1000, 1, fTargetType));
+	}
+
+	@Test
+	public void minDepth() throws Exception {
+		List<String> chains= search(1000, 3, fTargetType);
+
+		assertEquals(ENTRYPOINT_COUNT, chains.size());
+		for (int i= 0; i < ENTRYPOINT_COUNT; i++) {
+			assertEquals("hub" + i + ".middle.target", chains.get(i));
+		}
+	}
+
+	@Test
+	public void maxChainsForAllExpectedTypes() throws Exception {
+		int maxChains= 2 * ENTRYPOINT_COUNT + 10;
+		List<String> chains= search(maxChains, 1, fTargetType, fMiddleType);
+
+		// the chains of the first expected type use up the limit
+		assertEquals(maxChains, chains.size());
+		for (String chain : chains) {
+			assertTrue(chain, chain.endsWith("arget"));
+		}
+
+		chains= search(1000, 1, fTargetType, fMiddleType);
+		assertEquals(4 * ENTRYPOINT_COUNT, chains.size());
+		for (int i= 0; i < ENTRYPOINT_COUNT; i++) {
+			assertEquals("hub" + i + ".middle", chains.get(3 * ENTRYPOINT_COUNT + i));
+		}
+	}
+
+	@Test
+	public void canceled() throws Exception {
+		ChainFinder finder= createFinder(fTargetType);
+		finder.cancel();
+		finder.startChainSearch(fEntrypoints, 1000, 1, MAX_DEPTH);
+		assertTrue(finder.getChains().isEmpty());
+	}
+
+	@Test
+	public void concurrentSearches() throws Exception {
+		List<String> expected= search(1000, 1, fTargetType);
+
+		List<ChainFinder> finders= new ArrayList<>();
+		List<Future<?>> futures= new ArrayList<>();
+		for (int i= 0; i < 8; i++) {
+			ChainFinder finder= createFinder(fTargetType);
+			finders.add(finder);
+			futures.add(ChainFinder.getSearchPool().submit(() -> finder.startChainSearch(fEntrypoints, 1000, 1, MAX_DEPTH)));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		for (ChainFinder finder : finders) {
+			List<Chain> chains= finder.getChains();
+			assertEquals(expected, toStrings(chains));
+
+			// a snapshot
+			chains.clear();
+			assertEquals(expected, toStrings(finder.getChains()));
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.text.ChainElementAnalyzer;
+import org.eclipse.jdt.internal.ui.text.ChainMemberIndex;
+import org.eclipse.jdt.internal.ui.text.ChainType;
+
+public class ChainMemberIndexTest {
+
+	private static final String A_SOURCE= """
+			package test;
+			public class A extends B {
+			  public String name() {
+			    return "";
+			  }
+			}
+			""";
+
+	private static final String B_SOURCE= """
+			package test;
+			public class B {
+			  public B parent;
+			  public Integer size() {
+			    return null;
+			  }
+			}
+			""";
+
+	private IJavaProject fJProject;
+
+	private ICompilationUnit fCuA;
+
+	private IType fTypeA;
+
+	private IType fTypeB;
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject= JavaProjectHelper.createJavaProject("ChainMemberIndexProject", "bin");
+		JavaProjectHelper.addRTJar18(fJProject);
+		IPackageFragment pkg= JavaProjectHelper.addSourceContainer(fJProject, "src").createPackageFragment("test", false, null);
+		fCuA= pkg.createCompilationUnit("A.java", A_SOURCE, false, null);
+		fTypeA= fCuA.getType("A");
+		fTypeB= pkg.createCompilationUnit("B.java", B_SOURCE, false, null).getType("B");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJProject);
+	}
+
+	/**
+	 * Finds the members of <code>A</code> and its super types, which indexes them.
+	 *
+	 * @return the members
+	 */
+	private List<IJavaElement> findMembersOfA() {
+		ChainType type= new ChainType(fTypeA);
+		return new ArrayList<>(ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(type, type));
+	}
+
+	/**
+	 * Stores the index and reads it again, like it happens when the workbench is restarted.
+	 *
+	 * @return the index
+	 */
+	private static ChainMemberIndex restart() {
+		ChainMemberIndex.shutdown();
+		return ChainMemberIndex.getInstance();
+	}
+
+	@Test
+	public void saveAndLoad() throws Exception {
+		List<IJavaElement> members= findMembersOfA();
+		assertTrue(members.contains(fTypeA.getMethod("name", new String[0])));
+		assertTrue(members.contains(fTypeB.getField("parent")));
+		assertTrue(members.contains(fTypeB.getMethod("size", new String[0])));
+
+		ChainMemberIndex index= restart();
+		assertTrue(index.isIndexed(fTypeA));
+		assertTrue(index.isIndexed(fTypeB));
+		assertEquals(members, findMembersOfA());
+	}
+
+	@Test
+	public void stampMismatch() throws Exception {
+		findMembersOfA();
+		ChainMemberIndex.shutdown();
+
+		// changed while the index is not loaded
+		IFile file= (IFile) fCuA.getResource();
+		String source= A_SOURCE.replace("name()", "label()");
+		file.setContents(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)), IResource.FORCE, null);
+
+		ChainMemberIndex index= ChainMemberIndex.getInstance();
+		assertFalse(index.isIndexed(fTypeA));
+		assertTrue(index.isIndexed(fTypeB));
+
+		List<IJavaElement> members= findMembersOfA();
+		assertTrue(members.contains(fTypeA.getMethod("label", new String[0])));
+		assertFalse(members.contains(fTypeA.getMethod("name", new String[0])));
+		assertTrue(index.isIndexed(fTypeA));
+	}
+
+	@Test
+	public void invalidatedByDelta() throws Exception {
+		ChainMemberIndex index= ChainMemberIndex.getInstance();
+		findMembersOfA();
+		assertTrue(index.isIndexed(fTypeA));
+		assertTrue(index.isIndexed(fTypeB));
+
+		fTypeA.createField("public A next;", null, false, null);
+		assertFalse(index.isIndexed(fTypeA));
+		assertTrue(index.isIndexed(fTypeB));
+		assertTrue(findMembersOfA().contains(fTypeA.getField("next")));
+		assertTrue(index.isIndexed(fTypeA));
+
+		fCuA.becomeWorkingCopy(null);
+		try {
+			String source= fCuA.getSource();
+			int offset= source.lastIndexOf('}');
+			fCuA.getBuffer().replace(offset, 0, "  public A previous;\n");
+			fCuA.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertFalse(index.isIndexed(fTypeA));
+
+			// units with unsaved changes are not indexed
+			assertTrue(findMembersOfA().contains(fTypeA.getField("previous")));
+			assertFalse(index.isIndexed(fTypeA));
+			assertTrue(index.isIndexed(fTypeB));
+		} finally {
+			fCuA.discardWorkingCopy();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.junit.platform.suite.api.Suite;
 	ExtractMethodTests.class,
 	ExtractMethodTests1d7.class,
 	ExtractMethodTests1d8.class,
+	ExtractMethodProjectDuplicatesTests.class,
 	InlineMethodTests.class,
 	InlineMethodTests1d8.class,
 	InlineMethodTests16.class,
@@ -115,7 +116,10 @@ import org.junit.platform.suite.api.Suite;
 
 	//--helpers
 	RenamingNameSuggestorTests.class,
-	DelegateCreatorTests.class
+	DelegateCreatorTests.class,
+
+	//--scripts
+	RefactoringScriptExecutorTests.class
 })
 public class AllRefactoringTests {
 }
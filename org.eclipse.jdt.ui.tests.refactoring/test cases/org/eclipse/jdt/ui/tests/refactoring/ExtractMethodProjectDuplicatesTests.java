@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.eclipse.jdt.internal.corext.refactoring.code.ExtractMethodRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.code.SnippetFinder.Match;
+import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class ExtractMethodProjectDuplicatesTests extends GenericRefactoringTest {
+
+	public ExtractMethodProjectDuplicatesTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private Map<ICompilationUnit, List<Match>> findProjectDuplicates(ICompilationUnit cu, String selection) throws Exception {
+		String source= cu.getSource();
+		ExtractMethodRefactoring refactoring= new ExtractMethodRefactoring(cu, source.indexOf(selection), selection.length());
+		RefactoringStatus status= refactoring.checkInitialConditions(new NullProgressMonitor());
+		assertFalse(status.toString(), status.hasError());
+		return refactoring.findProjectDuplicates(new NullProgressMonitor());
+	}
+
+	@Test
+	public void duplicatesInOtherUnits() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java",
+				"""
+				package p;
+				public class A {
+					void m(int a) {
+						int b= a * 2;
+						System.out.println(b);
+					}
+				}
+				""");
+		ICompilationUnit cuB= createCU(getPackageP(), "B.java",
+				"""
+				package p;
+				public class B {
+					void n(int x) {
+						int y= x * 2;
+						System.out.println(y);
+					}
+					void o(int x) {
+						int y= x * 3;
+						System.out.println(y);
+					}
+				}
+				""");
+		createCU(getPackageP(), "C.java",
+				"""
+				package p;
+				public class C {
+					void n(String x) {
+						String y= x + 2;
+						System.out.println(y);
+					}
+				}
+				""");
+
+		Map<ICompilationUnit, List<Match>> duplicates= findProjectDuplicates(cuA, "int b= a * 2;\n\t\tSystem.out.println(b);");
+		assertEquals(1, duplicates.size());
+		assertTrue(duplicates.containsKey(cuB));
+		List<Match> matches= duplicates.get(cuB);
+		assertEquals(1, matches.size());
+		assertEquals(cuB.getSource().indexOf("int y= x * 2;"), matches.get(0).getNodes()[0].getStartPosition());
+	}
+
+	@Test
+	public void duplicatesReportedByFinalConditions() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java",
+				"""
+				package p;
+				public class A {
+					void m(int a) {
+						int b= a * 2;
+						System.out.println(b);
+					}
+				}
+				""");
+		ICompilationUnit cuB= createCU(getPackageP(), "B.java",
+				"""
+				package p;
+				public class B {
+					void n(int x) {
+						int y= x * 2;
+						System.out.println(y);
+					}
+				}
+				""");
+
+		String selection= "int b= a * 2;\n\t\tSystem.out.println(b);";
+		ExtractMethodRefactoring refactoring= new ExtractMethodRefactoring(cuA, cuA.getSource().indexOf(selection), selection.length());
+		RefactoringStatus status= refactoring.checkInitialConditions(new NullProgressMonitor());
+		assertFalse(status.toString(), status.hasError());
+		refactoring.setMethodName("extracted");
+
+		status= refactoring.checkFinalConditions(new NullProgressMonitor());
+		assertTrue(status.toString(), status.isOK());
+
+		refactoring.setFindProjectDuplicates(true);
+		status= refactoring.checkFinalConditions(new NullProgressMonitor());
+		assertEquals(status.toString(), RefactoringStatus.INFO, status.getSeverity());
+		RefactoringStatusEntry[] entries= status.getEntries();
+		assertEquals(1, entries.length);
+		JavaStatusContext context= (JavaStatusContext) entries[0].getContext();
+		assertEquals(cuB, context.getCompilationUnit());
+		String duplicate= "int y= x * 2;\n\t\tSystem.out.println(y);";
+		assertEquals(cuB.getSource().indexOf(duplicate), context.getSourceRange().getOffset());
+		assertEquals(duplicate.length(), context.getSourceRange().getLength());
+	}
+
+	@Test
+	public void changedUnit() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java",
+				"""
+				package p;
+				public class A {
+					void m(int a) {
+						System.out.println(a + 1);
+					}
+				}
+				""");
+		ICompilationUnit cuB= createCU(getPackageP(), "B.java",
+				"""
+				package p;
+				public class B {
+					void n(int x) {
+						System.out.println(x - 1);
+					}
+				}
+				""");
+
+		assertTrue(findProjectDuplicates(cuA, "System.out.println(a + 1);").isEmpty());
+
+		cuB.getBuffer().setContents(cuB.getSource().replace("x - 1", "x + 1"));
+		cuB.save(null, true);
+		Map<ICompilationUnit, List<Match>> duplicates= findProjectDuplicates(cuA, "System.out.println(a + 1);");
+		assertEquals(1, duplicates.size());
+		assertTrue(duplicates.containsKey(cuB));
+	}
+}
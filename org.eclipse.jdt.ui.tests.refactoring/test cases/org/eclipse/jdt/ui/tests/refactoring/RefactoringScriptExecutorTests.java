@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.text.edits.InsertEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+
+import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.refactoring.scripting.RefactoringScriptExecutor;
+import org.eclipse.jdt.internal.corext.refactoring.scripting.RefactoringScriptExecutor.StepResult;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class RefactoringScriptExecutorTests extends GenericRefactoringTest {
+
+	private static final String BODY= "/*body*/";
+	private static final String MEMBERS= "/*members*/";
+
+	/**
+	 * Describes a refactoring that parses compilation units through
+	 * {@link RefactoringASTParser#parseWithASTProvider(org.eclipse.jdt.core.ITypeRoot, boolean, IProgressMonitor)}
+	 * and inserts text before a marker in a compilation unit.
+	 */
+	private static final class ParsingDescriptor extends RefactoringDescriptor {
+		private final ICompilationUnit[] fParsed;
+		private final ICompilationUnit fChanged;
+		private final String fMarker;
+		private final String fText;
+
+		ParsingDescriptor(String description, ICompilationUnit[] parsed, ICompilationUnit changed, String marker, String text) {
+			super("org.eclipse.jdt.ui.tests.parsing", null, description, null, RefactoringDescriptor.NONE);
+			fParsed= parsed;
+			fChanged= changed;
+			fMarker= marker;
+			fText= text;
+		}
+
+		@Override
+		public Refactoring createRefactoring(RefactoringStatus status) {
+			return new Refactoring() {
+				@Override
+				public String getName() {
+					return getDescription();
+				}
+
+				@Override
+				public RefactoringStatus checkInitialConditions(IProgressMonitor pm) throws CoreException {
+					if (fChanged == null)
+						throw new CoreException(new Status(IStatus.ERROR, "org.eclipse.jdt.ui.tests.refactoring", "no compilation unit to change"));
+					for (ICompilationUnit unit : fParsed) {
+						RefactoringASTParser.parseWithASTProvider(unit, true, pm);
+					}
+					return new RefactoringStatus();
+				}
+
+				@Override
+				public RefactoringStatus checkFinalConditions(IProgressMonitor pm) {
+					return new RefactoringStatus();
+				}
+
+				@Override
+				public Change createChange(IProgressMonitor pm) throws CoreException {
+					CompilationUnitChange change= new CompilationUnitChange(getName(), fChanged);
+					change.setEdit(new InsertEdit(fChanged.getSource().indexOf(fMarker), fText));
+					return change;
+				}
+			};
+		}
+	}
+
+	public RefactoringScriptExecutorTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private ICompilationUnit createUnit(String name, String body) throws Exception {
+		return createCU(getPackageP(), name + ".java",
+				"package p;\n"
+				+ "public class " + name + " {\n"
+				+ "\t" + MEMBERS + "\n"
+				+ "\tvoid f(A a) {\n"
+				+ "\t\t" + body + "\n"
+				+ "\t\t" + BODY + "\n"
+				+ "\t}\n"
+				+ "}\n");
+	}
+
+	private static RenameJavaElementDescriptor createRenameDescriptor(IMethod method, String newName) {
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_METHOD);
+		descriptor.setJavaElement(method);
+		descriptor.setNewName(newName);
+		descriptor.setUpdateReferences(true);
+		return descriptor;
+	}
+
+	@Test
+	public void executeAndResume() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java",
+				"""
+				package p;
+				public class A {
+					public void m1() {}
+					public void m2() {}
+				}
+				""");
+		ICompilationUnit cuB= createCU(getPackageP(), "B.java",
+				"""
+				package p;
+				public class B {
+					void test(A a) {
+						a.m1();
+						a.m2();
+					}
+				}
+				""");
+		IType type= cuA.getType("A");
+		RefactoringDescriptor[] descriptors= {
+				createRenameDescriptor(type.getMethod("m1", new String[0]), "n1"),
+				createRenameDescriptor(type.getMethod("m2", new String[0]), "n2")
+		};
+
+		File checkpoint= File.createTempFile("script", ".checkpoint");
+		checkpoint.delete();
+		try {
+			RefactoringScriptExecutor executor= new RefactoringScriptExecutor(descriptors);
+			executor.setCheckpointFile(checkpoint);
+			StepResult[] results= executor.execute(new NullProgressMonitor());
+			assertEquals(2, results.length);
+			for (StepResult result : results) {
+				assertTrue(result.toString(), result.isPerformed());
+				assertFalse(result.toString(), result.getStatus().hasError());
+			}
+			assertEquals("""
+					package p;
+					public class B {
+						void test(A a) {
+							a.n1();
+							a.n2();
+						}
+					}
+					""", cuB.getSource());
+			assertTrue(checkpoint.exists());
+
+			// all steps have been checkpointed
+			assertEquals(0, executor.execute(new NullProgressMonitor()).length);
+		} finally {
+			checkpoint.delete();
+		}
+	}
+
+	@Test
+	public void renameVirtualMethodsInOnePass() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java",
+				"""
+				package p;
+				interface I {
+					void m1();
+				}
+				public class A implements I {
+					public void m1() {}
+					public void m2() {}
+					public void m3() {}
+				}
+				class B extends A {
+					public void m1() {}
+					public void m2() {}
+					void test() {
+						m1();
+						m2();
+						m3();
+					}
+				}
+				""");
+		IType typeA= cuA.getType("A");
+		IType typeB= cuA.getType("B");
+		RefactoringDescriptor[] descriptors= {
+				// the ripple methods of the first three steps are found together
+				createRenameDescriptor(typeB.getMethod("m1", new String[0]), "n1"),
+				createRenameDescriptor(typeA.getMethod("m2", new String[0]), "n2"),
+				createRenameDescriptor(typeA.getMethod("m3", new String[0]), "m4"),
+				// renames a method that the first step renamed, and starts a new batch
+				createRenameDescriptor(typeB.getMethod("n1", new String[0]), "o1")
+		};
+
+		StepResult[] results= new RefactoringScriptExecutor(descriptors).execute(new NullProgressMonitor());
+		assertEquals(4, results.length);
+		for (StepResult result : results) {
+			assertTrue(result.toString(), result.isPerformed());
+			assertFalse(result.toString(), result.getStatus().hasError());
+		}
+		assertEquals("""
+				package p;
+				interface I {
+					void o1();
+				}
+				public class A implements I {
+					public void o1() {}
+					public void n2() {}
+					public void m4() {}
+				}
+				class B extends A {
+					public void o1() {}
+					public void n2() {}
+					void test() {
+						o1();
+						n2();
+						m4();
+					}
+				}
+				""", cuA.getSource());
+	}
+
+	@Test
+	public void stopAtFailingStep() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java",
+				"""
+				package p;
+				public class A {
+					public void m1() {}
+					public void m2() {}
+					public void m3() {}
+				}
+				""");
+		IType type= cuA.getType("A");
+		RefactoringDescriptor[] descriptors= {
+				createRenameDescriptor(type.getMethod("m1", new String[0]), "m2"),
+				createRenameDescriptor(type.getMethod("m3", new String[0]), "n3")
+		};
+
+		RefactoringScriptExecutor executor= new RefactoringScriptExecutor(descriptors);
+		executor.setFailSeverity(RefactoringStatus.ERROR);
+		StepResult[] results= executor.execute(new NullProgressMonitor());
+		assertEquals(1, results.length);
+		assertFalse(results[0].isPerformed());
+		assertTrue(results[0].getStatus().hasError());
+		assertTrue(type.getMethod("m3", new String[0]).exists());
+	}
+
+	@Test
+	public void astCacheInvalidatedByOutlineChanges() throws Exception {
+		ICompilationUnit cuA= createUnit("A", "");
+		ICompilationUnit cuB= createUnit("B", "a.f(a);");
+		ICompilationUnit cuC= createUnit("C", "a.f(null);");
+		RefactoringDescriptor[] descriptors= {
+				// changes a method body, the ASTs of B and C stay valid
+				new ParsingDescriptor("body", new ICompilationUnit[] { cuA, cuB, cuC }, cuA, BODY, "int i= 0;\n\t\t"),
+				// changes the outline of A, the bindings of B and C may change
+				new ParsingDescriptor("outline", new ICompilationUnit[] { cuA, cuB, cuC }, cuA, MEMBERS, "int fField;\n\t"),
+				new ParsingDescriptor("after outline", new ICompilationUnit[] { cuB, cuC }, cuC, BODY, "int j= 0;\n\t\t"),
+				new ParsingDescriptor("after body", new ICompilationUnit[] { cuB }, cuB, BODY, "int k= 0;\n\t\t")
+		};
+
+		StepResult[] results= new RefactoringScriptExecutor(descriptors).execute(new NullProgressMonitor());
+		assertEquals(4, results.length);
+		for (StepResult result : results) {
+			assertTrue(result.toString(), result.isPerformed());
+		}
+		assertEquals(0, results[0].getASTCacheHits());
+		assertEquals(2, results[1].getASTCacheHits());
+		assertEquals(0, results[2].getASTCacheHits());
+		assertEquals(1, results[3].getASTCacheHits());
+		assertTrue(cuA.getSource().contains("int fField;"));
+	}
+
+	@Test
+	public void failingStepKeepsResults() throws Exception {
+		ICompilationUnit cuA= createUnit("A", "");
+		RefactoringDescriptor[] descriptors= {
+				new ParsingDescriptor("body", new ICompilationUnit[] { cuA }, cuA, BODY, "int i= 0;\n\t\t"),
+				new ParsingDescriptor("failing", new ICompilationUnit[0], null, BODY, ""),
+				new ParsingDescriptor("not executed", new ICompilationUnit[] { cuA }, cuA, BODY, "int j= 0;\n\t\t")
+		};
+
+		StepResult[] results= new RefactoringScriptExecutor(descriptors).execute(new NullProgressMonitor());
+		assertEquals(2, results.length);
+		assertTrue(results[0].isPerformed());
+		assertFalse(results[1].isPerformed());
+		assertEquals("failing", results[1].getDescription());
+		assertTrue(results[1].getStatus().hasFatalError());
+		assertTrue(cuA.getSource().contains("int i= 0;"));
+		assertFalse(cuA.getSource().contains("int j= 0;"));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -677,4 +677,63 @@ public class RenameVirtualMethodInClassTests extends GenericRefactoringTest {
 		// overridden delegates in local type
 		helperDelegate();
 	}
+
+	@Test
+	public void testInitializeRippleMethods() throws Exception {
+		ICompilationUnit cu= createCU(getPackageP(), "A.java",
+				"""
+				package p;
+				interface I {
+					void m();
+				}
+				class A implements I {
+					public void m() {}
+					void n() {}
+				}
+				class B extends A {
+					public void m() {}
+					void n() {}
+					void test() {
+						m();
+						n();
+						new A().m();
+					}
+				}
+				""");
+		IType classB= cu.getType("B");
+		RenameVirtualMethodProcessor processorM= new RenameVirtualMethodProcessor(classB.getMethod("m", new String[0]));
+		RenameVirtualMethodProcessor processorN= new RenameVirtualMethodProcessor(classB.getMethod("n", new String[0]));
+		RenameRefactoring refM= new RenameRefactoring(processorM);
+		RenameRefactoring refN= new RenameRefactoring(processorN);
+		assertTrue(refM.checkInitialConditions(new NullProgressMonitor()).isOK());
+		assertTrue(refN.checkInitialConditions(new NullProgressMonitor()).isOK());
+		processorM.setNewElementName("k");
+		processorN.setNewElementName("l");
+
+		// the ripple methods of both processors are found in one pass
+		RenameVirtualMethodProcessor.initializeRippleMethods(new RenameVirtualMethodProcessor[] { processorM, processorN }, new NullProgressMonitor());
+
+		assertNull("was supposed to pass", performRefactoring(refM));
+		assertNull("was supposed to pass", performRefactoring(refN));
+		assertEqualLines("incorrect renaming",
+				"""
+				package p;
+				interface I {
+					void k();
+				}
+				class A implements I {
+					public void k() {}
+					void l() {}
+				}
+				class B extends A {
+					public void k() {}
+					void l() {}
+					void test() {
+						k();
+						l();
+						new A().k();
+					}
+				}
+				""", cu.getSource());
+	}
 }
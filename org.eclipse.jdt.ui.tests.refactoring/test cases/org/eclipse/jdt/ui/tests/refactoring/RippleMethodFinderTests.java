@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,10 @@ import static org.junit.Assert.assertTrue;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -84,6 +87,14 @@ public class RippleMethodFinderTests extends AbstractJunit4CUTestCase {
 			start++;
 		}
 
+		// the batch must find the same ripple methods for each method as a single query
+		IMethod[] methods= rippleMethods.toArray(new IMethod[rippleMethods.size()]);
+		Map<IMethod, IMethod[]> batch= RippleMethodFinder2.getRelatedMethods(methods, true, new NullProgressMonitor(), null);
+		for (IMethod method : methods) {
+			IMethod[] related= RippleMethodFinder2.getRelatedMethods(method, new NullProgressMonitor(), null);
+			assertEquals("batch result of " + method, new HashSet<>(Arrays.asList(related)), new HashSet<>(Arrays.asList(batch.get(method))));
+		}
+
 		for (IMethod method : RippleMethodFinder2.getRelatedMethods(target, new NullProgressMonitor(), null)) {
 			assertTrue("method not found: " + method, rippleMethods.remove(method));
 		}
@@ -139,4 +150,62 @@ public class RippleMethodFinderTests extends AbstractJunit4CUTestCase {
 		perform();
 	}
 
+	@Test
+	public void batchOfUnrelatedMethods() throws Exception {
+		IPackageFragment pack= rts.getPackageP();
+		ICompilationUnit cu= createCU(pack, "Batch.java", """
+				package p;
+				interface I {
+					void m();
+				}
+				interface J {
+					void m();
+					void n();
+				}
+				class A implements I {
+					public void m() {}
+					void k() {}
+				}
+				class B extends A implements J {
+					public void m() {}
+					public void n() {}
+					void k() {}
+				}
+				class C implements J {
+					public void m() {}
+					public void n() {}
+				}
+				class D {
+					void m() {}
+					void k() {}
+				}
+				""");
+		IMethod aM= cu.getType("A").getMethod("m", new String[0]);
+		IMethod aK= cu.getType("A").getMethod("k", new String[0]);
+		IMethod bN= cu.getType("B").getMethod("n", new String[0]);
+		IMethod cM= cu.getType("C").getMethod("m", new String[0]);
+		IMethod dM= cu.getType("D").getMethod("m", new String[0]);
+		IMethod dK= cu.getType("D").getMethod("k", new String[0]);
+		IMethod[] methods= { aM, aK, bN, cM, dM, dK };
+
+		// all methods are declared in one project and share its region hierarchy
+		Map<IMethod, IMethod[]> batch= RippleMethodFinder2.getRelatedMethods(methods, true, new NullProgressMonitor(), null);
+		assertEquals(methods.length, batch.size());
+		for (IMethod method : methods) {
+			IMethod[] related= RippleMethodFinder2.getRelatedMethods(method, new NullProgressMonitor(), null);
+			assertEquals("batch result of " + method, new HashSet<>(Arrays.asList(related)), new HashSet<>(Arrays.asList(batch.get(method))));
+		}
+
+		IMethod iM= cu.getType("I").getMethod("m", new String[0]);
+		IMethod jM= cu.getType("J").getMethod("m", new String[0]);
+		IMethod bM= cu.getType("B").getMethod("m", new String[0]);
+		IMethod[] mRipple= { iM, jM, aM, bM, cM };
+		assertEquals(new HashSet<>(Arrays.asList(mRipple)), new HashSet<>(Arrays.asList(batch.get(aM))));
+		assertEquals(new HashSet<>(Arrays.asList(mRipple)), new HashSet<>(Arrays.asList(batch.get(cM))));
+		assertEquals(new HashSet<>(Arrays.asList(aK, cu.getType("B").getMethod("k", new String[0]))), new HashSet<>(Arrays.asList(batch.get(aK))));
+		assertEquals(3, batch.get(bN).length);
+		assertEquals(Arrays.asList(dM), Arrays.asList(batch.get(dM)));
+		assertEquals(Arrays.asList(dK), Arrays.asList(batch.get(dK)));
+	}
+
 }
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.GroupCategory;
+import org.eclipse.ltk.core.refactoring.GroupCategorySet;
+import org.eclipse.ltk.core.refactoring.TextChange;
+import org.eclipse.ltk.core.refactoring.TextEditChangeGroup;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
+import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class TextChangeManagerTest extends GenericRefactoringTest {
+
+	private static final String THRESHOLD_PROPERTY= "org.eclipse.jdt.refactoring.changeStoreThreshold";
+
+	private static final int CU_COUNT= 200;
+
+	private static final GroupCategorySet CATEGORY= new GroupCategorySet(new GroupCategory("org.eclipse.jdt.ui.tests.category", "Category", "Description"));
+
+	public TextChangeManagerTest() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private ICompilationUnit[] createCUs() throws Exception {
+		ICompilationUnit[] cus= new ICompilationUnit[CU_COUNT];
+		for (int i= 0; i < CU_COUNT; i++) {
+			cus[i]= createCU(getPackageP(), "A" + i + ".java", "package p;\nclass A" + i + " { Object o; Object p; }\n");
+		}
+		return cus;
+	}
+
+	private static TextChangeManager createManager(ICompilationUnit[] cus) {
+		String oldThreshold= System.getProperty(THRESHOLD_PROPERTY);
+		// keep a few changes in memory and spill the others to disk
+		System.setProperty(THRESHOLD_PROPERTY, "1000");
+		TextChangeManager manager;
+		try {
+			manager= new TextChangeManager(false, true);
+		} finally {
+			if (oldThreshold == null) {
+				System.clearProperty(THRESHOLD_PROPERTY);
+			} else {
+				System.setProperty(THRESHOLD_PROPERTY, oldThreshold);
+			}
+		}
+
+		for (ICompilationUnit cu : cus) {
+			int offset= cu.getSource().indexOf("Object");
+			TextChangeCompatibility.addTextEdit(manager.get(cu), "first", new ReplaceEdit(offset, 6, "String"), CATEGORY);
+		}
+		for (ICompilationUnit cu : cus) {
+			int offset= cu.getSource().lastIndexOf("Object");
+			TextChangeCompatibility.addTextEdit(manager.get(cu), "second", new ReplaceEdit(offset, 6, "Number"));
+		}
+		return manager;
+	}
+
+	@Test
+	public void storedChanges() throws Exception {
+		ICompilationUnit[] cus= createCUs();
+		TextChangeManager manager= createManager(cus);
+
+		assertEquals(CU_COUNT, manager.getAllCompilationUnits().length);
+		for (ICompilationUnit cu : cus) {
+			assertTrue(manager.containsChangesIn(cu));
+		}
+
+		TextChange[] changes= manager.getAllChanges();
+		assertEquals(CU_COUNT, changes.length);
+		for (TextChange change : changes) {
+			ICompilationUnit cu= (ICompilationUnit) change.getModifiedElement();
+			String name= cu.getElementName().substring(0, cu.getElementName().length() - 5);
+			assertEquals(name + ".java", change.getName());
+			assertEquals("package p;\nclass " + name + " { String o; Number p; }\n", change.getPreviewContent(new NullProgressMonitor()));
+
+			TextEditChangeGroup[] groups= change.getTextEditChangeGroups();
+			assertEquals(2, groups.length);
+			assertEquals("first", groups[0].getName());
+			assertEquals(CATEGORY, groups[0].getGroupCategorySet());
+			assertEquals("second", groups[1].getName());
+			assertEquals(GroupCategorySet.NONE, groups[1].getGroupCategorySet());
+			assertTrue(manager.get(cu) == change);
+		}
+	}
+
+	@Test
+	public void performStoredChanges() throws Exception {
+		ICompilationUnit[] cus= createCUs();
+		TextChangeManager manager= createManager(cus);
+
+		TextChange[] changes= manager.getAllChanges();
+		assertEquals(CU_COUNT, changes.length);
+		Change[] undoChanges= new Change[CU_COUNT];
+		for (int i= 0; i < CU_COUNT; i++) {
+			changes[i].initializeValidationData(new NullProgressMonitor());
+			assertTrue(changes[i].isValid(new NullProgressMonitor()).isOK());
+			undoChanges[i]= changes[i].perform(new NullProgressMonitor());
+			changes[i].dispose();
+		}
+		for (ICompilationUnit cu : cus) {
+			String name= cu.getElementName().substring(0, cu.getElementName().length() - 5);
+			assertEquals("package p;\nclass " + name + " { String o; Number p; }\n", cu.getSource());
+		}
+
+		for (Change undoChange : undoChanges) {
+			undoChange.initializeValidationData(new NullProgressMonitor());
+			undoChange.perform(new NullProgressMonitor());
+		}
+		for (ICompilationUnit cu : cus) {
+			String name= cu.getElementName().substring(0, cu.getElementName().length() - 5);
+			assertEquals("package p;\nclass " + name + " { Object o; Object p; }\n", cu.getSource());
+		}
+	}
+}
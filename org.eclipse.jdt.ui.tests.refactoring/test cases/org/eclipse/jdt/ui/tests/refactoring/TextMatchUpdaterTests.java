@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.TextChange;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.search.SearchEngine;
+
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
+import org.eclipse.jdt.internal.corext.refactoring.rename.TextMatchUpdater;
+import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class TextMatchUpdaterTests extends GenericRefactoringTest {
+
+	/**
+	 * More than twice the minimal number of units per worker of the {@link TextMatchUpdater}, so
+	 * that the units are scanned on the worker pool if there are at least two processors.
+	 */
+	private static final int UNIT_COUNT= 150;
+
+	public TextMatchUpdaterTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private static void performUpdate(IJavaElement scope, TextChangeManager manager) throws Exception {
+		TextMatchUpdater.perform(new NullProgressMonitor(), SearchEngine.createJavaSearchScope(new IJavaElement[] { scope }), "TestPattern", "p", "NewPattern", manager, new SearchResultGroup[0], false);
+	}
+
+	@Test
+	public void parallelScanEqualsSequentialScan() throws Exception {
+		List<ICompilationUnit> cus= new ArrayList<>();
+		int matchingCount= 0;
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			String source;
+			if (i % 3 == 0) {
+				// skipped without scanning
+				source= "package p;\n"
+						+ "/** The " + i + ". class, unrelated. */\n"
+						+ "public class C" + i + " {\n"
+						+ "}\n";
+			} else {
+				source= "package p;\n"
+						+ "/** The " + i + ". class, uses TestPattern and p.TestPattern. */\n"
+						+ "public class C" + i + " {\n"
+						+ "\t// TestPatterns is no match, (TestPattern) is one\n"
+						+ "\tString s= \"TestPattern" + i + " TestPattern\";\n"
+						+ "}\n";
+				matchingCount++;
+			}
+			cus.add(createCU(getPackageP(), "C" + i + ".java", source));
+		}
+		// units with unsaved changes are read from their buffers
+		ICompilationUnit workingCopy= cus.get(1);
+		workingCopy.becomeWorkingCopy(null);
+		try {
+			workingCopy.getBuffer().append("// unsaved TestPattern\n");
+
+			TextChangeManager parallel= new TextChangeManager();
+			performUpdate(getPackageP(), parallel);
+
+			// a single unit is always scanned on the calling thread
+			TextChangeManager sequential= new TextChangeManager();
+			for (ICompilationUnit cu : cus) {
+				performUpdate(cu, sequential);
+			}
+
+			ICompilationUnit[] changedUnits= sequential.getAllCompilationUnits();
+			assertEquals(matchingCount, changedUnits.length);
+			assertEquals(new HashSet<>(Arrays.asList(changedUnits)), new HashSet<>(Arrays.asList(parallel.getAllCompilationUnits())));
+			for (ICompilationUnit cu : changedUnits) {
+				TextChange expected= sequential.get(cu);
+				TextChange actual= parallel.get(cu);
+				assertEquals(cu.getElementName(), expected.getEdit().getChildrenSize(), actual.getEdit().getChildrenSize());
+				assertEquals(cu.getElementName(), expected.getPreviewContent(new NullProgressMonitor()), actual.getPreviewContent(new NullProgressMonitor()));
+			}
+
+			String preview= parallel.get(workingCopy).getPreviewContent(new NullProgressMonitor());
+			assertTrue(preview, preview.contains("// unsaved NewPattern"));
+			assertTrue(preview, preview.contains("// TestPatterns is no match, (NewPattern) is one"));
+			assertFalse(preview, preview.contains("NewPatterns"));
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+}
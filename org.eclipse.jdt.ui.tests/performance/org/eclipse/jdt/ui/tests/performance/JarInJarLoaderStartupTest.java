@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.ui.tests.jarexport.RunnableJarBuilder;
+
+/**
+ * Startup benchmark for runnable JARs with the Jar-in-Jar loader. Creates a runnable JAR with
+ * 20 nested libraries of 500 classes each, like the exporter does, and measures the time until
+ * its main class has loaded all classes, with the indexed loader and with the URL class loader.
+ */
+public class JarInJarLoaderStartupTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int LIBRARY_COUNT= 20;
+
+	private static final int CLASS_COUNT= 500;
+
+	private static final int WARMUP_RUNS= 2;
+
+	private static final int MEASURED_RUNS= 5;
+
+	private static final String CLASSES_RESOURCE= "classes.txt";
+
+	/**
+	 * The main class of the runnable JAR. Loads the classes listed in {@link #CLASSES_RESOURCE}.
+	 */
+	public static class StartupMain {
+		public static void main(String[] args) throws Exception {
+			ClassLoader loader= Thread.currentThread().getContextClassLoader();
+			int count= 0;
+			try (BufferedReader reader= new BufferedReader(new InputStreamReader(loader.getResourceAsStream(CLASSES_RESOURCE), StandardCharsets.UTF_8))) {
+				String name;
+				while ((name= reader.readLine()) != null) {
+					Class.forName(name, false, loader);
+					count++;
+				}
+			}
+			System.out.println("loaded " + count + " classes");
+		}
+	}
+
+	private Path fTempDir;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		fTempDir= Files.createTempDirectory("jarinjar");
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		if (fTempDir != null) {
+			try (Stream<Path> paths= Files.walk(fTempDir)) {
+				paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+			}
+		}
+		super.tearDown();
+	}
+
+	@Test
+	public void testIndexedLoaderStartup() throws Exception {
+		tagAsSummary("Jar-in-Jar loader startup, indexed", Dimension.ELAPSED_PROCESS);
+		measureStartup(true);
+	}
+
+	@Test
+	public void testURLClassLoaderStartup() throws Exception {
+		measureStartup(false);
+	}
+
+	private void measureStartup(boolean indexed) throws Exception {
+		File runnableJar= createRunnableJar();
+		String property= RunnableJarBuilder.INDEXED_LOADER_PROPERTY + "=" + indexed;
+
+		// warm up the file system cache
+		for (int i= 0; i < WARMUP_RUNS; i++) {
+			RunnableJarBuilder.run(runnableJar, property);
+		}
+
+		for (int i= 0; i < MEASURED_RUNS; i++) {
+			startMeasuring();
+			String output= RunnableJarBuilder.run(runnableJar, property);
+			stopMeasuring();
+			assertEquals("loaded " + LIBRARY_COUNT * CLASS_COUNT + " classes", output);
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private File createRunnableJar() throws Exception {
+		StringBuilder rsrcClassPath= new StringBuilder("./");
+		for (int i= 0; i < LIBRARY_COUNT; i++) {
+			rsrcClassPath.append(" lib").append(i).append(".jar");
+		}
+		RunnableJarBuilder builder= new RunnableJarBuilder(StartupMain.class, rsrcClassPath.toString());
+		builder.addClass(StartupMain.class);
+
+		StringBuilder classNames= new StringBuilder();
+		Random random= new Random(42);
+		for (int i= 0; i < LIBRARY_COUNT; i++) {
+			Map<String, byte[]> classes= new LinkedHashMap<>();
+			for (int j= 0; j < CLASS_COUNT; j++) {
+				String internalName= "lib" + i + "/C" + j;
+				classes.put(internalName + ".class", RunnableJarBuilder.createClass(internalName, createPadding(random)));
+				classNames.append(internalName.replace('/', '.')).append('\n');
+			}
+			// nested libraries are stored, as the exporter does
+			builder.addEntry("lib" + i + ".jar", RunnableJarBuilder.createLibrary(classes, false), true);
+		}
+		builder.addEntry(CLASSES_RESOURCE, classNames.toString().getBytes(StandardCharsets.UTF_8), false);
+		return builder.write(fTempDir.resolve("runnable.jar").toFile());
+	}
+
+	/**
+	 * Returns an unused constant that gives a class the size of a typical small class.
+	 */
+	private static String createPadding(Random random) {
+		char[] padding= new char[2000];
+		for (int i= 0; i < padding.length; i++) {
+			padding[i]= (char) ('a' + random.nextInt(26));
+		}
+		return new String(padding);
+	}
+}
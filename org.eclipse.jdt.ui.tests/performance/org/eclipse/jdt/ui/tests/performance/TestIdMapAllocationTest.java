@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+
+import org.junit.Test;
+
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.Performance;
+
+import org.eclipse.jdt.internal.junit.runner.ITestIdentifier;
+import org.eclipse.jdt.internal.junit.runner.TestIdMap;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Microbenchmark for the test id map of the runner, which runs in the VM under test. Assigns
+ * ids to 100'000 synthetic tests and looks them up again. The time is measured by the
+ * performance meter. The bytes allocated per test depend on the VM, so they are reported in the
+ * comment of the scenario, together with the bytes that the <code>HashMap</code> with
+ * <code>String</code> ids allocates, which the runner used before.
+ */
+public class TestIdMapAllocationTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int TEST_COUNT= 100_000;
+
+	private static final int LOOKUPS= 3;
+
+	private static final int WARMUP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 10;
+
+	private static class SyntheticIdentifier implements ITestIdentifier {
+		private final String fName;
+
+		SyntheticIdentifier(int i) {
+			fName= "test" + i + "(org.example.SyntheticTest" + (i / 100) + ")";
+		}
+
+		@Override
+		public String getName() {
+			return fName;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return fName;
+		}
+
+		@Override
+		public String getParameterTypes() {
+			return "";
+		}
+
+		@Override
+		public String getUniqueId() {
+			return "";
+		}
+
+		@Override
+		public int hashCode() {
+			return fName.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof SyntheticIdentifier && fName.equals(((SyntheticIdentifier) obj).fName);
+		}
+	}
+
+	/**
+	 * The id map of the runner before it used primitive maps.
+	 */
+	private static class StringIdMap {
+		private final HashMap<ITestIdentifier, String> fIdMap= new HashMap<>();
+
+		private int fNextId= 1;
+
+		synchronized String getTestId(ITestIdentifier identifier) {
+			String id= fIdMap.get(identifier);
+			if (id != null)
+				return id;
+			String newId= Integer.toString(fNextId++);
+			fIdMap.put(identifier, newId);
+			return newId;
+		}
+	}
+
+	@Test
+	public void testAllocationsPerTest() throws Exception {
+		ThreadMXBean threadBean= getThreadBean();
+		assumeTrue("thread allocation measurement is not supported", threadBean != null);
+		tagAsSummary("JUnit runner: ids of 100'000 tests", Dimension.ELAPSED_PROCESS);
+
+		ITestIdentifier[] identifiers= new ITestIdentifier[TEST_COUNT];
+		for (int i= 0; i < TEST_COUNT; i++) {
+			identifiers[i]= new SyntheticIdentifier(i);
+		}
+		long threadId= Thread.currentThread().getId();
+
+		// warm up both implementations, so that class loading and JIT don't count
+		for (int i= 0; i < WARMUP_RUNS; i++) {
+			runStringIdMap(identifiers);
+			runTestIdMap(identifiers);
+		}
+
+		long stringIdMapBytes= 0;
+		long testIdMapBytes= 0;
+		for (int i= 0; i < MEASURED_RUNS; i++) {
+			long start= threadBean.getThreadAllocatedBytes(threadId);
+			long sum= runStringIdMap(identifiers);
+			stringIdMapBytes+= threadBean.getThreadAllocatedBytes(threadId) - start;
+
+			startMeasuring();
+			start= threadBean.getThreadAllocatedBytes(threadId);
+			long sum2= runTestIdMap(identifiers);
+			testIdMapBytes+= threadBean.getThreadAllocatedBytes(threadId) - start;
+			stopMeasuring();
+
+			assertEquals(sum, sum2);
+		}
+
+		String comment= "Bytes allocated per test for " + LOOKUPS + " lookups: " //
+				+ testIdMapBytes / MEASURED_RUNS / TEST_COUNT + " (TestIdMap), " //
+				+ stringIdMapBytes / MEASURED_RUNS / TEST_COUNT + " (HashMap with String ids)";
+		Performance.getDefault().setComment(fPerformanceMeter, Performance.EXPLAINS_DEGRADATION_COMMENT, comment);
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static long runStringIdMap(ITestIdentifier[] identifiers) {
+		StringIdMap map= new StringIdMap();
+		long sum= 0;
+		for (int lookup= 0; lookup < LOOKUPS; lookup++) {
+			for (ITestIdentifier identifier : identifiers) {
+				sum+= map.getTestId(identifier).length();
+			}
+		}
+		return sum;
+	}
+
+	private static long runTestIdMap(ITestIdentifier[] identifiers) {
+		TestIdMap map= new TestIdMap();
+		long sum= 0;
+		for (int lookup= 0; lookup < LOOKUPS; lookup++) {
+			for (ITestIdentifier identifier : identifiers) {
+				sum+= stringSize(map.getId(identifier));
+			}
+		}
+		return sum;
+	}
+
+	private static int stringSize(int i) {
+		int size= 1;
+		while (i >= 10) {
+			i/= 10;
+			size++;
+		}
+		return size;
+	}
+
+	/**
+	 * @return the thread bean if the VM measures the allocations of threads, <code>null</code>
+	 *         otherwise
+	 */
+	private static ThreadMXBean getThreadBean() {
+		java.lang.management.ThreadMXBean threadBean= ManagementFactory.getThreadMXBean();
+		if (!(threadBean instanceof ThreadMXBean))
+			return null;
+		ThreadMXBean allocationBean= (ThreadMXBean) threadBean;
+		if (!allocationBean.isThreadAllocatedMemorySupported())
+			return null;
+		if (!allocationBean.isThreadAllocatedMemoryEnabled())
+			allocationBean.setThreadAllocatedMemoryEnabled(true);
+		return allocationBean;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.jdt.ui.tests.performance.views;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,13 +33,17 @@ import org.eclipse.test.performance.Dimension;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 
+import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.CheckConditionsOperation;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
 import org.eclipse.ltk.core.refactoring.PerformRefactoringOperation;
 import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.TextEditBasedChange;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -306,6 +311,69 @@ public class CleanUpPerfTest extends JdtPerformanceTestCaseCommon {
 		doCleanUp(cleanUpRefactoring);
 	}
 
+	@Test
+	public void testCodeStyleCleanUpInParallel() throws Exception {
+		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
+		cleanUpRefactoring.setCalculateFixesInParallel(true);
+		addAllCUs(cleanUpRefactoring, MyTestSetup.fJProject1.getChildren());
+
+		storeSettings(getCodeStyleAndFormatSettings());
+
+		cleanUpRefactoring.addCleanUp(new CodeStyleCleanUpCore());
+
+		doCleanUp(cleanUpRefactoring);
+	}
+
+	@Test
+	public void testParallelFixCalculation() throws Exception {
+		storeSettings(getCodeStyleAndFormatSettings());
+
+		List<String> sequentialChanges= calculateChanges(false);
+		List<String> parallelChanges= calculateChanges(true);
+
+		Assert.assertFalse(sequentialChanges.isEmpty());
+		Assert.assertEquals("parallel calculation must create the same changes in the same order", sequentialChanges, parallelChanges);
+	}
+
+	private List<String> calculateChanges(boolean parallel) throws CoreException {
+		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
+		cleanUpRefactoring.setCalculateFixesInParallel(parallel);
+		cleanUpRefactoring.setUseOptionsFromProfile(true);
+		addAllCUs(cleanUpRefactoring, MyTestSetup.fJProject1.getChildren());
+		cleanUpRefactoring.addCleanUp(new CodeStyleCleanUpCore());
+		cleanUpRefactoring.addCleanUp(new CodeFormatCleanUp());
+
+		joinBackgroudActivities();
+		Assert.assertTrue(cleanUpRefactoring.checkAllConditions(new NullProgressMonitor()).getSeverity() <= IStatus.WARNING);
+		CompositeChange change= (CompositeChange) cleanUpRefactoring.createChange(new NullProgressMonitor());
+
+		List<String> result= new ArrayList<>();
+		for (Change child : change.getChildren()) {
+			result.add(child.getName());
+			result.add(((TextEditBasedChange) child).getPreviewContent(new NullProgressMonitor()));
+		}
+		change.dispose();
+		return result;
+	}
+
+	private static Map<String, String> getCodeStyleAndFormatSettings() {
+		Map<String, String> node= getNullSettings();
+
+		node.put(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS_ALWAYS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_METHOD_USE_THIS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_METHOD_USE_THIS_ALWAYS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_STATIC_QUALIFY_WITH_DECLARING_CLASS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_STATIC_QUALIFY_WITH_DECLARING_CLASS_FIELD, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_STATIC_QUALIFY_WITH_DECLARING_CLASS_INSTANCE_ACCESS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_STATIC_QUALIFY_WITH_DECLARING_CLASS_METHOD, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_STATIC_QUALIFY_WITH_DECLARING_CLASS_SUBTYPE_ACCESS, CleanUpOptions.TRUE);
+
+		node.put(CleanUpConstants.FORMAT_SOURCE_CODE, CleanUpOptions.TRUE);
+
+		return node;
+	}
+
 	@Test
 	public void testControlStatementsCleanUp() throws Exception {
 		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
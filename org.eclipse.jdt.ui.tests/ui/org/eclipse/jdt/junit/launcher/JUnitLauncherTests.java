@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Erik Brangs and others.
+ * Copyright (c) 2024, 2026 Erik Brangs and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({
 AdvancedJUnitLaunchConfigurationDelegateTest.class,
+TestShardPlannerTest.class,
 })
 public class JUnitLauncherTests {
 
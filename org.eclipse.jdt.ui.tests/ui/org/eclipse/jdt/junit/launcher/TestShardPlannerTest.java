@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.launcher;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.TestShardPlanner;
+
+public class TestShardPlannerTest {
+
+	/**
+	 * Creates handles of test classes <code>p.A</code>, <code>p.B</code>, ..., which don't need
+	 * to exist.
+	 *
+	 * @param names the simple names of the classes
+	 * @return the types
+	 */
+	private static List<IType> createTypes(String... names) {
+		IProject project= ResourcesPlugin.getWorkspace().getRoot().getProject("TestShardPlannerTest");
+		IPackageFragment pack= JavaCore.create(project).getPackageFragmentRoot(project.getFolder("src")).getPackageFragment("p");
+		List<IType> types= new ArrayList<>();
+		for (String name : names) {
+			types.add(pack.getCompilationUnit(name + ".java").getType(name));
+		}
+		return types;
+	}
+
+	private static Map<String, Double> durations(Object... classesAndDurations) {
+		Map<String, Double> durations= new HashMap<>();
+		for (int i= 0; i < classesAndDurations.length; i+= 2) {
+			durations.put("p." + classesAndDurations[i], Double.valueOf(((Number) classesAndDurations[i + 1]).doubleValue()));
+		}
+		return durations;
+	}
+
+	/**
+	 * @param shards the shards
+	 * @return the simple names of the classes of each shard, independent of the order of the
+	 *         shards
+	 */
+	private static Set<Set<String>> names(IType[][] shards) {
+		Set<Set<String>> names= new HashSet<>();
+		for (IType[] shard : shards) {
+			Set<String> shardNames= new HashSet<>();
+			for (IType type : shard) {
+				shardNames.add(type.getElementName());
+			}
+			names.add(shardNames);
+		}
+		return names;
+	}
+
+	private static Set<Set<String>> shards(String... shards) {
+		Set<Set<String>> names= new HashSet<>();
+		for (String shard : shards) {
+			names.add(new HashSet<>(Arrays.asList(shard.split(","))));
+		}
+		return names;
+	}
+
+	@Test
+	public void longestClassesFirst() throws Exception {
+		List<IType> types= createTypes("A", "B", "C", "D", "E");
+		// A -> 1 (10), B -> 2 (7), C -> 2 (12), D -> 1 (14), E -> 2 (14)
+		IType[][] plan= TestShardPlanner.plan(types, 2, durations("A", 10, "B", 7, "C", 5, "D", 4, "E", 2));
+		assertEquals(shards("A,D", "B,C,E"), names(plan));
+	}
+
+	@Test
+	public void unknownClassesTakeTheAverage() throws Exception {
+		List<IType> types= createTypes("A", "B", "C", "D");
+		// C and D take 6, the average of A and B: A -> 1 (9), C -> 2 (6), D -> 2 (12), B -> 1 (12)
+		IType[][] plan= TestShardPlanner.plan(types, 2, durations("A", 9, "B", 3));
+		assertEquals(shards("A,B", "C,D"), names(plan));
+	}
+
+	@Test
+	public void noPreviousRun() throws Exception {
+		List<IType> types= createTypes("A", "B", "C", "D", "E");
+		IType[][] plan= TestShardPlanner.plan(types, 2, Collections.emptyMap());
+		assertEquals(2, plan.length);
+		assertEquals(5, plan[0].length + plan[1].length);
+		assertEquals(1, Math.abs(plan[0].length - plan[1].length));
+		Set<IType> planned= new HashSet<>();
+		for (IType[] shard : plan) {
+			planned.addAll(Arrays.asList(shard));
+		}
+		assertEquals(new HashSet<>(types), planned);
+	}
+
+	@Test
+	public void moreShardsThanClasses() throws Exception {
+		List<IType> types= createTypes("A", "B", "C");
+		IType[][] plan= TestShardPlanner.plan(types, 8, durations("A", 1, "B", 2, "C", 3));
+		assertEquals(shards("A", "B", "C"), names(plan));
+	}
+
+	@Test
+	public void singleShard() throws Exception {
+		List<IType> types= createTypes("A", "B", "C");
+		assertEquals(shards("A,B,C"), names(TestShardPlanner.plan(types, 1, durations("A", 1))));
+		assertEquals(shards("A,B,C"), names(TestShardPlanner.plan(types, 0, durations("A", 1))));
+	}
+
+	@Test
+	public void noClasses() throws Exception {
+		assertEquals(0, TestShardPlanner.plan(Collections.emptyList(), 4, durations("A", 1)).length);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -186,6 +186,7 @@ public class AbstractTestRunListenerTest {
 		if (testKindID != null) {
 			configuration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_RUNNER_KIND, testKindID);
 		}
+		configureLaunch(configuration);
 		try {
 			configuration.launch(ILaunchManager.RUN_MODE, null);
 			new DisplayHelper() {
@@ -202,6 +203,15 @@ public class AbstractTestRunListenerTest {
 		assertTrue("Launch has not terminated", fLaunchHasTerminated);
 	}
 
+	/**
+	 * Hook to set additional attributes of the launch configuration before it is launched.
+	 *
+	 * @param configuration the launch configuration
+	 * @throws CoreException if an attribute can't be set
+	 */
+	protected void configureLaunch(ILaunchConfigurationWorkingCopy configuration) throws CoreException {
+	}
+
 	protected String[] launchJUnit(IJavaElement aTest, final TestRunLog log) throws CoreException {
 		return launchJUnit(aTest, null, log);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@
 package org.eclipse.jdt.junit.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -45,6 +46,7 @@ import org.eclipse.jdt.testplugin.util.DisplayHelper;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 
 import org.eclipse.core.resources.IFile;
@@ -58,6 +60,7 @@ import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestRunSessionStreamWriter;
 import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
 
 import org.eclipse.jdt.ui.tests.core.rules.JUnitWorkspaceTestSetup;
@@ -115,6 +118,14 @@ public class AbstractTestRunSessionSerializationTests {
 			// due to lingering TestRunnerViewPart$TestSessionListeners
 			serializationResult.fTestRunSession.swapOut();
 			assertEqualSessions(serializationResult.fTestRunSession, imported);
+
+			ByteArrayOutputStream out= new ByteArrayOutputStream();
+			new TestRunSessionStreamWriter(serializationResult.fTestRunSession).write(out);
+			assertEqualXML(expectedXML, out.toString("UTF-8"));
+
+			TestRunSession streamed= JUnitModel.importTestRunSession(resultFile.getLocation().toFile(), new NullProgressMonitor());
+			assertFalse(streamed.isRunning());
+			assertEqualSessions(serializationResult.fTestRunSession, streamed);
 		} finally {
 			if (resultFile.exists())
 				try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.junit.platform.suite.api.Suite;
 
 TestEnableAssertions.class,
 TestPriorization.class,
+TestDurationsTest.class,
 TestTestSearchEngine.class,
 
 TestRunListenerTest3.class,
@@ -37,11 +38,18 @@ TestRunFilteredParameterizedRunnerTest4.class,
 
 TestRunSessionSerializationTests3.class,
 TestRunSessionSerializationTests4.class,
+TestRunSessionImportTest.class,
+TestRunSessionSwapTest.class,
+TestSessionEventBatcherTest.class,
+RemoteTestRunnerClientTest.class,
 
 JUnit3TestFinderTest.class,
 JUnitTestFinderTest.class,
 JUnit4TestFinderTest16.class,
 JUnit5TestFinderJupiterTest.class,
+TestClassIndexTest.class,
+TestIdMapTest.class,
+ParallelExecutionTest.class,
 
 TestSorting.class
 //LegacyTestRunListenerTest.class
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement.ProgressState;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+import org.eclipse.jdt.internal.junit.runner.FailedComparison;
+import org.eclipse.jdt.internal.junit.runner.IListensToTestExecutions;
+import org.eclipse.jdt.internal.junit.runner.ITestIdentifier;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.MessageSender;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+import org.eclipse.jdt.internal.junit.runner.TestReferenceFailure;
+
+/**
+ * Tests the parts of the test runner and the test run model that have to cope with tests that
+ * are executed in parallel.
+ */
+public class ParallelExecutionTest {
+
+	private static class Identifier implements ITestIdentifier {
+		private final String fName;
+
+		Identifier(String name) {
+			fName= name;
+		}
+
+		@Override
+		public String getName() {
+			return fName;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return fName;
+		}
+
+		@Override
+		public String getParameterTypes() {
+			return "";
+		}
+
+		@Override
+		public String getUniqueId() {
+			return "";
+		}
+	}
+
+	/**
+	 * Records the messages. Locks itself while sending, like the default
+	 * {@link MessageSender#getMessageLock()} requires.
+	 */
+	private static class RecordingSender implements MessageSender {
+		final List<String> fMessages= new ArrayList<>();
+
+		@Override
+		public synchronized void sendMessage(String msg) {
+			fMessages.add(msg);
+		}
+
+		@Override
+		public synchronized void flush() {
+		}
+	}
+
+	@Test
+	public void messageGroupsDoNotInterleave() throws Exception {
+		RemoteTestRunner runner= new RemoteTestRunner();
+		RecordingSender sender= new RecordingSender();
+		runner.setMessageSender(sender);
+		IListensToTestExecutions listener= runner.firstRunExecutionListener();
+
+		int threadCount= 8;
+		int testsPerThread= 200;
+		CountDownLatch start= new CountDownLatch(1);
+		List<Thread> threads= new ArrayList<>();
+		for (int t= 0; t < threadCount; t++) {
+			int thread= t;
+			threads.add(new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i= 0; i < testsPerThread; i++) {
+					String name= "test" + thread + "_" + i + "(p.ATest)";
+					Identifier test= new Identifier(name);
+					listener.notifyTestStarted(test);
+					listener.notifyTestFailed(new TestReferenceFailure(test, MessageIds.TEST_FAILED, "trace " + name, new FailedComparison("expected " + name, "actual " + name)));
+					listener.notifyTestEnded(test);
+				}
+			}));
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		List<String> messages= sender.fMessages;
+		assertEquals(threadCount * testsPerThread * 12, messages.size());
+		int failedCount= 0;
+		for (int i= 0; i < messages.size(); i++) {
+			String message= messages.get(i);
+			if (!message.startsWith(MessageIds.TEST_FAILED))
+				continue;
+			failedCount++;
+			String name= message.substring(message.indexOf(',') + 1);
+			List<String> expectedGroup= List.of(
+					MessageIds.EXPECTED_START, "expected " + name, MessageIds.EXPECTED_END,
+					MessageIds.ACTUAL_START, "actual " + name, MessageIds.ACTUAL_END,
+					MessageIds.TRACE_START, "trace " + name, MessageIds.TRACE_END);
+			assertEquals(name, expectedGroup, messages.subList(i + 1, i + 1 + expectedGroup.size()));
+		}
+		assertEquals(threadCount * testsPerThread, failedCount);
+	}
+
+	@Test
+	public void suiteIsRunningWhenAnyChildStarts() throws Exception {
+		TestRunSession session= new TestRunSession("ParallelExecutionTest", null);
+		TestSuiteElement suite= new TestSuiteElement(session.getTestRoot(), "1", "p.ATest", 3, null, null, null);
+		TestCaseElement[] tests= new TestCaseElement[3];
+		for (int i= 0; i < tests.length; i++) {
+			tests[i]= new TestCaseElement(suite, Integer.toString(i + 2), "test" + i + "(p.ATest)", null, false, null, null);
+		}
+		assertEquals(ProgressState.NOT_STARTED, suite.getProgressState());
+
+		// the last test is started first
+		tests[2].setStatus(Status.RUNNING);
+		assertEquals(ProgressState.RUNNING, suite.getProgressState());
+		tests[0].setStatus(Status.RUNNING);
+		tests[0].setStatus(Status.OK);
+		assertEquals(ProgressState.RUNNING, suite.getProgressState());
+		tests[1].setStatus(Status.RUNNING);
+		tests[1].setStatus(Status.FAILURE);
+		assertTrue(suite.getStatus().isFailure());
+		tests[2].setStatus(Status.OK);
+
+		assertEquals(ProgressState.COMPLETED, suite.getProgressState());
+		assertEquals(Result.FAILURE, suite.getTestResult(true));
+	}
+}
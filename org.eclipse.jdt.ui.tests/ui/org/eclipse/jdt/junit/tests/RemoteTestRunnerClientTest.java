@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.ITestRunListener2;
+import org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient;
+import org.eclipse.jdt.internal.junit.runner.FramedMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+/**
+ * Sends messages from the runner side to a {@link RemoteTestRunnerClient}, with the binary
+ * protocol of {@link FramedMessageWriter} and with the text protocol.
+ */
+public class RemoteTestRunnerClientTest {
+
+	private static final String TEST= "1,testA(p.ATest)";
+
+	private static final String EXPECTED= "Grüße\nvon drüben";
+
+	private static final String ACTUAL= "日本語 Ångström";
+
+	private static final String TRACE= """
+			org.junit.ComparisonFailure: expected:<Grüße> but was:<日本語>
+				at org.junit.Assert.assertEquals(Assert.java:117)
+				at p.ATest.testA(ATest.java:12)""";
+
+	private static class RecordingListener implements ITestRunListener2 {
+		final List<String> fEvents= Collections.synchronizedList(new ArrayList<>());
+
+		final CountDownLatch fDone= new CountDownLatch(1);
+
+		@Override
+		public void testRunStarted(int testCount) {
+			fEvents.add("started " + testCount);
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			fEvents.add("ended " + elapsedTime);
+			fDone.countDown();
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			fEvents.add("stopped " + elapsedTime);
+			fDone.countDown();
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			fEvents.add("testStarted " + testId + " " + testName);
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			fEvents.add("testEnded " + testId + " " + testName);
+		}
+
+		@Override
+		public void testRunTerminated() {
+			fEvents.add("terminated");
+			fDone.countDown();
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			fEvents.add("tree " + description);
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			fEvents.add("testFailed " + status + " " + testId + " " + testName);
+			fEvents.add("trace " + trace);
+			fEvents.add("expected " + expected);
+			fEvents.add("actual " + actual);
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+			fEvents.add("testReran " + testId);
+		}
+
+		List<String> await() throws InterruptedException {
+			assertTrue("client didn't finish", fDone.await(10, TimeUnit.SECONDS));
+			synchronized (fEvents) {
+				return new ArrayList<>(fEvents);
+			}
+		}
+	}
+
+	private RemoteTestRunnerClient fClient;
+
+	private RecordingListener fListener;
+
+	private Socket fSocket;
+
+	@Before
+	public void setUp() throws Exception {
+		int port;
+		try (ServerSocket socket= new ServerSocket(0)) {
+			port= socket.getLocalPort();
+		}
+		fListener= new RecordingListener();
+		fClient= new RemoteTestRunnerClient();
+		fClient.startListening(new ITestRunListener2[] { fListener }, port);
+		fSocket= connect(port);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fSocket.close();
+		fClient.stopWaiting();
+	}
+
+	private static Socket connect(int port) throws Exception {
+		long end= System.currentTimeMillis() + 10_000;
+		while (true) {
+			try {
+				return new Socket("localhost", port);
+			} catch (ConnectException e) {
+				// the client has not opened its server socket yet
+				if (System.currentTimeMillis() > end)
+					throw e;
+				Thread.sleep(10);
+			}
+		}
+	}
+
+	private static List<String> createMessages(String trace) {
+		return List.of(
+				MessageIds.TEST_RUN_START + "1 v2",
+				MessageIds.TEST_TREE + "1,testA(p.ATest),false,1,false,-1,testA,,",
+				MessageIds.TEST_START + TEST,
+				MessageIds.TEST_FAILED + TEST,
+				MessageIds.EXPECTED_START, EXPECTED, MessageIds.EXPECTED_END,
+				MessageIds.ACTUAL_START, ACTUAL, MessageIds.ACTUAL_END,
+				MessageIds.TRACE_START, trace, MessageIds.TRACE_END,
+				MessageIds.TEST_END + TEST,
+				MessageIds.TEST_RUN_END + "42");
+	}
+
+	private static List<String> expectedEvents(String trace) {
+		return List.of(
+				"started 1",
+				"tree 1,testA(p.ATest),false,1,false,-1,testA,,",
+				"testStarted 1 testA(p.ATest)",
+				"testFailed " + ITestRunListener2.STATUS_FAILURE + " 1 testA(p.ATest)",
+				// the client appends a line delimiter to the lines it reads
+				"trace " + trace + "\n",
+				"expected " + EXPECTED + "\n",
+				"actual " + ACTUAL + "\n",
+				"testEnded 1 testA(p.ATest)",
+				"ended 42");
+	}
+
+	private void sendFramed(List<String> messages, String flushAfter) throws IOException {
+		FramedMessageWriter writer= new FramedMessageWriter(fSocket.getOutputStream());
+		for (String message : messages) {
+			writer.write(message);
+			if (message.equals(flushAfter))
+				writer.flushNow();
+		}
+		writer.close();
+	}
+
+	@Test
+	public void binaryProtocol() throws Exception {
+		sendFramed(createMessages(TRACE), null);
+		assertEquals(expectedEvents(TRACE), fListener.await());
+	}
+
+	@Test
+	public void groupSpansFrames() throws Exception {
+		// the trace follows in the next frame
+		sendFramed(createMessages(TRACE), MessageIds.TRACE_START);
+		assertEquals(expectedEvents(TRACE), fListener.await());
+	}
+
+	@Test
+	public void messageLargerThanFrame() throws Exception {
+		StringBuilder trace= new StringBuilder(TRACE);
+		while (trace.length() < 2 * FramedMessageWriter.MAX_BATCH_SIZE) {
+			trace.append("\n\tat p.ATest.nested(ATest.java:").append(trace.length()).append(')');
+		}
+		sendFramed(createMessages(trace.toString()), null);
+		assertEquals(expectedEvents(trace.toString()), fListener.await());
+	}
+
+	@Test
+	public void textProtocol() throws Exception {
+		PrintWriter writer= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8));
+		for (String message : createMessages(TRACE)) {
+			// the same delimiter on all platforms, the client keeps the one it reads
+			writer.print(message + "\n");
+		}
+		writer.close();
+		assertEquals(expectedEvents(TRACE), fListener.await());
+	}
+
+	@Test
+	public void negativeFrameLength() throws Exception {
+		DataOutputStream out= new DataOutputStream(fSocket.getOutputStream());
+		out.write(MessageIds.BINARY_PROTOCOL_START.getBytes(StandardCharsets.US_ASCII));
+		out.writeInt(-1);
+		out.flush();
+		assertEquals(List.of("terminated"), fListener.await());
+	}
+
+	@Test
+	public void messageLongerThanFrame() throws Exception {
+		byte[] message= (MessageIds.TEST_RUN_START + "1 v2").getBytes(StandardCharsets.UTF_8);
+		DataOutputStream out= new DataOutputStream(fSocket.getOutputStream());
+		out.write(MessageIds.BINARY_PROTOCOL_START.getBytes(StandardCharsets.US_ASCII));
+		out.writeInt(4 + message.length);
+		out.writeInt(message.length + 1);
+		out.write(message);
+		out.flush();
+		assertEquals(List.of("terminated"), fListener.await());
+	}
+
+	@Test
+	public void truncatedMessageLength() throws Exception {
+		byte[] message= (MessageIds.TEST_RUN_START + "1 v2").getBytes(StandardCharsets.UTF_8);
+		DataOutputStream out= new DataOutputStream(fSocket.getOutputStream());
+		out.write(MessageIds.BINARY_PROTOCOL_START.getBytes(StandardCharsets.US_ASCII));
+		// a valid message followed by two bytes of the next message's length
+		out.writeInt(4 + message.length + 2);
+		out.writeInt(message.length);
+		out.write(message);
+		out.writeShort(0);
+		out.flush();
+		assertEquals(List.of("started 1", "terminated"), fListener.await());
+	}
+}
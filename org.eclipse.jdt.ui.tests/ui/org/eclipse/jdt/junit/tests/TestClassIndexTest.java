@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.StringAsserts;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.ITestKind;
+import org.eclipse.jdt.internal.junit.launcher.TestClassIndex;
+import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+
+public class TestClassIndexTest {
+
+	private IJavaProject fProject;
+	private IPackageFragment fPackage;
+	private TestClassIndex fIndex;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		JavaProjectHelper.addToClasspath(fProject, JavaCore.newContainerEntry(JUnitCore.JUNIT4_CONTAINER_PATH));
+		JavaProjectHelper.set18CompilerOptions(fProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+
+		fIndex= new TestClassIndex();
+		fIndex.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fIndex.stop();
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private void createTestUnit(String name, String source) throws CoreException {
+		fPackage.createCompilationUnit(name, source, true, null);
+	}
+
+	private void assertTestsFound(IJavaElement container, String... expectedTypes) throws CoreException {
+		ITestKind testKind= TestKindRegistry.getDefault().getKind(TestKindRegistry.JUNIT4_TEST_KIND_ID);
+		Set<IType> result= new HashSet<>();
+		fIndex.findTestsInContainer(testKind, container, result, null);
+		Set<String> namesFound= new HashSet<>();
+		for (IType type : result) {
+			namesFound.add(type.getFullyQualifiedName('.'));
+		}
+		StringAsserts.assertEqualStringsIgnoreOrder(namesFound.toArray(new String[namesFound.size()]), expectedTypes);
+	}
+
+	@Test
+	public void addedTest() throws Exception {
+		createTestUnit("ATest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class ATest extends TestCase {
+					public void testA() {}
+				}
+				""");
+		assertTestsFound(fPackage, "p.ATest");
+
+		createTestUnit("BTest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class BTest extends TestCase {
+					public void testB() {}
+				}
+				""");
+		assertTestsFound(fPackage, "p.ATest", "p.BTest");
+		assertTestsFound(fProject, "p.ATest", "p.BTest");
+	}
+
+	@Test
+	public void removedTest() throws Exception {
+		createTestUnit("ATest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class ATest extends TestCase {
+					public void testA() {}
+				}
+				class OtherTest extends TestCase {
+					public void testOther() {}
+				}
+				""");
+		assertTestsFound(fPackage, "p.ATest", "p.OtherTest");
+
+		createTestUnit("ATest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class ATest extends TestCase {
+					public void testA() {}
+				}
+				""");
+		assertTestsFound(fPackage, "p.ATest");
+	}
+
+	@Test
+	public void renamedTest() throws Exception {
+		createTestUnit("ATest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class ATest extends TestCase {
+					public void testA() {}
+				}
+				class OtherTest extends TestCase {
+					public void testOther() {}
+				}
+				""");
+		assertTestsFound(fPackage, "p.ATest", "p.OtherTest");
+
+		createTestUnit("ATest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class ATest extends TestCase {
+					public void testA() {}
+				}
+				class RenamedTest extends TestCase {
+					public void testOther() {}
+				}
+				""");
+		assertTestsFound(fPackage, "p.ATest", "p.RenamedTest");
+	}
+
+	@Test
+	public void removedSuperClass() throws Exception {
+		createTestUnit("ATest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class ATest extends TestCase {
+					public void testA() {}
+				}
+				class BaseTest extends TestCase {
+					public void testBase() {}
+				}
+				""");
+		createTestUnit("SubTest.java", """
+				package p;
+				public class SubTest extends BaseTest {
+				}
+				""");
+		assertTestsFound(fPackage, "p.ATest", "p.BaseTest", "p.SubTest");
+
+		createTestUnit("ATest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class ATest extends TestCase {
+					public void testA() {}
+				}
+				""");
+		assertTestsFound(fPackage, "p.ATest");
+	}
+
+	@Test
+	public void removedUnit() throws Exception {
+		createTestUnit("ATest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class ATest extends TestCase {
+					public void testA() {}
+				}
+				""");
+		createTestUnit("BTest.java", """
+				package p;
+				import junit.framework.TestCase;
+				public class BTest extends TestCase {
+					public void testB() {}
+				}
+				""");
+		assertTestsFound(fPackage, "p.ATest", "p.BTest");
+
+		fPackage.getCompilationUnit("BTest.java").delete(true, null);
+		assertTestsFound(fPackage, "p.ATest");
+	}
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.Description;
+
+import org.eclipse.jdt.internal.junit.runner.DurationPrioritizer;
+import org.eclipse.jdt.internal.junit.runner.TestDurations;
+import org.eclipse.jdt.internal.junit4.runner.DurationSorter;
+
+import junit.extensions.TestDecorator;
+import junit.extensions.TestSetup;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests the ordering of tests by the failures and durations of a previous run.
+ */
+public class TestDurationsTest {
+
+	private static final String SUITE= TestPriorizationSuite.class.getName();
+
+	private static final String SUITE1= TestPriorizationSuite1.class.getName();
+
+	private static final String SUITE2= TestPriorizationSuite2.class.getName();
+
+	/**
+	 * The previous run: all tests of {@link TestPriorizationSuite} are slow, testA of
+	 * {@link TestPriorizationSuite1} failed, and testF of {@link TestPriorizationSuite2} has not
+	 * been run. The average duration is 0.6 seconds.
+	 */
+	private static final String DURATIONS= """
+			1.0 P testX(%1$s)
+			1.0 P testY(%1$s)
+			1.0 P testZ(%1$s)
+			0.2 F testA(%2$s)
+			0.3 P testD(%3$s)
+			0.1 P testE(%3$s)
+			malformed
+			x P testF(%3$s)
+			""".formatted(SUITE, SUITE1, SUITE2);
+
+	private File fFile;
+
+	private TestDurations fDurations;
+
+	@Before
+	public void setUp() throws Exception {
+		fFile= File.createTempFile("testDurations", ".txt");
+		Files.writeString(fFile.toPath(), DURATIONS, StandardCharsets.UTF_8);
+		fDurations= TestDurations.read(fFile.getAbsolutePath());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fFile.delete();
+	}
+
+	private static String name(String test, String className) {
+		return test + "(" + className + ")";
+	}
+
+	@Test
+	public void read() throws Exception {
+		assertEquals(fFile.getAbsolutePath(), fDurations.getFileName());
+		assertEquals(1.0, fDurations.getTestDuration(name("testX", SUITE)), 0);
+		assertEquals(0.2, fDurations.getTestDuration(name("testA", SUITE1)), 0);
+		// unknown and malformed entries take the average
+		assertEquals(0.6, fDurations.getTestDuration(name("testB", SUITE1)), 1e-9);
+		assertEquals(0.6, fDurations.getTestDuration(name("testF", SUITE2)), 1e-9);
+
+		assertEquals(3.0, fDurations.getClassDuration(SUITE), 1e-9);
+		assertEquals(0.4, fDurations.getClassDuration(SUITE2), 1e-9);
+		assertEquals(0.6, fDurations.getClassDuration("p.Unknown"), 1e-9);
+
+		assertTrue(fDurations.hasTestFailed(name("testA", SUITE1)));
+		assertFalse(fDurations.hasTestFailed(name("testB", SUITE1)));
+		assertTrue(fDurations.hasClassFailed(SUITE1));
+		assertFalse(fDurations.hasClassFailed(SUITE2));
+	}
+
+	@Test
+	public void emptyFile() throws Exception {
+		Files.writeString(fFile.toPath(), "", StandardCharsets.UTF_8);
+		TestDurations durations= TestDurations.read(fFile.getAbsolutePath());
+		assertEquals(0, durations.getTestDuration(name("testX", SUITE)), 0);
+		assertFalse(durations.hasClassFailed(SUITE));
+	}
+
+	@Test
+	public void sortClasses() throws Exception {
+		Class<?>[] classes= { TestPriorizationSuite.class, Integer.class, TestPriorizationSuite2.class, TestPriorizationSuite1.class };
+		fDurations.sortClasses(classes);
+		// failed, then 0.4 s, then unknown (0.6 s), then 3.0 s
+		Class<?>[] expected= { TestPriorizationSuite1.class, TestPriorizationSuite2.class, Integer.class, TestPriorizationSuite.class };
+		assertArrayEquals(expected, classes);
+	}
+
+	@Test
+	public void prioritizeJUnit3() throws Exception {
+		TestSuite suite= new TestSuite();
+		suite.addTest(createSuite(TestPriorizationSuite.class, "testX", "testY", "testZ"));
+		suite.addTest(new TestSetup(createSuite(TestPriorizationSuite2.class, "testD", "testE", "testF")) {
+			@Override
+			protected void setUp() throws Exception {
+			}
+		});
+		suite.addTest(createSuite(TestPriorizationSuite1.class, "testA", "testB", "testC"));
+
+		new DurationPrioritizer(fDurations).prioritize(suite);
+
+		List<String> order= new ArrayList<>();
+		collectOrder(suite, order);
+		List<String> expected= List.of(
+				"testA", "testB", "testC", // failed
+				"testE", "testD", "testF", // 1.0 s
+				"testX", "testY", "testZ"); // 3.0 s
+		assertEquals(expected, order);
+	}
+
+	private static TestSuite createSuite(Class<? extends TestCase> testClass, String... testNames) throws Exception {
+		TestSuite suite= new TestSuite();
+		for (String testName : testNames) {
+			suite.addTest(testClass.getConstructor(String.class).newInstance(testName));
+		}
+		return suite;
+	}
+
+	private static void collectOrder(junit.framework.Test test, List<String> order) {
+		if (test instanceof TestCase) {
+			order.add(((TestCase) test).getName());
+		} else if (test instanceof TestSuite) {
+			for (Enumeration<junit.framework.Test> e= ((TestSuite) test).tests(); e.hasMoreElements();) {
+				collectOrder(e.nextElement(), order);
+			}
+		} else if (test instanceof TestDecorator) {
+			collectOrder(((TestDecorator) test).getTest(), order);
+		}
+	}
+
+	@Test
+	public void sortJUnit4() throws Exception {
+		Description suite= createDescription(TestPriorizationSuite.class, "testX", "testY", "testZ");
+		Description suite1= createDescription(TestPriorizationSuite1.class, "testA", "testB", "testC");
+		Description suite2= createDescription(TestPriorizationSuite2.class, "testD", "testE", "testF");
+		List<Description> classes= new ArrayList<>(List.of(suite, suite2, suite1));
+		List<Description> tests= new ArrayList<>(suite2.getChildren());
+
+		DurationSorter sorter= new DurationSorter(fDurations);
+		classes.sort(sorter);
+		tests.sort(sorter);
+
+		assertEquals(List.of(suite1, suite2, suite), classes);
+		assertEquals(List.of(
+				Description.createTestDescription(TestPriorizationSuite2.class, "testE"),
+				Description.createTestDescription(TestPriorizationSuite2.class, "testD"),
+				Description.createTestDescription(TestPriorizationSuite2.class, "testF")), tests);
+	}
+
+	private static Description createDescription(Class<?> testClass, String... testNames) {
+		Description description= Description.createSuiteDescription(testClass);
+		for (String testName : testNames) {
+			description.addChild(Description.createTestDescription(testClass, testName));
+		}
+		return description;
+	}
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.runner.ITestIdentifier;
+import org.eclipse.jdt.internal.junit.runner.ObjectIntMap;
+import org.eclipse.jdt.internal.junit.runner.TestIdMap;
+
+public class TestIdMapTest {
+
+	private static final int TEST_COUNT= 10_000;
+
+	private static class Identifier implements ITestIdentifier {
+		private final String fName;
+
+		Identifier(int i) {
+			fName= "test" + i + "(p.Test" + (i / 100) + ")";
+		}
+
+		@Override
+		public String getName() {
+			return fName;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return fName;
+		}
+
+		@Override
+		public String getParameterTypes() {
+			return "";
+		}
+
+		@Override
+		public String getUniqueId() {
+			return "";
+		}
+
+		@Override
+		public int hashCode() {
+			// collide a lot, so that probing is exercised
+			return fName.length();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Identifier && fName.equals(((Identifier) obj).fName);
+		}
+	}
+
+	@Test
+	public void consecutiveIds() {
+		TestIdMap map= new TestIdMap();
+		for (int i= 0; i < TEST_COUNT; i++) {
+			assertEquals(i + 1, map.getId(new Identifier(i)));
+		}
+		for (int i= TEST_COUNT - 1; i >= 0; i--) {
+			assertEquals(i + 1, map.getId(new Identifier(i)));
+			assertEquals(Integer.toString(i + 1), map.getTestId(new Identifier(i)));
+		}
+	}
+
+	@Test
+	public void concurrentIds() throws Exception {
+		TestIdMap map= new TestIdMap();
+		int threadCount= 8;
+		int[][] ids= new int[threadCount][TEST_COUNT];
+		CountDownLatch start= new CountDownLatch(1);
+		List<Thread> threads= new ArrayList<>();
+		for (int t= 0; t < threadCount; t++) {
+			int[] threadIds= ids[t];
+			boolean reverse= t % 2 == 1;
+			Thread thread= new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int j= 0; j < TEST_COUNT; j++) {
+					int i= reverse ? TEST_COUNT - 1 - j : j;
+					threadIds[i]= map.getId(new Identifier(i));
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// all threads see the same id for a test, and the ids are unique and consecutive
+		for (int t= 1; t < threadCount; t++) {
+			assertArrayEquals(ids[0], ids[t]);
+		}
+		int[] sorted= ids[0].clone();
+		Arrays.sort(sorted);
+		for (int i= 0; i < TEST_COUNT; i++) {
+			assertEquals(i + 1, sorted[i]);
+		}
+	}
+
+	@Test
+	public void equalKeys() {
+		ObjectIntMap map= new ObjectIntMap(1);
+		for (int i= 0; i < TEST_COUNT; i++) {
+			map.put(new Identifier(i), i);
+		}
+		assertEquals(TEST_COUNT, map.size());
+		for (int i= 0; i < TEST_COUNT; i++) {
+			assertEquals(i, map.get(new Identifier(i)));
+		}
+		map.put(new Identifier(42), 7);
+		assertEquals(TEST_COUNT, map.size());
+		assertEquals(7, map.get(new Identifier(42)));
+		assertEquals(ObjectIntMap.NOT_FOUND, map.get(new Identifier(TEST_COUNT)));
+	}
+
+	@Test
+	public void identityKeys() {
+		ObjectIntMap map= new ObjectIntMap(1, true);
+		Identifier[] keys= new Identifier[TEST_COUNT];
+		for (int i= 0; i < TEST_COUNT; i++) {
+			keys[i]= new Identifier(i);
+			map.put(keys[i], i);
+		}
+		assertEquals(TEST_COUNT, map.size());
+		for (int i= 0; i < TEST_COUNT; i++) {
+			assertEquals(i, map.get(keys[i]));
+			assertEquals(ObjectIntMap.NOT_FOUND, map.get(new Identifier(i)));
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2020 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 
 package org.eclipse.jdt.junit.tests;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -24,14 +26,25 @@ import org.eclipse.jdt.junit.model.ITestElement.ProgressState;
 import org.eclipse.jdt.junit.model.ITestElement.Result;
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
 
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+
 import org.eclipse.jdt.internal.junit.buildpath.BuildPathSupport;
+import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
 
 public class TestRunListenerTest5 extends AbstractTestRunListenerTest {
 
+	private boolean fParallelExecution;
+
+	private boolean fPrioritizeByDuration;
+
 	private String[] runSequenceTest(IType typeToLaunch) throws Exception {
 		TestRunLog log= new TestRunLog();
 		final TestRunListener testRunListener= new TestRunListeners.SequenceTest(log);
@@ -54,6 +67,19 @@ public class TestRunListenerTest5 extends AbstractTestRunListenerTest {
 		}
 	}
 
+	@Override
+	protected void configureLaunch(ILaunchConfigurationWorkingCopy configuration) throws CoreException {
+		if (fParallelExecution) {
+			configuration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PARALLEL_EXECUTION, true);
+			// enough threads for the tests that wait for each other
+			configuration.setAttribute(IJavaLaunchConfigurationConstants.ATTR_VM_ARGUMENTS,
+					"-Djunit.jupiter.execution.parallel.config.strategy=fixed -Djunit.jupiter.execution.parallel.config.fixed.parallelism=2");
+		}
+		if (fPrioritizeByDuration) {
+			configuration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PRIORITIZE_BY_DURATION, true);
+		}
+	}
+
 	@Override
 	@Before
 	public void setUp() throws Exception {
@@ -145,6 +171,75 @@ public class TestRunListenerTest5 extends AbstractTestRunListenerTest {
 		assertEqualLog(expectedTree, actual);
 	}
 
+	@Test
+	public void testTreeOnSessionEndedParallel() throws Exception {
+		// each test waits until the other one has started, so they only pass if they run in parallel
+		String source=
+				"""
+			package pack;
+			import java.util.concurrent.CountDownLatch;
+			import java.util.concurrent.TimeUnit;
+			import org.junit.jupiter.api.MethodOrderer;
+			import org.junit.jupiter.api.Test;
+			import org.junit.jupiter.api.TestMethodOrder;
+			import static org.junit.jupiter.api.Assertions.*;
+			@TestMethodOrder(MethodOrderer.MethodName.class)
+			public class ATestCase {
+			    private static final CountDownLatch STARTED= new CountDownLatch(2);
+			    private static void awaitOther() throws InterruptedException {
+			        STARTED.countDown();
+			        assertTrue(STARTED.await(10, TimeUnit.SECONDS), "not run in parallel");
+			    }
+			    @Test public void testA() throws Exception { awaitOther(); }
+			    @Test public void testB() throws Exception { awaitOther(); fail("reason"); }
+			}""";
+		IType aTestCase= createType(source, "pack", "ATestCase.java");
+
+		String[] expectedTree= new String[] {
+			TestRunListeners.sessionAsString("ATestCase", ProgressState.COMPLETED, Result.FAILURE, 0),
+			TestRunListeners.suiteAsString("pack.ATestCase", ProgressState.COMPLETED, Result.FAILURE, null, 1),
+			TestRunListeners.testCaseAsString("testA", "pack.ATestCase", ProgressState.COMPLETED, Result.OK, null, 2),
+			TestRunListeners.testCaseAsString("testB", "pack.ATestCase", ProgressState.COMPLETED, Result.FAILURE, new FailureTrace("org.opentest4j.AssertionFailedError", null, null), 2),
+		};
+		fParallelExecution= true;
+		String[] actual= runTreeTest(aTestCase, 6);
+		assertEqualLog(expectedTree, actual);
+	}
+
+	@Test
+	public void testPrioritizeByDuration() throws Exception {
+		String source=
+				"""
+			package pack;
+			import org.junit.jupiter.api.Test;
+			import static org.junit.jupiter.api.Assertions.*;
+			public class PrioritizedTestCase {
+			    @Test public void testSlow() throws Exception { Thread.sleep(500); }
+			    @Test public void testFail() { fail("reason"); }
+			    @Test public void testFast() { }
+			}""";
+		IType aTestCase= createType(source, "pack", "PrioritizedTestCase.java");
+		fPrioritizeByDuration= true;
+
+		// there is no previous run yet, so the tests run in the default order
+		String[] firstRun= runSequenceTest(aTestCase);
+		assertEquals(TestRunListeners.sessionAsString("PrioritizedTestCase", ProgressState.COMPLETED, Result.FAILURE, 0),
+				firstRun[firstRun.length - 1].substring("sessionFinished-".length()));
+
+		String[] expectedSequence= new String[] {
+			"sessionStarted-" + TestRunListeners.sessionAsString("PrioritizedTestCase", ProgressState.RUNNING, Result.UNDEFINED, 0),
+			"testCaseStarted-" + TestRunListeners.testCaseAsString("testFail", "pack.PrioritizedTestCase", ProgressState.RUNNING, Result.UNDEFINED, null, 0),
+			"testCaseFinished-" + TestRunListeners.testCaseAsString("testFail", "pack.PrioritizedTestCase", ProgressState.COMPLETED, Result.FAILURE, new FailureTrace("org.opentest4j.AssertionFailedError", null, null), 0),
+			"testCaseStarted-" + TestRunListeners.testCaseAsString("testFast", "pack.PrioritizedTestCase", ProgressState.RUNNING, Result.UNDEFINED, null, 0),
+			"testCaseFinished-" + TestRunListeners.testCaseAsString("testFast", "pack.PrioritizedTestCase", ProgressState.COMPLETED, Result.OK, null, 0),
+			"testCaseStarted-" + TestRunListeners.testCaseAsString("testSlow", "pack.PrioritizedTestCase", ProgressState.RUNNING, Result.UNDEFINED, null, 0),
+			"testCaseFinished-" + TestRunListeners.testCaseAsString("testSlow", "pack.PrioritizedTestCase", ProgressState.COMPLETED, Result.OK, null, 0),
+			"sessionFinished-" + TestRunListeners.sessionAsString("PrioritizedTestCase", ProgressState.COMPLETED, Result.FAILURE, 0)
+		};
+		String[] actual= runSequenceTest(aTestCase);
+		assertEqualLog(expectedSequence, actual);
+	}
+
 	@Test
 	public void testThatLauncherLibGetsAdded() throws Exception {
 		JavaProjectHelper.removeFromClasspath(fProject, JUnitCore.JUNIT5_CONTAINER_PATH);
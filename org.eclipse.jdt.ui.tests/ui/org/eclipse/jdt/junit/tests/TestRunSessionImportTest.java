@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.JUnitModel;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TraceStore;
+
+public class TestRunSessionImportTest {
+
+	private static final String SESSION_NAME= "TestRunSessionImportTest";
+
+	private File fFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fFile= File.createTempFile("session", ".xml");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fFile.delete();
+	}
+
+	private void assertNoImportedSession() {
+		List<TestRunSession> sessions= JUnitCorePlugin.getModel().getTestRunSessions();
+		for (TestRunSession session : sessions) {
+			assertFalse(SESSION_NAME.equals(session.getTestRunName()));
+		}
+	}
+
+	private void assertImportFails(String contents) throws Exception {
+		Files.writeString(fFile.toPath(), contents, StandardCharsets.UTF_8);
+		try {
+			JUnitModel.importTestRunSession(fFile, new NullProgressMonitor());
+			fail("import should fail");
+		} catch (CoreException e) {
+			// expected
+		}
+		assertNoImportedSession();
+	}
+
+	@Test
+	public void unknownNodeRollsBackImport() throws Exception {
+		assertImportFails("""
+				<?xml version="1.0" encoding="UTF-8"?>
+				<testrun name="TestRunSessionImportTest" tests="2" started="2" failures="1" errors="0" ignored="0">
+				  <testsuite name="p.ATest" time="0.01">
+				    <testcase name="testA" classname="p.ATest" time="0.0">
+				      <failure>junit.framework.AssertionFailedError
+				      </failure>
+				    </testcase>
+				    <unknown/>
+				  </testsuite>
+				</testrun>
+				""");
+	}
+
+	@Test
+	public void truncatedFileRollsBackImport() throws Exception {
+		assertImportFails("""
+				<?xml version="1.0" encoding="UTF-8"?>
+				<testrun name="TestRunSessionImportTest" tests="2" started="2" failures="1" errors="0" ignored="0">
+				  <testsuite name="p.ATest" time="0.01">
+				    <testcase name="testA" classname="p.ATest" time="0.0">
+				""");
+	}
+
+	@Test
+	public void traceStoreCachesStrings() throws Exception {
+		File file= File.createTempFile("traces", ".bin");
+		TraceStore store= new TraceStore(file);
+		try {
+			long handle= store.add("trace");
+			long nullHandle= store.add(null);
+			String trace= store.get(handle);
+			assertEquals("trace", trace);
+			assertSame(trace, store.get(handle));
+			assertNull(store.get(nullHandle));
+
+			String large= "x".repeat(2 << 20);
+			long largeHandle= store.add(large);
+			String read= store.get(largeHandle);
+			assertEquals(large, read);
+			assertNotSame(read, store.get(largeHandle));
+
+			store.close();
+			assertNull(store.get(handle));
+		} finally {
+			store.delete();
+		}
+	}
+}
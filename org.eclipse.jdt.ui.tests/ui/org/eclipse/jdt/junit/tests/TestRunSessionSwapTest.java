@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRoot;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Swaps the test tree of a session out to disk and reads it back.
+ */
+public class TestRunSessionSwapTest {
+
+	private static final String CLASS_NAME= "p.ParameterizedTest";
+
+	private static final String TRACE= """
+			java.lang.AssertionError: expected:<Grüße> but was:<Gruesse>
+				at org.junit.Assert.fail(Assert.java:89)
+				at p.ParameterizedTest.testFailed(ParameterizedTest.java:42)
+			""";
+
+	private TestRunSession fSession;
+
+	@Before
+	public void setUp() throws Exception {
+		fSession= new TestRunSession("TestRunSessionSwapTest", null);
+		TestRoot root= fSession.getTestRoot();
+		TestSuiteElement suite= (TestSuiteElement) fSession.createTestElement(root, "1", CLASS_NAME, true, 0, false, null, null, null);
+
+		TestElement parameterized= fSession.createTestElement(suite, "2", "testParameterized(" + CLASS_NAME + ")", false, 0, true,
+				"[1] 42, answer", new String[] { "int", "java.lang.String" }, "[engine:junit-jupiter]/[class:p.ParameterizedTest]/[test-template:testParameterized(int, java.lang.String)]/[test-template-invocation:#1]");
+		parameterized.setElapsedTimeInSeconds(0.25);
+		parameterized.setStatus(Status.OK);
+
+		TestElement noParameters= fSession.createTestElement(suite, "3", "testNoParameters(" + CLASS_NAME + ")", false, 0, false,
+				"testNoParameters()", new String[0], "[engine:junit-jupiter]/[class:p.ParameterizedTest]/[method:testNoParameters()]");
+		noParameters.setStatus(Status.OK);
+
+		TestElement failed= fSession.createTestElement(suite, "4", "testFailed(" + CLASS_NAME + ")", false, 0, false, null, null, null);
+		failed.setElapsedTimeInSeconds(1.5);
+		failed.setStatus(Status.FAILURE, TRACE, "Grüße", "Gruesse");
+
+		TestCaseElement ignored= (TestCaseElement) fSession.createTestElement(suite, "5", "testIgnored(" + CLASS_NAME + ")", false, 0, false, null, null, null);
+		ignored.setIgnored(true);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fSession.removeSwapFile();
+	}
+
+	private TestRoot swapOutAndIn() {
+		TestRoot root= fSession.getTestRoot();
+		fSession.swapOut();
+		TestRoot swappedIn= fSession.getTestRoot();
+		assertNotSame("not swapped out", root, swappedIn);
+		return swappedIn;
+	}
+
+	private TestElement[] swapOutAndInTests() {
+		return ((TestSuiteElement) swapOutAndIn().getChildElements()[0]).getChildElements();
+	}
+
+	@Test
+	public void tree() throws Exception {
+		TestRoot root= swapOutAndIn();
+
+		TestElement[] suites= root.getChildElements();
+		assertEquals(1, suites.length);
+		TestSuiteElement suite= (TestSuiteElement) suites[0];
+		assertEquals("1", suite.getId());
+		assertEquals(CLASS_NAME, suite.getTestName());
+		assertNull(suite.getParameterTypes());
+
+		TestElement[] tests= suite.getChildElements();
+		assertEquals(4, tests.length);
+		for (int i= 0; i < tests.length; i++) {
+			assertSame(tests[i], fSession.getTestElement(String.valueOf(i + 2)));
+			assertSame(suite, tests[i].getParent());
+			assertEquals(CLASS_NAME, tests[i].getClassName());
+		}
+		assertTrue(((TestCaseElement) tests[0]).isDynamicTest());
+		assertFalse(((TestCaseElement) tests[1]).isDynamicTest());
+		assertTrue(((TestCaseElement) tests[3]).isIgnored());
+		assertFalse(((TestCaseElement) tests[2]).isIgnored());
+	}
+
+	@Test
+	public void parameterizedTest() throws Exception {
+		TestElement test= swapOutAndInTests()[0];
+		assertEquals("testParameterized(" + CLASS_NAME + ")", test.getTestName());
+		assertEquals("[1] 42, answer", test.getDisplayName());
+		assertArrayEquals(new String[] { "int", "java.lang.String" }, test.getParameterTypes());
+		assertEquals("[engine:junit-jupiter]/[class:p.ParameterizedTest]/[test-template:testParameterized(int, java.lang.String)]/[test-template-invocation:#1]", test.getUniqueId());
+		assertEquals(Status.OK, test.getStatus());
+		assertEquals(0.25, test.getElapsedTimeInSeconds(), 0);
+	}
+
+	@Test
+	public void noParameters() throws Exception {
+		TestElement[] tests= swapOutAndInTests();
+		// an empty array is not the same as no parameter types
+		assertArrayEquals(new String[0], tests[1].getParameterTypes());
+		assertNull(tests[2].getParameterTypes());
+		assertEquals("testNoParameters()", tests[1].getDisplayName());
+		assertNull(tests[2].getDisplayName());
+		assertNull(tests[2].getUniqueId());
+	}
+
+	@Test
+	public void failureTrace() throws Exception {
+		TestElement test= swapOutAndInTests()[2];
+		assertEquals(Status.FAILURE, test.getStatus());
+		assertEquals(TRACE, test.getTrace());
+		assertEquals("Grüße", test.getExpected());
+		assertEquals("Gruesse", test.getActual());
+		assertTrue(test.isComparisonFailure());
+		assertEquals(1.5, test.getElapsedTimeInSeconds(), 0);
+
+		// the traces stay in the trace store, a second swap doesn't lose them
+		test= swapOutAndInTests()[2];
+		assertEquals(TRACE, test.getTrace());
+		assertEquals("Grüße", test.getExpected());
+		assertEquals("Gruesse", test.getActual());
+		assertNull(swapOutAndInTests()[0].getTrace());
+	}
+}
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.ListenerList;
+
+import org.eclipse.jdt.internal.junit.model.ITestSessionBatchListener;
+import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSessionBatch;
+import org.eclipse.jdt.internal.junit.model.TestSessionEventBatcher;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Tests the {@link TestSessionEventBatcher} of a session directly, without running tests. The
+ * batcher is internal to the session and not meant to be referenced by other bundles.
+ */
+public class TestSessionEventBatcherTest {
+
+	/**
+	 * Records the events it receives individually, or the batches if it is a batch listener.
+	 */
+	private static class RecordingListener implements ITestSessionListener {
+		final List<String> fEvents= new ArrayList<>();
+
+		@Override
+		public void sessionStarted() {
+		}
+
+		@Override
+		public void sessionEnded(long elapsedTime) {
+		}
+
+		@Override
+		public void sessionStopped(long elapsedTime) {
+		}
+
+		@Override
+		public void sessionTerminated() {
+		}
+
+		@Override
+		public void runningBegins() {
+		}
+
+		@Override
+		public synchronized void testAdded(TestElement testElement) {
+			fEvents.add("ADDED " + testElement.getId());
+		}
+
+		@Override
+		public synchronized void testStarted(TestCaseElement testCaseElement) {
+			fEvents.add("STARTED " + testCaseElement.getId());
+		}
+
+		@Override
+		public synchronized void testEnded(TestCaseElement testCaseElement) {
+			fEvents.add("ENDED " + testCaseElement.getId());
+		}
+
+		@Override
+		public synchronized void testFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+			fEvents.add("FAILED " + testElement.getId());
+		}
+
+		@Override
+		public void testReran(TestCaseElement testCaseElement, Status status, String trace, String expectedResult, String actualResult) {
+		}
+
+		@Override
+		public boolean acceptsSwapToDisk() {
+			return false;
+		}
+	}
+
+	private static class RecordingBatchListener extends RecordingListener implements ITestSessionBatchListener {
+		final List<TestSessionBatch> fBatches= new ArrayList<>();
+
+		@Override
+		public synchronized void testsChanged(TestSessionBatch batch) {
+			fBatches.add(batch);
+			for (TestSessionBatch.Event event : batch.getEvents()) {
+				fEvents.add(event.getKind() + " " + event.getTestElement().getId());
+			}
+		}
+
+		synchronized List<TestSessionBatch.Failure> getFailures() {
+			List<TestSessionBatch.Failure> failures= new ArrayList<>();
+			for (TestSessionBatch batch : fBatches) {
+				for (TestSessionBatch.Event event : batch.getEvents()) {
+					if (event instanceof TestSessionBatch.Failure)
+						failures.add((TestSessionBatch.Failure) event);
+				}
+			}
+			return failures;
+		}
+	}
+
+	private TestRunSession fSession;
+
+	private RecordingListener fListener;
+
+	private RecordingBatchListener fBatchListener;
+
+	private TestSessionEventBatcher fBatcher;
+
+	@Before
+	public void setUp() throws Exception {
+		fSession= new TestRunSession("TestSessionEventBatcherTest", null);
+		fListener= new RecordingListener();
+		fBatchListener= new RecordingBatchListener();
+		ListenerList<ITestSessionListener> listeners= new ListenerList<>();
+		listeners.add(fListener);
+		listeners.add(fBatchListener);
+		fBatcher= new TestSessionEventBatcher(fSession, listeners);
+	}
+
+	private TestCaseElement createTestCase(TestSuiteElement suite, int i) {
+		return new TestCaseElement(suite, Integer.toString(i), "test" + i + "(p.ATest)", null, false, null, null);
+	}
+
+	@Test
+	public void eventsKeepTheirOrder() throws Exception {
+		TestSuiteElement suite= new TestSuiteElement(fSession.getTestRoot(), "0", "p.ATest", 3, null, null, null);
+		TestCaseElement test1= createTestCase(suite, 1);
+		TestCaseElement test2= createTestCase(suite, 2);
+		TestCaseElement test3= createTestCase(suite, 3);
+
+		fBatcher.testAdded(suite);
+		fBatcher.testAdded(test1);
+		fBatcher.testStarted(test1);
+		fBatcher.testFailed(test1, Status.FAILURE, "trace", null, null);
+		fBatcher.testEnded(test1);
+		fBatcher.testAdded(test2);
+		fBatcher.testStarted(test2);
+		fBatcher.testEnded(test2);
+		fBatcher.testAdded(test3);
+		fBatcher.testStarted(test3);
+		fBatcher.testFailed(test3, Status.ERROR, "trace", null, null);
+		fBatcher.testEnded(test3);
+		fBatcher.flush();
+
+		List<String> expected= List.of(
+				"ADDED 0",
+				"ADDED 1", "STARTED 1", "FAILED 1", "ENDED 1",
+				"ADDED 2", "STARTED 2", "ENDED 2",
+				"ADDED 3", "STARTED 3", "FAILED 3", "ENDED 3");
+		assertEquals(expected, fListener.fEvents);
+		assertEquals(expected, fBatchListener.fEvents);
+
+		TestSessionBatch last= fBatchListener.fBatches.get(fBatchListener.fBatches.size() - 1);
+		assertSame(test3, last.getLastStartedTest());
+
+		List<TestSessionBatch.Failure> failures= fBatchListener.getFailures();
+		assertEquals(2, failures.size());
+		assertSame(Status.FAILURE, failures.get(0).getStatus());
+		assertEquals("trace", failures.get(0).getTrace());
+		assertTrue(failures.get(0).isFirstErrorOrFailure());
+		assertFalse(failures.get(1).isFirstErrorOrFailure());
+	}
+
+	@Test
+	public void batchesAreBounded() throws Exception {
+		TestSuiteElement suite= new TestSuiteElement(fSession.getTestRoot(), "0", "p.ATest", 0, null, null, null);
+		TestCaseElement test= createTestCase(suite, 1);
+		for (int i= 0; i < 2500; i++) {
+			fBatcher.testStarted(test);
+		}
+		fBatcher.flush();
+
+		assertEquals(2500, fBatchListener.fEvents.size());
+		assertTrue(fBatchListener.fBatches.size() >= 3);
+		for (TestSessionBatch batch : fBatchListener.fBatches) {
+			assertTrue(batch.size() <= 1000);
+		}
+	}
+
+	@Test
+	public void emptyFlushPublishesNothing() throws Exception {
+		fBatcher.flush();
+		assertTrue(fBatchListener.fBatches.isEmpty());
+		assertTrue(fListener.fEvents.isEmpty());
+	}
+
+	@Test
+	public void firstErrorOrFailureIsMarkedOnce() throws Exception {
+		TestSuiteElement suite= new TestSuiteElement(fSession.getTestRoot(), "0", "p.ATest", 0, null, null, null);
+		int threadCount= 8;
+		int failuresPerThread= 500;
+		CountDownLatch start= new CountDownLatch(1);
+		List<Thread> threads= new ArrayList<>();
+		for (int t= 0; t < threadCount; t++) {
+			TestCaseElement test= createTestCase(suite, t);
+			Thread thread= new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i= 0; i < failuresPerThread; i++) {
+					fBatcher.testFailed(test, Status.FAILURE, null, null, null);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		fBatcher.flush();
+
+		List<TestSessionBatch.Failure> failures= fBatchListener.getFailures();
+		assertEquals(threadCount * failuresPerThread, failures.size());
+		assertTrue(failures.get(0).isFirstErrorOrFailure());
+		int batchesWithFirst= 0;
+		for (TestSessionBatch batch : fBatchListener.fBatches) {
+			if (batch.containsFirstErrorOrFailure())
+				batchesWithFirst++;
+		}
+		assertEquals(1, batchesWithFirst);
+		for (int i= 1; i < failures.size(); i++) {
+			assertFalse(failures.get(i).isFirstErrorOrFailure());
+		}
+
+		// a new test run has its own first failure
+		fBatcher.testRunStarted();
+		TestCaseElement test= createTestCase(suite, threadCount);
+		fBatcher.testFailed(test, Status.OK, null, null, null);
+		fBatcher.testFailed(test, Status.ERROR, null, null, null);
+		fBatcher.flush();
+		failures= fBatchListener.getFailures();
+		TestSessionBatch.Failure ok= failures.get(failures.size() - 2);
+		TestSessionBatch.Failure error= failures.get(failures.size() - 1);
+		assertFalse(ok.isFirstErrorOrFailure());
+		assertTrue(error.isFirstErrorOrFailure());
+		assertNull(error.getTrace());
+	}
+}
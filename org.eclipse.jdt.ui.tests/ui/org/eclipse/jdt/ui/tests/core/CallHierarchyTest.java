@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -30,12 +33,20 @@ import org.junit.Test;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.text.edits.InsertEdit;
+
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraphBuilder;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraphReader;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraphWriter;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerSearchEngine;
+import org.eclipse.jdt.internal.corext.callhierarchy.ICallGraphRequestor;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -113,6 +124,122 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedMethods, cachedCalls);
     }
 
+	@Test
+	public void callersSharedAcrossSessions() throws Exception {
+        helper.createSimpleClasses();
+        CallerSearchEngine engine= CallerSearchEngine.getDefault();
+        engine.flush();
+
+        IMethod method= helper.getMethod1();
+
+        Collection<IMember> expectedMethods= new ArrayList<>();
+        expectedMethods.add(helper.getMethod2());
+        expectedMethods.add(helper.getMethod3());
+
+        int searchCount= engine.getSearchCount();
+        List<MethodWrapper> streamedCalls= new ArrayList<>();
+        MethodWrapper[] calls= getSingleCallerRoot(method).getCalls(new NullProgressMonitor(), partialCalls -> streamedCalls.addAll(Arrays.asList(partialCalls)));
+        helper.assertCalls(expectedMethods, calls);
+        helper.assertCalls(expectedMethods, streamedCalls);
+        assertEquals(searchCount + 1, engine.getSearchCount());
+
+        // a new hierarchy session reuses the search of the first one
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+        assertEquals(searchCount + 1, engine.getSearchCount());
+
+        // changing the source invalidates the cached search
+        IMethod method5= helper.getType2().createMethod("public void method5() { method1(); }\n", null, true, null);
+        expectedMethods.add(method5);
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+        assertEquals(searchCount + 2, engine.getSearchCount());
+    }
+
+	@Test
+	public void callersInvalidatedByAffectedUnitsOnly() throws Exception {
+        helper.createSimpleClasses();
+        CallerSearchEngine engine= CallerSearchEngine.getDefault();
+        engine.flush();
+
+        IMethod method1= helper.getMethod1();
+        IMethod method4= helper.getMethod4();
+
+        Collection<IMember> expectedMethods= new ArrayList<>();
+        expectedMethods.add(helper.getMethod2());
+        expectedMethods.add(helper.getMethod3());
+
+        int searchCount= engine.getSearchCount();
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method1).getCalls(new NullProgressMonitor()));
+        assertEquals(0, getSingleCallerRoot(method4).getCalls(new NullProgressMonitor()).length);
+        assertEquals(searchCount + 2, engine.getSearchCount());
+
+        // a new unit that doesn't mention the members keeps both searches
+        ICompilationUnit cu= helper.getPackage1().getCompilationUnit("C.java");
+        IType typeC= cu.createType("public class C extends A {\n}\n", null, true, null);
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method1).getCalls(new NullProgressMonitor()));
+        assertEquals(0, getSingleCallerRoot(method4).getCalls(new NullProgressMonitor()).length);
+        assertEquals(searchCount + 2, engine.getSearchCount());
+
+        // a new caller of method1 only invalidates the search for method1
+        IMethod method5= typeC.createMethod("public void method5() { method1(); }\n", null, true, null);
+        expectedMethods.add(method5);
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method1).getCalls(new NullProgressMonitor()));
+        assertEquals(0, getSingleCallerRoot(method4).getCalls(new NullProgressMonitor()).length);
+        assertEquals(searchCount + 3, engine.getSearchCount());
+
+        // editing a working copy invalidates the searches when it is reconciled
+        cu.becomeWorkingCopy(null);
+        try {
+            String source= cu.getSource();
+            int offset= source.lastIndexOf('}');
+            cu.applyTextEdit(new InsertEdit(offset, "public void method6() { method1(); }\n"), null);
+            cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+            expectedMethods.add(typeC.getMethod("method6", new String[0]));
+            helper.assertCalls(expectedMethods, getSingleCallerRoot(method1).getCalls(new NullProgressMonitor()));
+            assertEquals(0, getSingleCallerRoot(method4).getCalls(new NullProgressMonitor()).length);
+            assertEquals(searchCount + 4, engine.getSearchCount());
+        } finally {
+            cu.discardWorkingCopy();
+        }
+    }
+
+	@Test
+	public void callerGraph() throws Exception {
+        helper.createSimpleClasses();
+
+        CallGraphBuilder builder= new CallGraphBuilder(true, 2);
+        StringWriter out= new StringWriter();
+        try (CallGraphWriter writer= new CallGraphWriter(out, builder)) {
+            builder.build(new IMember[] { helper.getMethod1(), helper.getMethod2() }, writer, new NullProgressMonitor());
+        }
+
+        List<String> nodes= new ArrayList<>();
+        List<String> edges= new ArrayList<>();
+        CallGraphReader.read(new BufferedReader(new StringReader(out.toString())), new ICallGraphRequestor() {
+            @Override
+            public void acceptNode(int id, String handleIdentifier, int depth) {
+                assertEquals(nodes.size(), id);
+                nodes.add(handleIdentifier);
+            }
+
+            @Override
+            public void acceptEdge(int callerId, int calleeId, int callCount, boolean potential) {
+                assertFalse(potential);
+                assertEquals(1, callCount);
+                edges.add(nodes.get(callerId) + " -> " + nodes.get(calleeId));
+            }
+        });
+
+        // method3 calls method1 and method2, both roots, but is only reported once
+        String method1= helper.getMethod1().getHandleIdentifier();
+        String method2= helper.getMethod2().getHandleIdentifier();
+        String method3= helper.getMethod3().getHandleIdentifier();
+        String method4= helper.getMethod4().getHandleIdentifier();
+        assertEquals(4, nodes.size());
+        assertTrue(nodes.containsAll(Arrays.asList(method1, method2, method3, method4)));
+        assertEquals(4, edges.size());
+        assertTrue(edges.containsAll(Arrays.asList(method2 + " -> " + method1, method3 + " -> " + method1, method3 + " -> " + method2, method4 + " -> " + method3)));
+    }
+
 	@Test
 	public void callees() throws Exception {
         helper.createSimpleClasses();
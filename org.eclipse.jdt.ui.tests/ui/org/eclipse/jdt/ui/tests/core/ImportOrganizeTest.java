@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,6 +45,9 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
@@ -54,6 +57,8 @@ import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.corext.codemanipulation.TypeNameMatchCache;
+
 public class ImportOrganizeTest extends CoreTests {
 
 	private IJavaProject fJProject1;
@@ -435,6 +440,54 @@ public class ImportOrganizeTest extends CoreTests {
 		assertEqualString(cu.getSource(), str1);
 	}
 
+	@Test
+	public void testSharedTypeNameMatchCache() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class C {
+			    Vector v;
+			    HashMap m;
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("C.java", str, false, null);
+		String str1= """
+			package test1;
+			public class D {
+			    HashMap m;
+			    Vector v;
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("D.java", str1, false, null);
+
+		String[] order= new String[0];
+		IChooseImportQuery query= createQuery("C", new String[] {}, new int[] {});
+		TypeNameMatchCache cache= new TypeNameMatchCache();
+
+		setOrganizeImportSettings(order, 99, 99, fJProject1);
+		CompilationUnit ast1= createAST(cu1);
+		TypeNameMatchCache.setCache(ast1, cache);
+		new OrganizeImportsOperation(cu1, ast1, false, true, true, query).run(null);
+		assertEquals(1, cache.getSearchCount());
+
+		CompilationUnit ast2= createAST(cu2);
+		TypeNameMatchCache.setCache(ast2, cache);
+		new OrganizeImportsOperation(cu2, ast2, false, true, true, query).run(null);
+		assertEquals("names known from C.java must not be searched again", 1, cache.getSearchCount());
+
+		assertImports(cu1, new String[] { "java.util.HashMap", "java.util.Vector" });
+		assertImports(cu2, new String[] { "java.util.HashMap", "java.util.Vector" });
+	}
+
+	private static CompilationUnit createAST(ICompilationUnit cu) {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(cu);
+		parser.setResolveBindings(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
 	@Test
 	public void testNewImports() throws Exception {
 		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class SuperTypeHierarchyCacheTest {
+
+	private static final int DEFAULT_SIZE= 32;
+
+	private static final int DEFAULT_SIZE_PER_PROJECT= 8;
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJavaProject1;
+
+	private IJavaProject fJavaProject2;
+
+	/** Unrelated types in the first project */
+	private IType[] fTypesA;
+
+	/** Unrelated types in the second project */
+	private IType[] fTypesB;
+
+	/** A type in the second project that extends <code>A0</code> of the first project */
+	private IType fTypeC;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject1= pts.getProject();
+		IPackageFragment pack1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src").createPackageFragment("pack1", true, null);
+		fTypesA= new IType[6];
+		for (int i= 0; i < fTypesA.length; i++) {
+			fTypesA[i]= pack1.getCompilationUnit("A" + i + ".java").createType("public class A" + i + " {\n}\n", null, true, null);
+		}
+
+		fJavaProject2= JavaProjectHelper.createJavaProject("TestProject2", "bin");
+		JavaProjectHelper.addRTJar(fJavaProject2);
+		JavaProjectHelper.addRequiredProject(fJavaProject2, fJavaProject1);
+		IPackageFragment pack2= JavaProjectHelper.addSourceContainer(fJavaProject2, "src").createPackageFragment("pack2", true, null);
+		fTypesB= new IType[3];
+		for (int i= 0; i < fTypesB.length; i++) {
+			fTypesB[i]= pack2.getCompilationUnit("B" + i + ".java").createType("public class B" + i + " {\n}\n", null, true, null);
+		}
+		fTypeC= pack2.getCompilationUnit("C.java").createType("public class C extends pack1.A0 {\n}\n", null, true, null);
+
+		// drop the hierarchies of other tests
+		SuperTypeHierarchyCache.setCacheSize(1, 1);
+		SuperTypeHierarchyCache.resetStatistics();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SuperTypeHierarchyCache.setCacheSize(DEFAULT_SIZE, DEFAULT_SIZE_PER_PROJECT);
+		JavaProjectHelper.clear(fJavaProject1, pts.getDefaultClasspath());
+		JavaProjectHelper.delete(fJavaProject2);
+	}
+
+	private static void getHierarchies(IType... types) throws Exception {
+		for (IType type : types) {
+			SuperTypeHierarchyCache.getTypeHierarchy(type);
+		}
+	}
+
+	private static void assertInCache(boolean expected, IType... types) {
+		for (IType type : types) {
+			assertEquals(type.getElementName(), expected, SuperTypeHierarchyCache.hasInCache(type));
+		}
+	}
+
+	@Test
+	public void partitionedByProject() throws Exception {
+		SuperTypeHierarchyCache.setCacheSize(DEFAULT_SIZE, 3);
+
+		getHierarchies(fTypesB);
+		getHierarchies(fTypesA);
+
+		// the hierarchies of the first project don't evict the ones of the second project
+		assertInCache(true, fTypesB);
+		assertInCache(false, fTypesA[0], fTypesA[1], fTypesA[2]);
+		assertInCache(true, fTypesA[3], fTypesA[4], fTypesA[5]);
+		assertEquals(3, SuperTypeHierarchyCache.getEvictions());
+		assertEquals(fTypesA.length + fTypesB.length, SuperTypeHierarchyCache.getCacheMisses());
+	}
+
+	@Test
+	public void boundedInTotal() throws Exception {
+		SuperTypeHierarchyCache.setCacheSize(4, 3);
+
+		getHierarchies(fTypesB);
+		getHierarchies(fTypesA[0], fTypesA[1], fTypesA[2]);
+
+		// the least recently used hierarchies of any project are evicted
+		assertInCache(false, fTypesB[0], fTypesB[1]);
+		assertInCache(true, fTypesB[2], fTypesA[0], fTypesA[1], fTypesA[2]);
+		assertEquals(4, SuperTypeHierarchyCache.getCacheSize());
+	}
+
+	@Test
+	public void leastRecentlyUsedIsEvicted() throws Exception {
+		SuperTypeHierarchyCache.setCacheSize(DEFAULT_SIZE, DEFAULT_SIZE_PER_PROJECT);
+
+		getHierarchies(fTypesA[0], fTypesA[1], fTypesA[2]);
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(fTypesA[0]);
+		assertEquals(1, SuperTypeHierarchyCache.getCacheHits());
+
+		SuperTypeHierarchyCache.setCacheSize(DEFAULT_SIZE, 1);
+		assertInCache(true, fTypesA[0]);
+		assertInCache(false, fTypesA[1], fTypesA[2]);
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(fTypesA[0]));
+	}
+
+	@Test
+	public void hierarchyOfSubtypeInOtherProject() throws Exception {
+		SuperTypeHierarchyCache.setCacheSize(DEFAULT_SIZE, DEFAULT_SIZE_PER_PROJECT);
+
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(fTypeC);
+		assertTrue(hierarchy.contains(fTypesA[0]));
+
+		// A0 is in the first project, its super type hierarchy is contained in the one of C
+		assertInCache(true, fTypesA[0]);
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(fTypesA[0]));
+		assertEquals(1, SuperTypeHierarchyCache.getCacheMisses());
+		assertEquals(1, SuperTypeHierarchyCache.getCacheHits());
+		assertTrue(SuperTypeHierarchyCache.getHierarchyBuildTime() >= 0);
+
+		SuperTypeHierarchyCache.resetStatistics();
+		assertEquals(0, SuperTypeHierarchyCache.getCacheMisses());
+		assertEquals(0, SuperTypeHierarchyCache.getCacheHits());
+		assertEquals(0, SuperTypeHierarchyCache.getHierarchyBuildTime());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -253,6 +253,12 @@ public class FatJarExportTests {
 			}
 			assertEquals("loader is a class file", 0xCAFEBABE, magic); //$NON-NLS-1$
 			assertEquals("loader compiled with JDK 1.8", "52.0", majorVersion + "." + minorVersion); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+			// libraries are copied as they are, also into a compressed jar
+			ZipEntry libraryEntry= generatedArchive.getEntry("rtstubs15.jar"); //$NON-NLS-1$
+			assertNotNull(libraryEntry);
+			assertEquals(ZipEntry.STORED, libraryEntry.getMethod());
+			assertEquals(libraryEntry.getSize(), libraryEntry.getCompressedSize());
 		}
 
 		MultiStatus status= new MultiStatus(JavaUI.ID_PLUGIN, 0, "", null); //$NON-NLS-1$
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.jarexport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs runnable JARs with the Jar-in-Jar loader and checks that the indexed loader finds the
+ * same classes and resources as the URL class loader.
+ */
+public class JarInJarLoaderTests {
+
+	private static final String INDEXED_LOADER= "org.eclipse.jdt.internal.jarinjarloader.IndexedRsrcClassLoader";
+
+	private static final String URL_CLASS_LOADER= "java.net.URLClassLoader";
+
+	private static final String EXPECTED_OUTPUT= """
+			p1.A defined
+			p2.B defined
+			p.Shared defined
+			p.Missing not found
+			p/Shared.class jar:rsrc:lib1.jar!/p/Shared.class
+			res.txt jar:rsrc:lib1.jar!/res.txt one
+			res.txt jar:rsrc:lib2.jar!/res.txt two
+			stream one
+			stream root.txt root""";
+
+	/**
+	 * The main class of the runnable JAR. Reports the class loader and the classes and resources
+	 * it finds.
+	 */
+	public static class LoaderMain {
+		public static void main(String[] args) throws Exception {
+			ClassLoader loader= Thread.currentThread().getContextClassLoader();
+			System.out.println("loader " + loader.getClass().getName());
+			printClass(loader, "p1.A");
+			printClass(loader, "p2.B");
+			printClass(loader, "p.Shared");
+			printClass(loader, "p.Missing");
+			System.out.println("p/Shared.class " + loader.getResource("p/Shared.class"));
+			Enumeration<URL> resources= loader.getResources("res.txt");
+			while (resources.hasMoreElements()) {
+				URL url= resources.nextElement();
+				try (InputStream in= url.openStream()) {
+					System.out.println("res.txt " + url + " " + read(in));
+				}
+			}
+			try (InputStream in= loader.getResourceAsStream("res.txt")) {
+				System.out.println("stream " + read(in));
+			}
+			try (InputStream in= loader.getResourceAsStream("root.txt")) {
+				System.out.println("stream root.txt " + read(in));
+			}
+		}
+
+		private static void printClass(ClassLoader loader, String name) {
+			try {
+				Class<?> clazz= Class.forName(name, false, loader);
+				System.out.println(name + (clazz.getClassLoader() == loader ? " defined" : " delegated"));
+			} catch (ClassNotFoundException e) {
+				System.out.println(name + " not found");
+			}
+		}
+
+		private static String read(InputStream in) throws IOException {
+			try (BufferedReader reader= new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+				return reader.readLine();
+			}
+		}
+	}
+
+	private Path fTempDir;
+
+	@Before
+	public void setUp() throws Exception {
+		fTempDir= Files.createTempDirectory("jarinjar");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fTempDir != null) {
+			try (Stream<Path> paths= Files.walk(fTempDir)) {
+				paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+			}
+		}
+	}
+
+	/**
+	 * Creates a runnable JAR with two libraries. The entries of the first library are deflated,
+	 * the entries of the second are stored. Both contain a class <code>p.Shared</code> and a
+	 * resource <code>res.txt</code>.
+	 *
+	 * @param storeLibraries <code>true</code> to store the libraries uncompressed in the runnable
+	 *            JAR, as the exporter does, <code>false</code> to deflate the second library
+	 * @return the runnable JAR
+	 * @throws IOException if the JAR can't be written
+	 */
+	private File createRunnableJar(boolean storeLibraries) throws IOException {
+		Map<String, byte[]> lib1= new LinkedHashMap<>();
+		lib1.put("p1/A.class", RunnableJarBuilder.createClass("p1/A", "a"));
+		lib1.put("p/Shared.class", RunnableJarBuilder.createClass("p/Shared", "lib1"));
+		lib1.put("res.txt", "one".getBytes(StandardCharsets.UTF_8));
+
+		Map<String, byte[]> lib2= new LinkedHashMap<>();
+		lib2.put("p2/B.class", RunnableJarBuilder.createClass("p2/B", "b"));
+		lib2.put("p/Shared.class", RunnableJarBuilder.createClass("p/Shared", "lib2"));
+		lib2.put("res.txt", "two".getBytes(StandardCharsets.UTF_8));
+
+		RunnableJarBuilder builder= new RunnableJarBuilder(LoaderMain.class, "./", "lib1.jar", "lib2.jar");
+		builder.addClass(LoaderMain.class);
+		builder.addEntry("root.txt", "root".getBytes(StandardCharsets.UTF_8), false);
+		builder.addEntry("lib1.jar", RunnableJarBuilder.createLibrary(lib1, false), true);
+		builder.addEntry("lib2.jar", RunnableJarBuilder.createLibrary(lib2, true), storeLibraries);
+		return builder.write(fTempDir.resolve("runnable.jar").toFile());
+	}
+
+	private static void assertOutput(String expectedLoader, String output) {
+		assertEquals("loader " + expectedLoader + "\n" + EXPECTED_OUTPUT, output);
+	}
+
+	@Test
+	public void storedLibraries() throws Exception {
+		File jar= createRunnableJar(true);
+
+		assertOutput(INDEXED_LOADER, RunnableJarBuilder.run(jar, RunnableJarBuilder.VERBOSE_PROPERTY + "=true"));
+		assertOutput(URL_CLASS_LOADER, RunnableJarBuilder.run(jar, RunnableJarBuilder.INDEXED_LOADER_PROPERTY + "=false"));
+	}
+
+	@Test
+	public void deflatedLibrary() throws Exception {
+		File jar= createRunnableJar(false);
+
+		String output= RunnableJarBuilder.run(jar, RunnableJarBuilder.VERBOSE_PROPERTY + "=true");
+		String fallback= "Jar-in-Jar loader falls back to URLClassLoader: java.io.IOException: Nested JAR is compressed: lib2.jar\n";
+		assertTrue(output, output.startsWith(fallback));
+		assertOutput(URL_CLASS_LOADER, output.substring(fallback.length()));
+
+		assertOutput(URL_CLASS_LOADER, RunnableJarBuilder.run(jar));
+	}
+}
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.jarexport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.jarpackagerfat.FatJarRsrcUrlBuilder;
+
+/**
+ * Creates runnable JARs that use the Jar-in-Jar loader, like the Runnable JAR File Exporter
+ * does, and runs them in a separate VM.
+ */
+public class RunnableJarBuilder {
+
+	/**
+	 * The system property that disables the indexed Jar-in-Jar loader if set to <code>false</code>.
+	 */
+	public static final String INDEXED_LOADER_PROPERTY= "org.eclipse.jdt.internal.jarinjarloader.indexed";
+
+	/**
+	 * The system property that makes the Jar-in-Jar loader report why it falls back to the URL
+	 * class loader.
+	 */
+	public static final String VERBOSE_PROPERTY= "org.eclipse.jdt.internal.jarinjarloader.verbose";
+
+	private final Manifest fManifest;
+	private final Map<String, byte[]> fEntries= new LinkedHashMap<>();
+	private final Map<String, Boolean> fStored= new LinkedHashMap<>();
+
+	/**
+	 * @param mainClass the class whose main method is run by the Jar-in-Jar loader, must have
+	 *            been added with {@link #addClass(Class)}
+	 * @param rsrcClassPath the entries of the Rsrc-Class-Path
+	 */
+	public RunnableJarBuilder(Class<?> mainClass, String... rsrcClassPath) {
+		fManifest= new Manifest();
+		Attributes attributes= fManifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.put(Attributes.Name.MAIN_CLASS, "org.eclipse.jdt.internal.jarinjarloader.JarRsrcLoader");
+		attributes.putValue("Rsrc-Main-Class", mainClass.getName());
+		attributes.putValue("Rsrc-Class-Path", String.join(" ", rsrcClassPath));
+	}
+
+	/**
+	 * Adds the class file of the given class to the root of the runnable JAR.
+	 *
+	 * @param clazz the class to add
+	 * @throws IOException if the class file can't be read
+	 */
+	public void addClass(Class<?> clazz) throws IOException {
+		String path= clazz.getName().replace('.', '/') + ".class";
+		try (InputStream in= clazz.getClassLoader().getResourceAsStream(path)) {
+			assertNotNull(path, in);
+			addEntry(path, in.readAllBytes(), false);
+		}
+	}
+
+	/**
+	 * Adds an entry to the runnable JAR.
+	 *
+	 * @param name the name of the entry
+	 * @param content the content of the entry
+	 * @param stored <code>true</code> to store the entry uncompressed, as the exporter does
+	 *            for nested libraries
+	 */
+	public void addEntry(String name, byte[] content, boolean stored) {
+		fEntries.put(name, content);
+		fStored.put(name, Boolean.valueOf(stored));
+	}
+
+	/**
+	 * Writes the runnable JAR, with the Jar-in-Jar loader of the JDT UI plug-in.
+	 *
+	 * @param file the file to write
+	 * @return the written file
+	 * @throws IOException if the JAR can't be written
+	 */
+	public File write(File file) throws IOException {
+		try (JarOutputStream out= new JarOutputStream(Files.newOutputStream(file.toPath()), fManifest)) {
+			copyLoader(out);
+			for (Map.Entry<String, byte[]> entry : fEntries.entrySet()) {
+				putEntry(out, entry.getKey(), entry.getValue(), fStored.get(entry.getKey()).booleanValue());
+			}
+		}
+		return file;
+	}
+
+	private static void copyLoader(JarOutputStream out) throws IOException {
+		try (ZipInputStream zis= new ZipInputStream(JavaPlugin.getDefault().getBundle().getEntry(FatJarRsrcUrlBuilder.JAR_RSRC_LOADER_ZIP).openStream())) {
+			ZipEntry zipEntry;
+			while ((zipEntry= zis.getNextEntry()) != null) {
+				if (!zipEntry.isDirectory()) {
+					out.putNextEntry(new JarEntry(zipEntry.getName()));
+					zis.transferTo(out);
+				}
+			}
+		}
+	}
+
+	private static void putEntry(JarOutputStream out, String name, byte[] content, boolean stored) throws IOException {
+		JarEntry entry= new JarEntry(name);
+		if (stored) {
+			entry.setMethod(ZipEntry.STORED);
+			entry.setSize(content.length);
+			CRC32 crc= new CRC32();
+			crc.update(content);
+			entry.setCrc(crc.getValue());
+		}
+		out.putNextEntry(entry);
+		out.write(content);
+	}
+
+	/**
+	 * Creates a library JAR.
+	 *
+	 * @param entries the content of the entries by name
+	 * @param stored <code>true</code> to store the entries uncompressed, <code>false</code> to
+	 *            deflate them
+	 * @return the content of the library
+	 * @throws IOException if the library can't be written
+	 */
+	public static byte[] createLibrary(Map<String, byte[]> entries, boolean stored) throws IOException {
+		ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+		try (JarOutputStream out= new JarOutputStream(bytes)) {
+			for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+				putEntry(out, entry.getKey(), entry.getValue(), stored);
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Creates the class file of an empty class, with an unused constant that can give it the
+	 * size of a typical class.
+	 *
+	 * @param internalName the internal name of the class
+	 * @param padding the unused constant
+	 * @return the class file
+	 * @throws IOException if the class file can't be written
+	 */
+	public static byte[] createClass(String internalName, String padding) throws IOException {
+		ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+		try (DataOutputStream out= new DataOutputStream(bytes)) {
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0); // minor version
+			out.writeShort(52); // Java 8
+			out.writeShort(6); // constant pool count
+			out.writeByte(7); // #1 this class
+			out.writeShort(2);
+			out.writeByte(1); // #2
+			out.writeUTF(internalName);
+			out.writeByte(7); // #3 super class
+			out.writeShort(4);
+			out.writeByte(1); // #4
+			out.writeUTF("java/lang/Object");
+			out.writeByte(1); // #5 padding
+			out.writeUTF(padding);
+			out.writeShort(0x0021); // public super
+			out.writeShort(1);
+			out.writeShort(3);
+			out.writeShort(0); // interfaces
+			out.writeShort(0); // fields
+			out.writeShort(0); // methods
+			out.writeShort(0); // attributes
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Runs the given runnable JAR in a new VM and asserts that it terminates normally.
+	 *
+	 * @param jar the runnable JAR
+	 * @param systemProperties the system properties of the VM, as <code>name=value</code>
+	 * @return the output of the VM, including its error output
+	 * @throws IOException if the VM can't be started
+	 * @throws InterruptedException if the thread is interrupted while waiting for the VM
+	 */
+	public static String run(File jar, String... systemProperties) throws IOException, InterruptedException {
+		List<String> command= new ArrayList<>();
+		command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+		for (String systemProperty : systemProperties) {
+			command.add("-D" + systemProperty);
+		}
+		command.add("-jar");
+		command.add(jar.getPath());
+		Process process= new ProcessBuilder(command).redirectErrorStream(true).start();
+		ByteArrayOutputStream output= new ByteArrayOutputStream();
+		try (InputStream in= process.getInputStream(); OutputStream out= output) {
+			in.transferTo(out);
+		}
+		assertEquals(output.toString(), 0, process.waitFor());
+		return output.toString().trim().replace("\r\n", "\n");
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1250,4 +1250,205 @@ public class SaveParticipantTest extends CleanUpTestCase {
 		// Then
 		assertEquals(expected1, cu1.getBuffer().getContents());
 	}
+
+	@Test
+	public void testAdditionalActionsOnChangedRegionsOnly() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String fileOnDisk= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return x.equals("a");
+			    }
+			    public boolean bar(String x) {
+			        return x.equals("a");
+			    }
+			}
+			"""; //
+
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String fileOnEditor= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return x.equals("a") || x.isEmpty();
+			    }
+			    public boolean bar(String x) {
+			        return x.equals("a");
+			    }
+			}
+			"""; //
+
+		String expected1= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return "a".equals(x) || x.isEmpty();
+			    }
+			    public boolean bar(String x) {
+			        return x.equals("a");
+			    }
+			}
+			"""; //
+
+		enable(CleanUpConstants.INVERT_EQUALS);
+		enable(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+
+		// When
+		editCUInEditor(cu1, fileOnEditor);
+
+		// Then
+		assertEquals(expected1, cu1.getBuffer().getContents());
+	}
+
+	@Test
+	public void testAdditionalActionsOnWholeFileAfterSettingsChange() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String fileOnDisk= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return x.equals("a");
+			    }
+			    public boolean bar(String x) {
+			        return x.equals("a");
+			    }
+			}
+			"""; //
+
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String fileOnEditor1= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return x.equals("a") || x.isEmpty();
+			    }
+			    public boolean bar(String x) {
+			        return x.equals("a");
+			    }
+			}
+			"""; //
+
+		String fileOnEditor2= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return x.equals("a") || x.isBlank();
+			    }
+			    public boolean bar(String x) {
+			        return x.equals("a");
+			    }
+			}
+			"""; //
+
+		String expected2= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return "a".equals(x) || x.isBlank();
+			    }
+			    public boolean bar(String x) {
+			        return "a".equals(x);
+			    }
+			}
+			"""; //
+
+		enable(CleanUpConstants.ELSE_IF);
+		editCUInEditor(cu1, fileOnEditor1);
+		assertEquals(fileOnEditor1, cu1.getBuffer().getContents());
+
+		// When
+		enable(CleanUpConstants.INVERT_EQUALS);
+		editCUInEditor(cu1, fileOnEditor2);
+
+		// Then
+		assertEquals(expected2, cu1.getBuffer().getContents());
+	}
+
+	@Test
+	public void testAdditionalActionsOnWholeFileAfterOtherUnitChange() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		pack1.createCompilationUnit("E2.java", """
+			package test1;
+			public class E2 {
+			    public int compareTo(E2 o) {
+			        return 0;
+			    }
+			}
+			""", false, null);
+
+		String fileOnDisk= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return x.isEmpty();
+			    }
+			    public boolean bar(E2 x, E2 y) {
+			        return x.compareTo(y) == -1;
+			    }
+			}
+			"""; //
+
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String fileOnEditor1= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return x.isEmpty() || x.isBlank();
+			    }
+			    public boolean bar(E2 x, E2 y) {
+			        return x.compareTo(y) == -1;
+			    }
+			}
+			"""; //
+
+		String fileOnEditor2= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return x.isBlank();
+			    }
+			    public boolean bar(E2 x, E2 y) {
+			        return x.compareTo(y) == -1;
+			    }
+			}
+			"""; //
+
+		String expected2= """
+			package test1;
+			public class E1 {
+			    public boolean foo(String x) {
+			        return x.isBlank();
+			    }
+			    public boolean bar(E2 x, E2 y) {
+			        return x.compareTo(y) < 0;
+			    }
+			}
+			"""; //
+
+		enable(CleanUpConstants.STANDARD_COMPARISON);
+		editCUInEditor(cu1, fileOnEditor1);
+		assertEquals(fileOnEditor1, cu1.getBuffer().getContents());
+
+		// When
+		pack1.createCompilationUnit("E2.java", """
+			package test1;
+			public class E2 implements Comparable<E2> {
+			    @Override
+			    public int compareTo(E2 o) {
+			        return 0;
+			    }
+			}
+			""", true, null);
+		editCUInEditor(cu1, fileOnEditor2);
+
+		// Then
+		assertEquals(expected2, cu1.getBuffer().getContents());
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,16 @@ public class ASTBatchParser {
 		else                        MAX_AT_ONCE=  25;
 	}
 
+	/**
+	 * Returns the maximal number of compilation units for which ASTs are created
+	 * at once. The number depends on the maximal heap size of the VM.
+	 *
+	 * @return the maximal number of compilation units in one batch
+	 */
+	public static int getMaxBatchSize() {
+		return MAX_AT_ONCE;
+	}
+
 	/**
 	 * Creates ASTs for each compilation unit in <code>units</code>.
 	 * <p>
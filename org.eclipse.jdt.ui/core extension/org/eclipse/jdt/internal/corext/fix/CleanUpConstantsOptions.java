@@ -352,6 +352,7 @@ public class CleanUpConstantsOptions extends CleanUpConstants {
 		options.setOption(USE_OBJECTS_EQUALS, CleanUpOptions.FALSE);
 
 		options.setOption(CLEANUP_ON_SAVE_ADDITIONAL_OPTIONS, CleanUpOptions.FALSE);
+		options.setOption(CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY, CleanUpOptions.FALSE);
 
 		// Source fixing
 		options.setOption(INVERT_EQUALS, CleanUpOptions.FALSE);
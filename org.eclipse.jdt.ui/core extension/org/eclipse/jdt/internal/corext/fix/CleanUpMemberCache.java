@@ -0,0 +1,310 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+
+/**
+ * Remembers for the last saved compilation units which of their members the clean ups on
+ * save have already been applied to without finding anything to fix, so that the next save
+ * only runs the clean ups that support a {@link CleanUpScope} on the other members.
+ * <p>
+ * A member is identified by a hash of its source. The entry of a compilation unit is only used
+ * if the clean up settings, the compiler options and the outline of the compilation unit, its
+ * source without method and initializer bodies, did not change. Changes to other compilation
+ * units or to the class path drop the entries of all other compilation units.
+ * </p>
+ */
+final class CleanUpMemberCache implements IElementChangedListener {
+
+	private static final int MAX_ENTRIES= 20;
+
+	private static final CleanUpMemberCache INSTANCE= new CleanUpMemberCache();
+
+	private static class Entry {
+		final Object fSettings;
+		final long fOutlineHash;
+		final Set<Long> fCleanMembers;
+
+		Entry(Object settings, long outlineHash, Set<Long> cleanMembers) {
+			fSettings= settings;
+			fOutlineHash= outlineHash;
+			fCleanMembers= cleanMembers;
+		}
+	}
+
+	private final LinkedHashMap<ICompilationUnit, Entry> fEntries= new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ICompilationUnit, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private boolean fIsListening;
+
+	private CleanUpMemberCache() {
+	}
+
+	public static CleanUpMemberCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the regions of the members that have changed or have not been cleaned up since
+	 * the last save.
+	 *
+	 * @param unit the compilation unit
+	 * @param ast the AST of the compilation unit
+	 * @param settings the clean up settings and compiler options
+	 * @return the regions of the members to clean up, or <code>null</code> if the whole
+	 *         compilation unit needs to be cleaned up
+	 */
+	public IRegion[] getDirtyRegions(ICompilationUnit unit, CompilationUnit ast, Object settings) {
+		Entry entry;
+		synchronized (this) {
+			entry= fEntries.get(unit.getPrimary());
+		}
+		if (entry == null || !entry.fSettings.equals(settings))
+			return null;
+
+		String source= getSource(unit);
+		List<BodyDeclaration> members= CleanUpScope.getMembers(ast);
+		if (source == null || getOutlineHash(source, members) != entry.fOutlineHash)
+			return null;
+
+		List<IRegion> result= new ArrayList<>();
+		for (BodyDeclaration member : members) {
+			if (!entry.fCleanMembers.contains(Long.valueOf(getHash(source, member.getStartPosition(), member.getStartPosition() + member.getLength())))) {
+				result.add(new Region(member.getStartPosition(), member.getLength()));
+			}
+		}
+		return result.toArray(new IRegion[result.size()]);
+	}
+
+	/**
+	 * Remembers the members that the given edit doesn't touch as cleaned up. Must be called
+	 * before the edit is applied, with the AST that the clean ups have been applied to.
+	 *
+	 * @param unit the compilation unit
+	 * @param ast the AST of the compilation unit
+	 * @param settings the clean up settings and compiler options
+	 * @param edit the edit of the clean ups, or <code>null</code> if nothing has been changed
+	 */
+	public void update(ICompilationUnit unit, CompilationUnit ast, Object settings, TextEdit edit) {
+		ICompilationUnit primary= unit.getPrimary();
+		String source= getSource(unit);
+		List<BodyDeclaration> members= CleanUpScope.getMembers(ast);
+		List<IRegion> edited= new ArrayList<>();
+		if (edit != null) {
+			collectEditedRegions(edit, edited);
+		}
+		if (source == null || !isInBodies(edited, members)) {
+			// the edit changes the outline, the next save must clean up the whole compilation unit
+			remove(primary);
+			return;
+		}
+
+		Set<Long> cleanMembers= new HashSet<>();
+		for (BodyDeclaration member : members) {
+			int start= member.getStartPosition();
+			int end= start + member.getLength();
+			if (!overlaps(start, end, edited)) {
+				cleanMembers.add(Long.valueOf(getHash(source, start, end)));
+			}
+		}
+		Entry entry= new Entry(settings, getOutlineHash(source, members), cleanMembers);
+
+		synchronized (this) {
+			fEntries.put(primary, entry);
+			if (!fIsListening) {
+				JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+				fIsListening= true;
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	public synchronized void flush() {
+		fEntries.clear();
+		if (fIsListening) {
+			JavaCore.removeElementChangedListener(this);
+			fIsListening= false;
+		}
+	}
+
+	/**
+	 * Removes the entry of the given compilation unit.
+	 *
+	 * @param unit the compilation unit
+	 */
+	public synchronized void remove(ICompilationUnit unit) {
+		fEntries.remove(unit.getPrimary());
+		if (fEntries.isEmpty()) {
+			flush();
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<ICompilationUnit> changedUnits= new HashSet<>();
+		if (!collectChangedUnits(event.getDelta(), changedUnits)) {
+			flush();
+			return;
+		}
+		if (changedUnits.isEmpty())
+			return;
+
+		synchronized (this) {
+			// a compilation unit only depends on its own source in the cache, but its bindings can depend on any other
+			for (Iterator<ICompilationUnit> iterator= fEntries.keySet().iterator(); iterator.hasNext();) {
+				ICompilationUnit unit= iterator.next();
+				if (changedUnits.size() > 1 || !changedUnits.contains(unit)) {
+					iterator.remove();
+				}
+			}
+			if (fEntries.isEmpty()) {
+				flush();
+			}
+		}
+	}
+
+	/**
+	 * Collects the compilation units that changed.
+	 *
+	 * @param delta the delta
+	 * @param result the changed compilation units
+	 * @return <code>false</code> if anything else than a compilation unit changed
+	 */
+	private static boolean collectChangedUnits(IJavaElementDelta delta, Set<ICompilationUnit> result) {
+		IJavaElement element= delta.getElement();
+		if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+			result.add(((ICompilationUnit) element).getPrimary());
+			return true;
+		}
+		if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0)
+			return false;
+
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!collectChangedUnits(child, result))
+				return false;
+		}
+		return true;
+	}
+
+	private static String getSource(ICompilationUnit unit) {
+		try {
+			return unit.getSource();
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	private static void collectEditedRegions(TextEdit edit, List<IRegion> result) {
+		if (edit.hasChildren()) {
+			for (TextEdit child : edit.getChildren()) {
+				collectEditedRegions(child, result);
+			}
+		} else {
+			result.add(new Region(edit.getOffset(), edit.getLength()));
+		}
+	}
+
+	private static boolean isInBodies(List<IRegion> edited, List<BodyDeclaration> members) {
+		List<IRegion> bodies= getBodies(members);
+		for (IRegion region : edited) {
+			boolean inBody= false;
+			for (IRegion body : bodies) {
+				// the edit must not touch the braces of the body
+				if (body.getOffset() < region.getOffset() && region.getOffset() + region.getLength() < body.getOffset() + body.getLength()) {
+					inBody= true;
+					break;
+				}
+			}
+			if (!inBody)
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean overlaps(int start, int end, List<IRegion> regions) {
+		for (IRegion region : regions) {
+			if (region.getOffset() <= end && start <= region.getOffset() + region.getLength())
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the method and initializer bodies, in the order of the source.
+	 *
+	 * @param members the members in the order of the source
+	 * @return the regions of the bodies
+	 */
+	private static List<IRegion> getBodies(List<BodyDeclaration> members) {
+		List<IRegion> result= new ArrayList<>();
+		for (BodyDeclaration member : members) {
+			if (member instanceof MethodDeclaration && ((MethodDeclaration) member).getBody() != null) {
+				result.add(new Region(((MethodDeclaration) member).getBody().getStartPosition(), ((MethodDeclaration) member).getBody().getLength()));
+			} else if (member instanceof Initializer) {
+				result.add(new Region(((Initializer) member).getBody().getStartPosition(), ((Initializer) member).getBody().getLength()));
+			}
+		}
+		return result;
+	}
+
+	private static long getOutlineHash(String source, List<BodyDeclaration> members) {
+		long hash= 0;
+		int start= 0;
+		for (IRegion body : getBodies(members)) {
+			hash= 31 * hash + getHash(source, start, body.getOffset());
+			start= body.getOffset() + body.getLength();
+		}
+		return 31 * hash + getHash(source, start, source.length());
+	}
+
+	private static long getHash(String source, int start, int end) {
+		long hash= 1125899906842597L;
+		for (int i= start; i < end && i < source.length(); i++) {
+			hash= 31 * hash + source.charAt(i);
+		}
+		return hash;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -311,7 +312,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 
 	@Override
 	public boolean needsChangedRegions(ICompilationUnit unit) throws CoreException {
-		ICleanUp[] cleanUps= getCleanUps(unit.getJavaProject().getProject());
+		ICleanUp[] cleanUps= getCleanUps(getSettings(unit.getJavaProject().getProject()));
 		return requiresChangedRegions(cleanUps);
 	}
 
@@ -326,7 +327,12 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 			if (!ActionUtil.isOnBuildPath(unit))
 				return;
 
-			ICleanUp[] cleanUps= getCleanUps(unit.getJavaProject().getProject());
+			Map<String, String> settings= getSettings(unit.getJavaProject().getProject());
+			ICleanUp[] cleanUps= getCleanUps(settings);
+			boolean changedRegionsOnly= CleanUpOptions.TRUE.equals(settings.get(CleanUpConstants.CLEANUP_ON_SAVE_ADDITIONAL_OPTIONS))
+					&& CleanUpOptions.TRUE.equals(settings.get(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY));
+			List<Map<String, String>> cacheKey= List.of(settings, unit.getJavaProject().getOptions(true));
+			boolean firstPass= true;
 
 			long oldFileValue= unit.getResource().getModificationStamp();
 			long oldDocValue= getDocumentStamp((IFile)unit.getResource(), Progress.subMonitor(monitor, 2));
@@ -381,8 +387,27 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     					context= new MultiLineCleanUpContext(unit, ast, changedRegions);
     				}
 
+    				IRegion[] scope= null;
+    				if (ast != null) {
+    					if (changedRegionsOnly) {
+    						scope= changedRegions;
+    					} else if (firstPass) {
+    						scope= CleanUpMemberCache.getInstance().getDirtyRegions(unit, ast, cacheKey);
+    					}
+    				}
+
     				ArrayList<ICleanUp> undoneCleanUps= new ArrayList<>();
-					CleanUpChange change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps);
+    				CleanUpChange change;
+    				if (scope != null) {
+    					CleanUpScope.setRegions(ast, scope);
+    					try {
+    						change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps);
+    					} finally {
+    						CleanUpScope.setRegions(ast, null);
+    					}
+    				} else {
+    					change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps);
+    				}
 
     				RefactoringStatus postCondition= new RefactoringStatus();
 					for (ICleanUp cleanUp : cleanUps) {
@@ -393,6 +418,15 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     					return;
 
     				cleanUps= undoneCleanUps.toArray(new ICleanUp[undoneCleanUps.size()]);
+    				if (ast != null && firstPass && !changedRegionsOnly) {
+    					if (cleanUps.length == 0) {
+    						CleanUpMemberCache.getInstance().update(unit, ast, cacheKey, change != null ? change.getEdit() : null);
+    					} else {
+    						// the next passes run on a changed source
+    						CleanUpMemberCache.getInstance().remove(unit);
+    					}
+    				}
+    				firstPass= false;
     				if (change != null) {
     					result.add(change);
 
@@ -431,8 +465,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		}
 	}
 
-	private static ICleanUp[] getCleanUps(IProject project) throws CoreException {
-		ICleanUp[] cleanUps;
+	private static Map<String, String> getSettings(IProject project) throws CoreException {
 		Map<String, String> settings= CleanUpPreferenceUtil.loadSaveParticipantOptions(new ProjectScope(project));
 		if (settings == null) {
 			IEclipsePreferences contextNode= InstanceScope.INSTANCE.getNode(JavaUI.ID_PLUGIN);
@@ -442,7 +475,11 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 			}
 			throw new CoreException(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, Messages.format(FixMessages.CleanUpPostSaveListener_unknown_profile_error_message, id)));
 		}
+		return settings;
+	}
 
+	private static ICleanUp[] getCleanUps(Map<String, String> settings) {
+		ICleanUp[] cleanUps;
 		if (CleanUpOptions.TRUE.equals(settings.get(CleanUpConstants.CLEANUP_ON_SAVE_ADDITIONAL_OPTIONS))) {
 			cleanUps= getCleanUps(settings, null);
 		} else {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,20 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -87,6 +96,7 @@ import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -271,12 +281,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			ParseListElement element= fCompilationUnitParseElementMap.get(primary);
 			CleanUpTarget target= element.getTarget();
 
-			CleanUpContext context;
-			if (target instanceof MultiFixTarget) {
-				context= new MultiFixContext(source, ast, ((MultiFixTarget)target).getProblems());
-			} else {
-				context= new CleanUpContext(source, ast);
-			}
+			CleanUpContext context= createContext(source, ast, target);
 			ICleanUp[] rejectedCleanUps= calculateSolutions(context, element.getCleanUps());
 
 			if (rejectedCleanUps.length > 0) {
@@ -305,34 +310,132 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			}
 
 			if (solution != null) {
-				integrateSolution(solution, context.getCompilationUnit());
+				integrateSolution(fSolutions, solution, context.getCompilationUnit());
 			}
 
 			return result.toArray(new ICleanUp[result.size()]);
 		}
+	}
+
+	/**
+	 * Calculates the fixes for a slice of the compilation units of one fixpoint iteration on a
+	 * worker thread. The results are stored by position and integrated on the calling thread in
+	 * the order of the compilation units, so that the resulting changes don't depend on the
+	 * order in which the batches finish.
+	 */
+	private static class FixCalculationBatch implements Runnable {
+
+		private final ICompilationUnit[] fUnits;
+		private final ParseListElement[] fElements;
+		private final ASTParser fParser;
+		private final IProgressMonitor fCancelMonitor;
+		private final Map<ICompilationUnit, Integer> fIndexes;
+		private final CleanUpChange[] fChanges;
+		private final ICleanUp[][] fRejectedCleanUps;
+
+		/**
+		 * @param units the compilation units to calculate the fixes for
+		 * @param elements the parse list element of each compilation unit
+		 * @param parser the parser to create the ASTs with, or <code>null</code> if the clean
+		 *            ups don't require an AST
+		 * @param cancelMonitor the monitor used to cancel the calculation
+		 */
+		public FixCalculationBatch(ICompilationUnit[] units, ParseListElement[] elements, ASTParser parser, IProgressMonitor cancelMonitor) {
+			fUnits= units;
+			fElements= elements;
+			fParser= parser;
+			fCancelMonitor= cancelMonitor;
+			fIndexes= new HashMap<>(units.length * 2);
+			for (int i= 0; i < units.length; i++) {
+				fIndexes.put((ICompilationUnit)units[i].getPrimaryElement(), Integer.valueOf(i));
+			}
+			fChanges= new CleanUpChange[units.length];
+			fRejectedCleanUps= new ICleanUp[units.length][];
+		}
+
+		@Override
+		public void run() {
+			if (fParser != null) {
+				fParser.createASTs(fUnits, new String[0], new ASTRequestor() {
+					@Override
+					public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+						calculate(source, ast);
+					}
+				}, fCancelMonitor);
+			} else {
+				for (ICompilationUnit unit : fUnits) {
+					if (fCancelMonitor.isCanceled())
+						throw new OperationCanceledException();
+
+					calculate(unit, null);
+				}
+			}
+		}
 
-		private void integrateSolution(CleanUpChange solution, ICompilationUnit source) {
-			ICompilationUnit primary= source.getPrimary();
+		private void calculate(ICompilationUnit source, CompilationUnit ast) {
+			int index= fIndexes.get(source.getPrimaryElement()).intValue();
+			ParseListElement element= fElements[index];
 
-			List<CleanUpChange> changes= fSolutions.get(primary);
-			if (changes == null) {
-				changes= new ArrayList<>();
-				fSolutions.put(primary, changes);
+			List<ICleanUp> rejected= new ArrayList<>();
+			try {
+				fChanges[index]= calculateChange(createContext(source, ast, element.getTarget()), element.getCleanUps(), rejected, null);
+			} catch (CoreException e) {
+				throw new FixCalculationException(e);
+			}
+			fRejectedCleanUps[index]= rejected.toArray(new ICleanUp[rejected.size()]);
+		}
+
+		/**
+		 * Adds the calculated changes to <code>solutions</code> and the rejected clean ups to
+		 * <code>undoneElements</code>. Must only be called after the batch has been run.
+		 *
+		 * @param solutions the changes by primary compilation unit
+		 * @param undoneElements the elements to process in the next iteration
+		 * @param monitor the monitor to report the progress to
+		 */
+		public void integrate(Map<ICompilationUnit, List<CleanUpChange>> solutions, List<ParseListElement> undoneElements, CleanUpRefactoringProgressMonitor monitor) {
+			for (int i= 0; i < fUnits.length; i++) {
+				monitor.subTask(monitor.getSubTaskMessage(fUnits[i]));
+				monitor.internalWorked(1);
+
+				if (fChanges[i] != null) {
+					integrateSolution(solutions, fChanges[i], fUnits[i]);
+				}
+
+				ICleanUp[] rejected= fRejectedCleanUps[i];
+				if (rejected != null && rejected.length > 0) {
+					undoneElements.add(new ParseListElement(fElements[i].getTarget(), rejected));
+					monitor.reset();
+				} else {
+					monitor.flush();
+				}
 			}
-			changes.add(solution);
 		}
 	}
 
 	private class CleanUpFixpointIterator {
 
+		private final CleanUpTarget[] fTargets;
 		private List<ParseListElement> fParseList;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
 		private final Map<String, String> fCleanUpOptions;
+		private final ExecutorService fExecutor;
+		private final int fWorkerCount;
 		private final int fSize;
 		private int fIndex;
 
-		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+		/**
+		 * @param targets the targets to clean up
+		 * @param cleanUps the clean ups to apply
+		 * @param executor the executor to calculate the fixes with, or <code>null</code> to
+		 *            calculate them on the calling thread
+		 * @param workerCount the number of threads of <code>executor</code>
+		 */
+		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps, ExecutorService executor, int workerCount) {
+			fTargets= targets;
+			fExecutor= executor;
+			fWorkerCount= workerCount;
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
 
@@ -381,18 +484,18 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 
 				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
+				if (fExecutor != null) {
+					fParseList= calculateInParallel(parseList, sourceList, cuMonitor);
+					fIndex= cuMonitor.getIndex();
+					return;
+				}
+
 				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
 				if (parseList.size() > 0) {
 					ASTBatchParser parser= new ASTBatchParser() {
 						@Override
 						protected ASTParser createParser(IJavaProject project) {
-							ASTParser result= createCleanUpASTParser();
-							result.setProject(project);
-
-							Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
-							options.putAll(fCleanUpOptions);
-							result.setCompilerOptions(options);
-							return result;
+							return createFixpointParser(project);
 						}
 					};
 					try {
@@ -418,6 +521,114 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			}
 		}
 
+		private ASTParser createFixpointParser(IJavaProject project) {
+			ASTParser result= createCleanUpASTParser();
+			result.setProject(project);
+
+			Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+			options.putAll(fCleanUpOptions);
+			result.setCompilerOptions(options);
+			return result;
+		}
+
+		/**
+		 * Splits the compilation units into batches that are parsed and fixed on the worker
+		 * threads, each with its own parser. The results are integrated in the order of the
+		 * compilation units.
+		 *
+		 * @param parseList the compilation units that require an AST
+		 * @param sourceList the compilation units that don't require an AST
+		 * @param monitor the progress monitor
+		 * @return the elements to process in the next iteration
+		 * @throws CoreException if a fix could not be calculated
+		 */
+		private List<ParseListElement> calculateInParallel(List<ICompilationUnit> parseList, List<ICompilationUnit> sourceList, CleanUpRefactoringProgressMonitor monitor) throws CoreException {
+			Map<ICompilationUnit, ParseListElement> elements= new HashMap<>(fParseList.size() * 2);
+			for (ParseListElement element : fParseList) {
+				elements.put(element.getTarget().getCompilationUnit(), element);
+			}
+
+			NullProgressMonitor cancelMonitor= new NullProgressMonitor();
+			int batchSize= getBatchSize(parseList.size() + sourceList.size());
+			List<FixCalculationBatch> batches= new ArrayList<>();
+			addBatches(batches, parseList, true, batchSize, elements, cancelMonitor);
+			addBatches(batches, sourceList, false, batchSize, elements, cancelMonitor);
+
+			List<Future<?>> futures= new ArrayList<>(batches.size());
+			monitor.beginTask("", parseList.size() + sourceList.size()); //$NON-NLS-1$
+			try {
+				for (FixCalculationBatch batch : batches) {
+					futures.add(fExecutor.submit(batch));
+				}
+
+				List<ParseListElement> undoneElements= new ArrayList<>();
+				for (int i= 0; i < batches.size(); i++) {
+					waitFor(futures.get(i), monitor);
+					batches.get(i).integrate(fSolutions, undoneElements, monitor);
+				}
+				return undoneElements;
+			} finally {
+				// stops the remaining batches if the calculation failed or has been canceled
+				cancelMonitor.setCanceled(true);
+				for (Future<?> future : futures) {
+					future.cancel(false);
+				}
+			}
+		}
+
+		private void addBatches(List<FixCalculationBatch> batches, List<ICompilationUnit> units, boolean requiresAST, int batchSize, Map<ICompilationUnit, ParseListElement> elements, IProgressMonitor cancelMonitor) {
+			for (int start= 0; start < units.size(); start+= batchSize) {
+				List<ICompilationUnit> slice= units.subList(start, Math.min(start + batchSize, units.size()));
+				ICompilationUnit[] batchUnits= slice.toArray(new ICompilationUnit[slice.size()]);
+				ParseListElement[] batchElements= new ParseListElement[batchUnits.length];
+				for (int i= 0; i < batchUnits.length; i++) {
+					batchElements[i]= elements.get(batchUnits[i].getPrimary());
+				}
+				ASTParser parser= requiresAST ? createFixpointParser(batchUnits[0].getJavaProject()) : null;
+				batches.add(new FixCalculationBatch(batchUnits, batchElements, parser, cancelMonitor));
+			}
+		}
+
+		/**
+		 * Returns the number of compilation units per batch. All workers together hold at most
+		 * as many ASTs as {@link ASTBatchParser} parses at once, but the units are split into
+		 * at least two batches per worker, so that the workers are evenly loaded.
+		 *
+		 * @param unitCount the number of compilation units to process
+		 * @return the batch size
+		 */
+		private int getBatchSize(int unitCount) {
+			int maxSize= ASTBatchParser.getMaxBatchSize() / fWorkerCount;
+			int balancedSize= (unitCount + 2 * fWorkerCount - 1) / (2 * fWorkerCount);
+			return Math.max(1, Math.min(maxSize, balancedSize));
+		}
+
+		private void waitFor(Future<?> future, IProgressMonitor monitor) throws CoreException {
+			while (true) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+
+				try {
+					future.get(100, TimeUnit.MILLISECONDS);
+					return;
+				} catch (TimeoutException e) {
+					// check for cancelation and wait again
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				} catch (ExecutionException e) {
+					Throwable cause= e.getCause();
+					if (cause instanceof FixCalculationException)
+						throw ((FixCalculationException)cause).getException();
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException)cause;
+					if (cause instanceof Error)
+						throw (Error)cause;
+					throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
+				}
+			}
+		}
+
 		public void dispose() {
 			for (ICompilationUnit cu : fWorkingCopies.values()) {
 				try {
@@ -442,9 +653,13 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 			Change[] result= new Change[fSolutions.size()];
 			int i=0;
-			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
-				List<CleanUpChange> changes= entry.getValue();
-				ICompilationUnit unit= entry.getKey();
+			// create the changes in the order of the targets, not in the order of the hash table
+			HashSet<ICompilationUnit> added= new HashSet<>();
+			for (CleanUpTarget target : fTargets) {
+				ICompilationUnit unit= target.getCompilationUnit().getPrimary();
+				List<CleanUpChange> changes= fSolutions.get(unit);
+				if (changes == null || !added.add(unit))
+					continue;
 
 				int saveMode;
 				if (fLeaveFilesDirty) {
@@ -502,13 +717,20 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * The minimal number of compilation units that one worker parses at once when the fixes are
+	 * calculated in parallel. Limits the number of workers if the heap is small.
+	 */
+	private static final int MIN_UNITS_PER_WORKER= 5;
+
 	private final List<ICleanUp> fCleanUps;
-	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
+	private final Map<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
 	private boolean fLeaveFilesDirty;
 	private final String fName;
 
 	private boolean fUseOptionsFromProfile;
+	private boolean fCalculateFixesInParallel;
 
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
@@ -517,14 +739,33 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	public CleanUpRefactoring(String name) {
 		fName= name;
 		fCleanUps= new ArrayList<>();
-		fProjects= new Hashtable<>();
+		fProjects= new LinkedHashMap<>();
 		fUseOptionsFromProfile= false;
+		fCalculateFixesInParallel= false;
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets whether the compilation units are parsed and the fixes are calculated on a pool of
+	 * worker threads. The number of workers is limited by the available processors and by the
+	 * maximal heap size. The resulting change is the same as if the fixes were calculated
+	 * sequentially.
+	 * <p>
+	 * The fixes are only calculated in parallel if all clean ups of this refactoring can create
+	 * fixes for different compilation units concurrently, see
+	 * {@link AbstractCleanUp#canCreateFixesConcurrently()}. Otherwise they are calculated on the
+	 * calling thread.
+	 * </p>
+	 *
+	 * @param enabled <code>true</code> to calculate the fixes in parallel
+	 */
+	public void setCalculateFixesInParallel(boolean enabled) {
+		fCalculateFixesInParallel= enabled;
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -673,7 +914,9 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	}
 
 	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
-		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps);
+		int workerCount= fCalculateFixesInParallel && canCreateFixesConcurrently(cleanUps) ? getWorkerCount() : 1;
+		ExecutorService executor= workerCount > 1 ? createExecutor(workerCount) : null;
+		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps, executor, workerCount);
 
 		IProgressMonitor subMonitor= Progress.subMonitor(monitor, 2 * targets.length * cleanUps.length);
 		subMonitor.beginTask("", targets.length); //$NON-NLS-1$
@@ -686,10 +929,53 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return iter.getResult();
 		} finally {
 			iter.dispose();
+			if (executor != null)
+				executor.shutdown();
 			subMonitor.done();
 		}
 	}
 
+	private static int getWorkerCount() {
+		int processors= Runtime.getRuntime().availableProcessors();
+		return Math.max(1, Math.min(processors, ASTBatchParser.getMaxBatchSize() / MIN_UNITS_PER_WORKER));
+	}
+
+	private static boolean canCreateFixesConcurrently(ICleanUp[] cleanUps) {
+		for (ICleanUp cleanUp : cleanUps) {
+			if (!(cleanUp instanceof AbstractCleanUp) || !((AbstractCleanUp)cleanUp).canCreateFixesConcurrently())
+				return false;
+		}
+		return true;
+	}
+
+	private static ExecutorService createExecutor(int workerCount) {
+		AtomicInteger threadCount= new AtomicInteger();
+		return Executors.newFixedThreadPool(workerCount, runnable -> {
+			Thread thread= new Thread(runnable, "Clean Up Worker " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static CleanUpContext createContext(ICompilationUnit source, CompilationUnit ast, CleanUpTarget target) {
+		if (target instanceof MultiFixTarget) {
+			return new MultiFixContext(source, ast, ((MultiFixTarget)target).getProblems());
+		} else {
+			return new CleanUpContext(source, ast);
+		}
+	}
+
+	private static void integrateSolution(Map<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpChange solution, ICompilationUnit source) {
+		ICompilationUnit primary= source.getPrimary();
+
+		List<CleanUpChange> changes= solutions.get(primary);
+		if (changes == null) {
+			changes= new ArrayList<>();
+			solutions.put(primary, changes);
+		}
+		changes.add(solution);
+	}
+
 	private RefactoringStatus setOptionsFromProfile(IJavaProject javaProject, ICleanUp[] cleanUps) {
 		Map<String, String> options= CleanUpPreferenceUtil.loadOptions(new ProjectScope(javaProject.getProject()));
 		if (options == null)
@@ -0,0 +1,453 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.jarinjarloader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.security.CodeSource;
+import java.security.SecureClassLoader;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.Attributes.Name;
+import java.util.jar.Manifest;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * This class will be compiled into the binary jar-in-jar-loader.zip. This ZIP is used for the
+ * "Runnable JAR File Exporter".
+ *
+ * A class loader for the Rsrc-Class-Path that maps the runnable JAR into memory and indexes the
+ * entries of all nested JARs once at startup. The exporter stores the nested JARs uncompressed,
+ * so their entries can be read directly from the mapped file instead of extracting each nested
+ * JAR through an "rsrc:" URL. Stored classes are defined from the mapped file without copying,
+ * compressed entries are inflated once and kept as long as memory permits.
+ *
+ * {@link #create(String[], URL[], ClassLoader)} fails if the runnable JAR or one of its nested
+ * JARs can't be indexed this way, for example if a nested JAR is compressed, signed, or a
+ * multi-release JAR. The caller then falls back to a URLClassLoader.
+ */
+public class IndexedRsrcClassLoader extends SecureClassLoader {
+
+	private static final int CENTRAL_HEADER_SIGNATURE= 0x02014b50;
+	private static final int LOCAL_HEADER_SIGNATURE= 0x04034b50;
+	private static final int END_HEADER_SIGNATURE= 0x06054b50;
+	private static final int END_HEADER_SIZE= 22;
+	private static final int LOCAL_HEADER_SIZE= 30;
+	private static final int CENTRAL_HEADER_SIZE= 46;
+	private static final Charset UTF8= Charset.forName(JIJConstants.UTF8_ENCODING);
+	private static final String MANIFEST_NAME= "META-INF/MANIFEST.MF"; //$NON-NLS-1$
+	private static final Name MULTI_RELEASE= new Name("Multi-Release"); //$NON-NLS-1$
+
+	static {
+		registerAsParallelCapable();
+	}
+
+	/**
+	 * An element of the Rsrc-Class-Path, either a nested JAR or a folder of the runnable JAR.
+	 */
+	private static class ClassPathElement {
+		final String urlPrefix;
+		final CodeSource codeSource;
+		Entry manifestEntry;
+		Manifest manifest;
+
+		ClassPathElement(URL url) {
+			this.urlPrefix= url.toString();
+			this.codeSource= new CodeSource(url, (Certificate[]) null);
+		}
+	}
+
+	/**
+	 * An entry of a nested JAR, or of a folder of the runnable JAR.
+	 */
+	private static class Entry {
+		final ClassPathElement element;
+		final int method;
+		final int offset;
+		final int compressedSize;
+		final int size;
+		/** the next entry with the same name further down the class path */
+		Entry next;
+		SoftReference<byte[]> inflated;
+
+		Entry(ClassPathElement element, int method, int offset, int compressedSize, int size) {
+			this.element= element;
+			this.method= method;
+			this.offset= offset;
+			this.compressedSize= compressedSize;
+			this.size= size;
+		}
+	}
+
+	private final ByteBuffer buffer;
+	private final Map<String, Entry> index;
+
+	private IndexedRsrcClassLoader(ByteBuffer buffer, Map<String, Entry> index, ClassLoader parent) {
+		super(parent);
+		this.buffer= buffer;
+		this.index= index;
+	}
+
+	/**
+	 * Creates a class loader for the given Rsrc-Class-Path of the runnable JAR that contains
+	 * this class.
+	 *
+	 * @param rsrcClassPath the entries of the Rsrc-Class-Path
+	 * @param rsrcUrls the URLs of the entries, used as code sources and as base of resource URLs
+	 * @param parent the parent class loader
+	 * @return the class loader
+	 * @throws IOException if the runnable JAR or a nested JAR can't be indexed
+	 */
+	public static IndexedRsrcClassLoader create(String[] rsrcClassPath, URL[] rsrcUrls, ClassLoader parent) throws IOException {
+		File jarFile= getJarFile();
+		ByteBuffer buffer;
+		try (FileChannel channel= FileChannel.open(jarFile.toPath())) {
+			if (channel.size() > Integer.MAX_VALUE)
+				throw new IOException("Runnable JAR is too large to be mapped"); //$NON-NLS-1$
+			MappedByteBuffer mapped= channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			buffer= mapped.order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		Map<String, Entry> outerEntries= new HashMap<>();
+		readCentralDirectory(buffer, 0, buffer.capacity(), null, outerEntries);
+
+		Map<String, Entry> index= new HashMap<>();
+		for (int i= 0; i < rsrcClassPath.length; i++) {
+			// the exporter URL encodes the names in the Rsrc-Class-Path
+			String rsrcPath= URLDecoder.decode(rsrcClassPath[i], JIJConstants.UTF8_ENCODING);
+			ClassPathElement element= new ClassPathElement(rsrcUrls[i]);
+			Map<String, Entry> entries= new HashMap<>();
+			if (rsrcPath.endsWith(JIJConstants.PATH_SEPARATOR)) {
+				String prefix= JIJConstants.CURRENT_DIR.equals(rsrcPath) ? "" : rsrcPath; //$NON-NLS-1$
+				for (Map.Entry<String, Entry> outerEntry : outerEntries.entrySet()) {
+					String name= outerEntry.getKey();
+					if (name.startsWith(prefix) && name.length() > prefix.length()) {
+						Entry entry= outerEntry.getValue();
+						entries.put(name.substring(prefix.length()), new Entry(element, entry.method, entry.offset, entry.compressedSize, entry.size));
+					}
+				}
+			} else {
+				Entry nestedJar= outerEntries.get(rsrcPath);
+				if (nestedJar == null)
+					continue;
+				if (nestedJar.method != ZipEntry.STORED)
+					throw new IOException("Nested JAR is compressed: " + rsrcPath); //$NON-NLS-1$
+				readCentralDirectory(buffer, nestedJar.offset, nestedJar.size, element, entries);
+			}
+			element.manifestEntry= entries.get(MANIFEST_NAME);
+			checkSupported(buffer, rsrcPath, element, entries);
+
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				Entry first= index.get(entry.getKey());
+				if (first == null) {
+					index.put(entry.getKey(), entry.getValue());
+				} else {
+					while (first.next != null)
+						first= first.next;
+					first.next= entry.getValue();
+				}
+			}
+		}
+		return new IndexedRsrcClassLoader(buffer, index, parent);
+	}
+
+	private static File getJarFile() throws IOException {
+		CodeSource codeSource= IndexedRsrcClassLoader.class.getProtectionDomain().getCodeSource();
+		URL location= codeSource != null ? codeSource.getLocation() : null;
+		if (location == null || !"file".equals(location.getProtocol())) //$NON-NLS-1$
+			throw new IOException("Runnable JAR is not a local file: " + location); //$NON-NLS-1$
+		try {
+			File file= new File(location.toURI());
+			if (!file.isFile())
+				throw new IOException("Runnable JAR is not a file: " + file); //$NON-NLS-1$
+			return file;
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Rejects the nested JARs whose classes a URLClassLoader would load differently.
+	 */
+	private static void checkSupported(ByteBuffer buffer, String rsrcPath, ClassPathElement element, Map<String, Entry> entries) throws IOException {
+		for (String name : entries.keySet()) {
+			if (name.startsWith("META-INF/") && (name.endsWith(".SF") || name.endsWith(".RSA") || name.endsWith(".DSA") || name.endsWith(".EC"))) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+				throw new IOException("Nested JAR is signed: " + rsrcPath); //$NON-NLS-1$
+		}
+		Manifest manifest= getManifest(buffer, element);
+		if (manifest != null && Boolean.parseBoolean(manifest.getMainAttributes().getValue(MULTI_RELEASE)))
+			throw new IOException("Nested JAR is a multi-release JAR: " + rsrcPath); //$NON-NLS-1$
+	}
+
+	/**
+	 * Reads the central directory of the ZIP file in the given region of the buffer.
+	 *
+	 * @param buffer the mapped runnable JAR
+	 * @param start the start of the ZIP file in the buffer
+	 * @param length the length of the ZIP file
+	 * @param element the class path element of the entries
+	 * @param result the entries by name, directories are skipped
+	 * @throws IOException if the ZIP file is malformed or uses features that are not supported
+	 */
+	private static void readCentralDirectory(ByteBuffer buffer, int start, int length, ClassPathElement element, Map<String, Entry> result) throws IOException {
+		int end= start + length;
+		int endHeader= -1;
+		for (int i= end - END_HEADER_SIZE; i >= Math.max(start, end - END_HEADER_SIZE - 0xFFFF); i--) {
+			if (buffer.getInt(i) == END_HEADER_SIGNATURE) {
+				endHeader= i;
+				break;
+			}
+		}
+		if (endHeader == -1)
+			throw new IOException("End of central directory not found"); //$NON-NLS-1$
+
+		int entryCount= getUnsignedShort(buffer, endHeader + 10);
+		long directoryOffset= getUnsignedInt(buffer, endHeader + 16);
+		if (entryCount == 0xFFFF || directoryOffset == 0xFFFFFFFFL)
+			throw new IOException("ZIP64 is not supported"); //$NON-NLS-1$
+
+		int position= start + (int) directoryOffset;
+		for (int i= 0; i < entryCount; i++) {
+			if (position + CENTRAL_HEADER_SIZE > end || buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE)
+				throw new IOException("Invalid central directory"); //$NON-NLS-1$
+			int flags= getUnsignedShort(buffer, position + 8);
+			int method= getUnsignedShort(buffer, position + 10);
+			long compressedSize= getUnsignedInt(buffer, position + 20);
+			long size= getUnsignedInt(buffer, position + 24);
+			int nameLength= getUnsignedShort(buffer, position + 28);
+			int extraLength= getUnsignedShort(buffer, position + 30);
+			int commentLength= getUnsignedShort(buffer, position + 32);
+			long localHeader= getUnsignedInt(buffer, position + 42);
+			String name= getString(buffer, position + CENTRAL_HEADER_SIZE, nameLength);
+			position+= CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+
+			if (name.endsWith(JIJConstants.PATH_SEPARATOR) || result.containsKey(name))
+				continue;
+			if ((flags & 1) != 0)
+				throw new IOException("Encrypted entries are not supported: " + name); //$NON-NLS-1$
+			if (method != ZipEntry.STORED && method != ZipEntry.DEFLATED)
+				throw new IOException("Unsupported compression method: " + name); //$NON-NLS-1$
+			if (compressedSize == 0xFFFFFFFFL || size == 0xFFFFFFFFL || localHeader == 0xFFFFFFFFL)
+				throw new IOException("ZIP64 is not supported"); //$NON-NLS-1$
+
+			int header= start + (int) localHeader;
+			if (header + LOCAL_HEADER_SIZE > end || buffer.getInt(header) != LOCAL_HEADER_SIGNATURE)
+				throw new IOException("Invalid local header: " + name); //$NON-NLS-1$
+			int dataOffset= header + LOCAL_HEADER_SIZE + getUnsignedShort(buffer, header + 26) + getUnsignedShort(buffer, header + 28);
+			if (dataOffset + compressedSize > end)
+				throw new IOException("Invalid entry size: " + name); //$NON-NLS-1$
+			result.put(name, new Entry(element, method, dataOffset, (int) compressedSize, (int) size));
+		}
+	}
+
+	private static int getUnsignedShort(ByteBuffer buffer, int index) {
+		return buffer.getShort(index) & 0xFFFF;
+	}
+
+	private static long getUnsignedInt(ByteBuffer buffer, int index) {
+		return buffer.getInt(index) & 0xFFFFFFFFL;
+	}
+
+	private static String getString(ByteBuffer buffer, int index, int length) {
+		byte[] bytes= new byte[length];
+		for (int i= 0; i < length; i++) {
+			bytes[i]= buffer.get(index + i);
+		}
+		return new String(bytes, UTF8);
+	}
+
+	/**
+	 * Returns the content of the given entry. Stored entries are returned as a view of the mapped
+	 * runnable JAR.
+	 */
+	private static ByteBuffer getContent(ByteBuffer buffer, Entry entry) throws IOException {
+		ByteBuffer data= slice(buffer, entry.offset, entry.compressedSize);
+		if (entry.method == ZipEntry.STORED)
+			return data;
+
+		SoftReference<byte[]> reference= entry.inflated;
+		byte[] inflated= reference != null ? reference.get() : null;
+		if (inflated == null) {
+			byte[] compressed= new byte[entry.compressedSize];
+			data.get(compressed);
+			inflated= new byte[entry.size];
+			Inflater inflater= new Inflater(true);
+			try {
+				inflater.setInput(compressed);
+				int count= 0;
+				while (count < inflated.length && !inflater.finished()) {
+					int inflatedCount= inflater.inflate(inflated, count, inflated.length - count);
+					if (inflatedCount == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+						throw new IOException("Truncated entry"); //$NON-NLS-1$
+					count+= inflatedCount;
+				}
+			} catch (DataFormatException e) {
+				throw new IOException(e);
+			} finally {
+				inflater.end();
+			}
+			entry.inflated= new SoftReference<>(inflated);
+		}
+		return ByteBuffer.wrap(inflated);
+	}
+
+	private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+		ByteBuffer duplicate= buffer.duplicate();
+		// cast to Buffer, the covariant overrides in ByteBuffer don't exist on Java 8
+		((Buffer) duplicate).position(offset);
+		((Buffer) duplicate).limit(offset + length);
+		return duplicate.slice();
+	}
+
+	private static Manifest getManifest(ByteBuffer buffer, ClassPathElement element) throws IOException {
+		synchronized (element) {
+			if (element.manifest == null && element.manifestEntry != null) {
+				try (InputStream in= new ByteBufferInputStream(getContent(buffer, element.manifestEntry))) {
+					element.manifest= new Manifest(in);
+				}
+			}
+			return element.manifest;
+		}
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		Entry entry= index.get(name.replace('.', '/').concat(".class")); //$NON-NLS-1$
+		if (entry == null)
+			throw new ClassNotFoundException(name);
+		try {
+			definePackage(name, entry.element);
+			return defineClass(name, getContent(buffer, entry), entry.element.codeSource);
+		} catch (IOException e) {
+			throw new ClassNotFoundException(name, e);
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	private void definePackage(String className, ClassPathElement element) throws IOException {
+		int lastDot= className.lastIndexOf('.');
+		if (lastDot == -1)
+			return;
+		String packageName= className.substring(0, lastDot);
+		if (getPackage(packageName) != null)
+			return;
+
+		Manifest manifest= getManifest(buffer, element);
+		try {
+			if (manifest == null) {
+				definePackage(packageName, null, null, null, null, null, null, null);
+			} else {
+				Attributes attributes= manifest.getMainAttributes();
+				definePackage(packageName, attributes.getValue(Name.SPECIFICATION_TITLE), attributes.getValue(Name.SPECIFICATION_VERSION),
+						attributes.getValue(Name.SPECIFICATION_VENDOR), attributes.getValue(Name.IMPLEMENTATION_TITLE),
+						attributes.getValue(Name.IMPLEMENTATION_VERSION), attributes.getValue(Name.IMPLEMENTATION_VENDOR), null);
+			}
+		} catch (IllegalArgumentException e) {
+			// defined by another thread in the meantime
+		}
+	}
+
+	@Override
+	protected URL findResource(String name) {
+		Entry entry= index.get(name);
+		return entry != null ? getURL(entry, name) : null;
+	}
+
+	@Override
+	protected Enumeration<URL> findResources(String name) {
+		List<URL> result= new ArrayList<>();
+		for (Entry entry= index.get(name); entry != null; entry= entry.next) {
+			URL url= getURL(entry, name);
+			if (url != null)
+				result.add(url);
+		}
+		return Collections.enumeration(result);
+	}
+
+	/**
+	 * Reads the resource from the mapped runnable JAR instead of opening its URL, unless the
+	 * parent class loader provides it.
+	 */
+	@Override
+	public InputStream getResourceAsStream(String name) {
+		Entry entry= index.get(name);
+		if (entry == null || (getParent() != null && getParent().getResource(name) != null))
+			return super.getResourceAsStream(name);
+		try {
+			return new ByteBufferInputStream(getContent(buffer, entry));
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static URL getURL(Entry entry, String name) {
+		try {
+			return new URL(entry.element.urlPrefix + name);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * An input stream on a byte buffer, which doesn't copy the buffer.
+	 */
+	private static class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer data;
+
+		ByteBufferInputStream(ByteBuffer data) {
+			this.data= data;
+		}
+
+		@Override
+		public int read() {
+			return data.hasRemaining() ? data.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0)
+				return 0;
+			if (!data.hasRemaining())
+				return -1;
+			int count= Math.min(len, data.remaining());
+			data.get(b, off, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return data.remaining();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,8 @@ final class JIJConstants {
 	static final String UTF8_ENCODING                        = "UTF-8";  //$NON-NLS-1$
 	static final String RUNTIME_WITH_HASH                    = "#runtime";  //$NON-NLS-1$
 	static final String RUNTIME                              = "runtime";  //$NON-NLS-1$
+	static final String INDEXED_LOADER_PROPERTY              = "org.eclipse.jdt.internal.jarinjarloader.indexed";  //$NON-NLS-1$
+	static final String VERBOSE_PROPERTY                     = "org.eclipse.jdt.internal.jarinjarloader.verbose";  //$NON-NLS-1$
 
 	private JIJConstants() {
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,14 +55,39 @@ public class JarRsrcLoader {
 			else
 				rsrcUrls[i] = new URL(JIJConstants.JAR_INTERNAL_URL_PROTOCOL_WITH_COLON + rsrcPath + JIJConstants.JAR_INTERNAL_SEPARATOR);
 		}
-		@SuppressWarnings("resource")
-		ClassLoader jceClassLoader = new URLClassLoader(rsrcUrls, getParentClassLoader());
+		ClassLoader jceClassLoader = createClassLoader(mi.rsrcClassPath, rsrcUrls, getParentClassLoader());
 		Thread.currentThread().setContextClassLoader(jceClassLoader);
 		Class<?> c = Class.forName(mi.rsrcMainClass, true, jceClassLoader);
 		Method main = c.getMethod(JIJConstants.MAIN_METHOD_NAME, args.getClass());
 		main.invoke((Object) null, new Object[] {args});
 	}
 
+	/**
+	 * Creates the indexed class loader unless it is disabled with the system property
+	 * {@value JIJConstants#INDEXED_LOADER_PROPERTY}<code>=false</code>. Falls back to a
+	 * URLClassLoader if the JAR can't be indexed. The reason of the fallback is reported on
+	 * System.err if the system property {@value JIJConstants#VERBOSE_PROPERTY} is set to
+	 * <code>true</code>.
+	 *
+	 * @param rsrcClassPath the entries of the Rsrc-Class-Path
+	 * @param rsrcUrls the URLs of the entries
+	 * @param parent the parent class loader
+	 * @return the class loader for the Rsrc-Class-Path
+	 */
+	@SuppressWarnings("resource")
+	private static ClassLoader createClassLoader(String[] rsrcClassPath, URL[] rsrcUrls, ClassLoader parent) {
+		if (!Boolean.FALSE.toString().equals(System.getProperty(JIJConstants.INDEXED_LOADER_PROPERTY))) {
+			try {
+				return IndexedRsrcClassLoader.create(rsrcClassPath, rsrcUrls, parent);
+			} catch (IOException | RuntimeException e) {
+				// not supported for this JAR, use the URL class loader
+				if (Boolean.getBoolean(JIJConstants.VERBOSE_PROPERTY))
+					System.err.println("Jar-in-Jar loader falls back to URLClassLoader: " + e); //$NON-NLS-1$
+			}
+		}
+		return new URLClassLoader(rsrcUrls, parent);
+	}
+
 	private static ClassLoader getParentClassLoader() throws InvocationTargetException, IllegalAccessException {
 		// On Java8, it is ok to use a null parent class loader, but, starting with Java 9,
 		// we need to provide one that has access to the restricted list of packages that
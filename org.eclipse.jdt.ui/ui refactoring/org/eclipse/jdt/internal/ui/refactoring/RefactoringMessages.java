@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -270,6 +270,8 @@ public final class RefactoringMessages extends NLS {
 
 	public static String ExtractMethodInputPage_duplicates_single;
 
+	public static String ExtractMethodInputPage_findProjectDuplicates;
+
 	public static String ExtractMethodInputPage_generateJavadocComment;
 
 	public static String ExtractMethodInputPage_label_text;
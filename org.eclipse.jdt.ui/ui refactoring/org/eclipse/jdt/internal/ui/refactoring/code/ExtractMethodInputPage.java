@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,6 +77,7 @@ public class ExtractMethodInputPage extends UserInputWizardPage {
 	private static final String THROW_RUNTIME_EXCEPTIONS= "ThrowRuntimeExceptions"; //$NON-NLS-1$
 	private static final String GENERATE_JAVADOC= "GenerateJavadoc";  //$NON-NLS-1$
 	private static final String ACCESS_MODIFIER= "AccessModifier"; //$NON-NLS-1$
+	private static final String FIND_PROJECT_DUPLICATES= "FindProjectDuplicates"; //$NON-NLS-1$
 
 	public ExtractMethodInputPage() {
 		super(PAGE_NAME);
@@ -242,6 +243,17 @@ public class ExtractMethodInputPage extends UserInputWizardPage {
 		});
 		layouter.perform(checkBox);
 
+		checkBox= new Button(result, SWT.CHECK);
+		checkBox.setText(RefactoringMessages.ExtractMethodInputPage_findProjectDuplicates);
+		checkBox.setSelection(fSettings.getBoolean(FIND_PROJECT_DUPLICATES));
+		checkBox.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				setFindProjectDuplicates(((Button)e.widget).getSelection());
+			}
+		});
+		layouter.perform(checkBox);
+
 		label= new Label(result, SWT.SEPARATOR | SWT.HORIZONTAL);
 		label.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
 		layouter.perform(label);
@@ -337,6 +349,11 @@ public class ExtractMethodInputPage extends UserInputWizardPage {
 		fRefactoring.setGenerateJavadoc(value);
 	}
 
+	private void setFindProjectDuplicates(boolean value) {
+		fSettings.put(FIND_PROJECT_DUPLICATES, value);
+		fRefactoring.setFindProjectDuplicates(value);
+	}
+
 	private void createSignaturePreview(Composite composite, RowLayouter layouter) {
 		Label previewLabel= new Label(composite, SWT.NONE);
 		previewLabel.setText(RefactoringMessages.ExtractMethodInputPage_signature_preview);
@@ -373,6 +390,7 @@ public class ExtractMethodInputPage extends UserInputWizardPage {
 			fSettings.put(ACCESS_MODIFIER, Modifier.PRIVATE);
 		}
 		fRefactoring.setThrowRuntimeExceptions(fSettings.getBoolean(THROW_RUNTIME_EXCEPTIONS));
+		fRefactoring.setFindProjectDuplicates(fSettings.getBoolean(FIND_PROJECT_DUPLICATES));
 		final String accessModifier= fSettings.get(ACCESS_MODIFIER);
 		if (accessModifier != null) {
 			fRefactoring.setVisibility(Integer.parseInt(accessModifier));
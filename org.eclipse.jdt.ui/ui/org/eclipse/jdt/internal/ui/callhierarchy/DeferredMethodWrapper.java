@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.callhierarchy;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -25,6 +30,9 @@ import org.eclipse.ui.progress.IElementCollector;
 
 import org.eclipse.jdt.core.JavaCore;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerMethodWrapper;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerSearchEngine;
+import org.eclipse.jdt.internal.corext.callhierarchy.MethodCall;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
@@ -68,8 +76,36 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
         this.fProvider = provider;
     }
 
-    private Object getCalls(IProgressMonitor monitor) {
-        return getMethodWrapper().getCalls(monitor);
+    /**
+     * Adds the calls to the collector while they are found, and prefetches the callers of the
+     * next levels.
+     *
+     * @param collector the collector
+     * @param monitor the progress monitor
+     */
+    private void collectCalls(IElementCollector collector, IProgressMonitor monitor) {
+        MethodWrapper methodWrapper= getMethodWrapper();
+        Set<String> collected= new HashSet<>();
+        MethodWrapper[] calls= methodWrapper.getCalls(monitor, partialCalls -> {
+            for (MethodWrapper call : partialCalls) {
+                collected.add(call.getMethodCall().getKey());
+            }
+            collector.add(partialCalls, monitor);
+        });
+
+        List<MethodWrapper> remaining= new ArrayList<>();
+        List<MethodCall> methodCalls= new ArrayList<>();
+        for (MethodWrapper call : calls) {
+            if (!collected.contains(call.getMethodCall().getKey())) {
+                remaining.add(call);
+            }
+            methodCalls.add(call.getMethodCall());
+        }
+        collector.add(remaining.toArray(), monitor);
+
+        if (methodWrapper instanceof CallerMethodWrapper && methodWrapper.getLevel() < CallHierarchyUI.getDefault().getMaxCallDepth()) {
+            CallerSearchEngine.getDefault().prefetch((CallerMethodWrapper) methodWrapper, methodCalls);
+        }
     }
 
     @Override
@@ -77,7 +113,7 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
     	final DeferredMethodWrapper deferredMethodWrapper= (DeferredMethodWrapper)object;
     	try {
             fProvider.startFetching();
-            JavaCore.runReadOnly(() -> collector.add((Object[]) deferredMethodWrapper.getCalls(monitor), monitor));
+            JavaCore.runReadOnly(() -> deferredMethodWrapper.collectCalls(collector, monitor));
             collector.done();
         } catch (OperationCanceledException e) {
         	final MethodWrapper methodWrapper= deferredMethodWrapper.getMethodWrapper();
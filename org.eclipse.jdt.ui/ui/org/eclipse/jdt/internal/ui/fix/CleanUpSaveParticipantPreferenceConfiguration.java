@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,7 @@ public class CleanUpSaveParticipantPreferenceConfiguration extends AbstractSaveP
 	private IPreferencePageContainer fContainer;
 	private Button fAdditionalActionButton;
 	private Button fConfigureButton;
+	private Button fEditedMembersOnlyButton;
 	private Button fFormatAllButton;
 
 	private Composite fCleanUpOptionsComposite;
@@ -213,6 +214,16 @@ public class CleanUpSaveParticipantPreferenceConfiguration extends AbstractSaveP
 
 		});
 
+		fEditedMembersOnlyButton= new Button(composite, SWT.CHECK);
+		fEditedMembersOnlyButton.setText(SaveParticipantMessages.CleanUpSaveParticipantPreferenceConfiguration_AdditionalActionsEditedMembersOnly_Checkbox);
+		fEditedMembersOnlyButton.setLayoutData(new GridData(SWT.FILL, SWT.TOP, true, false, 2, 1));
+		fEditedMembersOnlyButton.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				changeSettingsValue(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY, fEditedMembersOnlyButton.getSelection());
+			}
+		});
+
 		return composite;
 	}
 
@@ -328,6 +339,8 @@ public class CleanUpSaveParticipantPreferenceConfiguration extends AbstractSaveP
 
 		fSelectedActionsText.setEnabled(additionalEnabled);
 		fConfigureButton.setEnabled(additionalEnabled);
+		fEditedMembersOnlyButton.setSelection(CleanUpOptions.TRUE.equals(fSettings.get(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY)));
+		fEditedMembersOnlyButton.setEnabled(additionalEnabled);
 
 		Map<String, String> settings= new HashMap<>(fSettings);
 		settings.put(CleanUpConstants.FORMAT_SOURCE_CODE, CleanUpOptions.FALSE);
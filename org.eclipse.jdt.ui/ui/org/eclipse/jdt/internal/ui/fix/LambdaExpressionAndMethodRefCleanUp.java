@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,7 +51,7 @@ public class LambdaExpressionAndMethodRefCleanUp extends AbstractMultiFix {
 	public CleanUpRequirements getRequirements() {
 		boolean requireAST= isEnabled(CleanUpConstants.SIMPLIFY_LAMBDA_EXPRESSION_AND_METHOD_REF);
 		Map<String, String> requiredOptions= null;
-		return new CleanUpRequirements(requireAST, false, false, requiredOptions);
+		return getMemberScopedRequirements(requireAST, requiredOptions);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ package org.eclipse.jdt.internal.ui.jarpackager;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -71,6 +72,8 @@ public final class JarPackagerUtil {
 	private static final String META_INF_ENTRY= "META-INF"; //$NON-NLS-1$
 	private static final String REFACTORINGS_ENTRY= META_INF_ENTRY + "/REFACTORINGS.XML"; //$NON-NLS-1$
 
+	private static final int BUFFER_SIZE= 64 * 1024;
+
 	private JarPackagerUtil() {
 		// Do nothing
 	}
@@ -249,6 +252,29 @@ public final class JarPackagerUtil {
 		entry.setCrc(crc.getValue());
 	}
 
+	/**
+	 * Sets the CRC and the size of the given entry to the ones of the given content. The content
+	 * is read in chunks and not kept in memory.
+	 *
+	 * @param entry the entry to update
+	 * @param content the content of the entry, is closed by this method
+	 * @throws IOException if the content could not be read
+	 */
+	public static void setCrcAndSize(final ZipEntry entry, final InputStream content) throws IOException {
+		final CRC32 crc= new CRC32();
+		long size= 0;
+		try (content) {
+			byte[] buffer= new byte[BUFFER_SIZE];
+			int count;
+			while ((count= content.read(buffer)) != -1) {
+				crc.update(buffer, 0, count);
+				size+= count;
+			}
+		}
+		entry.setSize(size);
+		entry.setCrc(crc.getValue());
+	}
+
 	/**
 	 * Opens the archive file at the given location.<br>
 	 * <em>Note: It is the caller's responsibility to close the returned
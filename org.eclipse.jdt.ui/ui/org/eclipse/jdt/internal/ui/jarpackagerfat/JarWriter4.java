@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ package org.eclipse.jdt.internal.ui.jarpackagerfat;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
@@ -94,6 +95,58 @@ public class JarWriter4 extends JarWriter3 {
 		jarOutputStream.write(content);
 	}
 
+	/**
+	 * Writes the content of the given entry to the given path. The content is copied in chunks and
+	 * not kept in memory. An uncompressed export only stores the entry if its size and CRC are
+	 * known from the source, since a stored entry needs them before its content. Otherwise the
+	 * entry is deflated, and the CRC is computed while it is written.
+	 *
+	 * @param zipEntry the source entry
+	 * @param content the content of the source entry, e.g. a {@link java.util.zip.ZipInputStream}
+	 *            positioned at the entry
+	 * @param path the path inside the JAR
+	 * @throws IOException if the content could not be read or written
+	 */
+	public void addZipEntryStream(ZipEntry zipEntry, InputStream content, String path) throws IOException {
+		if (fJarPackage.areDirectoryEntriesIncluded())
+			addDirectories(path);
+		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
+		if (!fJarPackage.isCompressed() && zipEntry.getSize() != -1 && zipEntry.getCrc() != -1) {
+			newEntry.setMethod(ZipEntry.STORED);
+			newEntry.setSize(zipEntry.getSize());
+			newEntry.setCrc(zipEntry.getCrc());
+		} else {
+			newEntry.setMethod(ZipEntry.DEFLATED);
+		}
+		newEntry.setTime(System.currentTimeMillis());
+		@SuppressWarnings("resource")
+		JarOutputStream jarOutputStream= getJarOutputStream();
+		jarOutputStream.putNextEntry(newEntry);
+		content.transferTo(jarOutputStream);
+	}
+
+	/**
+	 * Writes the given archive uncompressed to the given path. The archive is already
+	 * compressed, deflating it again would cost time without making the JAR smaller. The
+	 * archive is copied in chunks and not kept in memory.
+	 *
+	 * @param archive the archive to add
+	 * @param path the path inside the JAR
+	 * @throws IOException if the archive could not be read or written
+	 */
+	public void addArchive(File archive, String path) throws IOException {
+		if (fJarPackage.areDirectoryEntriesIncluded())
+			addDirectories(path);
+		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
+		newEntry.setMethod(ZipEntry.STORED);
+		JarPackagerUtil.setCrcAndSize(newEntry, Files.newInputStream(archive.toPath()));
+		newEntry.setTime(System.currentTimeMillis());
+		@SuppressWarnings("resource")
+		JarOutputStream jarOutputStream= getJarOutputStream();
+		jarOutputStream.putNextEntry(newEntry);
+		Files.copy(archive.toPath(), jarOutputStream);
+	}
+
 	public void write(File file, IPath destinationPath) throws CoreException {
 		try {
 			addFile(file, destinationPath);
@@ -116,13 +169,12 @@ public class JarWriter4 extends JarWriter3 {
 
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
 
-		byte[] allBytes= Files.readAllBytes(file.toPath());
 		if (fJarPackage.isCompressed())
 			newEntry.setMethod(ZipEntry.DEFLATED);
 			// Entry is filled automatically.
 		else {
 			newEntry.setMethod(ZipEntry.STORED);
-				JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
+			JarPackagerUtil.setCrcAndSize(newEntry, Files.newInputStream(file.toPath()));
 		}
 
 		newEntry.setTime(file.lastModified());
@@ -130,6 +182,6 @@ public class JarWriter4 extends JarWriter3 {
 		@SuppressWarnings("resource")
 		JarOutputStream jarOutputStream= getJarOutputStream();
 		jarOutputStream.putNextEntry(newEntry);
-		jarOutputStream.write(allBytes);
+		Files.copy(file.toPath(), jarOutputStream);
 	}
 }
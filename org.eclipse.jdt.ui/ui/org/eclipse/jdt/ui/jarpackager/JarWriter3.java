@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -257,16 +257,12 @@ public class JarWriter3 {
 	 */
 	protected void addFile(IFile resource, IPath path) throws IOException, CoreException {
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
-		byte[] allBytes;
-		try (InputStream contents= resource.getContents(false)) {
-			allBytes= contents.readAllBytes();
-		}
 		if (fJarPackage.isCompressed()) {
 			newEntry.setMethod(ZipEntry.DEFLATED);
 			// Entry is filled automatically.
 		} else {
 			newEntry.setMethod(ZipEntry.STORED);
-			JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
+			JarPackagerUtil.setCrcAndSize(newEntry, resource.getContents(false));
 		}
 
 		long lastModified= System.currentTimeMillis();
@@ -280,8 +276,10 @@ public class JarWriter3 {
 		// Set modification time
 		newEntry.setTime(lastModified);
 
-		fJarOutputStream.putNextEntry(newEntry);
-		fJarOutputStream.write(allBytes);
+		try (InputStream contents= resource.getContents(false)) {
+			fJarOutputStream.putNextEntry(newEntry);
+			contents.transferTo(fJarOutputStream);
+		}
 	}
 
 	/**
@@ -456,15 +454,14 @@ public class JarWriter3 {
 		Assert.isNotNull(file);
 		Assert.isNotNull(path);
 		final JarEntry entry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
-		byte[] allBytes= Files.readAllBytes(file.toPath());
 		if (data.isCompressed())
 			entry.setMethod(ZipEntry.DEFLATED);
 		else {
 			entry.setMethod(ZipEntry.STORED);
-			JarPackagerUtil.setCrcAndSize(entry, allBytes);
+			JarPackagerUtil.setCrcAndSize(entry, Files.newInputStream(file.toPath()));
 		}
 		entry.setTime(System.currentTimeMillis());
 		fJarOutputStream.putNextEntry(entry);
-		fJarOutputStream.write(allBytes);
+		Files.copy(file.toPath(), fJarOutputStream);
 	}
 }